@@ -0,0 +1,93 @@
+package org.gwtbootstrap3.client;
+
+/*
+ * #%L
+ * GwtBootstrap3
+ * %%
+ * Copyright (C) 2013 - 2015 GwtBootstrap3
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * The components making up Bootstrap's stylesheet, in stylesheet order. When styles are loaded per component
+ * each one is fetched from {@code css/bootstrap-3.3.2/<name>.min.cache.css} the first time a widget needs it.
+ * <p/>
+ * {@link #BASE} (normalize, print, glyphicons, scaffolding, type, code and grid), {@link #COMPONENT_ANIMATIONS}
+ * and {@link #UTILITIES} (utilities and responsive utilities) are always loaded.
+ *
+ * @see GwtBootstrap3Styles#require(BootstrapComponent)
+ */
+public enum BootstrapComponent {
+    BASE("base"),
+    TABLES("tables"),
+    FORMS("forms"),
+    BUTTONS("buttons"),
+    COMPONENT_ANIMATIONS("component-animations"),
+    DROPDOWNS("dropdowns"),
+    BUTTON_GROUPS("button-groups", BUTTONS),
+    INPUT_GROUPS("input-groups", FORMS),
+    NAVS("navs"),
+    NAVBAR("navbar", NAVS),
+    BREADCRUMBS("breadcrumbs"),
+    PAGINATION("pagination"),
+    PAGER("pager"),
+    LABELS("labels"),
+    BADGES("badges"),
+    JUMBOTRON("jumbotron"),
+    THUMBNAILS("thumbnails"),
+    ALERTS("alerts"),
+    PROGRESS_BARS("progress-bars"),
+    MEDIA("media"),
+    LIST_GROUP("list-group"),
+    PANELS("panels"),
+    RESPONSIVE_EMBED("responsive-embed"),
+    WELLS("wells"),
+    CLOSE("close"),
+    MODALS("modals"),
+    TOOLTIP("tooltip"),
+    POPOVERS("popovers"),
+    CAROUSEL("carousel"),
+    UTILITIES("utilities");
+
+    private final String name;
+    private final BootstrapComponent dependency;
+
+    private BootstrapComponent(final String name) {
+        this(name, null);
+    }
+
+    private BootstrapComponent(final String name, final BootstrapComponent dependency) {
+        this.name = name;
+        this.dependency = dependency;
+    }
+
+    /**
+     * Returns the name of the component's stylesheet, e.g. {@code button-groups}.
+     *
+     * @return the component name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the component whose styles this one builds upon, if any.
+     *
+     * @return the dependency or {@code null}
+     */
+    public BootstrapComponent getDependency() {
+        return dependency;
+    }
+}
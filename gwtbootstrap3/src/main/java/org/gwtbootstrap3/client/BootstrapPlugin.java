@@ -0,0 +1,71 @@
+package org.gwtbootstrap3.client;
+
+/*
+ * #%L
+ * GwtBootstrap3
+ * %%
+ * Copyright (C) 2013 - 2015 GwtBootstrap3
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * The jQuery plugins making up Bootstrap's JavaScript. When scripts are loaded lazily each plugin is fetched
+ * from {@code js/bootstrap-3.3.2/<name>.min.cache.js} the first time a widget needs it.
+ *
+ * @see GwtBootstrap3Scripts#whenLoaded(BootstrapPlugin, com.google.gwt.core.client.Scheduler.ScheduledCommand)
+ */
+public enum BootstrapPlugin {
+    AFFIX("affix"),
+    ALERT("alert"),
+    BUTTON("button"),
+    CAROUSEL("carousel"),
+    COLLAPSE("collapse"),
+    DROPDOWN("dropdown"),
+    MODAL("modal"),
+    SCROLLSPY("scrollspy"),
+    TAB("tab"),
+    TOOLTIP("tooltip"),
+    POPOVER("popover", TOOLTIP);
+
+    private final String name;
+    private final BootstrapPlugin dependency;
+
+    private BootstrapPlugin(final String name) {
+        this(name, null);
+    }
+
+    private BootstrapPlugin(final String name, final BootstrapPlugin dependency) {
+        this.name = name;
+        this.dependency = dependency;
+    }
+
+    /**
+     * Returns the name the plugin registers itself with on {@code jQuery.fn}.
+     *
+     * @return the plugin name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the plugin which has to be loaded before this one, if any.
+     *
+     * @return the dependency or {@code null}
+     */
+    public BootstrapPlugin getDependency() {
+        return dependency;
+    }
+}
@@ -37,4 +37,13 @@ public interface GwtBootstrap3ClientBundle extends ClientBundle {
 
     @Source("resource/js/bootstrap-3.3.2.min.cache.js")
     TextResource bootstrap();
+
+    @Source("resource/css/bootstrap-3.3.2/base.min.cache.css")
+    TextResource baseStyles();
+
+    @Source("resource/css/bootstrap-3.3.2/component-animations.min.cache.css")
+    TextResource componentAnimationStyles();
+
+    @Source("resource/css/bootstrap-3.3.2/utilities.min.cache.css")
+    TextResource utilityStyles();
 }
@@ -20,49 +20,55 @@ package org.gwtbootstrap3.client;
  * #L%
  */
 
+import org.gwtbootstrap3.client.ui.impl.PluginImpl;
+
+import com.google.gwt.core.client.Callback;
 import com.google.gwt.core.client.EntryPoint;
-import com.google.gwt.core.client.ScriptInjector;
+import com.google.gwt.core.client.GWT;
 
 /**
  * Provides script injection for jQuery and boostrap if they aren't already loaded.
+ * <p/>
+ * How the scripts are injected is controlled by the {@code gwtbootstrap3.scripts} property.
  * 
  * @author Sven Jacobs
  * @author Steven Jardine
+ * @see GwtBootstrap3Scripts
  */
 public class GwtBootstrap3EntryPoint implements EntryPoint {
 
-    /**
-     * Check to see if Boostrap is loaded already.
-     * 
-     * @return true is Boostreap loaded, false otherwise.
-     */
-    private native boolean isBootstrapLoaded() /*-{
-        return typeof $wnd['jQuery'].fn.emulateTransitionEnd !== 'undefined'
-    }-*/;
-
-    /**
-     * Check to see if jQuery is loaded already
-     *
-     * @return true is jQuery is loaded, false otherwise
-     */
-    private native boolean isjQueryLoaded() /*-{
-        return (typeof $wnd['jQuery'] !== 'undefined');
-    }-*/;
-
     /** {@inheritDoc} */
     @Override
     public void onModuleLoad() {
-        if (!isjQueryLoaded()) {
-            ScriptInjector.fromString(GwtBootstrap3ClientBundle.INSTANCE.jQuery().getText())
-                    .setWindow(ScriptInjector.TOP_WINDOW)
-                    .inject();
-        }
+        GwtBootstrap3Timing.start("startup");
+
+        GwtBootstrap3Timing.start("styles");
+        GwtBootstrap3Styles.inject();
+        GwtBootstrap3Timing.end("styles");
 
-        if (!isBootstrapLoaded()) {
-            ScriptInjector.fromString(GwtBootstrap3ClientBundle.INSTANCE.bootstrap().getText())
-                .setWindow(ScriptInjector.TOP_WINDOW)
-                .inject();
+        GwtBootstrap3Timing.start("plugins");
+        final PluginImpl plugins = GWT.create(PluginImpl.class);
+        plugins.install();
+        GwtBootstrap3Timing.end("plugins");
+
+        // Without jQuery plugins the scripts are injected once a plugin needs them
+        if (plugins.requiresScripts()) {
+            GwtBootstrap3Timing.start("ready");
+            GwtBootstrap3Scripts.whenLoaded(new Callback<Void, Exception>() {
+                @Override
+                public void onSuccess(final Void result) {
+                    GwtBootstrap3Timing.end("ready");
+                }
+
+                @Override
+                public void onFailure(final Exception reason) {
+                    GwtBootstrap3Timing.end("ready");
+                    GWT.reportUncaughtException(reason);
+                }
+            });
         }
+
+        GwtBootstrap3Timing.end("startup");
     }
-    
+
 }
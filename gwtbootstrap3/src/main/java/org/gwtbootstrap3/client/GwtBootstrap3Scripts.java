@@ -0,0 +1,390 @@
+package org.gwtbootstrap3.client;
+
+/*
+ * #%L
+ * GwtBootstrap3
+ * %%
+ * Copyright (C) 2013 - 2015 GwtBootstrap3
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.gwtbootstrap3.client.ui.impl.PluginImpl;
+
+import com.google.gwt.core.client.Callback;
+import com.google.gwt.core.client.GWT;
+import com.google.gwt.core.client.Scheduler.ScheduledCommand;
+
+/**
+ * Keeps track of whether jQuery and Bootstrap's JavaScript are available.
+ * <p/>
+ * Depending on the {@code gwtbootstrap3.scripts} property the scripts are either injected synchronously
+ * when the module loads ({@code embedded}, the default) or loaded asynchronously from the public path
+ * ({@code external}). With {@code lazy} only jQuery and Bootstrap's transition support are loaded up front and
+ * each {@link BootstrapPlugin} is fetched the first time a widget needs it. With {@code cdn} the scripts are loaded
+ * from a CDN, falling back to the public path.
+ * <p/>
+ * Widgets run their plugin calls through {@link #whenLoaded(BootstrapPlugin, ScheduledCommand)}, so calls made
+ * before the scripts are available are queued and replayed once they are. Applications waiting for the scripts
+ * themselves use {@link #whenLoaded(Callback)} or {@link #whenLoaded(BootstrapPlugin, Callback)}, which also report
+ * when they couldn't be loaded. Failures nobody waits for go to the uncaught exception handler.
+ *
+ * @see GwtBootstrap3EntryPoint
+ */
+public final class GwtBootstrap3Scripts {
+
+    private static final ScriptInjectorImpl INJECTOR = GWT.create(ScriptInjectorImpl.class);
+    private static final PluginImpl PLUGINS = GWT.create(PluginImpl.class);
+    private static final ScheduledCommand NOOP = new ScheduledCommand() {
+        @Override
+        public void execute() {
+        }
+    };
+
+    private static final List<ScheduledCommand> PENDING = new ArrayList<ScheduledCommand>();
+    private static final List<Callback<Void, Exception>> LISTENERS = new ArrayList<Callback<Void, Exception>>();
+    private static final Map<BootstrapPlugin, List<ScheduledCommand>> PENDING_PLUGINS =
+            new HashMap<BootstrapPlugin, List<ScheduledCommand>>();
+    private static final Map<BootstrapPlugin, List<Callback<Void, Exception>>> PLUGIN_LISTENERS =
+            new HashMap<BootstrapPlugin, List<Callback<Void, Exception>>>();
+    private static final Set<BootstrapPlugin> LOADED_PLUGINS = new HashSet<BootstrapPlugin>();
+    private static final Map<BootstrapPlugin, Exception> FAILED_PLUGINS = new HashMap<BootstrapPlugin, Exception>();
+    private static boolean loaded = false;
+    private static boolean injecting = false;
+    private static Exception failure;
+
+    /**
+     * Returns {@code true} if jQuery and Bootstrap's JavaScript are available. Scripts provided by the host
+     * page, for instance when inheriting the CDN module, are detected as well. When plugins are loaded lazily
+     * use {@link #isLoaded(BootstrapPlugin)} to check for a particular plugin.
+     *
+     * @return true if the scripts are loaded
+     */
+    public static boolean isLoaded() {
+        if (!loaded && isBootstrapPresent()) {
+            onLoaded();
+        }
+        return loaded;
+    }
+
+    /**
+     * Executes the command right away if the scripts are loaded, otherwise queues it until they are.
+     *
+     * @param command Command calling into jQuery or Bootstrap
+     */
+    public static void whenLoaded(final ScheduledCommand command) {
+        if (isLoaded()) {
+            command.execute();
+        } else {
+            PENDING.add(command);
+            inject();
+        }
+    }
+
+    /**
+     * Notifies the callback once the scripts are loaded, or once loading them has failed. The callback is
+     * notified right away if either has already happened.
+     *
+     * @param callback Callback to notify
+     */
+    public static void whenLoaded(final Callback<Void, Exception> callback) {
+        if (isLoaded()) {
+            callback.onSuccess(null);
+        } else if (failure != null) {
+            callback.onFailure(failure);
+        } else {
+            LISTENERS.add(callback);
+            inject();
+        }
+    }
+
+    /**
+     * Returns {@code true} if the given plugin is available.
+     *
+     * @param plugin Plugin to check
+     * @return true if the plugin is loaded
+     */
+    public static boolean isLoaded(final BootstrapPlugin plugin) {
+        if (LOADED_PLUGINS.contains(plugin)) {
+            return true;
+        }
+        if (PLUGINS.isNative(plugin)) {
+            PLUGINS.install();
+            LOADED_PLUGINS.add(plugin);
+            return true;
+        }
+        if (isLoaded() && isPluginPresent(plugin.getName())) {
+            LOADED_PLUGINS.add(plugin);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Executes the command right away if the plugin is loaded, otherwise loads the plugin and queues the command
+     * until it is available. The command is dropped if the plugin couldn't be loaded, use
+     * {@link #whenLoaded(BootstrapPlugin, Callback)} to be notified of that.
+     *
+     * @param plugin  Plugin the command calls into
+     * @param command Command calling into the plugin
+     */
+    public static void whenLoaded(final BootstrapPlugin plugin, final ScheduledCommand command) {
+        if (isLoaded(plugin)) {
+            command.execute();
+            return;
+        }
+        if (failure != null || FAILED_PLUGINS.containsKey(plugin)) {
+            return;
+        }
+
+        List<ScheduledCommand> commands = PENDING_PLUGINS.get(plugin);
+        if (commands == null) {
+            commands = new ArrayList<ScheduledCommand>();
+            PENDING_PLUGINS.put(plugin, commands);
+            whenLoaded(new ScheduledCommand() {
+                @Override
+                public void execute() {
+                    load(plugin);
+                }
+            });
+        }
+        commands.add(command);
+    }
+
+    /**
+     * Notifies the callback once the plugin is loaded, or once loading it or the scripts it needs has failed. The
+     * callback is notified right away if either has already happened.
+     *
+     * @param plugin   Plugin to wait for
+     * @param callback Callback to notify
+     */
+    public static void whenLoaded(final BootstrapPlugin plugin, final Callback<Void, Exception> callback) {
+        if (isLoaded(plugin)) {
+            callback.onSuccess(null);
+            return;
+        }
+
+        final Exception reason = FAILED_PLUGINS.containsKey(plugin) ? FAILED_PLUGINS.get(plugin) : failure;
+        if (reason != null) {
+            callback.onFailure(reason);
+            return;
+        }
+
+        List<Callback<Void, Exception>> listeners = PLUGIN_LISTENERS.get(plugin);
+        if (listeners == null) {
+            listeners = new ArrayList<Callback<Void, Exception>>();
+            PLUGIN_LISTENERS.put(plugin, listeners);
+        }
+        listeners.add(callback);
+        require(plugin);
+    }
+
+    /**
+     * Makes sure the plugin gets loaded, for instance because markup relies on its data API.
+     *
+     * @param plugin Plugin to load
+     */
+    public static void require(final BootstrapPlugin plugin) {
+        if (!isLoaded(plugin) && !PENDING_PLUGINS.containsKey(plugin)) {
+            whenLoaded(plugin, NOOP);
+        }
+    }
+
+    private static void load(final BootstrapPlugin plugin) {
+        if (isLoaded(plugin)) {
+            onLoaded(plugin);
+            return;
+        }
+
+        final BootstrapPlugin dependency = plugin.getDependency();
+        if (dependency != null && !isLoaded(dependency)) {
+            whenLoaded(dependency, new Callback<Void, Exception>() {
+                @Override
+                public void onSuccess(final Void result) {
+                    load(plugin);
+                }
+
+                @Override
+                public void onFailure(final Exception reason) {
+                    onFailed(plugin, reason);
+                }
+            });
+            return;
+        }
+
+        GwtBootstrap3Timing.start("plugin." + plugin.getName());
+        INJECTOR.injectPlugin(plugin, new Callback<Void, Exception>() {
+            @Override
+            public void onSuccess(final Void result) {
+                GwtBootstrap3Timing.end("plugin." + plugin.getName());
+                onLoaded(plugin);
+            }
+
+            @Override
+            public void onFailure(final Exception reason) {
+                GwtBootstrap3Timing.end("plugin." + plugin.getName());
+                onFailed(plugin, reason);
+            }
+        });
+    }
+
+    private static void onLoaded(final BootstrapPlugin plugin) {
+        LOADED_PLUGINS.add(plugin);
+
+        final List<ScheduledCommand> commands = PENDING_PLUGINS.remove(plugin);
+        if (commands != null) {
+            for (final ScheduledCommand command : commands) {
+                command.execute();
+            }
+        }
+
+        final List<Callback<Void, Exception>> listeners = PLUGIN_LISTENERS.remove(plugin);
+        if (listeners != null) {
+            for (final Callback<Void, Exception> listener : listeners) {
+                listener.onSuccess(null);
+            }
+        }
+    }
+
+    /**
+     * Records the failure, drops the commands queued for the plugin and notifies the callbacks waiting for it.
+     */
+    private static void onFailed(final BootstrapPlugin plugin, final Exception reason) {
+        if (FAILED_PLUGINS.containsKey(plugin)) {
+            // Already reported along with the scripts
+            return;
+        }
+
+        FAILED_PLUGINS.put(plugin, reason);
+        PENDING_PLUGINS.remove(plugin);
+
+        final List<Callback<Void, Exception>> listeners = PLUGIN_LISTENERS.remove(plugin);
+        report(reason, listeners != null ? listeners : new ArrayList<Callback<Void, Exception>>());
+    }
+
+    /**
+     * Injects jQuery and Bootstrap's JavaScript, unless they are present or already being injected.
+     */
+    static void inject() {
+        if (injecting || failure != null || isLoaded()) {
+            return;
+        }
+
+        injecting = true;
+
+        GwtBootstrap3Timing.start("scripts");
+
+        GwtBootstrap3Timing.start("scripts.detect");
+        final boolean injectjQuery = !isjQueryPresent();
+        final boolean injectBootstrap = injectjQuery || !isBootstrapPresent();
+        GwtBootstrap3Timing.end("scripts.detect");
+
+        INJECTOR.inject(injectjQuery, injectBootstrap, new Callback<Void, Exception>() {
+            @Override
+            public void onSuccess(final Void result) {
+                GwtBootstrap3Timing.end("scripts");
+                onLoaded();
+            }
+
+            @Override
+            public void onFailure(final Exception reason) {
+                GwtBootstrap3Timing.end("scripts");
+                onFailed(reason);
+            }
+        });
+    }
+
+    /**
+     * Records the failure and notifies the callbacks waiting for the scripts, and the ones waiting for plugins that
+     * can't be loaded without them.
+     */
+    private static void onFailed(final Exception reason) {
+        injecting = false;
+        failure = reason;
+        PENDING.clear();
+
+        final List<Callback<Void, Exception>> listeners = new ArrayList<Callback<Void, Exception>>(LISTENERS);
+        LISTENERS.clear();
+        for (final BootstrapPlugin plugin : new ArrayList<BootstrapPlugin>(PENDING_PLUGINS.keySet())) {
+            FAILED_PLUGINS.put(plugin, reason);
+            PENDING_PLUGINS.remove(plugin);
+            if (PLUGIN_LISTENERS.containsKey(plugin)) {
+                listeners.addAll(PLUGIN_LISTENERS.remove(plugin));
+            }
+        }
+
+        report(reason, listeners);
+    }
+
+    /**
+     * Notifies the callbacks of the failure. Without any, the failure goes to the uncaught exception handler.
+     */
+    private static void report(final Exception reason, final List<Callback<Void, Exception>> listeners) {
+        if (listeners.isEmpty()) {
+            GWT.reportUncaughtException(reason);
+            return;
+        }
+
+        for (final Callback<Void, Exception> listener : listeners) {
+            listener.onFailure(reason);
+        }
+    }
+
+    /**
+     * Marks the scripts as loaded and replays the queued commands in the order they were queued.
+     */
+    static void onLoaded() {
+        if (loaded) {
+            return;
+        }
+
+        loaded = true;
+
+        final List<ScheduledCommand> commands = new ArrayList<ScheduledCommand>(PENDING);
+        PENDING.clear();
+
+        for (final ScheduledCommand command : commands) {
+            command.execute();
+        }
+
+        final List<Callback<Void, Exception>> listeners = new ArrayList<Callback<Void, Exception>>(LISTENERS);
+        LISTENERS.clear();
+
+        for (final Callback<Void, Exception> listener : listeners) {
+            listener.onSuccess(null);
+        }
+    }
+
+    private static native boolean isPluginPresent(final String name) /*-{
+        return typeof $wnd['jQuery'].fn[name] !== 'undefined';
+    }-*/;
+
+    private static native boolean isjQueryPresent() /*-{
+        return typeof $wnd['jQuery'] !== 'undefined';
+    }-*/;
+
+    private static native boolean isBootstrapPresent() /*-{
+        return typeof $wnd['jQuery'] !== 'undefined' && typeof $wnd['jQuery'].fn.emulateTransitionEnd !== 'undefined';
+    }-*/;
+
+    private GwtBootstrap3Scripts() {
+    }
+}
@@ -0,0 +1,84 @@
+package org.gwtbootstrap3.client;
+
+/*
+ * #%L
+ * GwtBootstrap3
+ * %%
+ * Copyright (C) 2013 - 2015 GwtBootstrap3
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.HashSet;
+import java.util.Set;
+
+import com.google.gwt.core.client.GWT;
+
+/**
+ * Keeps track of the Bootstrap stylesheet components loaded so far. Widgets require their component when the
+ * widget class is first used, e.g.
+ * <pre>
+ * {@code
+ * static {
+ *     GwtBootstrap3Styles.require(BootstrapComponent.MODALS);
+ * }
+ * }
+ * </pre>
+ * Unless the {@code gwtbootstrap3.styles} property is set to {@code components} the complete stylesheet is
+ * linked by the module and requiring a component does nothing.
+ */
+public final class GwtBootstrap3Styles {
+
+    private static final StyleInjectorImpl INJECTOR = GWT.create(StyleInjectorImpl.class);
+    private static final Set<BootstrapComponent> LOADED = new HashSet<BootstrapComponent>();
+
+    /**
+     * Returns {@code true} if the component's styles have been requested.
+     *
+     * @param component Component to check
+     * @return true if the component is loaded or loading
+     */
+    public static boolean isLoaded(final BootstrapComponent component) {
+        return LOADED.contains(component);
+    }
+
+    /**
+     * Loads the component's styles, and the styles it builds upon, unless they are loaded already.
+     *
+     * @param component Component to load
+     */
+    public static void require(final BootstrapComponent component) {
+        if (!LOADED.add(component)) {
+            return;
+        }
+
+        if (component.getDependency() != null) {
+            require(component.getDependency());
+        }
+
+        INJECTOR.inject(component);
+    }
+
+    /**
+     * Loads the components every page needs.
+     */
+    static void inject() {
+        require(BootstrapComponent.BASE);
+        require(BootstrapComponent.COMPONENT_ANIMATIONS);
+        require(BootstrapComponent.UTILITIES);
+    }
+
+    private GwtBootstrap3Styles() {
+    }
+}
@@ -0,0 +1,178 @@
+package org.gwtbootstrap3.client;
+
+/*
+ * #%L
+ * GwtBootstrap3
+ * %%
+ * Copyright (C) 2013 - 2015 GwtBootstrap3
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.google.gwt.core.client.GWT;
+
+/**
+ * Records how long the phases of GwtBootstrap3's startup take, e.g. injecting jQuery or loading a plugin, and
+ * reports them to a {@link Sink}. Each phase is also added to the browser's performance timeline as a
+ * {@code performance.measure()} named {@code gwtbootstrap3:<phase>}, so it shows up in the profiler.
+ * <p/>
+ * Disabled by default, in which case all calls compile to nothing. Enable it with
+ * <pre>
+ * {@code
+ * <set-property name="gwtbootstrap3.timing" value="enabled"/>
+ * }
+ * </pre>
+ * and optionally set a sink from the application's entry point. Phases completed before the sink is set are
+ * reported to it when it's set, up to the first 100; without a sink they're logged to the browser console.
+ * <p/>
+ * Phases recorded:
+ * <ul>
+ * <li>{@code startup}: {@link GwtBootstrap3EntryPoint#onModuleLoad()}</li>
+ * <li>{@code styles}: linking or inlining the stylesheets at startup</li>
+ * <li>{@code styles.load}: loading the complete stylesheet in deferred mode</li>
+ * <li>{@code plugins}: installing the plugin implementation</li>
+ * <li>{@code scripts.detect}: detecting jQuery and Bootstrap provided by the host page</li>
+ * <li>{@code scripts.jquery}, {@code scripts.bootstrap}: evaluating the embedded scripts</li>
+ * <li>{@code scripts.cdn}: fetching the scripts from the CDN, until they're evaluated or the fallback starts</li>
+ * <li>{@code scripts}: from starting the injection until jQuery and Bootstrap are available</li>
+ * <li>{@code ready}: from the entry point requesting the scripts until they are available</li>
+ * <li>{@code plugin.<name>}: loading a single plugin in lazy mode</li>
+ * <li>{@code tooltip.show}, {@code popover.show}: from showing a tip until it's placed, with native positioning</li>
+ * </ul>
+ */
+public final class GwtBootstrap3Timing {
+
+    /**
+     * Receives the timing of each completed phase.
+     */
+    public interface Sink {
+
+        /**
+         * @param phase     Name of the phase
+         * @param startTime Start of the phase in milliseconds, relative to the page's navigation start when the
+         *                  browser supports high resolution time
+         * @param duration  Duration of the phase in milliseconds
+         */
+        void onPhase(String phase, double startTime, double duration);
+    }
+
+    /**
+     * Logs each phase to the browser console.
+     */
+    public static final Sink CONSOLE = new Sink() {
+        @Override
+        public void onPhase(final String phase, final double startTime, final double duration) {
+            log(format(phase, startTime, duration));
+        }
+    };
+
+    /**
+     * Logs each phase with level {@link Level#INFO} to the {@code org.gwtbootstrap3} logger.
+     */
+    public static final Sink LOGGER = new Sink() {
+        @Override
+        public void onPhase(final String phase, final double startTime, final double duration) {
+            Logger.getLogger("org.gwtbootstrap3").log(Level.INFO, format(phase, startTime, duration));
+        }
+    };
+
+    private static final TimingImpl IMPL = GWT.create(TimingImpl.class);
+
+    /**
+     * Returns {@code true} if the timing property is enabled for this permutation.
+     *
+     * @return true if phases are recorded
+     */
+    public static boolean isEnabled() {
+        return IMPL.isEnabled();
+    }
+
+    /**
+     * Sets the sink to report to, replaying the phases completed while no sink was set.
+     *
+     * @param sink Sink to report to
+     */
+    public static void setSink(final Sink sink) {
+        IMPL.setSink(sink);
+    }
+
+    /**
+     * Marks the start of a phase.
+     *
+     * @param phase Name of the phase
+     */
+    public static void start(final String phase) {
+        IMPL.start(phase);
+    }
+
+    /**
+     * Marks the end of a phase and reports it. Does nothing if the phase wasn't started.
+     *
+     * @param phase Name of the phase
+     */
+    public static void end(final String phase) {
+        IMPL.end(phase);
+    }
+
+    /**
+     * Marks the start of one of several instances of a phase that may overlap, e.g. showing a tip.
+     *
+     * @param phase Name of the phase
+     * @param id    Identifies the instance until it's ended or cancelled
+     */
+    public static void start(final String phase, final String id) {
+        IMPL.start(phase, id);
+    }
+
+    /**
+     * Marks the end of an instance of a phase and reports it. Does nothing if the instance wasn't started.
+     *
+     * @param phase Name of the phase
+     * @param id    Instance passed to {@link #start(String, String)}
+     */
+    public static void end(final String phase, final String id) {
+        IMPL.end(phase, id);
+    }
+
+    /**
+     * Drops a started instance of a phase without reporting it, e.g. a show hidden before the tip was placed.
+     *
+     * @param phase Name of the phase
+     * @param id    Instance passed to {@link #start(String, String)}
+     */
+    public static void cancel(final String phase, final String id) {
+        IMPL.cancel(phase, id);
+    }
+
+    static String format(final String phase, final double startTime, final double duration) {
+        return "gwtbootstrap3: " + phase + " took " + round(duration) + " ms (started at " + round(startTime)
+                + " ms)";
+    }
+
+    private static String round(final double time) {
+        return String.valueOf(Math.round(time * 100) / 100.0);
+    }
+
+    private static native void log(final String message) /*-{
+        if ($wnd.console && $wnd.console.log) {
+            $wnd.console.log(message);
+        }
+    }-*/;
+
+    private GwtBootstrap3Timing() {
+    }
+}
@@ -0,0 +1,75 @@
+package org.gwtbootstrap3.client;
+
+/*
+ * #%L
+ * GwtBootstrap3
+ * %%
+ * Copyright (C) 2013 - 2015 GwtBootstrap3
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.google.gwt.core.client.Callback;
+import com.google.gwt.core.client.ScriptInjector;
+
+/**
+ * Injects jQuery and Bootstrap's JavaScript embedded in {@link GwtBootstrap3ClientBundle}. The scripts are
+ * evaluated synchronously, so the callback is invoked before {@link #inject(boolean, boolean, Callback)} returns.
+ * <p/>
+ * This is the default implementation, see {@link ScriptInjectorImplExternal} for asynchronous loading and
+ * {@link ScriptInjectorImplLazy} for loading each plugin on demand.
+ */
+public class ScriptInjectorImpl {
+
+    /**
+     * Injects the requested scripts and notifies the callback when they are available.
+     *
+     * @param jQuery    whether jQuery needs to be injected
+     * @param bootstrap whether Bootstrap's JavaScript needs to be injected
+     * @param callback  Callback to notify
+     */
+    public void inject(final boolean jQuery,
+                       final boolean bootstrap,
+                       final Callback<Void, Exception> callback) {
+        if (jQuery) {
+            GwtBootstrap3Timing.start("scripts.jquery");
+            ScriptInjector.fromString(GwtBootstrap3ClientBundle.INSTANCE.jQuery().getText())
+                    .setWindow(ScriptInjector.TOP_WINDOW)
+                    .inject();
+            GwtBootstrap3Timing.end("scripts.jquery");
+        }
+
+        if (bootstrap) {
+            GwtBootstrap3Timing.start("scripts.bootstrap");
+            ScriptInjector.fromString(GwtBootstrap3ClientBundle.INSTANCE.bootstrap().getText())
+                    .setWindow(ScriptInjector.TOP_WINDOW)
+                    .inject();
+            GwtBootstrap3Timing.end("scripts.bootstrap");
+        }
+
+        callback.onSuccess(null);
+    }
+
+    /**
+     * Injects a single Bootstrap plugin and notifies the callback when it is available. Only called for plugins
+     * missing after {@link #inject(boolean, boolean, Callback)}; the full Bootstrap script already contains every
+     * plugin, so there is nothing left to inject.
+     *
+     * @param plugin   Plugin to inject
+     * @param callback Callback to notify
+     */
+    public void injectPlugin(final BootstrapPlugin plugin, final Callback<Void, Exception> callback) {
+        callback.onSuccess(null);
+    }
+}
@@ -0,0 +1,205 @@
+package org.gwtbootstrap3.client;
+
+/*
+ * #%L
+ * GwtBootstrap3
+ * %%
+ * Copyright (C) 2013 - 2015 GwtBootstrap3
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.google.gwt.core.client.Callback;
+import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.core.client.JsArrayString;
+import com.google.gwt.core.client.ScriptInjector;
+
+/**
+ * Loads jQuery and Bootstrap's JavaScript from a CDN, falling back to the copies on the module's public path when
+ * the CDN can't deliver them.
+ * <p/>
+ * Both scripts are fetched in parallel, with their subresource integrity checked by the browser if the integrity
+ * getters are overridden to return the hashes published by the CDN, and evaluated in order once both have
+ * arrived. If a download fails, doesn't match its integrity hash or takes longer than
+ * {@link #getTimeout()}, nothing has been evaluated yet and the scripts are loaded from the public path instead, as
+ * {@link ScriptInjectorImplExternal} does. Browsers without {@code fetch} go straight to the public path.
+ * <p/>
+ * Selected by setting the {@code gwtbootstrap3.scripts} property to {@code cdn}, which the {@code GwtBootstrap3CDN}
+ * module does. Override {@link #getjQueryUrl()}, {@link #getBootstrapUrl()} and the integrity getters to use
+ * another CDN.
+ */
+public class ScriptInjectorImplCdn extends ScriptInjectorImplExternal {
+
+    static final String JQUERY_URL = "https://code.jquery.com/jquery-1.11.2.min.js";
+    static final String BOOTSTRAP_URL = "https://maxcdn.bootstrapcdn.com/bootstrap/3.3.2/js/bootstrap.min.js";
+    static final int TIMEOUT = 5000;
+
+    @Override
+    public void inject(final boolean jQuery,
+                       final boolean bootstrap,
+                       final Callback<Void, Exception> callback) {
+        if (!isFetchSupported()) {
+            super.inject(jQuery, bootstrap, callback);
+            return;
+        }
+
+        final JsArrayString urls = JavaScriptObject.createArray().cast();
+        final JsArrayString integrity = JavaScriptObject.createArray().cast();
+
+        if (jQuery) {
+            urls.push(getjQueryUrl());
+            integrity.push(getjQueryIntegrity());
+        }
+
+        if (bootstrap) {
+            urls.push(getBootstrapUrl());
+            integrity.push(getBootstrapIntegrity());
+        }
+
+        if (urls.length() == 0) {
+            callback.onSuccess(null);
+            return;
+        }
+
+        GwtBootstrap3Timing.start("scripts.cdn");
+        fetchScripts(urls, integrity, getTimeout(), new Callback<JsArrayString, Exception>() {
+            @Override
+            public void onSuccess(final JsArrayString scripts) {
+                for (int i = 0; i < scripts.length(); i++) {
+                    ScriptInjector.fromString(scripts.get(i))
+                            .setWindow(ScriptInjector.TOP_WINDOW)
+                            .inject();
+                }
+                GwtBootstrap3Timing.end("scripts.cdn");
+                callback.onSuccess(null);
+            }
+
+            @Override
+            public void onFailure(final Exception reason) {
+                GwtBootstrap3Timing.end("scripts.cdn");
+                ScriptInjectorImplCdn.super.inject(jQuery, bootstrap, callback);
+            }
+        });
+    }
+
+    /**
+     * Returns the CDN URL of jQuery.
+     *
+     * @return URL of jQuery
+     */
+    protected String getjQueryUrl() {
+        return JQUERY_URL;
+    }
+
+    /**
+     * Returns the subresource integrity hash of the CDN's jQuery, {@code null} by default to skip the check. A hash
+     * that doesn't match what the CDN serves makes every load fall back to the public path.
+     *
+     * @return integrity hash of jQuery
+     */
+    protected String getjQueryIntegrity() {
+        return null;
+    }
+
+    /**
+     * Returns the CDN URL of Bootstrap's JavaScript.
+     *
+     * @return URL of Bootstrap's JavaScript
+     */
+    protected String getBootstrapUrl() {
+        return BOOTSTRAP_URL;
+    }
+
+    /**
+     * Returns the subresource integrity hash of the CDN's Bootstrap JavaScript, {@code null} by default to skip the
+     * check.
+     *
+     * @return integrity hash of Bootstrap's JavaScript
+     */
+    protected String getBootstrapIntegrity() {
+        return null;
+    }
+
+    /**
+     * Returns how long to wait for the CDN, in milliseconds, before falling back to the public path.
+     *
+     * @return timeout in milliseconds
+     */
+    protected int getTimeout() {
+        return TIMEOUT;
+    }
+
+    private static native boolean isFetchSupported() /*-{
+        return typeof $wnd.fetch === 'function' && typeof $wnd.Promise === 'function';
+    }-*/;
+
+    /**
+     * Fetches the scripts in parallel and passes their sources to the callback, in the order of the URLs, once all
+     * of them have arrived. Fails as soon as one of them fails or the timeout elapses, cancelling the other
+     * requests where the browser supports it.
+     */
+    private static native void fetchScripts(final JsArrayString urls,
+                                            final JsArrayString integrity,
+                                            final int timeout,
+                                            final Callback<JsArrayString, Exception> callback) /*-{
+        var controller = typeof $wnd.AbortController === 'function' ? new $wnd.AbortController() : null;
+        var done = false;
+        var timer;
+
+        var fail = $entry(function (message) {
+            if (done) {
+                return;
+            }
+            done = true;
+            $wnd.clearTimeout(timer);
+            if (controller) {
+                controller.abort();
+            }
+            callback.@com.google.gwt.core.client.Callback::onFailure(Ljava/lang/Object;)(
+                @java.lang.Exception::new(Ljava/lang/String;)(message));
+        });
+
+        timer = $wnd.setTimeout(function () {
+            fail('Timed out loading ' + urls.join(', '));
+        }, timeout);
+
+        var requests = [];
+        for (var i = 0; i < urls.length; i++) {
+            var init = {mode: 'cors', credentials: 'omit'};
+            if (integrity[i]) {
+                init.integrity = integrity[i];
+            }
+            if (controller) {
+                init.signal = controller.signal;
+            }
+            requests.push($wnd.fetch(urls[i], init).then(function (response) {
+                if (!response.ok) {
+                    throw new Error('Unable to load ' + response.url + ': ' + response.status);
+                }
+                return response.text();
+            }));
+        }
+
+        $wnd.Promise.all(requests).then($entry(function (scripts) {
+            if (done) {
+                return;
+            }
+            done = true;
+            $wnd.clearTimeout(timer);
+            callback.@com.google.gwt.core.client.Callback::onSuccess(Ljava/lang/Object;)(scripts);
+        }), function (error) {
+            fail(String(error));
+        });
+    }-*/;
+}
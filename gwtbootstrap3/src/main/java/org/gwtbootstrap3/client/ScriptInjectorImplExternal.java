@@ -0,0 +1,109 @@
+package org.gwtbootstrap3.client;
+
+/*
+ * #%L
+ * GwtBootstrap3
+ * %%
+ * Copyright (C) 2013 - 2015 GwtBootstrap3
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.google.gwt.core.client.Callback;
+import com.google.gwt.core.client.GWT;
+import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.core.client.JsArrayString;
+
+/**
+ * Loads jQuery and Bootstrap's JavaScript from the module's public path by URL instead of embedding them in the
+ * compiled permutations. The scripts are downloaded in parallel and cached separately from the application, and
+ * they are executed in order once available.
+ * <p/>
+ * Selected by setting the {@code gwtbootstrap3.scripts} property to {@code external}:
+ * <pre>
+ * {@code
+ * <set-property name="gwtbootstrap3.scripts" value="external"/>
+ * }
+ * </pre>
+ */
+public class ScriptInjectorImplExternal extends ScriptInjectorImpl {
+
+    static final String JQUERY = "js/jquery-1.11.2.min.cache.js";
+    static final String BOOTSTRAP = "js/bootstrap-3.3.2.min.cache.js";
+
+    @Override
+    public void inject(final boolean jQuery,
+                       final boolean bootstrap,
+                       final Callback<Void, Exception> callback) {
+        final String base = GWT.getModuleBaseForStaticFiles();
+        final JsArrayString urls = JavaScriptObject.createArray().cast();
+
+        if (jQuery) {
+            urls.push(base + JQUERY);
+        }
+
+        if (bootstrap) {
+            urls.push(base + getBootstrapScript());
+        }
+
+        if (urls.length() == 0) {
+            callback.onSuccess(null);
+        } else {
+            injectScripts(urls, callback);
+        }
+    }
+
+    /**
+     * Returns the path of the Bootstrap script to inject, relative to the module base.
+     *
+     * @return path of the Bootstrap script
+     */
+    protected String getBootstrapScript() {
+        return BOOTSTRAP;
+    }
+
+    /**
+     * Appends a script element per URL. Dynamically inserted scripts with {@code async = false} are fetched in
+     * parallel but executed in insertion order, so Bootstrap always runs after jQuery.
+     */
+    static native void injectScripts(final JsArrayString urls,
+                                     final Callback<Void, Exception> callback) /*-{
+        var doc = $wnd.document;
+        var head = doc.head || doc.getElementsByTagName('head')[0];
+        var remaining = urls.length;
+        var failed = false;
+
+        for (var i = 0; i < urls.length; i++) {
+            var script = doc.createElement('script');
+            script.async = false;
+            script.src = urls[i];
+
+            script.onload = $entry(function () {
+                if (--remaining === 0 && !failed) {
+                    callback.@com.google.gwt.core.client.Callback::onSuccess(Ljava/lang/Object;)(null);
+                }
+            });
+
+            script.onerror = $entry(function () {
+                if (!failed) {
+                    failed = true;
+                    callback.@com.google.gwt.core.client.Callback::onFailure(Ljava/lang/Object;)(
+                        @java.lang.Exception::new(Ljava/lang/String;)('Unable to load ' + this.src));
+                }
+            });
+
+            head.appendChild(script);
+        }
+    }-*/;
+}
@@ -0,0 +1,62 @@
+package org.gwtbootstrap3.client;
+
+/*
+ * #%L
+ * GwtBootstrap3
+ * %%
+ * Copyright (C) 2013 - 2015 GwtBootstrap3
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.google.gwt.core.client.Callback;
+import com.google.gwt.core.client.GWT;
+import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.core.client.JsArrayString;
+
+/**
+ * Loads jQuery and Bootstrap's transition support from the module's public path when the module loads, every
+ * other Bootstrap plugin is loaded the first time a widget needs it. Applications using only a few plugins don't
+ * download and evaluate the rest.
+ * <p/>
+ * Selected by setting the {@code gwtbootstrap3.scripts} property to {@code lazy}:
+ * <pre>
+ * {@code
+ * <set-property name="gwtbootstrap3.scripts" value="lazy"/>
+ * }
+ * </pre>
+ * Markup relying on Bootstrap's data API without a widget, e.g. a hand written {@code data-toggle="dropdown"},
+ * has to load its plugin with {@link GwtBootstrap3Scripts#require(BootstrapPlugin)}.
+ */
+public class ScriptInjectorImplLazy extends ScriptInjectorImplExternal {
+
+    static final String PLUGINS = "js/bootstrap-3.3.2/";
+    static final String TRANSITION = "transition";
+
+    @Override
+    protected String getBootstrapScript() {
+        return getPluginScript(TRANSITION);
+    }
+
+    @Override
+    public void injectPlugin(final BootstrapPlugin plugin, final Callback<Void, Exception> callback) {
+        final JsArrayString urls = JavaScriptObject.createArray().cast();
+        urls.push(GWT.getModuleBaseForStaticFiles() + getPluginScript(plugin.getName()));
+        injectScripts(urls, callback);
+    }
+
+    private static String getPluginScript(final String name) {
+        return PLUGINS + name + ".min.cache.js";
+    }
+}
@@ -0,0 +1,38 @@
+package org.gwtbootstrap3.client;
+
+/*
+ * #%L
+ * GwtBootstrap3
+ * %%
+ * Copyright (C) 2013 - 2015 GwtBootstrap3
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * Injects the stylesheets of Bootstrap's components. This default implementation does nothing, the module links
+ * the complete stylesheet with {@code <stylesheet>}.
+ * <p/>
+ * See {@link StyleInjectorImplComponents} for loading each component on demand.
+ */
+public class StyleInjectorImpl {
+
+    /**
+     * Injects the stylesheet of the component. Called at most once per component.
+     *
+     * @param component Component to inject
+     */
+    public void inject(final BootstrapComponent component) {
+    }
+}
@@ -0,0 +1,202 @@
+package org.gwtbootstrap3.client;
+
+/*
+ * #%L
+ * GwtBootstrap3
+ * %%
+ * Copyright (C) 2013 - 2015 GwtBootstrap3
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.google.gwt.core.client.GWT;
+import com.google.gwt.dom.client.Document;
+import com.google.gwt.dom.client.Element;
+import com.google.gwt.dom.client.HeadElement;
+import com.google.gwt.dom.client.LinkElement;
+
+/**
+ * Links the complete Bootstrap and Font Awesome stylesheets from a CDN, falling back to the copies on the module's
+ * public path when the CDN can't deliver them.
+ * <p/>
+ * The stylesheets are linked the first time a component is required. A stylesheet failing to load, including
+ * failing the integrity check an application can enable by overriding the integrity getters, or not loaded within
+ * {@link #getTimeout()} milliseconds is pointed at the public path instead. Font Awesome's web font is preloaded
+ * alongside, so it's downloaded in parallel with the stylesheet rather than once the stylesheet has been parsed.
+ * <p/>
+ * Selected by setting the {@code gwtbootstrap3.styles} property to {@code cdn}, which the {@code GwtBootstrap3CDN}
+ * module does. Stylesheets the host page already links from the CDN are not linked again.
+ */
+public class StyleInjectorImplCdn extends StyleInjectorImpl {
+
+    static final String BOOTSTRAP_URL = "https://maxcdn.bootstrapcdn.com/bootstrap/3.3.2/css/bootstrap.min.css";
+    static final String FONT_AWESOME_URL = "https://maxcdn.bootstrapcdn.com/font-awesome/4.3.0/css/font-awesome.min.css";
+    static final String FONT_AWESOME_FONT_URL =
+            "https://maxcdn.bootstrapcdn.com/font-awesome/4.3.0/fonts/fontawesome-webfont.woff2?v=4.3.0";
+    static final int TIMEOUT = 5000;
+
+    private boolean injected = false;
+
+    @Override
+    public void inject(final BootstrapComponent component) {
+        if (injected) {
+            return;
+        }
+
+        injected = true;
+
+        final HeadElement head = Document.get().getHead();
+        final Element first = head.getFirstChildElement();
+
+        link(head, first, getBootstrapUrl(), getBootstrapIntegrity(), StyleInjectorImplDeferred.BOOTSTRAP,
+                getGlyphiconsFontUrl());
+        link(head, first, getFontAwesomeUrl(), getFontAwesomeIntegrity(), StyleInjectorImplDeferred.FONT_AWESOME,
+                getFontAwesomeFontUrl());
+    }
+
+    /**
+     * Returns the CDN URL of Bootstrap's stylesheet.
+     *
+     * @return URL of Bootstrap's stylesheet
+     */
+    protected String getBootstrapUrl() {
+        return BOOTSTRAP_URL;
+    }
+
+    /**
+     * Returns the subresource integrity hash of the CDN's Bootstrap stylesheet, {@code null} by default to skip the
+     * check. A hash that doesn't match what the CDN serves makes every load fall back to the public path.
+     *
+     * @return integrity hash of Bootstrap's stylesheet
+     */
+    protected String getBootstrapIntegrity() {
+        return null;
+    }
+
+    /**
+     * Returns the CDN URL of the Glyphicons font referenced by Bootstrap's stylesheet to preload it, {@code null}
+     * by default as no widget uses Glyphicons.
+     *
+     * @return URL of the Glyphicons font
+     */
+    protected String getGlyphiconsFontUrl() {
+        return null;
+    }
+
+    /**
+     * Returns the CDN URL of Font Awesome's stylesheet.
+     *
+     * @return URL of Font Awesome's stylesheet
+     */
+    protected String getFontAwesomeUrl() {
+        return FONT_AWESOME_URL;
+    }
+
+    /**
+     * Returns the subresource integrity hash of the CDN's Font Awesome stylesheet, {@code null} by default to skip
+     * the check.
+     *
+     * @return integrity hash of Font Awesome's stylesheet
+     */
+    protected String getFontAwesomeIntegrity() {
+        return null;
+    }
+
+    /**
+     * Returns the CDN URL of the font referenced by Font Awesome's stylesheet, or {@code null} to skip preloading
+     * it.
+     *
+     * @return URL of the Font Awesome font
+     */
+    protected String getFontAwesomeFontUrl() {
+        return FONT_AWESOME_FONT_URL;
+    }
+
+    /**
+     * Returns how long to wait for a stylesheet, in milliseconds, before falling back to the public path.
+     *
+     * @return timeout in milliseconds
+     */
+    protected int getTimeout() {
+        return TIMEOUT;
+    }
+
+    /**
+     * Links the stylesheet ahead of the first element in the head, so the application's own styles still override
+     * it, and preloads its font.
+     */
+    private void link(final HeadElement head,
+                      final Element before,
+                      final String url,
+                      final String integrity,
+                      final String fallback,
+                      final String font) {
+        if (isLinked(url)) {
+            return;
+        }
+
+        if (font != null) {
+            final LinkElement preload = Document.get().createLinkElement();
+            preload.setRel("preload");
+            preload.setHref(font);
+            preload.setAttribute("as", "font");
+            preload.setType("font/woff2");
+            preload.setAttribute("crossorigin", "anonymous");
+            head.insertBefore(preload, before);
+        }
+
+        final LinkElement link = Document.get().createLinkElement();
+        link.setRel("stylesheet");
+        link.setType("text/css");
+        if (integrity != null) {
+            link.setAttribute("integrity", integrity);
+            link.setAttribute("crossorigin", "anonymous");
+        }
+        fallBack(link, GWT.getModuleBaseForStaticFiles() + fallback, getTimeout());
+        link.setHref(url);
+        head.insertBefore(link, before);
+    }
+
+    private static native boolean isLinked(final String url) /*-{
+        var links = $doc.getElementsByTagName('link');
+        for (var i = 0; i < links.length; i++) {
+            if (links[i].rel === 'stylesheet' && links[i].href === url) {
+                return true;
+            }
+        }
+        return false;
+    }-*/;
+
+    /**
+     * Points the link at the fallback URL when it fails to load or doesn't load in time. Changing the URL cancels
+     * the pending download, so the stylesheet is never applied twice.
+     */
+    private static native void fallBack(final LinkElement link, final String url, final int timeout) /*-{
+        var timer;
+        var fallBack = function () {
+            link.onload = link.onerror = null;
+            $wnd.clearTimeout(timer);
+            link.removeAttribute('integrity');
+            link.removeAttribute('crossorigin');
+            link.href = url;
+        };
+
+        link.onerror = fallBack;
+        link.onload = function () {
+            link.onload = link.onerror = null;
+            $wnd.clearTimeout(timer);
+        };
+        timer = $wnd.setTimeout(fallBack, timeout);
+    }-*/;
+}
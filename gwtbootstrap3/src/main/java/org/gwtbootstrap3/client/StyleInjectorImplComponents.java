@@ -0,0 +1,95 @@
+package org.gwtbootstrap3.client;
+
+/*
+ * #%L
+ * GwtBootstrap3
+ * %%
+ * Copyright (C) 2013 - 2015 GwtBootstrap3
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.google.gwt.core.client.GWT;
+import com.google.gwt.dom.client.Document;
+import com.google.gwt.dom.client.Element;
+import com.google.gwt.dom.client.HeadElement;
+import com.google.gwt.dom.client.LinkElement;
+import com.google.gwt.dom.client.Node;
+
+/**
+ * Links the stylesheet of each Bootstrap component from the module's public path the first time a widget needs
+ * it, so the browser only parses the rules of the components an application actually uses.
+ * <p/>
+ * The links are kept in stylesheet order, whatever order the components are requested in, so the cascade is the
+ * same as with the complete stylesheet. They are inserted before any other stylesheet in the document head,
+ * allowing the application's own styles to override Bootstrap's like before.
+ * <p/>
+ * Selected by setting the {@code gwtbootstrap3.styles} property to {@code components}, which the
+ * {@code GwtBootstrap3Components} module does. Markup using Bootstrap's classes without a widget, e.g. a
+ * {@code <table class="table">} in a UiBinder template, has to load its component with
+ * {@link GwtBootstrap3Styles#require(BootstrapComponent)}.
+ */
+public class StyleInjectorImplComponents extends StyleInjectorImpl {
+
+    static final String COMPONENTS = "css/bootstrap-3.3.2/";
+
+    private final LinkElement[] links = new LinkElement[BootstrapComponent.values().length];
+
+    @Override
+    public void inject(final BootstrapComponent component) {
+        final LinkElement link = Document.get().createLinkElement();
+        link.setRel("stylesheet");
+        link.setType("text/css");
+        link.setHref(GWT.getModuleBaseForStaticFiles() + COMPONENTS + component.getName() + ".min.cache.css");
+
+        final HeadElement head = getHead();
+        head.insertBefore(link, getNextSibling(head, component.ordinal()));
+        links[component.ordinal()] = link;
+    }
+
+    /**
+     * Returns the node the component's link has to be inserted before: the link of the next component in
+     * stylesheet order, or the first stylesheet in the head if none of the following components is linked yet.
+     */
+    private Node getNextSibling(final HeadElement head, final int ordinal) {
+        for (int i = ordinal + 1; i < links.length; i++) {
+            if (links[i] != null) {
+                return links[i];
+            }
+        }
+        for (int i = ordinal - 1; i >= 0; i--) {
+            if (links[i] != null) {
+                return links[i].getNextSibling();
+            }
+        }
+        return getFirstStyleSheet(head);
+    }
+
+    private static Element getFirstStyleSheet(final HeadElement head) {
+        for (Element e = head.getFirstChildElement(); e != null; e = e.getNextSiblingElement()) {
+            if ("style".equalsIgnoreCase(e.getTagName())
+                    || ("link".equalsIgnoreCase(e.getTagName())
+                    && "stylesheet".equalsIgnoreCase(e.getAttribute("rel")))) {
+                return e;
+            }
+        }
+        return null;
+    }
+
+    private static HeadElement getHead() {
+        final HeadElement head = Document.get().getHead();
+        assert head != null : "The host page has no head element";
+        return head;
+    }
+}
@@ -0,0 +1,122 @@
+package org.gwtbootstrap3.client;
+
+/*
+ * #%L
+ * GwtBootstrap3
+ * %%
+ * Copyright (C) 2013 - 2015 GwtBootstrap3
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.google.gwt.core.client.GWT;
+import com.google.gwt.dom.client.Document;
+import com.google.gwt.dom.client.Element;
+import com.google.gwt.dom.client.HeadElement;
+import com.google.gwt.dom.client.LinkElement;
+import com.google.gwt.dom.client.StyleElement;
+import com.google.gwt.dom.client.StyleInjector;
+import com.google.gwt.resources.client.TextResource;
+
+/**
+ * Inlines the styles needed to lay out the first view and loads the complete Bootstrap and Font Awesome
+ * stylesheets without blocking rendering.
+ * <p/>
+ * The inlined styles are the components every page needs: {@link BootstrapComponent#BASE} (normalize, type,
+ * grid, ...), {@link BootstrapComponent#COMPONENT_ANIMATIONS} and {@link BootstrapComponent#UTILITIES}. Widgets
+ * relying on other components render with their final styles once the complete stylesheet has loaded.
+ * <p/>
+ * The stylesheets are linked with a media query that never matches, which browsers download without delaying
+ * rendering, and switched to all media once loaded. Inlined styles and links go before any other stylesheet in the
+ * document head, so the application's own styles still override Bootstrap's.
+ * <p/>
+ * Selected by setting the {@code gwtbootstrap3.styles} property to {@code deferred}, which the
+ * {@code GwtBootstrap3Deferred} module does.
+ */
+public class StyleInjectorImplDeferred extends StyleInjectorImpl {
+
+    static final String BOOTSTRAP = "css/bootstrap-3.3.2.min.cache.css";
+    static final String FONT_AWESOME = "css/font-awesome-4.3.0.min.cache.css";
+
+    // The inlined component stylesheets reference the fonts relative to css/bootstrap-3.3.2/
+    private static final String FONTS = "../../fonts/";
+
+    private Element last;
+
+    @Override
+    public void inject(final BootstrapComponent component) {
+        final TextResource styles = getInlineStyles(component);
+        if (styles == null) {
+            // Part of the complete stylesheet
+            return;
+        }
+
+        final String css = styles.getText().replace(FONTS, GWT.getModuleBaseForStaticFiles() + "fonts/");
+        final StyleElement style = StyleInjector.injectStylesheetAtStart(css);
+        insert(style);
+
+        if (component == BootstrapComponent.UTILITIES) {
+            GwtBootstrap3Timing.start("styles.load");
+            insert(createLink(BOOTSTRAP, true));
+            insert(createLink(FONT_AWESOME, false));
+        }
+    }
+
+    /**
+     * Moves the element right after the previously inserted one, keeping the inlined styles and links in
+     * stylesheet order ahead of the application's stylesheets.
+     */
+    private void insert(final Element e) {
+        final HeadElement head = Document.get().getHead();
+        if (last == null) {
+            head.insertFirst(e);
+        } else {
+            head.insertAfter(e, last);
+        }
+        last = e;
+    }
+
+    private static TextResource getInlineStyles(final BootstrapComponent component) {
+        switch (component) {
+            case BASE:
+                return GwtBootstrap3ClientBundle.INSTANCE.baseStyles();
+            case COMPONENT_ANIMATIONS:
+                return GwtBootstrap3ClientBundle.INSTANCE.componentAnimationStyles();
+            case UTILITIES:
+                return GwtBootstrap3ClientBundle.INSTANCE.utilityStyles();
+            default:
+                return null;
+        }
+    }
+
+    private static LinkElement createLink(final String path, final boolean timed) {
+        final LinkElement link = Document.get().createLinkElement();
+        link.setRel("stylesheet");
+        link.setType("text/css");
+        link.setHref(GWT.getModuleBaseForStaticFiles() + path);
+        deferMedia(link, timed);
+        return link;
+    }
+
+    private static native void deferMedia(final LinkElement link, final boolean timed) /*-{
+        link.media = 'only x';
+        link.onload = function () {
+            link.onload = null;
+            link.media = 'all';
+            if (timed) {
+                @org.gwtbootstrap3.client.GwtBootstrap3Timing::end(Ljava/lang/String;)('styles.load');
+            }
+        };
+    }-*/;
+}
@@ -0,0 +1,51 @@
+package org.gwtbootstrap3.client;
+
+/*
+ * #%L
+ * GwtBootstrap3
+ * %%
+ * Copyright (C) 2013 - 2015 GwtBootstrap3
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * Doesn't record anything. This is the default implementation, replaced by {@link TimingImplEnabled} when the
+ * {@code gwtbootstrap3.timing} property is {@code enabled}. Its methods are empty, so the compiler removes the
+ * calls.
+ */
+public class TimingImpl {
+
+    public boolean isEnabled() {
+        return false;
+    }
+
+    public void setSink(final GwtBootstrap3Timing.Sink sink) {
+    }
+
+    public void start(final String phase) {
+    }
+
+    public void end(final String phase) {
+    }
+
+    public void start(final String phase, final String id) {
+    }
+
+    public void end(final String phase, final String id) {
+    }
+
+    public void cancel(final String phase, final String id) {
+    }
+}
@@ -0,0 +1,159 @@
+package org.gwtbootstrap3.client;
+
+/*
+ * #%L
+ * GwtBootstrap3
+ * %%
+ * Copyright (C) 2013 - 2015 GwtBootstrap3
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records the phases with {@code performance.now()} where available and adds them to the browser's performance
+ * timeline with {@code performance.mark()} and {@code performance.measure()}.
+ */
+public class TimingImplEnabled extends TimingImpl {
+
+    /**
+     * Number of phases kept for a sink set later.
+     */
+    static final int MAX_BUFFERED = 100;
+
+    private static final String PREFIX = "gwtbootstrap3:";
+
+    private static final class Phase {
+        private final String name;
+        private final double startTime;
+        private final double duration;
+
+        private Phase(final String name, final double startTime, final double duration) {
+            this.name = name;
+            this.startTime = startTime;
+            this.duration = duration;
+        }
+    }
+
+    private final Map<String, Double> started = new HashMap<String, Double>();
+    private final List<Phase> completed = new ArrayList<Phase>();
+    private GwtBootstrap3Timing.Sink sink;
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public void setSink(final GwtBootstrap3Timing.Sink sink) {
+        this.sink = sink;
+
+        if (sink != null) {
+            for (final Phase phase : completed) {
+                sink.onPhase(phase.name, phase.startTime, phase.duration);
+            }
+            completed.clear();
+        }
+    }
+
+    @Override
+    public void start(final String phase) {
+        start(phase, null);
+    }
+
+    @Override
+    public void end(final String phase) {
+        end(phase, null);
+    }
+
+    @Override
+    public void start(final String phase, final String id) {
+        final String key = key(phase, id);
+        mark(PREFIX + key + ":start");
+        started.put(key, now());
+    }
+
+    @Override
+    public void end(final String phase, final String id) {
+        final String key = key(phase, id);
+        final Double startTime = started.remove(key);
+        if (startTime == null) {
+            return;
+        }
+
+        final double duration = now() - startTime;
+        mark(PREFIX + key + ":end");
+        measure(PREFIX + phase, PREFIX + key + ":start", PREFIX + key + ":end");
+        if (id != null) {
+            // Instances are started over and over, e.g. each time a tip is shown
+            clearMarks(PREFIX + key);
+        }
+
+        if (sink != null) {
+            sink.onPhase(phase, startTime, duration);
+        } else {
+            if (completed.size() < MAX_BUFFERED) {
+                completed.add(new Phase(phase, startTime, duration));
+            }
+            GwtBootstrap3Timing.CONSOLE.onPhase(phase, startTime, duration);
+        }
+    }
+
+    @Override
+    public void cancel(final String phase, final String id) {
+        final String key = key(phase, id);
+        if (started.remove(key) != null) {
+            clearMarks(PREFIX + key);
+        }
+    }
+
+    private static String key(final String phase, final String id) {
+        return id == null ? phase : phase + "#" + id;
+    }
+
+    private static native double now() /*-{
+        var performance = $wnd.performance;
+        return performance && performance.now ? performance.now() : new Date().getTime();
+    }-*/;
+
+    private static native void mark(final String name) /*-{
+        var performance = $wnd.performance;
+        if (performance && performance.mark) {
+            performance.mark(name);
+        }
+    }-*/;
+
+    private static native void clearMarks(final String name) /*-{
+        var performance = $wnd.performance;
+        if (performance && performance.clearMarks) {
+            performance.clearMarks(name + ':start');
+            performance.clearMarks(name + ':end');
+        }
+    }-*/;
+
+    private static native void measure(final String name, final String startMark, final String endMark) /*-{
+        var performance = $wnd.performance;
+        if (performance && performance.measure) {
+            try {
+                performance.measure(name, startMark, endMark);
+            } catch (e) {
+                // Marks cleared by the application
+            }
+        }
+    }-*/;
+}
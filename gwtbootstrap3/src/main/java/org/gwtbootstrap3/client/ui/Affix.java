@@ -20,6 +20,12 @@ package org.gwtbootstrap3.client.ui;
  * #L%
  */
 
+import org.gwtbootstrap3.client.BootstrapPlugin;
+import org.gwtbootstrap3.client.GwtBootstrap3Scripts;
+import org.gwtbootstrap3.client.ui.impl.AffixOptions;
+import org.gwtbootstrap3.client.ui.impl.JQuery;
+
+import com.google.gwt.core.client.Scheduler.ScheduledCommand;
 import com.google.gwt.dom.client.Element;
 import com.google.gwt.user.client.ui.UIObject;
 
@@ -44,7 +50,7 @@ public class Affix {
      * @param element Element to "affixnize"
      */
     public static void affix(final Element element) {
-        internalAffix(element, 10);
+        affix(element, 10);
     }
 
     /**
@@ -54,7 +60,14 @@ public class Affix {
      * @param offset  Offset of affix
      */
     public static void affix(final Element element, final int offset) {
-        internalAffix(element, offset);
+        GwtBootstrap3Scripts.whenLoaded(BootstrapPlugin.AFFIX, new ScheduledCommand() {
+            @Override
+            public void execute() {
+                final AffixOptions options = AffixOptions.create();
+                options.setOffset(offset);
+                JQuery.wrap(element).affix(options);
+            }
+        });
     }
 
     /**
@@ -75,12 +88,4 @@ public class Affix {
     public static void affix(final UIObject object, final int offset) {
         affix(object.getElement(), offset);
     }
-
-    // @formatter:off
-
-    private static native void internalAffix(final Element e, final int offset) /*-{
-        $wnd.jQuery(e).affix({
-            offset: offset
-        });
-    }-*/;
 }
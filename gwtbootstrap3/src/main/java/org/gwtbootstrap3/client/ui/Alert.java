@@ -20,6 +20,10 @@ package org.gwtbootstrap3.client.ui;
  * #L%
  */
 
+import org.gwtbootstrap3.client.BootstrapComponent;
+import org.gwtbootstrap3.client.BootstrapPlugin;
+import org.gwtbootstrap3.client.GwtBootstrap3Scripts;
+import org.gwtbootstrap3.client.GwtBootstrap3Styles;
 import org.gwtbootstrap3.client.shared.event.AlertCloseEvent;
 import org.gwtbootstrap3.client.shared.event.AlertCloseHandler;
 import org.gwtbootstrap3.client.shared.event.AlertClosedEvent;
@@ -33,7 +37,10 @@ import org.gwtbootstrap3.client.ui.constants.ButtonDismiss;
 import org.gwtbootstrap3.client.ui.constants.Styles;
 import org.gwtbootstrap3.client.ui.html.Div;
 import org.gwtbootstrap3.client.ui.html.Text;
+import org.gwtbootstrap3.client.ui.impl.PluginImpl;
 
+import com.google.gwt.core.client.GWT;
+import com.google.gwt.core.client.Scheduler.ScheduledCommand;
 import com.google.gwt.dom.client.Element;
 import com.google.gwt.user.client.Event;
 import com.google.gwt.user.client.ui.HasText;
@@ -51,10 +58,17 @@ import com.google.web.bindery.event.shared.HandlerRegistration;
  * @see org.gwtbootstrap3.client.shared.event.AlertClosedEvent
  */
 public class Alert extends Div implements HasWidgets, HasText, HasType<AlertType>, HasResponsiveness {
+
+    static {
+        GwtBootstrap3Styles.require(BootstrapComponent.ALERTS);
+    }
+
     private static final String CLOSE = "close";
+    private static final PluginImpl PLUGIN = GWT.create(PluginImpl.class);
 
     private final Text text = new Text();
     private final CloseButton closeButton = new CloseButton();
+    private boolean eventsBound = false;
 
     /**
      * Builds a default alert
@@ -91,7 +105,15 @@ public class Alert extends Div implements HasWidgets, HasText, HasType<AlertType
         super.onLoad();
 
         // Bind the events
-        bindJavaScriptEvents(getElement());
+        GwtBootstrap3Scripts.whenLoaded(BootstrapPlugin.ALERT, new ScheduledCommand() {
+            @Override
+            public void execute() {
+                // Bound by the first command if the widget was attached again while waiting for the plugin
+                if (isAttached() && !eventsBound) {
+                    bindJavaScriptEvents(getElement());
+                }
+            }
+        });
     }
 
     @Override
@@ -99,7 +121,9 @@ public class Alert extends Div implements HasWidgets, HasText, HasType<AlertType
         super.onUnload();
 
         // Unbind the events
-        unbindJavaScriptEvents(getElement());
+        if (GwtBootstrap3Scripts.isLoaded(BootstrapPlugin.ALERT)) {
+            unbindJavaScriptEvents(getElement());
+        }
     }
 
     /**
@@ -163,7 +187,12 @@ public class Alert extends Div implements HasWidgets, HasText, HasType<AlertType
      * Closes alert.
      */
     public void close() {
-        alert(getElement(), CLOSE);
+        GwtBootstrap3Scripts.whenLoaded(BootstrapPlugin.ALERT, new ScheduledCommand() {
+            @Override
+            public void execute() {
+                PLUGIN.alert(getElement(), CLOSE);
+            }
+        });
     }
 
     /**
@@ -204,26 +233,26 @@ public class Alert extends Div implements HasWidgets, HasText, HasType<AlertType
         return addHandler(handler, AlertClosedEvent.getType());
     }
 
-    // @formatter:off
-    private native void alert(final Element e, final String arg) /*-{
-        $wnd.jQuery(e).alert(arg);
-    }-*/;
-
-    private native void bindJavaScriptEvents(final Element e) /*-{
-        var target = this;
-        var $alert = $wnd.jQuery(e);
+    private void bindJavaScriptEvents(final Element e) {
+        eventsBound = true;
 
-        $alert.on('close.bs.alert', function (evt) {
-            target.@org.gwtbootstrap3.client.ui.Alert::onClose(Lcom/google/gwt/user/client/Event;)(evt);
+        PLUGIN.on(e, "close.bs.alert", new PluginImpl.Handler() {
+            @Override
+            public void onEvent(final Event evt) {
+                onClose(evt);
+            }
         });
-
-        $alert.on('closed.bs.alert', function (evt) {
-            target.@org.gwtbootstrap3.client.ui.Alert::onClosed(Lcom/google/gwt/user/client/Event;)(evt);
+        PLUGIN.on(e, "closed.bs.alert", new PluginImpl.Handler() {
+            @Override
+            public void onEvent(final Event evt) {
+                onClosed(evt);
+            }
         });
-    }-*/;
+    }
 
-    private native void unbindJavaScriptEvents(final Element e) /*-{
-        $wnd.jQuery(e).off('close.bs.alert');
-        $wnd.jQuery(e).off('closed.bs.alert');
-    }-*/;
+    private void unbindJavaScriptEvents(final Element e) {
+        eventsBound = false;
+        PLUGIN.off(e, "close.bs.alert");
+        PLUGIN.off(e, "closed.bs.alert");
+    }
 }
@@ -28,6 +28,7 @@ import org.gwtbootstrap3.client.ui.base.HasDataTarget;
 import org.gwtbootstrap3.client.ui.base.HasDataToggle;
 import org.gwtbootstrap3.client.ui.base.HasHref;
 import org.gwtbootstrap3.client.ui.base.HasIcon;
+import org.gwtbootstrap3.client.ui.base.HasIconName;
 import org.gwtbootstrap3.client.ui.base.HasIconPosition;
 import org.gwtbootstrap3.client.ui.base.HasPull;
 import org.gwtbootstrap3.client.ui.base.HasTarget;
@@ -75,7 +76,7 @@ import com.google.gwt.user.client.ui.Widget;
  * @author Grant Slender
  */
 public class Anchor extends ComplexWidget implements HasEnabled, HasClickHandlers, HasDoubleClickHandlers, HasHref, HasDataToggle, HasDataParent,
-        HasTargetHistoryToken, HasHTML, HasIcon, HasIconPosition, Focusable, HasDataTarget, HasTarget, HasPull {
+        HasTargetHistoryToken, HasHTML, HasIcon, HasIconName, HasIconPosition, Focusable, HasDataTarget, HasTarget, HasPull {
 
     private final PullMixin<Anchor> pullMixin = new PullMixin<Anchor>(this);
     private final DataToggleMixin<Anchor> toggleMixin = new DataToggleMixin<Anchor>(this);
@@ -164,6 +165,22 @@ public class Anchor extends ComplexWidget implements HasEnabled, HasClickHandler
         return iconTextMixin.getIcon();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setIconName(final String iconName) {
+        iconTextMixin.setIconName(iconName);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getIconName() {
+        return iconTextMixin.getIconName();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -20,6 +20,8 @@ package org.gwtbootstrap3.client.ui;
  * #L%
  */
 
+import org.gwtbootstrap3.client.BootstrapComponent;
+import org.gwtbootstrap3.client.GwtBootstrap3Styles;
 import org.gwtbootstrap3.client.ui.base.ComplexWidget;
 import org.gwtbootstrap3.client.ui.constants.Styles;
 import org.gwtbootstrap3.client.ui.html.Text;
@@ -42,6 +44,11 @@ import com.google.gwt.user.client.ui.HasWidgets;
  * @author Sven Jacobs
  */
 public class Badge extends ComplexWidget implements HasWidgets, HasText {
+
+    static {
+        GwtBootstrap3Styles.require(BootstrapComponent.BADGES);
+    }
+
     private final Text text = new Text();
 
     public Badge() {
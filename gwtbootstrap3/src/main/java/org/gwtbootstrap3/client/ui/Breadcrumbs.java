@@ -20,6 +20,8 @@ package org.gwtbootstrap3.client.ui;
  * #L%
  */
 
+import org.gwtbootstrap3.client.BootstrapComponent;
+import org.gwtbootstrap3.client.GwtBootstrap3Styles;
 import org.gwtbootstrap3.client.ui.constants.Styles;
 import org.gwtbootstrap3.client.ui.html.OrderedList;
 
@@ -30,6 +32,11 @@ import com.google.gwt.user.client.ui.WidgetCollection;
  * @author Joshua Godi
  */
 public class Breadcrumbs extends OrderedList {
+
+    static {
+        GwtBootstrap3Styles.require(BootstrapComponent.BREADCRUMBS);
+    }
+
     private final WidgetCollection children = new WidgetCollection(this);
 
     public Breadcrumbs() {
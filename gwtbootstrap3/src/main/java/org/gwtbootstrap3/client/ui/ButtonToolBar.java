@@ -20,6 +20,8 @@ package org.gwtbootstrap3.client.ui;
  * #L%
  */
 
+import org.gwtbootstrap3.client.BootstrapComponent;
+import org.gwtbootstrap3.client.GwtBootstrap3Styles;
 import org.gwtbootstrap3.client.ui.constants.Styles;
 import org.gwtbootstrap3.client.ui.gwt.FlowPanel;
 
@@ -46,6 +48,10 @@ import org.gwtbootstrap3.client.ui.gwt.FlowPanel;
  */
 public class ButtonToolBar extends FlowPanel {
 
+    static {
+        GwtBootstrap3Styles.require(BootstrapComponent.BUTTON_GROUPS);
+    }
+
     public ButtonToolBar() {
         setStyleName(Styles.BTN_TOOLBAR);
     }
@@ -20,6 +20,10 @@ package org.gwtbootstrap3.client.ui;
  * #L%
  */
 
+import org.gwtbootstrap3.client.BootstrapComponent;
+import org.gwtbootstrap3.client.BootstrapPlugin;
+import org.gwtbootstrap3.client.GwtBootstrap3Scripts;
+import org.gwtbootstrap3.client.GwtBootstrap3Styles;
 import org.gwtbootstrap3.client.shared.event.CarouselSlidEvent;
 import org.gwtbootstrap3.client.shared.event.CarouselSlidHandler;
 import org.gwtbootstrap3.client.shared.event.CarouselSlideEvent;
@@ -27,7 +31,11 @@ import org.gwtbootstrap3.client.shared.event.CarouselSlideHandler;
 import org.gwtbootstrap3.client.ui.constants.Attributes;
 import org.gwtbootstrap3.client.ui.constants.Styles;
 import org.gwtbootstrap3.client.ui.html.Div;
+import org.gwtbootstrap3.client.ui.impl.CarouselOptions;
+import org.gwtbootstrap3.client.ui.impl.JQuery;
+import org.gwtbootstrap3.client.ui.impl.PluginImpl;
 
+import com.google.gwt.core.client.Scheduler.ScheduledCommand;
 import com.google.gwt.event.shared.HandlerRegistration;
 import com.google.gwt.user.client.Event;
 
@@ -35,6 +43,11 @@ import com.google.gwt.user.client.Event;
  * @author Joshua Godi
  */
 public class Carousel extends Div {
+
+    static {
+        GwtBootstrap3Styles.require(BootstrapComponent.CAROUSEL);
+    }
+
     public static final String HOVER = "hover";
     public static final String CAROUSEL = "carousel";
     public static final String CYCLE = "cycle";
@@ -46,6 +59,7 @@ public class Carousel extends Div {
     private int interval = 5000;
     private String pause = HOVER;
     private boolean wrap = true;
+    private boolean eventsBound = false;
 
     public Carousel() {
         // Set the default styles
@@ -60,11 +74,23 @@ public class Carousel extends Div {
     protected void onLoad() {
         super.onLoad();
 
-        // Bind jquery events
-        bindJavaScriptEvents(getElement());
-
-        // Configure the carousel
-        carousel(getElement(), interval, pause, wrap);
+        GwtBootstrap3Scripts.whenLoaded(BootstrapPlugin.CAROUSEL, new ScheduledCommand() {
+            @Override
+            public void execute() {
+                // Bound by the first command if the widget was attached again while waiting for the plugin
+                if (isAttached() && !eventsBound) {
+                    // Bind jquery events
+                    bindJavaScriptEvents(getElement());
+
+                    // Configure the carousel
+                    final CarouselOptions options = CarouselOptions.create();
+                    options.setInterval(interval);
+                    options.setPause(pause);
+                    options.setWrap(wrap);
+                    JQuery.wrap(getElement()).carousel(options);
+                }
+            }
+        });
     }
 
     @Override
@@ -72,7 +98,9 @@ public class Carousel extends Div {
         super.onUnload();
 
         // Unbind events
-        unbindJavaScriptEvents(getElement());
+        if (GwtBootstrap3Scripts.isLoaded(BootstrapPlugin.CAROUSEL)) {
+            unbindJavaScriptEvents(getElement());
+        }
     }
 
     public void setInterval(final int interval) {
@@ -91,35 +119,49 @@ public class Carousel extends Div {
      * Causes the carousel to cycle
      */
     public void cycleCarousel() {
-        fireMethod(getElement(), CYCLE);
+        command(CYCLE);
     }
 
     /**
      * Causes the carousel to pause movement
      */
     public void pauseCarousel() {
-        fireMethod(getElement(), PAUSE);
+        command(PAUSE);
     }
 
     /**
      * Causes the carousel to jump to that slide
      */
     public void jumpToSlide(final int slideNumber) {
-        fireMethod(getElement(), slideNumber);
+        GwtBootstrap3Scripts.whenLoaded(BootstrapPlugin.CAROUSEL, new ScheduledCommand() {
+            @Override
+            public void execute() {
+                JQuery.wrap(getElement()).carousel(slideNumber);
+            }
+        });
     }
 
     /**
      * Causes the carousel to go back
      */
     public void goToPrev() {
-        fireMethod(getElement(), PREV);
+        command(PREV);
     }
 
     /**
      * Causes the carousel to go to the next slide
      */
     public void goToNext() {
-        fireMethod(getElement(), NEXT);
+        command(NEXT);
+    }
+
+    private void command(final String method) {
+        GwtBootstrap3Scripts.whenLoaded(BootstrapPlugin.CAROUSEL, new ScheduledCommand() {
+            @Override
+            public void execute() {
+                JQuery.wrap(getElement()).carousel(method);
+            }
+        });
     }
 
     public HandlerRegistration addSlideHandler(final CarouselSlideHandler carouselSlideHandler) {
@@ -148,38 +190,28 @@ public class Carousel extends Div {
         fireEvent(new CarouselSlidEvent(this, evt));
     }
 
-    private native void bindJavaScriptEvents(final com.google.gwt.dom.client.Element e) /*-{
-        var target = this;
-        var $carousel = $wnd.jQuery(e);
-
-        $carousel.on('slide.bs.carousel', function (evt) {
-            target.@org.gwtbootstrap3.client.ui.Carousel::onSlide(Lcom/google/gwt/user/client/Event;)(evt);
-        });
+    private void bindJavaScriptEvents(final com.google.gwt.dom.client.Element e) {
+        eventsBound = true;
 
-        $carousel.on('slid.bs.carousel', function (evt) {
-            target.@org.gwtbootstrap3.client.ui.Carousel::onSlid(Lcom/google/gwt/user/client/Event;)(evt);
+        final JQuery jQuery = JQuery.wrap(e);
+        jQuery.on("slide.bs.carousel", new PluginImpl.Handler() {
+            @Override
+            public void onEvent(final Event evt) {
+                onSlide(evt);
+            }
         });
-    }-*/;
-
-    private native void unbindJavaScriptEvents(final com.google.gwt.dom.client.Element e) /*-{
-        $wnd.jQuery(e).off('slide.bs.carousel');
-        $wnd.jQuery(e).off('slid.bs.carousel');
-    }-*/;
-
-    private native void carousel(final com.google.gwt.dom.client.Element e, final int interval, final String pause,
-                                 final boolean wrap) /*-{
-        $wnd.jQuery(e).carousel({
-            interval: interval,
-            pause: pause,
-            wrap: wrap
+        jQuery.on("slid.bs.carousel", new PluginImpl.Handler() {
+            @Override
+            public void onEvent(final Event evt) {
+                onSlid(evt);
+            }
         });
-    }-*/;
-
-    private native void fireMethod(final com.google.gwt.dom.client.Element e, String method) /*-{
-        $wnd.jQuery(e).carousel(method);
-    }-*/;
+    }
 
-    private native void fireMethod(final com.google.gwt.dom.client.Element e, int slideNumber) /*-{
-        $wnd.jQuery(e).carousel(slideNumber);
-    }-*/;
+    private void unbindJavaScriptEvents(final com.google.gwt.dom.client.Element e) {
+        eventsBound = false;
+        final JQuery jQuery = JQuery.wrap(e);
+        jQuery.off("slide.bs.carousel");
+        jQuery.off("slid.bs.carousel");
+    }
 }
@@ -20,6 +20,8 @@ package org.gwtbootstrap3.client.ui;
  * #L%
  */
 
+import org.gwtbootstrap3.client.BootstrapComponent;
+import org.gwtbootstrap3.client.GwtBootstrap3Styles;
 import org.gwtbootstrap3.client.ui.base.HasFormValue;
 import org.gwtbootstrap3.client.ui.constants.Styles;
 import org.gwtbootstrap3.client.ui.gwt.ButtonBase;
@@ -72,6 +74,10 @@ import com.google.gwt.user.client.ui.UIObject;
 public class CheckBox extends ButtonBase implements HasName, HasValue<Boolean>, HasWordWrap, HasDirectionalSafeHtml,
         HasDirectionEstimator, IsEditor<LeafValueEditor<Boolean>>, HasFormValue, HasChangeHandlers {
 
+    static {
+        GwtBootstrap3Styles.require(BootstrapComponent.FORMS);
+    }
+
     private static final CheckBoxImpl impl = GWT.create(CheckBoxImpl.class);
 
     protected final SpanElement labelElem = Document.get().createSpanElement();
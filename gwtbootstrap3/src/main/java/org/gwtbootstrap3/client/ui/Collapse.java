@@ -20,6 +20,8 @@ package org.gwtbootstrap3.client.ui;
  * #L%
  */
 
+import org.gwtbootstrap3.client.BootstrapPlugin;
+import org.gwtbootstrap3.client.GwtBootstrap3Scripts;
 import org.gwtbootstrap3.client.shared.event.HiddenEvent;
 import org.gwtbootstrap3.client.shared.event.HiddenHandler;
 import org.gwtbootstrap3.client.shared.event.HideEvent;
@@ -30,7 +32,10 @@ import org.gwtbootstrap3.client.shared.event.ShownEvent;
 import org.gwtbootstrap3.client.shared.event.ShownHandler;
 import org.gwtbootstrap3.client.ui.constants.Styles;
 import org.gwtbootstrap3.client.ui.html.Div;
+import org.gwtbootstrap3.client.ui.impl.PluginImpl;
 
+import com.google.gwt.core.client.GWT;
+import com.google.gwt.core.client.Scheduler.ScheduledCommand;
 import com.google.gwt.event.shared.HandlerRegistration;
 import com.google.gwt.user.client.Event;
 
@@ -38,11 +43,14 @@ import com.google.gwt.user.client.Event;
  * @author Grant Slender
  */
 public class Collapse extends Div {
+    private static final PluginImpl PLUGIN = GWT.create(PluginImpl.class);
+
     private static final String TOGGLE = "toggle";
     private static final String SHOW = "show";
     private static final String HIDE = "hide";
 
     private boolean toggle = true;
+    private boolean eventsBound = false;
 
     public Collapse() {
         // Set the default styles
@@ -54,7 +62,15 @@ public class Collapse extends Div {
         super.onLoad();
 
         // Bind jquery events
-        bindJavaScriptEvents(getElement());
+        GwtBootstrap3Scripts.whenLoaded(BootstrapPlugin.COLLAPSE, new ScheduledCommand() {
+            @Override
+            public void execute() {
+                // Bound by the first command if the widget was attached again while waiting for the plugin
+                if (isAttached() && !eventsBound) {
+                    bindJavaScriptEvents(getElement());
+                }
+            }
+        });
 
         // Configure the collapse
         if(toggle) {
@@ -67,7 +83,9 @@ public class Collapse extends Div {
         super.onUnload();
 
         // Unbind the events
-        unbindJavaScriptEvents(getElement());
+        if (GwtBootstrap3Scripts.isLoaded(BootstrapPlugin.COLLAPSE)) {
+            unbindJavaScriptEvents(getElement());
+        }
     }
 
     /**
@@ -83,21 +101,30 @@ public class Collapse extends Div {
      * Causes the collapse to show or hide
      */
     public void toggle() {
-        fireMethod(getElement(), TOGGLE);
+        command(TOGGLE);
     }
 
     /**
      * Causes the collapse to show
      */
     public void show() {
-        fireMethod(getElement(), SHOW);
+        command(SHOW);
     }
 
     /**
      * Causes the collapse to hide
      */
     public void hide() {
-        fireMethod(getElement(), HIDE);
+        command(HIDE);
+    }
+
+    private void command(final String method) {
+        GwtBootstrap3Scripts.whenLoaded(BootstrapPlugin.COLLAPSE, new ScheduledCommand() {
+            @Override
+            public void execute() {
+                PLUGIN.collapse(getElement(), method);
+            }
+        });
     }
 
     public boolean isShown() {
@@ -156,45 +183,40 @@ public class Collapse extends Div {
         fireEvent(new HiddenEvent(evt));
     }
 
-    private native void bindJavaScriptEvents(final com.google.gwt.dom.client.Element e) /*-{
-        var target = this;
-        var $collapse = $wnd.jQuery(e);
+    private void bindJavaScriptEvents(final com.google.gwt.dom.client.Element e) {
+        eventsBound = true;
 
-        $collapse.on('show.bs.collapse', function (evt) {
-            target.@org.gwtbootstrap3.client.ui.Collapse::onShow(Lcom/google/gwt/user/client/Event;)(evt);
+        PLUGIN.on(e, "show.bs.collapse", new PluginImpl.Handler() {
+            @Override
+            public void onEvent(final Event evt) {
+                onShow(evt);
+            }
         });
-
-        $collapse.on('shown.bs.collapse', function (evt) {
-            target.@org.gwtbootstrap3.client.ui.Collapse::onShown(Lcom/google/gwt/user/client/Event;)(evt);
+        PLUGIN.on(e, "shown.bs.collapse", new PluginImpl.Handler() {
+            @Override
+            public void onEvent(final Event evt) {
+                onShown(evt);
+            }
         });
-
-        $collapse.on('hide.bs.collapse', function (evt) {
-            target.@org.gwtbootstrap3.client.ui.Collapse::onHide(Lcom/google/gwt/user/client/Event;)(evt);
-        });
-
-        $collapse.on('hidden.bs.collapse', function (evt) {
-            target.@org.gwtbootstrap3.client.ui.Collapse::onHidden(Lcom/google/gwt/user/client/Event;)(evt);
+        PLUGIN.on(e, "hide.bs.collapse", new PluginImpl.Handler() {
+            @Override
+            public void onEvent(final Event evt) {
+                onHide(evt);
+            }
         });
-    }-*/;
-
-    private native void unbindJavaScriptEvents(final com.google.gwt.dom.client.Element e) /*-{
-        $wnd.jQuery(e).off('show.bs.collapse');
-        $wnd.jQuery(e).off('shown.bs.collapse');
-        $wnd.jQuery(e).off('hide.bs.collapse');
-        $wnd.jQuery(e).off('hidden.bs.collapse');
-    }-*/;
-
-    private native void collapse(final com.google.gwt.dom.client.Element e, final boolean toggle) /*-{
-        $wnd.jQuery(e).collapse({
-            toggle: toggle
+        PLUGIN.on(e, "hidden.bs.collapse", new PluginImpl.Handler() {
+            @Override
+            public void onEvent(final Event evt) {
+                onHidden(evt);
+            }
         });
-    }-*/;
-
-    private native void fireMethod(final com.google.gwt.dom.client.Element e, String method) /*-{
-        $wnd.jQuery(e).collapse(method);
-    }-*/;
+    }
 
-    private native void fireMethod(final com.google.gwt.dom.client.Element e, int slideNumber) /*-{
-        $wnd.jQuery(e).collapse(slideNumber);
-    }-*/;
+    private void unbindJavaScriptEvents(final com.google.gwt.dom.client.Element e) {
+        eventsBound = false;
+        PLUGIN.off(e, "show.bs.collapse");
+        PLUGIN.off(e, "shown.bs.collapse");
+        PLUGIN.off(e, "hide.bs.collapse");
+        PLUGIN.off(e, "hidden.bs.collapse");
+    }
 }
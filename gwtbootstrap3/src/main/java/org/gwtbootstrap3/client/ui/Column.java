@@ -20,6 +20,12 @@ package org.gwtbootstrap3.client.ui;
  * #L%
  */
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.gwtbootstrap3.client.ui.base.helper.StyleBatch;
 import org.gwtbootstrap3.client.ui.constants.ColumnOffset;
 import org.gwtbootstrap3.client.ui.constants.ColumnPull;
 import org.gwtbootstrap3.client.ui.constants.ColumnPush;
@@ -41,6 +47,10 @@ import com.google.gwt.user.client.ui.Widget;
 public class Column extends Div {
 
     private static final String SEPARATOR = "[, ]+";
+    private static final int MAX_CACHED_SPECS = 256;
+
+    private static final Map<Class<?>, Map<String, String>> NAME_INDEXES = new HashMap<Class<?>, Map<String, String>>();
+    private static final Map<Class<?>, Map<String, String[]>> SPEC_CACHE = new HashMap<Class<?>, Map<String, String[]>>();
 
     /**
      * Creates a column with one size, and with one or more additional widgets added.
@@ -86,7 +96,15 @@ public class Column extends Div {
      */
     @UiConstructor
     public Column(final String size) {
-        setSize(size);
+        // A new column has no other style names yet, so the resolved sizes are written in one go
+        final StringBuilder styleNames = new StringBuilder();
+        for (final String cssClass : resolveStyleNames(size, ColumnSize.class)) {
+            if (styleNames.length() > 0) {
+                styleNames.append(' ');
+            }
+            styleNames.append(cssClass);
+        }
+        setStyleName(styleNames.toString());
     }
 
     /**
@@ -163,38 +181,89 @@ public class Column extends Div {
     private <E extends Enum<? extends Style.HasCssName>> void addEnumVarargsValues(final E[] values,
                                                                                    final Class<E> enumClass,
                                                                                    final boolean clearOld) {
+        final StyleBatch batch = new StyleBatch(this);
+
         if (clearOld) {
             // Remove the previous values
-            removeStyleNames(enumClass);
+            batch.removeEnumStyleNames(enumClass);
         }
 
         for (final E value : values) {
-            addStyleName(((Style.HasCssName) value).getCssName());
+            batch.addStyleName(((Style.HasCssName) value).getCssName());
         }
+
+        batch.apply();
     }
 
     private <E extends Enum<? extends Style.HasCssName>> void addEnumStringValues(final String values,
                                                                                   final Class<E> enumClass,
                                                                                   final boolean clearOld) {
+        final StyleBatch batch = new StyleBatch(this);
+
         if (clearOld) {
             // Remove the previous values
-            removeStyleNames(enumClass);
+            batch.removeEnumStyleNames(enumClass);
         }
 
         // Add new ones
-        final String[] valuesSplit = values.split(SEPARATOR);
-        for (final String value : valuesSplit) {
-            for (final E constant : enumClass.getEnumConstants()) {
-                if (value.equalsIgnoreCase(constant.name())) {
-                    addStyleName(((Style.HasCssName) constant).getCssName());
+        for (final String cssClass : resolveStyleNames(values, enumClass)) {
+            batch.addStyleName(cssClass);
+        }
+
+        batch.apply();
+    }
+
+    /**
+     * Resolves a separated list of enum names, e.g. "XS_12, SM_6", to their CSS class names.
+     * Results are cached per enum class since the same few specifications are used over and over again.
+     */
+    private static String[] resolveStyleNames(final String values,
+                                              final Class<?> enumClass) {
+        Map<String, String[]> cache = SPEC_CACHE.get(enumClass);
+        if (cache == null) {
+            cache = new HashMap<String, String[]>();
+            SPEC_CACHE.put(enumClass, cache);
+        }
+
+        String[] cssClasses = cache.get(values);
+        if (cssClasses == null) {
+            final Map<String, String> names = getNameIndex(enumClass);
+            final List<String> resolved = new ArrayList<String>();
+
+            for (final String value : values.split(SEPARATOR)) {
+                final String cssClass = names.get(value.toUpperCase());
+
+                if (cssClass != null && !resolved.contains(cssClass)) {
+                    resolved.add(cssClass);
                 }
             }
+
+            cssClasses = resolved.toArray(new String[resolved.size()]);
+
+            if (cache.size() < MAX_CACHED_SPECS) {
+                cache.put(values, cssClasses);
+            }
         }
+
+        return cssClasses;
     }
 
-    private <E extends Enum<? extends Style.HasCssName>> void removeStyleNames(final Class<E> enumClass) {
-        for (final E constant : enumClass.getEnumConstants()) {
-            removeStyleName(((Style.HasCssName) constant).getCssName());
+    /**
+     * Returns the upper case enum name to CSS class name index of an enum, building it on first use.
+     */
+    private static Map<String, String> getNameIndex(final Class<?> enumClass) {
+        Map<String, String> index = NAME_INDEXES.get(enumClass);
+
+        if (index == null) {
+            index = new HashMap<String, String>();
+
+            for (final Object constant : enumClass.getEnumConstants()) {
+                index.put(((Enum<?>) constant).name().toUpperCase(), ((Style.HasCssName) constant).getCssName());
+            }
+
+            NAME_INDEXES.put(enumClass, index);
         }
+
+        return index;
     }
 }
\ No newline at end of file
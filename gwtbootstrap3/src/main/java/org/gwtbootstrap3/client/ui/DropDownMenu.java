@@ -20,6 +20,8 @@ package org.gwtbootstrap3.client.ui;
  * #L%
  */
 
+import org.gwtbootstrap3.client.BootstrapComponent;
+import org.gwtbootstrap3.client.GwtBootstrap3Styles;
 import org.gwtbootstrap3.client.ui.base.HasPull;
 import org.gwtbootstrap3.client.ui.base.mixin.PullMixin;
 import org.gwtbootstrap3.client.ui.constants.Attributes;
@@ -36,6 +38,11 @@ import org.gwtbootstrap3.client.ui.html.UnorderedList;
  * @see ButtonGroup
  */
 public class DropDownMenu extends UnorderedList implements HasPull {
+
+    static {
+        GwtBootstrap3Styles.require(BootstrapComponent.DROPDOWNS);
+    }
+
     private static final String MENU = "menu";
 
     private final PullMixin<DropDownMenu> pullMixin = new PullMixin<DropDownMenu>(this);
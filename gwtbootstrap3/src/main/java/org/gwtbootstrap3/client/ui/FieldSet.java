@@ -20,6 +20,8 @@ package org.gwtbootstrap3.client.ui;
  * #L%
  */
 
+import org.gwtbootstrap3.client.BootstrapComponent;
+import org.gwtbootstrap3.client.GwtBootstrap3Styles;
 import org.gwtbootstrap3.client.ui.base.ComplexWidget;
 
 import com.google.gwt.dom.client.Document;
@@ -31,6 +33,11 @@ import com.google.gwt.user.client.ui.HasEnabled;
  * @see Form
  */
 public class FieldSet extends ComplexWidget implements HasEnabled {
+
+    static {
+        GwtBootstrap3Styles.require(BootstrapComponent.FORMS);
+    }
+
     private static final String DISABLED = "disabled";
 
     public FieldSet() {
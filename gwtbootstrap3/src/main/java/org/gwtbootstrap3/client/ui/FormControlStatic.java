@@ -20,6 +20,8 @@ package org.gwtbootstrap3.client.ui;
  * #L%
  */
 
+import org.gwtbootstrap3.client.BootstrapComponent;
+import org.gwtbootstrap3.client.GwtBootstrap3Styles;
 import org.gwtbootstrap3.client.ui.base.AbstractTextWidget;
 import org.gwtbootstrap3.client.ui.constants.Styles;
 
@@ -30,6 +32,10 @@ import com.google.gwt.dom.client.Document;
  */
 public class FormControlStatic extends AbstractTextWidget {
 
+    static {
+        GwtBootstrap3Styles.require(BootstrapComponent.FORMS);
+    }
+
     public FormControlStatic() {
         super(Document.get().createPElement());
         setStyleName(Styles.FORM_CONTROL_STATIC);
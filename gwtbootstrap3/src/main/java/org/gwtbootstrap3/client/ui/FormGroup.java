@@ -20,6 +20,8 @@ package org.gwtbootstrap3.client.ui;
  * #L%
  */
 
+import org.gwtbootstrap3.client.BootstrapComponent;
+import org.gwtbootstrap3.client.GwtBootstrap3Styles;
 import org.gwtbootstrap3.client.ui.base.HasSize;
 import org.gwtbootstrap3.client.ui.base.HasValidationState;
 import org.gwtbootstrap3.client.ui.base.form.FormElementContainer;
@@ -35,6 +37,10 @@ import com.google.gwt.dom.client.Document;
  */
 public class FormGroup extends FormElementContainer implements HasSize<FormGroupSize>, HasValidationState {
 
+    static {
+        GwtBootstrap3Styles.require(BootstrapComponent.FORMS);
+    }
+
     public FormGroup() {
         setElement(Document.get().createDivElement());
         setStyleName(Styles.FORM_GROUP);
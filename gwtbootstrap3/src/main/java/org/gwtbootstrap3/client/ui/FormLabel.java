@@ -20,6 +20,8 @@ package org.gwtbootstrap3.client.ui;
  * #L%
  */
 
+import org.gwtbootstrap3.client.BootstrapComponent;
+import org.gwtbootstrap3.client.GwtBootstrap3Styles;
 import org.gwtbootstrap3.client.ui.base.AbstractTextWidget;
 import org.gwtbootstrap3.client.ui.constants.Attributes;
 import org.gwtbootstrap3.client.ui.constants.ElementTags;
@@ -40,6 +42,10 @@ import com.google.gwt.event.dom.client.DomEvent;
  */
 public class FormLabel extends AbstractTextWidget {
 
+    static {
+        GwtBootstrap3Styles.require(BootstrapComponent.FORMS);
+    }
+
     private Element iconElement = null;
 
     private boolean showRequiredIndicator = false;
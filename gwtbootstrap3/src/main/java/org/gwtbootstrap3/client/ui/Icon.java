@@ -22,9 +22,11 @@ package org.gwtbootstrap3.client.ui;
 
 import org.gwtbootstrap3.client.ui.base.ComplexWidget;
 import org.gwtbootstrap3.client.ui.base.HasType;
+import org.gwtbootstrap3.client.ui.base.helper.StyleBatch;
 import org.gwtbootstrap3.client.ui.base.helper.StyleHelper;
 import org.gwtbootstrap3.client.ui.constants.ElementTags;
 import org.gwtbootstrap3.client.ui.constants.IconFlip;
+import org.gwtbootstrap3.client.ui.constants.IconName;
 import org.gwtbootstrap3.client.ui.constants.IconRotate;
 import org.gwtbootstrap3.client.ui.constants.IconSize;
 import org.gwtbootstrap3.client.ui.constants.IconType;
@@ -45,6 +47,11 @@ import com.google.gwt.uibinder.client.UiConstructor;
  */
 public class Icon extends ComplexWidget implements HasType<IconType>, HasClickHandlers {
 
+    private IconType type;
+
+    // Style name of the current icon, set by type or by name
+    private String iconClass;
+
     public Icon() {
         setElement(Document.get().createElement(ElementTags.I));
         addStyleName(Styles.FONT_AWESOME_BASE);
@@ -56,22 +63,69 @@ public class Icon extends ComplexWidget implements HasType<IconType>, HasClickHa
         setType(type);
     }
 
-    @Override
-    public void setType(final IconType type) {
-        StyleHelper.addUniqueEnumStyleName(this, IconType.class, type);
+    /**
+     * Creates the icon with the given Font Awesome name.
+     *
+     * @param name name of the icon, e.g. one of the {@link IconName} constants
+     */
+    public Icon(final String name) {
+        this();
+        setName(name);
     }
 
+    /**
+     * Sets the icon type, replacing the icon set before. Only the style name of the previous icon is removed,
+     * the {@link IconType} constants aren't enumerated.
+     *
+     * @param type Icon type
+     */
+    @Override
+    public void setType(final IconType type) {
+        setIconClass(type != null ? type.getCssName() : null);
+        this.type = type;
+    }
+
+    /**
+     * Returns the icon type, also if the icon was set by name or added as a plain style name.
+     * <p/>
+     * Unless the type was set with {@link #setType(IconType)}, it's looked up among all {@link IconType}
+     * constants, which keeps them in the compiled output. Use {@link #getName()} to avoid that.
+     *
+     * @return Icon type
+     */
     @Override
     public IconType getType() {
+        if (type != null && StyleHelper.containsStyle(getStyleName(), type.getCssName())) {
+            return type;
+        }
         return IconType.fromStyleName(getStyleName());
     }
 
+    /**
+     * Sets the icon by its Font Awesome name, replacing the icon set before.
+     *
+     * @param name name of the icon, e.g. one of the {@link IconName} constants
+     */
+    public void setName(final String name) {
+        setIconClass(name);
+        this.type = null;
+    }
+
+    /**
+     * Returns the name of the icon set with {@link #setName(String)} or {@link #setType(IconType)}.
+     *
+     * @return name of the icon or {@code null}
+     */
+    public String getName() {
+        return iconClass;
+    }
+
     public void setLight(final boolean light) {
         StyleHelper.toggleStyleName(this, light, Styles.ICON_LIGHT);
     }
 
     public boolean isLight() {
-        return StyleHelper.containsStyle(Styles.ICON_LIGHT, getStyleName());
+        return StyleHelper.hasStyleName(getStyleElement(), Styles.ICON_LIGHT);
     }
 
     public void setMuted(final boolean muted) {
@@ -79,7 +133,7 @@ public class Icon extends ComplexWidget implements HasType<IconType>, HasClickHa
     }
 
     public boolean isMuted() {
-        return StyleHelper.containsStyle(Styles.ICON_MUTED, getStyleName());
+        return StyleHelper.hasStyleName(getStyleElement(), Styles.ICON_MUTED);
     }
 
     public void setBorder(final boolean border) {
@@ -87,7 +141,7 @@ public class Icon extends ComplexWidget implements HasType<IconType>, HasClickHa
     }
 
     public boolean isBorder() {
-        return StyleHelper.containsStyle(Styles.ICON_BORDER, getStyleName());
+        return StyleHelper.hasStyleName(getStyleElement(), Styles.ICON_BORDER);
     }
 
     public void setStackBase(final boolean stackBase) {
@@ -95,7 +149,7 @@ public class Icon extends ComplexWidget implements HasType<IconType>, HasClickHa
     }
 
     public boolean isStackBase() {
-        return StyleHelper.containsStyle(Styles.ICON_STACK_BASE, getStyleName());
+        return StyleHelper.hasStyleName(getStyleElement(), Styles.ICON_STACK_BASE);
     }
 
     public void setFixedWidth(final boolean fixedWidth) {
@@ -103,7 +157,7 @@ public class Icon extends ComplexWidget implements HasType<IconType>, HasClickHa
     }
 
     public boolean isFixedWidth() {
-        return StyleHelper.containsStyle(Styles.ICON_FIXED_WIDTH, getStyleName());
+        return StyleHelper.hasStyleName(getStyleElement(), Styles.ICON_FIXED_WIDTH);
     }
 
     public void setStackTop(final boolean stackTop) {
@@ -111,7 +165,7 @@ public class Icon extends ComplexWidget implements HasType<IconType>, HasClickHa
     }
 
     public boolean isStackTop() {
-        return StyleHelper.containsStyle(Styles.ICON_STACK_TOP, getStyleName());
+        return StyleHelper.hasStyleName(getStyleElement(), Styles.ICON_STACK_TOP);
     }
 
     public void setSpin(final boolean spin) {
@@ -119,7 +173,7 @@ public class Icon extends ComplexWidget implements HasType<IconType>, HasClickHa
     }
 
     public boolean isSpin() {
-        return StyleHelper.containsStyle(Styles.ICON_SPIN, getStyleName());
+        return StyleHelper.hasStyleName(getStyleElement(), Styles.ICON_SPIN);
     }
 
     public void setRotate(final IconRotate iconRotate) {
@@ -158,6 +212,18 @@ public class Icon extends ComplexWidget implements HasType<IconType>, HasClickHa
         return IconSize.fromStyleName(getStyleName());
     }
 
+    private void setIconClass(final String iconClass) {
+        if (iconClass == null ? this.iconClass == null : iconClass.equals(this.iconClass)) {
+            return;
+        }
+
+        new StyleBatch(this)
+                .removeStyleName(this.iconClass)
+                .addStyleName(iconClass)
+                .apply();
+        this.iconClass = iconClass;
+    }
+
     @Override
     public HandlerRegistration addClickHandler(final ClickHandler handler) {
         return addDomHandler(handler, ClickEvent.getType());
@@ -20,6 +20,8 @@ package org.gwtbootstrap3.client.ui;
  * #L%
  */
 
+import org.gwtbootstrap3.client.BootstrapComponent;
+import org.gwtbootstrap3.client.GwtBootstrap3Styles;
 import org.gwtbootstrap3.client.ui.constants.Styles;
 import org.gwtbootstrap3.client.ui.gwt.FlowPanel;
 
@@ -32,6 +34,10 @@ import org.gwtbootstrap3.client.ui.gwt.FlowPanel;
  */
 public class InputGroup extends FlowPanel {
 
+    static {
+        GwtBootstrap3Styles.require(BootstrapComponent.INPUT_GROUPS);
+    }
+
     public InputGroup() {
         setStyleName(Styles.INPUT_GROUP);
     }
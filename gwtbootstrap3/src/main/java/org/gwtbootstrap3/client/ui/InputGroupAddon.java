@@ -22,6 +22,7 @@ package org.gwtbootstrap3.client.ui;
 
 import org.gwtbootstrap3.client.ui.base.AbstractInputGroupAddon;
 import org.gwtbootstrap3.client.ui.base.HasIcon;
+import org.gwtbootstrap3.client.ui.base.HasIconName;
 import org.gwtbootstrap3.client.ui.base.HasIconPosition;
 import org.gwtbootstrap3.client.ui.base.mixin.IconTextMixin;
 import org.gwtbootstrap3.client.ui.constants.IconFlip;
@@ -53,7 +54,7 @@ import com.google.gwt.user.client.ui.HasText;
  * @see InputGroup
  * @see InputGroupButton
  */
-public class InputGroupAddon extends AbstractInputGroupAddon implements HasText, HasIcon, HasIconPosition {
+public class InputGroupAddon extends AbstractInputGroupAddon implements HasText, HasIcon, HasIconName, HasIconPosition {
 
     IconTextMixin<InputGroupAddon> iconTextMixin = new IconTextMixin<InputGroupAddon>(this);
 
@@ -82,6 +83,16 @@ public class InputGroupAddon extends AbstractInputGroupAddon implements HasText,
         return iconTextMixin.getIcon();
     }
 
+    @Override
+    public void setIconName(final String iconName) {
+        iconTextMixin.setIconName(iconName);
+    }
+
+    @Override
+    public String getIconName() {
+        return iconTextMixin.getIconName();
+    }
+
     @Override
     public void setIconPosition(final IconPosition iconPosition) {
         iconTextMixin.setIconPosition(iconPosition);
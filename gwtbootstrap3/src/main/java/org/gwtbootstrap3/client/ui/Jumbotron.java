@@ -20,6 +20,8 @@ package org.gwtbootstrap3.client.ui;
  * #L%
  */
 
+import org.gwtbootstrap3.client.BootstrapComponent;
+import org.gwtbootstrap3.client.GwtBootstrap3Styles;
 import org.gwtbootstrap3.client.ui.constants.Styles;
 import org.gwtbootstrap3.client.ui.html.Div;
 
@@ -31,6 +33,10 @@ import org.gwtbootstrap3.client.ui.html.Div;
  */
 public class Jumbotron extends Div {
 
+    static {
+        GwtBootstrap3Styles.require(BootstrapComponent.JUMBOTRON);
+    }
+
     public Jumbotron() {
         setStyleName(Styles.JUMBOTRON);
     }
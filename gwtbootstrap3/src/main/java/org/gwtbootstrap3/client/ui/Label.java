@@ -20,6 +20,8 @@ package org.gwtbootstrap3.client.ui;
  * #L%
  */
 
+import org.gwtbootstrap3.client.BootstrapComponent;
+import org.gwtbootstrap3.client.GwtBootstrap3Styles;
 import org.gwtbootstrap3.client.ui.base.AbstractTextWidget;
 import org.gwtbootstrap3.client.ui.base.HasType;
 import org.gwtbootstrap3.client.ui.base.helper.StyleHelper;
@@ -55,6 +57,10 @@ import com.google.gwt.event.shared.HandlerRegistration;
  */
 public class Label extends AbstractTextWidget implements HasType<LabelType>, HasClickHandlers, HasAllMouseHandlers {
 
+    static {
+        GwtBootstrap3Styles.require(BootstrapComponent.LABELS);
+    }
+
     public Label() {
         super(Document.get().createSpanElement());
         setStyleName(Styles.LABEL);
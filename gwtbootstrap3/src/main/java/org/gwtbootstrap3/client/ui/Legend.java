@@ -20,6 +20,8 @@ package org.gwtbootstrap3.client.ui;
  * #L%
  */
 
+import org.gwtbootstrap3.client.BootstrapComponent;
+import org.gwtbootstrap3.client.GwtBootstrap3Styles;
 import org.gwtbootstrap3.client.ui.base.AbstractTextWidget;
 
 import com.google.gwt.dom.client.Document;
@@ -32,6 +34,10 @@ import com.google.gwt.dom.client.Document;
  */
 public class Legend extends AbstractTextWidget {
 
+    static {
+        GwtBootstrap3Styles.require(BootstrapComponent.FORMS);
+    }
+
     public Legend() {
         super(Document.get().createLegendElement());
     }
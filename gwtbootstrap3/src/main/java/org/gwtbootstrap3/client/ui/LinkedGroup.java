@@ -20,6 +20,8 @@ package org.gwtbootstrap3.client.ui;
  * #L%
  */
 
+import org.gwtbootstrap3.client.BootstrapComponent;
+import org.gwtbootstrap3.client.GwtBootstrap3Styles;
 import org.gwtbootstrap3.client.ui.constants.Styles;
 import org.gwtbootstrap3.client.ui.html.Div;
 
@@ -28,6 +30,10 @@ import org.gwtbootstrap3.client.ui.html.Div;
  */
 public class LinkedGroup extends Div {
 
+    static {
+        GwtBootstrap3Styles.require(BootstrapComponent.LIST_GROUP);
+    }
+
     public LinkedGroup() {
         setStyleName(Styles.LIST_GROUP);
     }
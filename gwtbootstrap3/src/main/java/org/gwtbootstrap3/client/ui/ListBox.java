@@ -20,6 +20,8 @@ package org.gwtbootstrap3.client.ui;
  * #L%
  */
 
+import org.gwtbootstrap3.client.BootstrapComponent;
+import org.gwtbootstrap3.client.GwtBootstrap3Styles;
 import org.gwtbootstrap3.client.ui.base.HasId;
 import org.gwtbootstrap3.client.ui.base.mixin.IdMixin;
 import org.gwtbootstrap3.client.ui.constants.Styles;
@@ -32,6 +34,10 @@ import org.gwtbootstrap3.client.ui.constants.Styles;
  */
 public class ListBox extends com.google.gwt.user.client.ui.ListBox implements HasId {
 
+    static {
+        GwtBootstrap3Styles.require(BootstrapComponent.FORMS);
+    }
+
     private final IdMixin<ListBox> idMixin = new IdMixin<ListBox>(this);
 
     /**
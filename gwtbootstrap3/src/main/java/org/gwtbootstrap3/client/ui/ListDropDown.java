@@ -20,6 +20,8 @@ package org.gwtbootstrap3.client.ui;
  * #L%
  */
 
+import org.gwtbootstrap3.client.BootstrapComponent;
+import org.gwtbootstrap3.client.GwtBootstrap3Styles;
 import org.gwtbootstrap3.client.ui.base.AbstractListItem;
 import org.gwtbootstrap3.client.ui.base.button.AbstractToggleButton;
 import org.gwtbootstrap3.client.ui.constants.Styles;
@@ -58,6 +60,10 @@ import com.google.gwt.user.client.ui.Widget;
  */
 public class ListDropDown extends AbstractListItem {
 
+    static {
+        GwtBootstrap3Styles.require(BootstrapComponent.DROPDOWNS);
+    }
+
     public ListDropDown() {
         setStyleName(Styles.DROPDOWN);
     }
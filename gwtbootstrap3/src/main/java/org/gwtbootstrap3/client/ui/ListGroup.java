@@ -20,6 +20,8 @@ package org.gwtbootstrap3.client.ui;
  * #L%
  */
 
+import org.gwtbootstrap3.client.BootstrapComponent;
+import org.gwtbootstrap3.client.GwtBootstrap3Styles;
 import org.gwtbootstrap3.client.ui.constants.Styles;
 import org.gwtbootstrap3.client.ui.html.UnorderedList;
 
@@ -31,6 +33,10 @@ import com.google.gwt.user.client.ui.Widget;
  */
 public class ListGroup extends UnorderedList {
 
+    static {
+        GwtBootstrap3Styles.require(BootstrapComponent.LIST_GROUP);
+    }
+
     public ListGroup() {
         setStyleName(Styles.LIST_GROUP);
     }
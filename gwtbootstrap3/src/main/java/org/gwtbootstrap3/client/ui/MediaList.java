@@ -21,6 +21,8 @@ package org.gwtbootstrap3.client.ui;
  */
 
 
+import org.gwtbootstrap3.client.BootstrapComponent;
+import org.gwtbootstrap3.client.GwtBootstrap3Styles;
 import org.gwtbootstrap3.client.ui.constants.Styles;
 import org.gwtbootstrap3.client.ui.html.UnorderedList;
 
@@ -31,6 +33,10 @@ import org.gwtbootstrap3.client.ui.html.UnorderedList;
  */
 public class MediaList extends UnorderedList {
 
+    static {
+        GwtBootstrap3Styles.require(BootstrapComponent.MEDIA);
+    }
+
     /**
      * Creates the default media list with the default styles
      */
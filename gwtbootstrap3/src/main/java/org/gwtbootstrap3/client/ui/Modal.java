@@ -20,6 +20,10 @@ package org.gwtbootstrap3.client.ui;
  * #L%
  */
 
+import org.gwtbootstrap3.client.BootstrapComponent;
+import org.gwtbootstrap3.client.BootstrapPlugin;
+import org.gwtbootstrap3.client.GwtBootstrap3Scripts;
+import org.gwtbootstrap3.client.GwtBootstrap3Styles;
 import org.gwtbootstrap3.client.shared.event.ModalHiddenEvent;
 import org.gwtbootstrap3.client.shared.event.ModalHiddenHandler;
 import org.gwtbootstrap3.client.shared.event.ModalHideEvent;
@@ -35,9 +39,13 @@ import org.gwtbootstrap3.client.ui.constants.Attributes;
 import org.gwtbootstrap3.client.ui.constants.ModalBackdrop;
 import org.gwtbootstrap3.client.ui.constants.Styles;
 import org.gwtbootstrap3.client.ui.html.Div;
+import org.gwtbootstrap3.client.ui.impl.PluginImpl;
 
+import com.google.gwt.core.client.GWT;
+import com.google.gwt.core.client.Scheduler.ScheduledCommand;
 import com.google.gwt.dom.client.Element;
 import com.google.gwt.user.client.Event;
+import com.google.gwt.user.client.Timer;
 import com.google.gwt.user.client.ui.RootPanel;
 import com.google.gwt.user.client.ui.Widget;
 import com.google.web.bindery.event.shared.HandlerRegistration;
@@ -77,6 +85,10 @@ import com.google.web.bindery.event.shared.HandlerRegistration;
  * }
  * </pre>
  *
+ * <p/>
+ * Bodies that are expensive to build can be created when the modal is first shown instead, and released again
+ * once it's hidden, see {@link #setBodyFactory(BodyFactory)} and {@link #setBodyReleaseDelayMs(int)}.
+ *
  * @author Sven Jacobs
  * @author Joshua Godi
  * @see ModalHeader
@@ -89,16 +101,49 @@ import com.google.web.bindery.event.shared.HandlerRegistration;
  */
 public class Modal extends Div implements IsClosable {
 
+    static {
+        GwtBootstrap3Styles.require(BootstrapComponent.MODALS);
+    }
+
+    /**
+     * Creates the body of a modal when it's shown.
+     *
+     * @see Modal#setBodyFactory(BodyFactory)
+     */
+    public interface BodyFactory {
+
+        /**
+         * Called when the modal is shown and no previously created body is kept, before the
+         * {@link ModalShowEvent} is fired.
+         *
+         * @return body of the modal
+         */
+        ModalBody createBody();
+    }
+
+    /**
+     * Value of {@link #setBodyReleaseDelayMs(int)} keeping a created body until the modal is removed.
+     */
+    public static final int KEEP_BODY = -1;
+
     private final static String TOGGLE = "toggle";
     private final static String HIDE = "hide";
     private final static String SHOW = "show";
 
+    private static final PluginImpl PLUGIN = GWT.create(PluginImpl.class);
+
     private final ModalContent content = new ModalContent();
     private final ModalDialog dialog = new ModalDialog();
     private ModalHeader header = new ModalHeader();
 
     private boolean hideOtherModals = false;
 
+    private BodyFactory bodyFactory;
+    private int bodyReleaseDelayMs = KEEP_BODY;
+    private ModalBody createdBody;
+    private Timer bodyReleaseTimer;
+    private boolean showing;
+
     public Modal() {
         setStyleName(Styles.MODAL);
 
@@ -120,7 +165,15 @@ public class Modal extends Div implements IsClosable {
     @Override
     protected void onLoad() {
         super.onLoad();
-        bindJavaScriptEvents(getElement());
+        // Bind jquery events once the scripts are available
+        GwtBootstrap3Scripts.whenLoaded(BootstrapPlugin.MODAL, new ScheduledCommand() {
+            @Override
+            public void execute() {
+                if (isAttached()) {
+                    bindJavaScriptEvents(getElement());
+                }
+            }
+        });
     }
 
     @Override
@@ -179,6 +232,49 @@ public class Modal extends Div implements IsClosable {
         }
     }
 
+    /**
+     * Sets the factory creating the body when the modal is shown, instead of adding a {@link ModalBody} up front.
+     * The body is created before the {@link ModalShowEvent} is fired and inserted after the header. Whether it's
+     * kept once the modal is hidden is set by {@link #setBodyReleaseDelayMs(int)}.
+     *
+     * @param bodyFactory factory creating the body, {@code null} to stop creating bodies
+     */
+    public void setBodyFactory(final BodyFactory bodyFactory) {
+        this.bodyFactory = bodyFactory;
+    }
+
+    public BodyFactory getBodyFactory() {
+        return bodyFactory;
+    }
+
+    /**
+     * Sets when a body created by the {@link #setBodyFactory(BodyFactory) body factory} is released once the
+     * modal is hidden: right after the {@link ModalHiddenEvent} for 0, after the given delay for a positive value,
+     * unless the modal is shown again meanwhile, or never for {@link #KEEP_BODY}, the default. The next show
+     * creates a new body.
+     *
+     * @param bodyReleaseDelayMs delay in milliseconds, or {@link #KEEP_BODY}
+     */
+    public void setBodyReleaseDelayMs(final int bodyReleaseDelayMs) {
+        this.bodyReleaseDelayMs = bodyReleaseDelayMs;
+    }
+
+    public int getBodyReleaseDelayMs() {
+        return bodyReleaseDelayMs;
+    }
+
+    /**
+     * Removes the body created by the {@link #setBodyFactory(BodyFactory) body factory}, if any. Shouldn't be
+     * called while the modal is shown.
+     */
+    public void releaseBody() {
+        cancelBodyRelease();
+        if (createdBody != null) {
+            createdBody.removeFromParent();
+            createdBody = null;
+        }
+    }
+
     /**
      * If set Modal will fade in/out.
      *
@@ -216,16 +312,16 @@ public class Modal extends Div implements IsClosable {
     }
 
     public void toggle() {
-        modal(getElement(), TOGGLE);
+        command(TOGGLE);
     }
 
     public void show() {
         checkIsAttached();
-        modal(getElement(), SHOW);
+        command(SHOW);
     }
 
     public void hide() {
-        modal(getElement(), HIDE);
+        command(HIDE);
     }
 
     public HandlerRegistration addShowHandler(final ModalShowHandler modalShowHandler) {
@@ -253,7 +349,7 @@ public class Modal extends Div implements IsClosable {
      */
     protected void onShow(final Event evt) {
         if (hideOtherModals) {
-            hideOtherModals();
+            PLUGIN.modal(".modal.in", HIDE);
         }
         fireEvent(new ModalShowEvent(this, evt));
     }
@@ -291,48 +387,98 @@ public class Modal extends Div implements IsClosable {
         fireEvent(new ModalHiddenEvent(this, evt));
     }
 
+    private void command(final String arg) {
+        GwtBootstrap3Scripts.whenLoaded(BootstrapPlugin.MODAL, new ScheduledCommand() {
+            @Override
+            public void execute() {
+                PLUGIN.modal(getElement(), arg);
+            }
+        });
+    }
+
+    private void createBody() {
+        cancelBodyRelease();
+        if (bodyFactory == null || createdBody != null) {
+            return;
+        }
+
+        createdBody = bodyFactory.createBody();
+        content.insert(createdBody, content.getWidgetIndex(header) + 1);
+    }
+
+    private void scheduleBodyRelease() {
+        if (createdBody == null || bodyReleaseDelayMs < 0) {
+            return;
+        }
+
+        if (bodyReleaseDelayMs == 0) {
+            releaseBody();
+            return;
+        }
+
+        if (bodyReleaseTimer == null) {
+            bodyReleaseTimer = new Timer() {
+                @Override
+                public void run() {
+                    releaseBody();
+                }
+            };
+        }
+        bodyReleaseTimer.schedule(bodyReleaseDelayMs);
+    }
+
+    private void cancelBodyRelease() {
+        if (bodyReleaseTimer != null) {
+            bodyReleaseTimer.cancel();
+        }
+    }
+
     private void checkIsAttached() {
         if (!this.isAttached()) {
             RootPanel.get().add(this);
         }
     }
 
-    private native void bindJavaScriptEvents(final Element e) /*-{
-        var target = this;
-        var $modal = $wnd.jQuery(e);
-
-        $modal.on('show.bs.modal', function (evt) {
-            target.@org.gwtbootstrap3.client.ui.Modal::onShow(Lcom/google/gwt/user/client/Event;)(evt);
+    private void bindJavaScriptEvents(final Element e) {
+        PLUGIN.on(e, "show.bs.modal", new PluginImpl.Handler() {
+            @Override
+            public void onEvent(final Event evt) {
+                showing = true;
+                createBody();
+                onShow(evt);
+            }
         });
-
-        $modal.on('shown.bs.modal', function (evt) {
-            target.@org.gwtbootstrap3.client.ui.Modal::onShown(Lcom/google/gwt/user/client/Event;)(evt);
+        PLUGIN.on(e, "shown.bs.modal", new PluginImpl.Handler() {
+            @Override
+            public void onEvent(final Event evt) {
+                onShown(evt);
+            }
         });
-
-        $modal.on('hide.bs.modal', function (evt) {
-            target.@org.gwtbootstrap3.client.ui.Modal::onHide(Lcom/google/gwt/user/client/Event;)(evt);
+        PLUGIN.on(e, "hide.bs.modal", new PluginImpl.Handler() {
+            @Override
+            public void onEvent(final Event evt) {
+                onHide(evt);
+            }
         });
-
-        $modal.on('hidden.bs.modal', function (evt) {
-            target.@org.gwtbootstrap3.client.ui.Modal::onHidden(Lcom/google/gwt/user/client/Event;)(evt);
+        PLUGIN.on(e, "hidden.bs.modal", new PluginImpl.Handler() {
+            @Override
+            public void onEvent(final Event evt) {
+                showing = false;
+                onHidden(evt);
+
+                // Unless a hidden handler showed the modal again
+                if (!showing) {
+                    scheduleBodyRelease();
+                }
+            }
         });
-    }-*/;
-
-    private native void modal(final Element e, final String arg) /*-{
-        $wnd.jQuery(e).modal(arg);
-    }-*/;
-
-    // Will iterate over all the modals, if they are visible it will hide them
-    private native void hideOtherModals() /*-{
-        $wnd.jQuery('.modal.in').modal('hide');
-    }-*/;
+    }
 
     // Unbinds all the handlers
-    private native void unbindAllHandlers(final Element e) /*-{
-        var $e = $wnd.jQuery(e);
-        $e.off('show.bs.modal');
-        $e.off('shown.bs.modal');
-        $e.off('hide.bs.modal');
-        $e.off('hidden.bs.modal');
-    }-*/;
+    private void unbindAllHandlers(final Element e) {
+        PLUGIN.off(e, "show.bs.modal");
+        PLUGIN.off(e, "shown.bs.modal");
+        PLUGIN.off(e, "hide.bs.modal");
+        PLUGIN.off(e, "hidden.bs.modal");
+    }
 }
@@ -20,6 +20,8 @@ package org.gwtbootstrap3.client.ui;
  * #L%
  */
 
+import org.gwtbootstrap3.client.BootstrapComponent;
+import org.gwtbootstrap3.client.GwtBootstrap3Styles;
 import org.gwtbootstrap3.client.ui.base.HasJustified;
 import org.gwtbootstrap3.client.ui.base.helper.StyleHelper;
 import org.gwtbootstrap3.client.ui.constants.Styles;
@@ -35,6 +37,10 @@ import org.gwtbootstrap3.client.ui.html.UnorderedList;
  */
 public class Nav extends UnorderedList implements HasJustified {
 
+    static {
+        GwtBootstrap3Styles.require(BootstrapComponent.NAVS);
+    }
+
     public Nav() {
         setStyleName(Styles.NAV);
     }
@@ -50,6 +56,6 @@ public class Nav extends UnorderedList implements HasJustified {
 
     @Override
     public boolean isJustified() {
-        return StyleHelper.containsStyle(getStyleName(), Styles.NAV_JUSTIFIED);
+        return StyleHelper.hasStyleName(getStyleElement(), Styles.NAV_JUSTIFIED);
     }
 }
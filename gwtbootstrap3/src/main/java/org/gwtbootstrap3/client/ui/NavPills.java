@@ -45,6 +45,6 @@ public class NavPills extends Nav implements HasStacked {
 
     @Override
     public boolean isStacked() {
-        return StyleHelper.containsStyle(getStyleName(), Styles.NAV_STACKED);
+        return StyleHelper.hasStyleName(getStyleElement(), Styles.NAV_STACKED);
     }
 }
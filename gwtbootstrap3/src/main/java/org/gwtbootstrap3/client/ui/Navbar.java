@@ -20,6 +20,8 @@ package org.gwtbootstrap3.client.ui;
  * #L%
  */
 
+import org.gwtbootstrap3.client.BootstrapComponent;
+import org.gwtbootstrap3.client.GwtBootstrap3Styles;
 import org.gwtbootstrap3.client.ui.base.ComplexWidget;
 import org.gwtbootstrap3.client.ui.base.HasType;
 import org.gwtbootstrap3.client.ui.base.helper.StyleHelper;
@@ -40,6 +42,11 @@ import com.google.gwt.dom.client.Document;
  * @see NavbarText
  */
 public class Navbar extends ComplexWidget implements HasType<NavbarType> {
+
+    static {
+        GwtBootstrap3Styles.require(BootstrapComponent.NAVBAR);
+    }
+
     private static final String NAVIGATION = "navigation";
 
     public Navbar() {
@@ -20,10 +20,14 @@ package org.gwtbootstrap3.client.ui;
  * #L%
  */
 
+import org.gwtbootstrap3.client.BootstrapPlugin;
+import org.gwtbootstrap3.client.GwtBootstrap3Scripts;
 import org.gwtbootstrap3.client.ui.constants.Styles;
 import org.gwtbootstrap3.client.ui.gwt.FlowPanel;
+import org.gwtbootstrap3.client.ui.impl.PluginImpl;
 
-import com.google.gwt.dom.client.Element;
+import com.google.gwt.core.client.GWT;
+import com.google.gwt.core.client.Scheduler.ScheduledCommand;
 
 /**
  * Container for collapsible items within a {@link Navbar}.
@@ -34,24 +38,31 @@ import com.google.gwt.dom.client.Element;
  */
 public class NavbarCollapse extends FlowPanel {
 
+    private static final PluginImpl PLUGIN = GWT.create(PluginImpl.class);
+
     public NavbarCollapse() {
         setStyleName(Styles.COLLAPSE);
         addStyleName(Styles.NAVBAR_COLLAPSE);
     }
 
     public void show() {
-        command(getElement(), "show");
+        command("show");
     }
 
     public void hide() {
-        command(getElement(), "hide");
+        command("hide");
     }
 
     public void toggle() {
-        command(getElement(), "toggle");
+        command("toggle");
     }
 
-    private native void command(final Element e, final String command) /*-{
-        $wnd.jQuery(e).collapse(command);
-    }-*/;
+    private void command(final String command) {
+        GwtBootstrap3Scripts.whenLoaded(BootstrapPlugin.COLLAPSE, new ScheduledCommand() {
+            @Override
+            public void execute() {
+                PLUGIN.collapse(getElement(), command);
+            }
+        });
+    }
 }
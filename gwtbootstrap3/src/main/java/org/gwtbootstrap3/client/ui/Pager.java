@@ -20,6 +20,8 @@ package org.gwtbootstrap3.client.ui;
  * #L%
  */
 
+import org.gwtbootstrap3.client.BootstrapComponent;
+import org.gwtbootstrap3.client.GwtBootstrap3Styles;
 import org.gwtbootstrap3.client.ui.base.HasResponsiveness;
 import org.gwtbootstrap3.client.ui.constants.IconPosition;
 import org.gwtbootstrap3.client.ui.constants.IconSize;
@@ -36,6 +38,11 @@ import com.google.web.bindery.event.shared.HandlerRegistration;
  * @author Joshua Godi
  */
 public class Pager extends UnorderedList implements HasResponsiveness {
+
+    static {
+        GwtBootstrap3Styles.require(BootstrapComponent.PAGER);
+    }
+
     private static final String DEFAULT_PREVIOUS = "Previous";
     private static final String DEFAULT_NEXT = "Next";
 
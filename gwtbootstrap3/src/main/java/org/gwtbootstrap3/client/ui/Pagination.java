@@ -20,6 +20,8 @@ package org.gwtbootstrap3.client.ui;
  * #L%
  */
 
+import org.gwtbootstrap3.client.BootstrapComponent;
+import org.gwtbootstrap3.client.GwtBootstrap3Styles;
 import org.gwtbootstrap3.client.ui.base.HasPaginationSize;
 import org.gwtbootstrap3.client.ui.base.HasResponsiveness;
 import org.gwtbootstrap3.client.ui.base.helper.StyleHelper;
@@ -39,6 +41,10 @@ import com.google.gwt.user.cellview.client.SimplePager;
  */
 public class Pagination extends UnorderedList implements HasResponsiveness, HasPaginationSize {
 
+    static {
+        GwtBootstrap3Styles.require(BootstrapComponent.PAGINATION);
+    }
+
     public Pagination() {
         setStyleName(Styles.PAGINATION);
     }
@@ -20,6 +20,8 @@ package org.gwtbootstrap3.client.ui;
  * #L%
  */
 
+import org.gwtbootstrap3.client.BootstrapComponent;
+import org.gwtbootstrap3.client.GwtBootstrap3Styles;
 import org.gwtbootstrap3.client.ui.base.HasType;
 import org.gwtbootstrap3.client.ui.base.helper.StyleHelper;
 import org.gwtbootstrap3.client.ui.constants.PanelType;
@@ -31,6 +33,10 @@ import org.gwtbootstrap3.client.ui.html.Div;
  */
 public class Panel extends Div implements HasType<PanelType> {
 
+    static {
+        GwtBootstrap3Styles.require(BootstrapComponent.PANELS);
+    }
+
     public Panel() {
         this(PanelType.DEFAULT);
     }
@@ -20,6 +20,8 @@ package org.gwtbootstrap3.client.ui;
  * #L%
  */
 
+import org.gwtbootstrap3.client.BootstrapPlugin;
+import org.gwtbootstrap3.client.GwtBootstrap3Scripts;
 import org.gwtbootstrap3.client.shared.event.HiddenEvent;
 import org.gwtbootstrap3.client.shared.event.HiddenHandler;
 import org.gwtbootstrap3.client.shared.event.HideEvent;
@@ -31,7 +33,10 @@ import org.gwtbootstrap3.client.shared.event.ShownHandler;
 import org.gwtbootstrap3.client.ui.base.helper.StyleHelper;
 import org.gwtbootstrap3.client.ui.constants.Styles;
 import org.gwtbootstrap3.client.ui.html.Div;
+import org.gwtbootstrap3.client.ui.impl.PluginImpl;
 
+import com.google.gwt.core.client.GWT;
+import com.google.gwt.core.client.Scheduler.ScheduledCommand;
 import com.google.gwt.event.shared.HandlerRegistration;
 import com.google.gwt.user.client.Event;
 
@@ -41,6 +46,10 @@ import com.google.gwt.user.client.Event;
  */
 public class PanelCollapse extends Div {
 
+    private static final PluginImpl PLUGIN = GWT.create(PluginImpl.class);
+
+    private boolean eventsBound = false;
+
     public PanelCollapse() {
         setStyleName(Styles.PANEL_COLLAPSE);
         addStyleName(Styles.COLLAPSE);
@@ -55,7 +64,7 @@ public class PanelCollapse extends Div {
     }
 
     public boolean isIn() {
-        return StyleHelper.containsStyle(getStyleName(), Styles.IN);
+        return StyleHelper.hasStyleName(getStyleElement(), Styles.IN);
     }
 
     @Override
@@ -63,7 +72,15 @@ public class PanelCollapse extends Div {
         super.onLoad();
 
         // Bind jquery events
-        bindJavaScriptEvents(getElement());
+        GwtBootstrap3Scripts.whenLoaded(BootstrapPlugin.COLLAPSE, new ScheduledCommand() {
+            @Override
+            public void execute() {
+                // Bound by the first command if the widget was attached again while waiting for the plugin
+                if (isAttached() && !eventsBound) {
+                    bindJavaScriptEvents(getElement());
+                }
+            }
+        });
     }
 
     @Override
@@ -71,7 +88,9 @@ public class PanelCollapse extends Div {
         super.onUnload();
 
         // Unbind the events
-        unbindJavaScriptEvents(getElement());
+        if (GwtBootstrap3Scripts.isLoaded(BootstrapPlugin.COLLAPSE)) {
+            unbindJavaScriptEvents(getElement());
+        }
     }
 
     public HandlerRegistration addShowHandler(final ShowHandler showHandler) {
@@ -118,31 +137,40 @@ public class PanelCollapse extends Div {
         fireEvent(new HiddenEvent(evt));
     }
 
-    private native void bindJavaScriptEvents(final com.google.gwt.dom.client.Element e) /*-{
-        var target = this;
-        var $collapse = $wnd.jQuery(e);
+    private void bindJavaScriptEvents(final com.google.gwt.dom.client.Element e) {
+        eventsBound = true;
 
-        $collapse.on('show.bs.collapse', function (evt) {
-            target.@org.gwtbootstrap3.client.ui.PanelCollapse::onShow(Lcom/google/gwt/user/client/Event;)(evt);
+        PLUGIN.on(e, "show.bs.collapse", new PluginImpl.Handler() {
+            @Override
+            public void onEvent(final Event evt) {
+                onShow(evt);
+            }
         });
-
-        $collapse.on('shown.bs.collapse', function (evt) {
-            target.@org.gwtbootstrap3.client.ui.PanelCollapse::onShown(Lcom/google/gwt/user/client/Event;)(evt);
+        PLUGIN.on(e, "shown.bs.collapse", new PluginImpl.Handler() {
+            @Override
+            public void onEvent(final Event evt) {
+                onShown(evt);
+            }
         });
-
-        $collapse.on('hide.bs.collapse', function (evt) {
-            target.@org.gwtbootstrap3.client.ui.PanelCollapse::onHide(Lcom/google/gwt/user/client/Event;)(evt);
+        PLUGIN.on(e, "hide.bs.collapse", new PluginImpl.Handler() {
+            @Override
+            public void onEvent(final Event evt) {
+                onHide(evt);
+            }
         });
-
-        $collapse.on('hidden.bs.collapse', function (evt) {
-            target.@org.gwtbootstrap3.client.ui.PanelCollapse::onHidden(Lcom/google/gwt/user/client/Event;)(evt);
+        PLUGIN.on(e, "hidden.bs.collapse", new PluginImpl.Handler() {
+            @Override
+            public void onEvent(final Event evt) {
+                onHidden(evt);
+            }
         });
-    }-*/;
-
-    private native void unbindJavaScriptEvents(final com.google.gwt.dom.client.Element e) /*-{
-        $wnd.jQuery(e).off('show.bs.collapse');
-        $wnd.jQuery(e).off('shown.bs.collapse');
-        $wnd.jQuery(e).off('hide.bs.collapse');
-        $wnd.jQuery(e).off('hidden.bs.collapse');
-    }-*/;
+    }
+
+    private void unbindJavaScriptEvents(final com.google.gwt.dom.client.Element e) {
+        eventsBound = false;
+        PLUGIN.off(e, "show.bs.collapse");
+        PLUGIN.off(e, "shown.bs.collapse");
+        PLUGIN.off(e, "hide.bs.collapse");
+        PLUGIN.off(e, "hidden.bs.collapse");
+    }
 }
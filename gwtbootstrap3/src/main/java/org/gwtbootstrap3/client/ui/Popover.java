@@ -23,6 +23,10 @@ package org.gwtbootstrap3.client.ui;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 
+import org.gwtbootstrap3.client.BootstrapComponent;
+import org.gwtbootstrap3.client.BootstrapPlugin;
+import org.gwtbootstrap3.client.GwtBootstrap3Scripts;
+import org.gwtbootstrap3.client.GwtBootstrap3Styles;
 import org.gwtbootstrap3.client.shared.event.HiddenEvent;
 import org.gwtbootstrap3.client.shared.event.HiddenHandler;
 import org.gwtbootstrap3.client.shared.event.HideEvent;
@@ -31,11 +35,19 @@ import org.gwtbootstrap3.client.shared.event.ShowEvent;
 import org.gwtbootstrap3.client.shared.event.ShowHandler;
 import org.gwtbootstrap3.client.shared.event.ShownEvent;
 import org.gwtbootstrap3.client.shared.event.ShownHandler;
+import org.gwtbootstrap3.client.ui.base.AsyncContentProvider;
 import org.gwtbootstrap3.client.ui.base.HasHover;
 import org.gwtbootstrap3.client.ui.base.HasId;
 import org.gwtbootstrap3.client.ui.constants.Placement;
 import org.gwtbootstrap3.client.ui.constants.Trigger;
-
+import org.gwtbootstrap3.client.ui.impl.JQuery;
+import org.gwtbootstrap3.client.ui.impl.PluginImpl;
+import org.gwtbootstrap3.client.ui.impl.PopoverOptions;
+import org.gwtbootstrap3.client.ui.impl.PositioningImpl;
+import org.gwtbootstrap3.client.ui.impl.TooltipUpdater;
+
+import com.google.gwt.core.client.Callback;
+import com.google.gwt.core.client.Scheduler.ScheduledCommand;
 import com.google.gwt.dom.client.Element;
 import com.google.gwt.event.logical.shared.AttachEvent;
 import com.google.gwt.user.client.Event;
@@ -49,6 +61,11 @@ import com.google.web.bindery.event.shared.HandlerRegistration;
  * @author Joshua Godi
  */
 public class Popover implements IsWidget, HasWidgets, HasOneWidget, HasId, HasHover {
+
+    static {
+        GwtBootstrap3Styles.require(BootstrapComponent.POPOVERS);
+    }
+
     private static final String TOGGLE = "toggle";
     private static final String SHOW = "show";
     private static final String HIDE = "hide";
@@ -65,6 +82,14 @@ public class Popover implements IsWidget, HasWidgets, HasOneWidget, HasId, HasHo
     private int showDelayMs = 0;
     private String container = null;
     private final String selector = null;
+    private AsyncContentProvider contentProvider;
+    private String contentKey;
+    private String providedContent;
+    private String placeholder = "\u2026";
+    private int contentRequest;
+
+    // Reused every time the popover is (re)configured
+    private PopoverOptions options;
 
     private Widget widget;
     private String id;
@@ -100,7 +125,13 @@ public class Popover implements IsWidget, HasWidgets, HasOneWidget, HasId, HasHo
         }
 
         // Bind jquery events
-        bindJavaScriptEvents(widget.getElement());
+        final Element element = widget.getElement();
+        GwtBootstrap3Scripts.whenLoaded(BootstrapPlugin.POPOVER, new ScheduledCommand() {
+            @Override
+            public void execute() {
+                bindJavaScriptEvents(element);
+            }
+        });
 
         // When we attach it, configure the tooltip
         widget.addAttachHandler(new AttachEvent.Handler() {
@@ -224,40 +255,96 @@ public class Popover implements IsWidget, HasWidgets, HasOneWidget, HasId, HasHo
         this.title = title;
     }
 
+    /**
+     * Loads the content from the given provider each time the popover is shown, instead of setting it up front.
+     * Until the provider completes, the popover shows the {@link #setPlaceholder(String) placeholder}. Use a
+     * {@link org.gwtbootstrap3.client.ui.base.ContentCache} to avoid loading the same key more than once.
+     * <p/>
+     * If the provider fails, the placeholder stays and the content is requested again on the next show.
+     *
+     * @param provider provider of the content, {@code null} to use the content set by {@link #setContent(String)}
+     * @param key      key passed to the provider
+     */
+    public void setContentProvider(final AsyncContentProvider provider, final String key) {
+        this.contentProvider = provider;
+        this.contentKey = key;
+        providedContent = null;
+        contentRequest++;
+    }
+
+    public AsyncContentProvider getContentProvider() {
+        return contentProvider;
+    }
+
+    public String getContentKey() {
+        return contentKey;
+    }
+
+    /**
+     * Sets the content shown while the {@link #setContentProvider(AsyncContentProvider, String) content provider}
+     * is loading. Defaults to an ellipsis.
+     *
+     * @param placeholder placeholder content
+     */
+    public void setPlaceholder(final String placeholder) {
+        this.placeholder = placeholder;
+    }
+
+    public String getPlaceholder() {
+        return placeholder;
+    }
+
+    /**
+     * Reconfigures the popover, must be called when altering any popover after it has already been shown. Changes
+     * to the title, content and the other options read when showing the popover are applied to the live popover,
+     * changes to the container or trigger re-create it.
+     */
     public void reconfigure() {
-        // First destroy the old tooltip
-        destroy();
-
-        // Setup the new tooltip
-        if (container != null && selector != null) {
-            popover(widget.getElement(), isAnimated, isHTML, placement.getCssName(), selector, title, content,
-                    trigger.getCssName(), showDelayMs, hideDelayMs, container);
-        } else if (container != null) {
-            popover(widget.getElement(), isAnimated, isHTML, placement.getCssName(), title, content,
-                    trigger.getCssName(), showDelayMs, hideDelayMs, container);
-        } else if (selector != null) {
-            popover(widget.getElement(), isAnimated, isHTML, placement.getCssName(), selector, title, content,
-                    trigger.getCssName(), showDelayMs, hideDelayMs);
-        } else {
-            popover(widget.getElement(), isAnimated, isHTML, placement.getCssName(), title, content,
-                    trigger.getCssName(), showDelayMs, hideDelayMs);
-        }
+        GwtBootstrap3Scripts.whenLoaded(BootstrapPlugin.POPOVER, new ScheduledCommand() {
+            @Override
+            public void execute() {
+                final Element element = widget.getElement();
+                PositioningImpl.ensureInstalled();
+
+                if (options == null) {
+                    options = PopoverOptions.create();
+                }
+                options.setAnimation(isAnimated);
+                options.setHtml(isHTML);
+                options.setPlacement(placement.getCssName());
+                options.setSelector(selector);
+                options.setTitle(title);
+                // Bootstrap doesn't show a popover without title and content, so the placeholder stands in until the
+                // provider is asked for the content while showing
+                options.setContent(contentProvider == null ? content
+                        : (providedContent == null ? placeholder : providedContent));
+                options.setTrigger(trigger.getCssName());
+                options.setDelay(showDelayMs, hideDelayMs);
+                options.setContainer(container);
+
+                // Re-creating the popover unbinds the events
+                if (TooltipUpdater.apply(element, BootstrapPlugin.POPOVER.getName(), options)
+                        == TooltipUpdater.REBUILT) {
+                    bindJavaScriptEvents(element);
+                }
+            }
+        });
     }
 
     public void toggle() {
-        call(widget.getElement(), TOGGLE);
+        call(TOGGLE);
     }
 
     public void show() {
-        call(widget.getElement(), SHOW);
+        call(SHOW);
     }
 
     public void hide() {
-        call(widget.getElement(), HIDE);
+        call(HIDE);
     }
 
     public void destroy() {
-        call(widget.getElement(), DESTROY);
+        call(DESTROY);
     }
 
     /**
@@ -372,97 +459,74 @@ public class Popover implements IsWidget, HasWidgets, HasOneWidget, HasId, HasHo
         return widget;
     }
 
-    // @formatter:off
-    private native void bindJavaScriptEvents(final Element e) /*-{
-        var target = this;
-        var $popover = $wnd.jQuery(e);
-
-        $popover.on('show.bs.popover', function (evt) {
-            target.@org.gwtbootstrap3.client.ui.Popover::onShow(Lcom/google/gwt/user/client/Event;)(evt);
-        });
-
-        $popover.on('shown.bs.popover', function (evt) {
-            target.@org.gwtbootstrap3.client.ui.Popover::onShown(Lcom/google/gwt/user/client/Event;)(evt);
-        });
-
-        $popover.on('hide.bs.popover', function (evt) {
-            target.@org.gwtbootstrap3.client.ui.Popover::onHide(Lcom/google/gwt/user/client/Event;)(evt);
+    private void bindJavaScriptEvents(final Element e) {
+        final JQuery jQuery = JQuery.wrap(e);
+        jQuery.on("show.bs.popover", new PluginImpl.Handler() {
+            @Override
+            public void onEvent(final Event evt) {
+                loadContent();
+                onShow(evt);
+            }
         });
-
-        $popover.on('hidden.bs.popover', function (evt) {
-            target.@org.gwtbootstrap3.client.ui.Popover::onHidden(Lcom/google/gwt/user/client/Event;)(evt);
+        jQuery.on("shown.bs.popover", new PluginImpl.Handler() {
+            @Override
+            public void onEvent(final Event evt) {
+                onShown(evt);
+            }
         });
-    }-*/;
-
-    private native void call(final Element e, final String arg) /*-{
-        $wnd.jQuery(e).popover(arg);
-    }-*/;
-
-    private native void popover(Element e, boolean animation, boolean html, String placement, String selector,
-                                String title, String content, String trigger, int showDelay, int hideDelay, String container) /*-{
-        $wnd.jQuery(e).popover({
-            animation: animation,
-            html: html,
-            placement: placement,
-            selector: selector,
-            title: title,
-            content: content,
-            trigger: trigger,
-            delay: {
-                show: showDelay,
-                hide: hideDelay
-            },
-            container: container
+        jQuery.on("hide.bs.popover", new PluginImpl.Handler() {
+            @Override
+            public void onEvent(final Event evt) {
+                onHide(evt);
+            }
         });
-    }-*/;
-
-    private native void popover(Element e, boolean animation, boolean html, String placement,
-                                String title, String content, String trigger, int showDelay, int hideDelay, String container) /*-{
-        $wnd.jQuery(e).popover({
-            animation: animation,
-            html: html,
-            placement: placement,
-            title: title,
-            content: content,
-            trigger: trigger,
-            delay: {
-                show: showDelay,
-                hide: hideDelay
-            },
-            container: container
+        jQuery.on("hidden.bs.popover", new PluginImpl.Handler() {
+            @Override
+            public void onEvent(final Event evt) {
+                onHidden(evt);
+            }
         });
-    }-*/;
-
-    private native void popover(Element e, boolean animation, boolean html, String placement, String selector,
-                                String title, String content, String trigger, int showDelay, int hideDelay) /*-{
-        $wnd.jQuery(e).popover({
-            animation: animation,
-            html: html,
-            placement: placement,
-            selector: selector,
-            title: title,
-            content: content,
-            trigger: trigger,
-            delay: {
-                show: showDelay,
-                hide: hideDelay
+    }
+
+    /**
+     * Runs while the popover is being shown, before Bootstrap reads the content, so content that is available
+     * synchronously is shown right away without the placeholder.
+     */
+    private void loadContent() {
+        if (contentProvider == null) {
+            return;
+        }
+
+        final int request = ++contentRequest;
+        final boolean[] completed = {false};
+        contentProvider.getContent(contentKey, new Callback<String, Throwable>() {
+            @Override
+            public void onSuccess(final String result) {
+                completed[0] = true;
+                if (request == contentRequest) {
+                    providedContent = result;
+                    reconfigure();
+                }
+            }
+
+            @Override
+            public void onFailure(final Throwable reason) {
+                completed[0] = true;
             }
         });
-    }-*/;
-
-    private native void popover(Element e, boolean animation, boolean html, String placement,
-                                String title, String content, String trigger, int showDelay, int hideDelay) /*-{
-        $wnd.jQuery(e).popover({
-            animation: animation,
-            html: html,
-            placement: placement,
-            title: title,
-            content: content,
-            trigger: trigger,
-            delay: {
-                show: showDelay,
-                hide: hideDelay
+
+        if (!completed[0] && request == contentRequest) {
+            providedContent = placeholder;
+            reconfigure();
+        }
+    }
+
+    private void call(final String arg) {
+        GwtBootstrap3Scripts.whenLoaded(BootstrapPlugin.POPOVER, new ScheduledCommand() {
+            @Override
+            public void execute() {
+                JQuery.wrap(widget.getElement()).popover(arg);
             }
         });
-    }-*/;
+    }
 }
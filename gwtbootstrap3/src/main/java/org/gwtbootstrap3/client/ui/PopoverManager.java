@@ -0,0 +1,103 @@
+package org.gwtbootstrap3.client.ui;
+
+/*
+ * #%L
+ * GwtBootstrap3
+ * %%
+ * Copyright (C) 2013 - 2015 GwtBootstrap3
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.gwtbootstrap3.client.BootstrapComponent;
+import org.gwtbootstrap3.client.BootstrapPlugin;
+import org.gwtbootstrap3.client.GwtBootstrap3Styles;
+import org.gwtbootstrap3.client.ui.constants.Placement;
+import org.gwtbootstrap3.client.ui.constants.Trigger;
+import org.gwtbootstrap3.client.ui.impl.DelegatedTooltip;
+import org.gwtbootstrap3.client.ui.impl.PopoverOptions;
+import org.gwtbootstrap3.client.ui.impl.TooltipOptions;
+
+import com.google.gwt.dom.client.Element;
+import com.google.gwt.user.client.ui.Widget;
+
+/**
+ * Shows popovers for any number of descendants of a container through a single Bootstrap popover, see
+ * {@link TooltipManager}.
+ * <p/>
+ * The content is provided by the {@link #setContentProvider(ContentProvider) content provider}, by default read
+ * from the {@value TooltipManager#CONTENT_ATTRIBUTE} attribute, the title by the
+ * {@link #setTitleProvider(ContentProvider) title provider}, by default read from the {@value #TITLE_ATTRIBUTE}
+ * attribute.
+ */
+public class PopoverManager extends TooltipManager {
+
+    static {
+        GwtBootstrap3Styles.require(BootstrapComponent.POPOVERS);
+    }
+
+    /**
+     * Attribute holding the title of a descendant's popover, unless a title provider is set.
+     */
+    public static final String TITLE_ATTRIBUTE = "data-popover-title";
+
+    private ContentProvider titleProvider = new AttributeProvider(TITLE_ATTRIBUTE);
+
+    /**
+     * Creates the manager for the container's descendants. Listeners are bound while the container is attached.
+     *
+     * @param container Container of the descendants showing popovers
+     */
+    public PopoverManager(final Widget container) {
+        super(container);
+
+        // Defaults from http://getbootstrap.com/javascript/#popovers
+        setPlacement(Placement.RIGHT);
+        setTrigger(Trigger.CLICK);
+    }
+
+    /**
+     * Gets the provider of the popovers' title
+     *
+     * @return the title provider
+     */
+    public ContentProvider getTitleProvider() {
+        return titleProvider;
+    }
+
+    /**
+     * Sets the provider of the popovers' title
+     *
+     * @param titleProvider the title provider
+     */
+    public void setTitleProvider(final ContentProvider titleProvider) {
+        this.titleProvider = titleProvider;
+    }
+
+    @Override
+    protected BootstrapPlugin getPlugin() {
+        return BootstrapPlugin.POPOVER;
+    }
+
+    @Override
+    protected TooltipOptions createOptions() {
+        return PopoverOptions.create();
+    }
+
+    @Override
+    protected DelegatedTooltip bind(final Element e, final String selector, final TooltipOptions options) {
+        return DelegatedTooltip.create(getPlugin().getName(), e, selector, options, createProvider(titleProvider),
+                createProvider(getContentProvider()));
+    }
+}
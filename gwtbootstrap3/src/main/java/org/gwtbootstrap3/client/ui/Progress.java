@@ -20,6 +20,8 @@ package org.gwtbootstrap3.client.ui;
  * #L%
  */
 
+import org.gwtbootstrap3.client.BootstrapComponent;
+import org.gwtbootstrap3.client.GwtBootstrap3Styles;
 import org.gwtbootstrap3.client.ui.base.HasActive;
 import org.gwtbootstrap3.client.ui.base.HasType;
 import org.gwtbootstrap3.client.ui.base.helper.StyleHelper;
@@ -32,6 +34,11 @@ import org.gwtbootstrap3.client.ui.html.Div;
  * @author Joshua Godi
  */
 public class Progress extends Div implements HasType<ProgressType>, HasActive {
+
+    static {
+        GwtBootstrap3Styles.require(BootstrapComponent.PROGRESS_BARS);
+    }
+
     private final ActiveMixin<Progress> activeMixin = new ActiveMixin<Progress>(this);
 
     public Progress() {
@@ -20,8 +20,11 @@ package org.gwtbootstrap3.client.ui;
  * #L%
  */
 
+import org.gwtbootstrap3.client.BootstrapComponent;
+import org.gwtbootstrap3.client.GwtBootstrap3Styles;
 import org.gwtbootstrap3.client.ui.base.HasActive;
 import org.gwtbootstrap3.client.ui.base.HasIcon;
+import org.gwtbootstrap3.client.ui.base.HasIconName;
 import org.gwtbootstrap3.client.ui.base.HasIconPosition;
 import org.gwtbootstrap3.client.ui.base.HasSize;
 import org.gwtbootstrap3.client.ui.base.HasType;
@@ -59,7 +62,11 @@ import com.google.gwt.user.client.Event;
  * @author Sven Jacobs
  */
 public class RadioButton extends Radio implements HasActive,
-        HasType<ButtonType>, HasSize<ButtonSize>, HasIcon, HasIconPosition {
+        HasType<ButtonType>, HasSize<ButtonSize>, HasIcon, HasIconName, HasIconPosition {
+
+    static {
+        GwtBootstrap3Styles.require(BootstrapComponent.BUTTONS);
+    }
 
     private final ActiveMixin<RadioButton> activeMixin = new ActiveMixin<RadioButton>(this);
 
@@ -300,6 +307,16 @@ public class RadioButton extends Radio implements HasActive,
         return getActualIcon().getType();
     }
 
+    @Override
+    public void setIconName(String iconName) {
+        getActualIcon().setName(iconName);
+    }
+
+    @Override
+    public String getIconName() {
+        return getActualIcon().getName();
+    }
+
     @Override
     public void setIconSize(IconSize iconSize) {
         getActualIcon().setSize(iconSize);
@@ -20,8 +20,13 @@ package org.gwtbootstrap3.client.ui;
  * #L%
  */
 
+import org.gwtbootstrap3.client.BootstrapPlugin;
+import org.gwtbootstrap3.client.GwtBootstrap3Scripts;
 import org.gwtbootstrap3.client.ui.base.HasId;
+import org.gwtbootstrap3.client.ui.impl.JQuery;
+import org.gwtbootstrap3.client.ui.impl.ScrollSpyOptions;
 
+import com.google.gwt.core.client.Scheduler.ScheduledCommand;
 import com.google.gwt.dom.client.Document;
 import com.google.gwt.dom.client.Element;
 import com.google.gwt.user.client.ui.UIObject;
@@ -48,6 +53,8 @@ import com.google.gwt.user.client.ui.UIObject;
  */
 public class ScrollSpy {
 
+    private static final String REFRESH = "refresh";
+
     private final Element spyOn;
     private final String target;
 
@@ -111,7 +118,7 @@ public class ScrollSpy {
         this.spyOn = spyOn;
         this.target = selector;
 
-        init(this.spyOn, this.target);
+        init();
     }
 
     private ScrollSpy(final Element spyOn, final HasId target) {
@@ -125,7 +132,7 @@ public class ScrollSpy {
         this.spyOn = spyOn;
         this.target = "#" + id;
 
-        init(this.spyOn, this.target);
+        init();
     }
 
     /**
@@ -133,18 +140,22 @@ public class ScrollSpy {
      * DOM.
      */
     public void refresh() {
-        refresh(spyOn);
+        GwtBootstrap3Scripts.whenLoaded(BootstrapPlugin.SCROLLSPY, new ScheduledCommand() {
+            @Override
+            public void execute() {
+                JQuery.wrap(spyOn).scrollspy(REFRESH);
+            }
+        });
     }
 
-    private native void init(final Element e, final String target) /*-{
-        var $e = $wnd.jQuery(e);
-
-        $e.scrollspy({
-            target: target
+    private void init() {
+        GwtBootstrap3Scripts.whenLoaded(BootstrapPlugin.SCROLLSPY, new ScheduledCommand() {
+            @Override
+            public void execute() {
+                final ScrollSpyOptions options = ScrollSpyOptions.create();
+                options.setTarget(target);
+                JQuery.wrap(spyOn).scrollspy(options);
+            }
         });
-    }-*/;
-
-    private native void refresh(final Element e) /*-{
-        $wnd.jQuery(e).scrollspy('refresh');
-    }-*/;
+    }
 }
@@ -0,0 +1,280 @@
+package org.gwtbootstrap3.client.ui;
+
+/*
+ * #%L
+ * GwtBootstrap3
+ * %%
+ * Copyright (C) 2013 - 2015 GwtBootstrap3
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.gwtbootstrap3.client.shared.event.HiddenEvent;
+import org.gwtbootstrap3.client.shared.event.HideEvent;
+import org.gwtbootstrap3.client.shared.event.ShowEvent;
+import org.gwtbootstrap3.client.shared.event.ShownEvent;
+import org.gwtbootstrap3.client.ui.base.AsyncContentProvider;
+import org.gwtbootstrap3.client.ui.impl.DelegatedTooltip;
+import org.gwtbootstrap3.client.ui.impl.JQuery;
+import org.gwtbootstrap3.client.ui.impl.PluginImpl;
+import org.gwtbootstrap3.client.ui.impl.TooltipOptions;
+
+import com.google.gwt.core.client.Callback;
+import com.google.gwt.dom.client.Element;
+import com.google.gwt.event.shared.GwtEvent;
+import com.google.gwt.user.client.Event;
+import com.google.gwt.user.client.EventListener;
+import com.google.gwt.user.client.ui.Widget;
+
+/**
+ * A single popover shared by any number of target widgets within a container, e.g. the info icons of the rows of
+ * a large table.
+ * <p/>
+ * Like {@link PopoverManager}, one set of delegated listeners on the container retargets one popover element to
+ * the target being clicked or hovered. The only state kept per target is its key, stored in the
+ * {@value #KEY_ATTRIBUTE} attribute, so memory doesn't grow with the number of targets. The content is loaded
+ * from an {@link AsyncContentProvider} by key when the popover is shown, showing the
+ * {@link #setPlaceholder(String) placeholder} until it's available:
+ * <pre>
+ * {@code
+ * SharedPopover popover = new SharedPopover(table);
+ * popover.setAsyncContentProvider(new ContentCache(detailsService, 200));
+ * ...
+ * popover.addTarget(infoIcon, row.getId());
+ * }
+ * </pre>
+ * As with a {@link Popover}, {@link ShowEvent}, {@link ShownEvent}, {@link HideEvent} and {@link HiddenEvent} are
+ * fired on the target widget, so handlers are added with e.g.
+ * {@code infoIcon.addHandler(handler, ShowEvent.getType())}. Targets that aren't widgets, e.g. elements rendered
+ * by a cell, can be registered with {@link #addTarget(Element, String)}; they show the popover but get no events.
+ */
+public class SharedPopover extends PopoverManager {
+
+    /**
+     * Attribute holding the key of a target, passed to the content provider.
+     */
+    public static final String KEY_ATTRIBUTE = "data-popover-key";
+
+    private AsyncContentProvider asyncContentProvider;
+    private String placeholder = "\u2026";
+
+    // Target the popover is shown for and its content
+    private Element currentTarget;
+    private String currentKey;
+    private String currentContent;
+
+    /**
+     * Creates the popover for the container's targets. Listeners are bound while the container is attached.
+     *
+     * @param container Container of the targets
+     */
+    public SharedPopover(final Widget container) {
+        super(container);
+
+        setSelector("[" + KEY_ATTRIBUTE + "]");
+        super.setContentProvider(new ContentProvider() {
+            @Override
+            public String getContent(final Element target) {
+                return loadContent(target);
+            }
+        });
+    }
+
+    /**
+     * Shows the popover for the target, loading its content by key.
+     *
+     * @param target Widget within the container
+     * @param key    key passed to the content provider
+     */
+    public void addTarget(final Widget target, final String key) {
+        addTarget(target.getElement(), key);
+    }
+
+    /**
+     * Shows the popover for the target element, loading its content by key.
+     *
+     * @param target Element within the container
+     * @param key    key passed to the content provider
+     */
+    public void addTarget(final Element target, final String key) {
+        target.setAttribute(KEY_ATTRIBUTE, key);
+    }
+
+    /**
+     * Stops showing the popover for the target, hiding it if it's shown for the target.
+     *
+     * @param target Widget within the container
+     */
+    public void removeTarget(final Widget target) {
+        removeTarget(target.getElement());
+    }
+
+    /**
+     * Stops showing the popover for the target element, hiding it if it's shown for the target.
+     *
+     * @param target Element within the container
+     */
+    public void removeTarget(final Element target) {
+        if (target == currentTarget) {
+            hide();
+        }
+        target.removeAttribute(KEY_ATTRIBUTE);
+    }
+
+    public AsyncContentProvider getAsyncContentProvider() {
+        return asyncContentProvider;
+    }
+
+    /**
+     * Sets the provider loading the content of a target by its key. Use a
+     * {@link org.gwtbootstrap3.client.ui.base.ContentCache} to avoid loading the same key more than once.
+     * <p/>
+     * If the provider fails, the placeholder stays and the content is requested again the next time the popover
+     * is shown.
+     *
+     * @param provider the content provider
+     */
+    public void setAsyncContentProvider(final AsyncContentProvider provider) {
+        this.asyncContentProvider = provider;
+        currentTarget = null;
+    }
+
+    /**
+     * Not supported, the content is loaded by key from the {@link #setAsyncContentProvider(AsyncContentProvider)
+     * async content provider}.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void setContentProvider(final ContentProvider contentProvider) {
+        throw new UnsupportedOperationException("Use setAsyncContentProvider(AsyncContentProvider)");
+    }
+
+    /**
+     * Not supported, the content is loaded by key from the {@link #setAsyncContentProvider(AsyncContentProvider)
+     * async content provider}.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void setContentAttribute(final String attribute) {
+        throw new UnsupportedOperationException("Use setAsyncContentProvider(AsyncContentProvider)");
+    }
+
+    /**
+     * Sets the content shown while the content provider is loading. Defaults to an ellipsis.
+     *
+     * @param placeholder placeholder content
+     */
+    public void setPlaceholder(final String placeholder) {
+        this.placeholder = placeholder;
+    }
+
+    public String getPlaceholder() {
+        return placeholder;
+    }
+
+    @Override
+    protected DelegatedTooltip bind(final Element e, final String selector, final TooltipOptions options) {
+        final DelegatedTooltip tooltip = super.bind(e, selector, options);
+
+        // In the delegated listeners' namespace, so destroying the popover unbinds them as well
+        final String plugin = getPlugin().getName();
+        final String namespace = ".bs." + plugin + "." + plugin + "Delegated";
+        final JQuery jQuery = JQuery.wrap(e);
+        jQuery.on("show" + namespace, new PluginImpl.Handler() {
+            @Override
+            public void onEvent(final Event evt) {
+                fireOnTarget(evt, new ShowEvent(evt));
+            }
+        });
+        jQuery.on("shown" + namespace, new PluginImpl.Handler() {
+            @Override
+            public void onEvent(final Event evt) {
+                fireOnTarget(evt, new ShownEvent(evt));
+            }
+        });
+        jQuery.on("hide" + namespace, new PluginImpl.Handler() {
+            @Override
+            public void onEvent(final Event evt) {
+                fireOnTarget(evt, new HideEvent(evt));
+            }
+        });
+        jQuery.on("hidden" + namespace, new PluginImpl.Handler() {
+            @Override
+            public void onEvent(final Event evt) {
+                // Ask the provider again the next time, a cache decides whether the content is still valid
+                currentTarget = null;
+                currentKey = null;
+                currentContent = null;
+                fireOnTarget(evt, new HiddenEvent(evt));
+            }
+        });
+        return tooltip;
+    }
+
+    /**
+     * Called by the plugin each time it reads the content of the target, which happens more than once per show.
+     * The provider is asked once per show; until it completes the placeholder is returned and the shown popover
+     * is refreshed once the content arrives.
+     */
+    private String loadContent(final Element target) {
+        final String key = target.getAttribute(KEY_ATTRIBUTE);
+        if (asyncContentProvider == null || (target == currentTarget && key.equals(currentKey))) {
+            return currentContent == null ? placeholder : currentContent;
+        }
+
+        currentTarget = target;
+        currentKey = key;
+        currentContent = null;
+
+        final boolean[] loading = {true};
+        asyncContentProvider.getContent(key, new Callback<String, Throwable>() {
+            @Override
+            public void onSuccess(final String result) {
+                if (target != currentTarget || !key.equals(currentKey)) {
+                    return;
+                }
+                currentContent = result;
+                if (!loading[0]) {
+                    refresh(target);
+                }
+            }
+
+            @Override
+            public void onFailure(final Throwable reason) {
+                // The placeholder stays until the popover is hidden
+            }
+        });
+        loading[0] = false;
+
+        return currentContent == null ? placeholder : currentContent;
+    }
+
+    /**
+     * Fires the event on the widget of the event's target, events of other popovers within the container are
+     * ignored.
+     */
+    private void fireOnTarget(final Event evt, final GwtEvent<?> event) {
+        final Element target = Element.as(evt.getEventTarget());
+        if (!target.hasAttribute(KEY_ATTRIBUTE)) {
+            return;
+        }
+
+        final EventListener listener = Event.getEventListener(target);
+        if (listener instanceof Widget) {
+            ((Widget) listener).fireEvent(event);
+        }
+    }
+}
@@ -23,6 +23,8 @@ package org.gwtbootstrap3.client.ui;
 import java.util.Collection;
 import java.util.List;
 
+import org.gwtbootstrap3.client.BootstrapComponent;
+import org.gwtbootstrap3.client.GwtBootstrap3Styles;
 import org.gwtbootstrap3.client.ui.base.HasAutoComplete;
 import org.gwtbootstrap3.client.ui.base.HasId;
 import org.gwtbootstrap3.client.ui.base.HasPlaceholder;
@@ -87,6 +89,10 @@ public class SuggestBox extends com.google.gwt.user.client.ui.SuggestBox impleme
         HasAutoComplete, HasSize<InputSize>, HasEditorErrors<String>, HasErrorHandler, HasValidators<String>,
         HasBlankValidator<String> {
 
+    static {
+        GwtBootstrap3Styles.require(BootstrapComponent.FORMS);
+    }
+
     static class CustomSuggestionDisplay extends DefaultSuggestionDisplay {
 
         private ResizeHandler popupResizeHandler = null;
@@ -20,6 +20,8 @@ package org.gwtbootstrap3.client.ui;
  * #L%
  */
 
+import org.gwtbootstrap3.client.BootstrapComponent;
+import org.gwtbootstrap3.client.GwtBootstrap3Styles;
 import org.gwtbootstrap3.client.ui.constants.Styles;
 import org.gwtbootstrap3.client.ui.html.Div;
 
@@ -46,6 +48,10 @@ import com.google.gwt.user.client.ui.Widget;
  */
 public class TabContent extends Div {
 
+    static {
+        GwtBootstrap3Styles.require(BootstrapComponent.NAVS);
+    }
+
     /**
      * Creates the default widget with the default styles
      */
@@ -22,13 +22,18 @@ package org.gwtbootstrap3.client.ui;
 
 import java.util.List;
 
+import org.gwtbootstrap3.client.BootstrapPlugin;
+import org.gwtbootstrap3.client.GwtBootstrap3Scripts;
 import org.gwtbootstrap3.client.shared.event.TabShowEvent;
 import org.gwtbootstrap3.client.shared.event.TabShowHandler;
 import org.gwtbootstrap3.client.shared.event.TabShownEvent;
 import org.gwtbootstrap3.client.shared.event.TabShownHandler;
 import org.gwtbootstrap3.client.ui.base.HasDataTarget;
 import org.gwtbootstrap3.client.ui.constants.Toggle;
+import org.gwtbootstrap3.client.ui.impl.PluginImpl;
 
+import com.google.gwt.core.client.GWT;
+import com.google.gwt.core.client.Scheduler.ScheduledCommand;
 import com.google.gwt.dom.client.Element;
 import com.google.gwt.event.shared.HandlerRegistration;
 import com.google.gwt.user.client.Event;
@@ -55,6 +60,10 @@ import com.google.gwt.user.client.ui.Widget;
  */
 public class TabListItem extends AnchorListItem implements HasDataTarget {
 
+    private static final PluginImpl PLUGIN = GWT.create(PluginImpl.class);
+
+    private boolean eventsBound = false;
+
     /**
      * Creates the default widget with no text
      */
@@ -85,7 +94,12 @@ public class TabListItem extends AnchorListItem implements HasDataTarget {
      * @param fireEvents true=fire show/hide events, false=don't fire show/hide events
      */
     public void showTab(final boolean fireEvents) {
-        showTab(anchor.getElement());
+        GwtBootstrap3Scripts.whenLoaded(BootstrapPlugin.TAB, new ScheduledCommand() {
+            @Override
+            public void execute() {
+                PLUGIN.tab(anchor.getElement(), "show");
+            }
+        });
 
         if (fireEvents) {
             fireEvent(new TabShowEvent(this, null));
@@ -178,7 +192,15 @@ public class TabListItem extends AnchorListItem implements HasDataTarget {
         super.onLoad();
 
         // Bind JS Events
-        bindJavaScriptEvents(anchor.getElement());
+        GwtBootstrap3Scripts.whenLoaded(BootstrapPlugin.TAB, new ScheduledCommand() {
+            @Override
+            public void execute() {
+                // Bound by the first command if the widget was attached again while waiting for the plugin
+                if (isAttached() && !eventsBound) {
+                    bindJavaScriptEvents(anchor.getElement());
+                }
+            }
+        });
     }
 
     /**
@@ -189,7 +211,9 @@ public class TabListItem extends AnchorListItem implements HasDataTarget {
         super.onUnload();
 
         // Unbind JS events
-        unbindJavaScriptEvents(anchor.getElement());
+        if (GwtBootstrap3Scripts.isLoaded(BootstrapPlugin.TAB)) {
+            unbindJavaScriptEvents(anchor.getElement());
+        }
     }
 
     public String getHTML() {
@@ -222,26 +246,26 @@ public class TabListItem extends AnchorListItem implements HasDataTarget {
         fireEvent(new TabShownEvent(this, evt));
     }
 
-    private native void showTab(Element e) /*-{
-        $wnd.jQuery(e).tab('show');
-    }-*/;
+    private void bindJavaScriptEvents(final Element e) {
+        eventsBound = true;
 
-    // @formatter:off
-    private native void bindJavaScriptEvents(final Element e) /*-{
-        var target = this;
-        var $tab = $wnd.jQuery(e);
-
-        $tab.on('show.bs.tab', function (evt) {
-            target.@org.gwtbootstrap3.client.ui.TabListItem::onShow(Lcom/google/gwt/user/client/Event;)(evt);
+        PLUGIN.on(e, "show.bs.tab", new PluginImpl.Handler() {
+            @Override
+            public void onEvent(final Event evt) {
+                onShow(evt);
+            }
         });
-
-        $tab.on('shown.bs.tab', function (evt) {
-            target.@org.gwtbootstrap3.client.ui.TabListItem::onShown(Lcom/google/gwt/user/client/Event;)(evt);
+        PLUGIN.on(e, "shown.bs.tab", new PluginImpl.Handler() {
+            @Override
+            public void onEvent(final Event evt) {
+                onShown(evt);
+            }
         });
-    }-*/;
+    }
 
-    private native void unbindJavaScriptEvents(final Element e) /*-{
-        $wnd.jQuery(e).off('show.bs.tab');
-        $wnd.jQuery(e).off('shown.bs.tab');
-    }-*/;
+    private void unbindJavaScriptEvents(final Element e) {
+        eventsBound = false;
+        PLUGIN.off(e, "show.bs.tab");
+        PLUGIN.off(e, "shown.bs.tab");
+    }
 }
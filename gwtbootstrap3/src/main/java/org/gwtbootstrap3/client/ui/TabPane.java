@@ -20,6 +20,8 @@ package org.gwtbootstrap3.client.ui;
  * #L%
  */
 
+import org.gwtbootstrap3.client.BootstrapComponent;
+import org.gwtbootstrap3.client.GwtBootstrap3Styles;
 import org.gwtbootstrap3.client.ui.base.HasActive;
 import org.gwtbootstrap3.client.ui.base.mixin.ActiveMixin;
 import org.gwtbootstrap3.client.ui.constants.Styles;
@@ -45,6 +47,11 @@ import org.gwtbootstrap3.client.ui.html.Div;
  * @see org.gwtbootstrap3.client.ui.TabContent
  */
 public class TabPane extends Div implements HasActive {
+
+    static {
+        GwtBootstrap3Styles.require(BootstrapComponent.NAVS);
+    }
+
     private final ActiveMixin<TabPane> activeMixin = new ActiveMixin<TabPane>(this);
 
     /**
@@ -20,6 +20,8 @@ package org.gwtbootstrap3.client.ui;
  * #L%
  */
 
+import org.gwtbootstrap3.client.BootstrapComponent;
+import org.gwtbootstrap3.client.GwtBootstrap3Styles;
 import org.gwtbootstrap3.client.ui.base.HasTabPosition;
 import org.gwtbootstrap3.client.ui.base.helper.StyleHelper;
 import org.gwtbootstrap3.client.ui.constants.Styles;
@@ -48,6 +50,10 @@ import org.gwtbootstrap3.client.ui.html.Div;
  */
 public class TabPanel extends Div implements HasTabPosition {
 
+    static {
+        GwtBootstrap3Styles.require(BootstrapComponent.NAVS);
+    }
+
     /**
      * Creates the widget with the default styles
      */
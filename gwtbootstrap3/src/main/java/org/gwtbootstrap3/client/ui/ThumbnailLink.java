@@ -20,6 +20,8 @@ package org.gwtbootstrap3.client.ui;
  * #L%
  */
 
+import org.gwtbootstrap3.client.BootstrapComponent;
+import org.gwtbootstrap3.client.GwtBootstrap3Styles;
 import org.gwtbootstrap3.client.ui.base.ComplexWidget;
 import org.gwtbootstrap3.client.ui.base.HasDataToggle;
 import org.gwtbootstrap3.client.ui.base.HasHref;
@@ -63,6 +65,10 @@ import com.google.gwt.user.client.ui.Focusable;
 public class ThumbnailLink extends ComplexWidget implements HasClickHandlers, HasDoubleClickHandlers, HasHref,
         HasDataToggle, HasTargetHistoryToken, Focusable, HasTarget {
 
+    static {
+        GwtBootstrap3Styles.require(BootstrapComponent.THUMBNAILS);
+    }
+
     private final DataToggleMixin<ThumbnailLink> toggleMixin = new DataToggleMixin<ThumbnailLink>(this);
     private final AttributeMixin<ThumbnailLink> attributeMixin = new AttributeMixin<ThumbnailLink>(this);
     private final FocusableMixin<ThumbnailLink> focusableMixin;
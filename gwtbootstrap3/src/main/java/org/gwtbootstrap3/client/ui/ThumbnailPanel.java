@@ -20,6 +20,8 @@ package org.gwtbootstrap3.client.ui;
  * #L%
  */
 
+import org.gwtbootstrap3.client.BootstrapComponent;
+import org.gwtbootstrap3.client.GwtBootstrap3Styles;
 import org.gwtbootstrap3.client.ui.constants.Styles;
 import org.gwtbootstrap3.client.ui.html.Div;
 
@@ -44,6 +46,10 @@ import org.gwtbootstrap3.client.ui.html.Div;
  */
 public class ThumbnailPanel extends Div {
 
+    static {
+        GwtBootstrap3Styles.require(BootstrapComponent.THUMBNAILS);
+    }
+
     /**
      * Creates the ThumbnailPanel with the default styles
      */
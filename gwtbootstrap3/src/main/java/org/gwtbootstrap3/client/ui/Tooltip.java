@@ -23,6 +23,10 @@ package org.gwtbootstrap3.client.ui;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 
+import org.gwtbootstrap3.client.BootstrapComponent;
+import org.gwtbootstrap3.client.BootstrapPlugin;
+import org.gwtbootstrap3.client.GwtBootstrap3Scripts;
+import org.gwtbootstrap3.client.GwtBootstrap3Styles;
 import org.gwtbootstrap3.client.shared.event.HiddenEvent;
 import org.gwtbootstrap3.client.shared.event.HiddenHandler;
 import org.gwtbootstrap3.client.shared.event.HideEvent;
@@ -35,7 +39,14 @@ import org.gwtbootstrap3.client.ui.base.HasHover;
 import org.gwtbootstrap3.client.ui.base.HasId;
 import org.gwtbootstrap3.client.ui.constants.Placement;
 import org.gwtbootstrap3.client.ui.constants.Trigger;
-
+import org.gwtbootstrap3.client.ui.impl.JQuery;
+import org.gwtbootstrap3.client.ui.impl.PluginImpl;
+import org.gwtbootstrap3.client.ui.impl.PositioningImpl;
+import org.gwtbootstrap3.client.ui.impl.TooltipOptions;
+import org.gwtbootstrap3.client.ui.impl.TooltipUpdater;
+import org.gwtbootstrap3.client.ui.impl.TriggerListener;
+
+import com.google.gwt.core.client.Scheduler.ScheduledCommand;
 import com.google.gwt.dom.client.Element;
 import com.google.gwt.event.logical.shared.AttachEvent;
 import com.google.gwt.safehtml.shared.SafeHtml;
@@ -63,11 +74,19 @@ import com.google.web.bindery.event.shared.HandlerRegistration;
  * </pre>
  * <p/>
  * ** Must call reconfigure() after altering any/all Tooltips!
+ * <p/>
+ * Screens with many tooltips, e.g. one per table row, should {@link #setLazy(boolean) enable lazy mode}: the
+ * Bootstrap tooltip is then only created when it's first triggered and released when the widget is detached.
  *
  * @author Joshua Godi
  * @author Pontus Enmark
  */
 public class Tooltip implements IsWidget, HasWidgets, HasOneWidget, HasId, HasHover {
+
+    static {
+        GwtBootstrap3Styles.require(BootstrapComponent.TOOLTIP);
+    }
+
     private static final String TOGGLE = "toggle";
     private static final String SHOW = "show";
     private static final String HIDE = "hide";
@@ -90,6 +109,17 @@ public class Tooltip implements IsWidget, HasWidgets, HasOneWidget, HasId, HasHo
 
     private final static String DEFAULT_TEMPLATE = "<div class=\"{0}\"><div class=\"{1}\"></div><div class=\"{2}\"></div></div>";
     private String alternateTemplate = null;
+    private String template = null;
+
+    // Reused every time the tooltip is (re)configured
+    private TooltipOptions options;
+
+    // In lazy mode the Bootstrap tooltip only exists between the first trigger and detaching the widget
+    private boolean lazy = false;
+    private boolean created = false;
+    private boolean creating = false;
+    private boolean eventsBound = false;
+    private TriggerListener triggerListener;
 
     private Widget widget;
     private String id;
@@ -155,14 +185,17 @@ public class Tooltip implements IsWidget, HasWidgets, HasOneWidget, HasId, HasHo
             return;
         }
 
-        // Bind jquery events
-        bindJavaScriptEvents(widget.getElement());
-
-        // When we attach it, configure the tooltip
+        // When we attach it, configure the tooltip and bind the jquery events, in lazy mode once it's triggered
         widget.addAttachHandler(new AttachEvent.Handler() {
             @Override
             public void onAttachOrDetach(final AttachEvent event) {
-                reconfigure();
+                if (!lazy) {
+                    reconfigure();
+                } else if (event.isAttached()) {
+                    listenForTrigger();
+                } else {
+                    release();
+                }
             }
         });
     }
@@ -264,6 +297,12 @@ public class Tooltip implements IsWidget, HasWidgets, HasOneWidget, HasId, HasHo
     @Override
     public void setTrigger(final Trigger trigger) {
         this.trigger = trigger;
+
+        if (triggerListener != null) {
+            triggerListener.remove();
+            triggerListener = null;
+            listenForTrigger();
+        }
     }
 
     /**
@@ -365,6 +404,7 @@ public class Tooltip implements IsWidget, HasWidgets, HasOneWidget, HasId, HasHo
      * Set the tooltip's selector
      *
      * @param selector the tooltip's selector
+     * @see TooltipManager
      */
     public void setSelector(String selector) {
         this.selector = selector;
@@ -386,6 +426,7 @@ public class Tooltip implements IsWidget, HasWidgets, HasOneWidget, HasId, HasHo
      */
     public void setTooltipClassNames(String tooltipClassNames) {
         this.tooltipClassNames = tooltipClassNames;
+        template = null;
     }
 
     /**
@@ -395,6 +436,7 @@ public class Tooltip implements IsWidget, HasWidgets, HasOneWidget, HasId, HasHo
      */
     public void addTooltipClassName(String tooltipClassName) {
         this.tooltipClassNames += " " + tooltipClassName;
+        template = null;
     }
 
     /**
@@ -413,6 +455,7 @@ public class Tooltip implements IsWidget, HasWidgets, HasOneWidget, HasId, HasHo
      */
     public void setTooltipArrowClassNames(String tooltipArrowClassNames) {
         this.tooltipArrowClassNames = tooltipArrowClassNames;
+        template = null;
     }
 
     /**
@@ -422,6 +465,7 @@ public class Tooltip implements IsWidget, HasWidgets, HasOneWidget, HasId, HasHo
      */
     public void addTooltipArrowClassName(String tooltipArrowClassName) {
         this.tooltipArrowClassNames += " " + tooltipArrowClassName;
+        template = null;
     }
 
     /**
@@ -440,6 +484,7 @@ public class Tooltip implements IsWidget, HasWidgets, HasOneWidget, HasId, HasHo
      */
     public void setTooltipInnerClassNames(String tooltipInnerClassNames) {
         this.tooltipInnerClassNames = tooltipInnerClassNames;
+        template = null;
     }
 
     /**
@@ -449,6 +494,7 @@ public class Tooltip implements IsWidget, HasWidgets, HasOneWidget, HasId, HasHo
      */
     public void addTooltipInnerClassName(String tooltipInnerClassName) {
         this.tooltipInnerClassNames += " " + tooltipInnerClassName;
+        template = null;
     }
 
     /**
@@ -471,33 +517,81 @@ public class Tooltip implements IsWidget, HasWidgets, HasOneWidget, HasId, HasHo
      */
     public void setAlternateTemplate(String alternateTemplate) {
         this.alternateTemplate = alternateTemplate;
+        template = null;
     }
 
     /**
-     * Reconfigures the tooltip, must be called when altering any tooltip after it has already been shown
+     * Whether the tooltip is created lazily
+     *
+     * @return true if the tooltip is created when first triggered
+     */
+    public boolean isLazy() {
+        return lazy;
+    }
+
+    /**
+     * Creates the Bootstrap tooltip when it's first triggered instead of when the widget is attached, and
+     * releases it when the widget is detached. Until then only a lightweight listener for the {@link Trigger} is
+     * bound, so tooltips which are never shown cost next to nothing. With {@link Trigger#MANUAL} the tooltip is
+     * created by the first call to {@link #show()} or {@link #toggle()}.
+     * <p/>
+     * Must be set before the widget is attached, e.g. right after creating the tooltip: no jQuery events are bound
+     * until then.
+     *
+     * @param lazy true to create the tooltip when first triggered
+     */
+    public void setLazy(final boolean lazy) {
+        this.lazy = lazy;
+    }
+
+    /**
+     * Reconfigures the tooltip, must be called when altering any tooltip after it has already been shown. Changes
+     * to the title and the other options read when showing the tooltip are applied to the live tooltip, changes
+     * to the template, container, selector or trigger re-create it.
      */
     public void reconfigure() {
-        // First destroy the old tooltip
-        destroy();
-
-        // prepare template
-        String template = prepareTemplate();
-
-        // TODO clean this up
-        // Setup the new tooltip
-        if (container != null && selector != null) {
-            tooltip(widget.getElement(), isAnimated, isHTML, placement.getCssName(), selector, title,
-                    trigger.getCssName(), showDelayMs, hideDelayMs, container, template);
-        } else if (container != null) {
-            tooltip(widget.getElement(), isAnimated, isHTML, placement.getCssName(), title,
-                    trigger.getCssName(), showDelayMs, hideDelayMs, container, template);
-        } else if (selector != null) {
-            tooltip(widget.getElement(), isAnimated, isHTML, placement.getCssName(), selector, title,
-                    trigger.getCssName(), showDelayMs, hideDelayMs, template);
-        } else {
-            tooltip(widget.getElement(), isAnimated, isHTML, placement.getCssName(), title,
-                    trigger.getCssName(), showDelayMs, hideDelayMs, template);
+        if (lazy && !created) {
+            // Configured once triggered
+            return;
         }
+
+        GwtBootstrap3Scripts.whenLoaded(BootstrapPlugin.TOOLTIP, new ScheduledCommand() {
+            @Override
+            public void execute() {
+                configure();
+            }
+        });
+    }
+
+    private void configure() {
+        final Element element = widget.getElement();
+        PositioningImpl.ensureInstalled();
+
+        if (options == null) {
+            options = TooltipOptions.create();
+        }
+        options.setAnimation(isAnimated);
+        options.setHtml(isHTML);
+        options.setPlacement(placement.getCssName());
+        options.setSelector(selector);
+        options.setTitle(title);
+        options.setTrigger(trigger.getCssName());
+        options.setDelay(showDelayMs, hideDelayMs);
+        options.setContainer(container);
+        options.setTemplate(getTemplate());
+
+        // Re-creating the tooltip unbinds the events
+        if (TooltipUpdater.apply(element, BootstrapPlugin.TOOLTIP.getName(), options) == TooltipUpdater.REBUILT
+                || !eventsBound) {
+            bindJavaScriptEvents(element);
+        }
+    }
+
+    private String getTemplate() {
+        if (template == null) {
+            template = prepareTemplate();
+        }
+        return template;
     }
 
     protected String prepareTemplate() {
@@ -517,28 +611,28 @@ public class Tooltip implements IsWidget, HasWidgets, HasOneWidget, HasId, HasHo
      * Toggle the Tooltip to either show/hide
      */
     public void toggle() {
-        call(widget.getElement(), TOGGLE);
+        call(TOGGLE);
     }
 
     /**
      * Force show the Tooltip
      */
     public void show() {
-        call(widget.getElement(), SHOW);
+        call(SHOW);
     }
 
     /**
      * Force hide the Tooltip
      */
     public void hide() {
-        call(widget.getElement(), HIDE);
+        call(HIDE);
     }
 
     /**
      * Force the Tooltip to be destroyed
      */
     public void destroy() {
-        call(widget.getElement(), DESTROY);
+        call(DESTROY);
     }
 
     /**
@@ -697,97 +791,129 @@ public class Tooltip implements IsWidget, HasWidgets, HasOneWidget, HasId, HasHo
         return asWidget().toString();
     }
 
-    // @formatter:off
-    private native void bindJavaScriptEvents(final Element e) /*-{
-        var target = this;
-        var $tooltip = $wnd.jQuery(e);
-
-        $tooltip.on('show.bs.tooltip', function (evt) {
-            target.@org.gwtbootstrap3.client.ui.Tooltip::onShow(Lcom/google/gwt/user/client/Event;)(evt);
-        });
+    private void bindJavaScriptEvents(final Element e) {
+        eventsBound = true;
 
-        $tooltip.on('shown.bs.tooltip', function (evt) {
-            target.@org.gwtbootstrap3.client.ui.Tooltip::onShown(Lcom/google/gwt/user/client/Event;)(evt);
+        final JQuery jQuery = JQuery.wrap(e);
+        jQuery.on("show.bs.tooltip", new PluginImpl.Handler() {
+            @Override
+            public void onEvent(final Event evt) {
+                onShow(evt);
+            }
         });
-
-        $tooltip.on('hide.bs.tooltip', function (evt) {
-            target.@org.gwtbootstrap3.client.ui.Tooltip::onHide(Lcom/google/gwt/user/client/Event;)(evt);
+        jQuery.on("shown.bs.tooltip", new PluginImpl.Handler() {
+            @Override
+            public void onEvent(final Event evt) {
+                onShown(evt);
+            }
         });
-
-        $tooltip.on('hidden.bs.tooltip', function (evt) {
-            target.@org.gwtbootstrap3.client.ui.Tooltip::onHidden(Lcom/google/gwt/user/client/Event;)(evt);
+        jQuery.on("hide.bs.tooltip", new PluginImpl.Handler() {
+            @Override
+            public void onEvent(final Event evt) {
+                onHide(evt);
+            }
         });
-    }-*/;
-
-    private native void call(final Element e, final String arg) /*-{
-        $wnd.jQuery(e).tooltip(arg);
-    }-*/;
-
-    private native void tooltip(Element e, boolean animation, boolean html, String placement, String selector,
-                                String title, String trigger, int showDelay, int hideDelay, String container, String template) /*-{
-        $wnd.jQuery(e).tooltip({
-            animation: animation,
-            html: html,
-            placement: placement,
-            selector: selector,
-            title: title,
-            trigger: trigger,
-            delay: {
-                show: showDelay,
-                hide: hideDelay
-            },
-            container: container,
-            template: template
+        jQuery.on("hidden.bs.tooltip", new PluginImpl.Handler() {
+            @Override
+            public void onEvent(final Event evt) {
+                onHidden(evt);
+            }
         });
-    }-*/;
-
-    private native void tooltip(Element e, boolean animation, boolean html, String placement,
-                                String title, String trigger, int showDelay, int hideDelay, String container, String template) /*-{
-        $wnd.jQuery(e).tooltip({
-            animation: animation,
-            html: html,
-            placement: placement,
-            title: title,
-            trigger: trigger,
-            delay: {
-                show: showDelay,
-                hide: hideDelay
-            },
-            container: container,
-            template: template
+    }
+
+    private void call(final String arg) {
+        if (lazy && !created) {
+            if (HIDE.equals(arg) || DESTROY.equals(arg)) {
+                // Nothing to hide or destroy yet
+                return;
+            }
+            create(null);
+        }
+
+        GwtBootstrap3Scripts.whenLoaded(BootstrapPlugin.TOOLTIP, new ScheduledCommand() {
+            @Override
+            public void execute() {
+                // Lazy tooltips only exist while attached
+                if (lazy && !created) {
+                    return;
+                }
+
+                JQuery.wrap(widget.getElement()).tooltip(arg);
+
+                if (DESTROY.equals(arg)) {
+                    // Destroying unbinds the events, they're bound again once the tooltip is configured
+                    eventsBound = false;
+                    if (lazy) {
+                        created = false;
+                        listenForTrigger();
+                    }
+                }
+            }
         });
-    }-*/;
-
-    private native void tooltip(Element e, boolean animation, boolean html, String placement, String selector,
-                                String title, String trigger, int showDelay, int hideDelay, String template) /*-{
-        $wnd.jQuery(e).tooltip({
-            animation: animation,
-            html: html,
-            placement: placement,
-            selector: selector,
-            title: title,
-            trigger: trigger,
-            delay: {
-                show: showDelay,
-                hide: hideDelay
-            },
-            template: template
+    }
+
+    /**
+     * Waits for the first interaction with the widget that would show the tooltip.
+     */
+    private void listenForTrigger() {
+        if (created || triggerListener != null) {
+            return;
+        }
+
+        triggerListener = TriggerListener.listen(widget.getElement(), trigger, new TriggerListener.Handler() {
+            @Override
+            public void onTrigger(final String type) {
+                triggerListener = null;
+                create(type);
+            }
         });
-    }-*/;
-
-    private native void tooltip(Element e, boolean animation, boolean html, String placement,
-                                String title, String trigger, int showDelay, int hideDelay, String template) /*-{
-        $wnd.jQuery(e).tooltip({
-            animation: animation,
-            html: html,
-            placement: placement,
-            title: title,
-            trigger: trigger,
-            delay: {
-                show: showDelay,
-                hide: hideDelay
-            },
-            template: template
+    }
+
+    /**
+     * Creates the Bootstrap tooltip. When the plugin is available right away, the triggering event is replayed to
+     * it, so the tooltip shows as if it had been created up front.
+     *
+     * @param type Event which triggered the tooltip, or null
+     */
+    private void create(final String type) {
+        if (triggerListener != null) {
+            triggerListener.remove();
+            triggerListener = null;
+        }
+
+        creating = true;
+        GwtBootstrap3Scripts.whenLoaded(BootstrapPlugin.TOOLTIP, new ScheduledCommand() {
+            @Override
+            public void execute() {
+                if (created || widget == null || !widget.isAttached()) {
+                    return;
+                }
+
+                created = true;
+                configure();
+
+                // Replaying a stale event once the plugin has loaded could leave the tooltip open
+                if (type != null && creating) {
+                    JQuery.wrap(widget.getElement()).triggerHandler(type + ".bs.tooltip");
+                }
+            }
         });
-    }-*/;
+        creating = false;
+    }
+
+    /**
+     * Destroys the Bootstrap tooltip, which also unbinds its events, and stops waiting for a trigger.
+     */
+    private void release() {
+        if (triggerListener != null) {
+            triggerListener.remove();
+            triggerListener = null;
+        }
+
+        if (created) {
+            created = false;
+            eventsBound = false;
+            JQuery.wrap(widget.getElement()).tooltip(DESTROY);
+        }
+    }
 }
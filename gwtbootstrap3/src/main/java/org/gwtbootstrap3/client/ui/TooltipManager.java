@@ -0,0 +1,367 @@
+package org.gwtbootstrap3.client.ui;
+
+/*
+ * #%L
+ * GwtBootstrap3
+ * %%
+ * Copyright (C) 2013 - 2015 GwtBootstrap3
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.gwtbootstrap3.client.BootstrapComponent;
+import org.gwtbootstrap3.client.BootstrapPlugin;
+import org.gwtbootstrap3.client.GwtBootstrap3Scripts;
+import org.gwtbootstrap3.client.GwtBootstrap3Styles;
+import org.gwtbootstrap3.client.ui.base.HasHover;
+import org.gwtbootstrap3.client.ui.constants.Placement;
+import org.gwtbootstrap3.client.ui.constants.Trigger;
+import org.gwtbootstrap3.client.ui.impl.DelegatedTooltip;
+import org.gwtbootstrap3.client.ui.impl.PositioningImpl;
+import org.gwtbootstrap3.client.ui.impl.TooltipOptions;
+
+import com.google.gwt.core.client.Scheduler;
+import com.google.gwt.core.client.Scheduler.ScheduledCommand;
+import com.google.gwt.dom.client.Element;
+import com.google.gwt.event.logical.shared.AttachEvent;
+import com.google.gwt.user.client.ui.Widget;
+
+/**
+ * Shows tooltips for any number of descendants of a container, e.g. the rows of a table, list group or nav,
+ * through a single Bootstrap tooltip.
+ * <p/>
+ * Unlike a {@link Tooltip} per descendant, the manager binds one set of delegated listeners to the container and
+ * reuses one tooltip element, so memory and binding cost don't grow with the number of descendants. Descendants
+ * matching the {@link #setSelector(String) selector} show a tooltip, by default those with a
+ * {@value #CONTENT_ATTRIBUTE} attribute, which also holds the text:
+ * <pre>
+ * {@code
+ * new TooltipManager(listGroup);
+ * ...
+ * item.getElement().setAttribute(TooltipManager.CONTENT_ATTRIBUTE, "...");
+ * }
+ * </pre>
+ * Alternatively a {@link ContentProvider} computes the text for the hovered descendant, e.g. from the row it
+ * belongs to. The show, shown, hide and hidden events of Bootstrap's tooltip are triggered on the descendant.
+ * <p/>
+ * The tooltip is appended to the body by default, as tooltips can't be inserted next to table rows or cells.
+ * Settings take effect once the container is attached, or when calling {@link #reconfigure()}.
+ */
+public class TooltipManager implements HasHover {
+
+    static {
+        GwtBootstrap3Styles.require(BootstrapComponent.TOOLTIP);
+    }
+
+    /**
+     * Attribute holding the text of a descendant's tooltip, unless a {@link ContentProvider} is set.
+     */
+    public static final String CONTENT_ATTRIBUTE = "data-tooltip";
+
+    /**
+     * Provides the text of the tooltip for a descendant.
+     */
+    public interface ContentProvider {
+
+        /**
+         * Called each time the tooltip is shown for the descendant.
+         *
+         * @param target Descendant the tooltip is shown for
+         * @return text of the tooltip, as HTML if {@link #isHtml()}
+         */
+        String getContent(Element target);
+    }
+
+    private final Widget container;
+    private String selector = "[" + CONTENT_ATTRIBUTE + "]";
+    private ContentProvider contentProvider = new AttributeProvider(CONTENT_ATTRIBUTE);
+
+    // Defaults from http://getbootstrap.com/javascript/#tooltips, except for the container
+    private boolean isAnimated = true;
+    private boolean isHTML = false;
+    private Placement placement = Placement.TOP;
+    private Trigger trigger = Trigger.HOVER;
+    private int hideDelayMs = 0;
+    private int showDelayMs = 0;
+    private String tooltipContainer = "body";
+
+    private DelegatedTooltip tooltip;
+
+    /**
+     * Creates the manager for the container's descendants. Listeners are bound while the container is attached.
+     *
+     * @param container Container of the descendants showing tooltips
+     */
+    public TooltipManager(final Widget container) {
+        this.container = container;
+
+        container.addAttachHandler(new AttachEvent.Handler() {
+            @Override
+            public void onAttachOrDetach(final AttachEvent event) {
+                if (event.isAttached()) {
+                    reconfigure();
+                } else {
+                    unbind();
+                }
+            }
+        });
+
+        // Once subclasses are initialized
+        if (container.isAttached()) {
+            Scheduler.get().scheduleDeferred(new ScheduledCommand() {
+                @Override
+                public void execute() {
+                    reconfigure();
+                }
+            });
+        }
+    }
+
+    /**
+     * Returns the container of the descendants.
+     *
+     * @return container widget
+     */
+    public Widget getContainerWidget() {
+        return container;
+    }
+
+    /**
+     * Gets the selector of the descendants showing a tooltip
+     *
+     * @return the selector
+     */
+    public String getSelector() {
+        return selector;
+    }
+
+    /**
+     * Sets the selector of the descendants showing a tooltip, {@code [data-tooltip]} by default
+     *
+     * @param selector the selector
+     */
+    public void setSelector(final String selector) {
+        this.selector = selector;
+    }
+
+    /**
+     * Gets the provider of the tooltips' text
+     *
+     * @return the content provider
+     */
+    public ContentProvider getContentProvider() {
+        return contentProvider;
+    }
+
+    /**
+     * Sets the provider of the tooltips' text. By default the text is read from the
+     * {@value #CONTENT_ATTRIBUTE} attribute.
+     *
+     * @param contentProvider the content provider
+     */
+    public void setContentProvider(final ContentProvider contentProvider) {
+        this.contentProvider = contentProvider;
+    }
+
+    /**
+     * Sets the provider of the tooltips' text to read it from the given attribute of the descendants.
+     *
+     * @param attribute name of the attribute
+     */
+    public void setContentAttribute(final String attribute) {
+        setContentProvider(new AttributeProvider(attribute));
+    }
+
+    @Override
+    public void setIsAnimated(final boolean isAnimated) {
+        this.isAnimated = isAnimated;
+    }
+
+    @Override
+    public boolean isAnimated() {
+        return isAnimated;
+    }
+
+    @Override
+    public void setIsHtml(final boolean isHTML) {
+        this.isHTML = isHTML;
+    }
+
+    @Override
+    public boolean isHtml() {
+        return isHTML;
+    }
+
+    @Override
+    public void setPlacement(final Placement placement) {
+        this.placement = placement;
+    }
+
+    @Override
+    public Placement getPlacement() {
+        return placement;
+    }
+
+    @Override
+    public void setTrigger(final Trigger trigger) {
+        this.trigger = trigger;
+    }
+
+    @Override
+    public Trigger getTrigger() {
+        return trigger;
+    }
+
+    @Override
+    public void setShowDelayMs(final int showDelayMs) {
+        this.showDelayMs = showDelayMs;
+    }
+
+    @Override
+    public int getShowDelayMs() {
+        return showDelayMs;
+    }
+
+    @Override
+    public void setHideDelayMs(final int hideDelayMs) {
+        this.hideDelayMs = hideDelayMs;
+    }
+
+    @Override
+    public int getHideDelayMs() {
+        return hideDelayMs;
+    }
+
+    /**
+     * Sets the selector of the element the tooltip is appended to, {@code body} by default. {@code null} inserts
+     * it after the descendant.
+     *
+     * @param container selector of the element
+     */
+    @Override
+    public void setContainer(final String container) {
+        this.tooltipContainer = container;
+    }
+
+    @Override
+    public String getContainer() {
+        return tooltipContainer;
+    }
+
+    /**
+     * Rebinds the listeners with the current settings, hiding the tooltip if it's shown
+     */
+    public void reconfigure() {
+        GwtBootstrap3Scripts.whenLoaded(getPlugin(), new ScheduledCommand() {
+            @Override
+            public void execute() {
+                unbind();
+
+                if (!container.isAttached()) {
+                    return;
+                }
+
+                PositioningImpl.ensureInstalled();
+
+                final TooltipOptions options = createOptions();
+                options.setAnimation(isAnimated);
+                options.setHtml(isHTML);
+                options.setPlacement(placement.getCssName());
+                options.setTrigger(trigger.getCssName());
+                options.setDelay(showDelayMs, hideDelayMs);
+                options.setContainer(tooltipContainer);
+                tooltip = bind(container.getElement(), selector, options);
+            }
+        });
+    }
+
+    /**
+     * Hides the tooltip right away, if it's shown
+     */
+    public void hide() {
+        if (tooltip != null) {
+            tooltip.hide();
+        }
+    }
+
+    /**
+     * Reads the text again from the content provider if the tooltip is shown for the descendant
+     *
+     * @param target Descendant the tooltip may be shown for
+     */
+    public void refresh(final Element target) {
+        if (tooltip != null) {
+            tooltip.refresh(target);
+        }
+    }
+
+    /**
+     * Returns the plugin showing the tips.
+     *
+     * @return the plugin
+     */
+    protected BootstrapPlugin getPlugin() {
+        return BootstrapPlugin.TOOLTIP;
+    }
+
+    /**
+     * Creates the plugin's options, populated with the settings shared by tooltips and popovers.
+     *
+     * @return empty options
+     */
+    protected TooltipOptions createOptions() {
+        return TooltipOptions.create();
+    }
+
+    /**
+     * Creates the plugin instance and binds the delegated listeners.
+     */
+    protected DelegatedTooltip bind(final Element e, final String selector, final TooltipOptions options) {
+        return DelegatedTooltip.create(getPlugin().getName(), e, selector, options, createProvider(contentProvider),
+                null);
+    }
+
+    static DelegatedTooltip.Provider createProvider(final ContentProvider provider) {
+        return new DelegatedTooltip.Provider() {
+            @Override
+            public String get(final Element target) {
+                return provider.getContent(target);
+            }
+        };
+    }
+
+    private void unbind() {
+        if (tooltip != null) {
+            tooltip.destroy();
+            tooltip = null;
+        }
+    }
+
+    /**
+     * Reads the text from an attribute of the descendant.
+     */
+    static class AttributeProvider implements ContentProvider {
+
+        private final String attribute;
+
+        AttributeProvider(final String attribute) {
+            this.attribute = attribute;
+        }
+
+        @Override
+        public String getContent(final Element target) {
+            return target.getAttribute(attribute);
+        }
+    }
+}
@@ -22,6 +22,8 @@ package org.gwtbootstrap3.client.ui;
 
 import java.util.List;
 
+import org.gwtbootstrap3.client.BootstrapComponent;
+import org.gwtbootstrap3.client.GwtBootstrap3Styles;
 import org.gwtbootstrap3.client.ui.base.HasId;
 import org.gwtbootstrap3.client.ui.base.HasPlaceholder;
 import org.gwtbootstrap3.client.ui.base.HasResponsiveness;
@@ -64,6 +66,10 @@ public class ValueListBox<T> extends com.google.gwt.user.client.ui.ValueListBox<
         HasResponsiveness, HasPlaceholder, HasSize<InputSize>, HasEditorErrors<T>, HasErrorHandler, HasValidators<T>,
         HasBlankValidator<T> {
 
+    static {
+        GwtBootstrap3Styles.require(BootstrapComponent.FORMS);
+    }
+
     private final IdMixin<ValueListBox<T>> idMixin = new IdMixin<ValueListBox<T>>(this);
 
     private final ErrorHandlerMixin<T> errorHandlerMixin = new ErrorHandlerMixin<T>(this);
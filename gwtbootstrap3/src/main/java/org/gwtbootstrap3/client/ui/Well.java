@@ -20,6 +20,8 @@ package org.gwtbootstrap3.client.ui;
  * #L%
  */
 
+import org.gwtbootstrap3.client.BootstrapComponent;
+import org.gwtbootstrap3.client.GwtBootstrap3Styles;
 import org.gwtbootstrap3.client.ui.base.HasSize;
 import org.gwtbootstrap3.client.ui.base.helper.StyleHelper;
 import org.gwtbootstrap3.client.ui.constants.Styles;
@@ -46,6 +48,10 @@ import org.gwtbootstrap3.client.ui.html.Div;
  */
 public class Well extends Div implements HasSize<WellSize> {
 
+    static {
+        GwtBootstrap3Styles.require(BootstrapComponent.WELLS);
+    }
+
     /**
      * Creates a Well with the default Bootstrap styling
      */
@@ -40,7 +40,8 @@ import com.google.gwt.user.client.ui.Focusable;
  * @author Sven Jacobs
  */
 public abstract class AbstractAnchorListItem extends AbstractListItem
-        implements HasHref, HasTargetHistoryToken, HasClickHandlers, Focusable, HasDataToggle, HasIcon, HasIconPosition {
+        implements HasHref, HasTargetHistoryToken, HasClickHandlers, Focusable, HasDataToggle, HasIcon, HasIconName,
+        HasIconPosition {
 
     protected final Anchor anchor;
 
@@ -115,6 +116,16 @@ public abstract class AbstractAnchorListItem extends AbstractListItem
         return anchor.getIcon();
     }
 
+    @Override
+    public void setIconName(final String iconName) {
+        anchor.setIconName(iconName);
+    }
+
+    @Override
+    public String getIconName() {
+        return anchor.getIconName();
+    }
+
     @Override
     public void setIconPosition(final IconPosition iconPosition) {
         anchor.setIconPosition(iconPosition);
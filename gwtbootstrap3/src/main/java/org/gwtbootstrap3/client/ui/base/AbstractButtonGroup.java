@@ -20,6 +20,8 @@ package org.gwtbootstrap3.client.ui.base;
  * #L%
  */
 
+import org.gwtbootstrap3.client.BootstrapComponent;
+import org.gwtbootstrap3.client.GwtBootstrap3Styles;
 import org.gwtbootstrap3.client.ui.base.helper.StyleHelper;
 import org.gwtbootstrap3.client.ui.base.mixin.DataToggleMixin;
 import org.gwtbootstrap3.client.ui.base.mixin.PullMixin;
@@ -44,6 +46,10 @@ import com.google.gwt.user.client.ui.Widget;
 public abstract class AbstractButtonGroup extends FlowPanel implements HasName, HasSize<ButtonGroupSize>,
         HasDataToggle, HasJustified, HasPull, HasResponsiveness {
 
+    static {
+        GwtBootstrap3Styles.require(BootstrapComponent.BUTTON_GROUPS);
+    }
+
     private final PullMixin<AbstractButtonGroup> pullMixin = new PullMixin<AbstractButtonGroup>(this);
     private final DataToggleMixin<AbstractButtonGroup> toggleMixin = new DataToggleMixin<AbstractButtonGroup>(this);
     private String name;
@@ -116,7 +122,7 @@ public abstract class AbstractButtonGroup extends FlowPanel implements HasName,
 
     @Override
     public boolean isJustified() {
-        return StyleHelper.containsStyle(getStyleName(), Styles.BTN_GROUP_JUSTIFIED);
+        return StyleHelper.hasStyleName(getStyleElement(), Styles.BTN_GROUP_JUSTIFIED);
     }
 
     @Override
@@ -20,6 +20,8 @@ package org.gwtbootstrap3.client.ui.base;
  * #L%
  */
 
+import org.gwtbootstrap3.client.BootstrapComponent;
+import org.gwtbootstrap3.client.GwtBootstrap3Styles;
 import org.gwtbootstrap3.client.ui.constants.Styles;
 
 import com.google.gwt.dom.client.Element;
@@ -30,6 +32,10 @@ import com.google.gwt.dom.client.Element;
  */
 public class AbstractDropDown extends ComplexWidget {
 
+    static {
+        GwtBootstrap3Styles.require(BootstrapComponent.DROPDOWNS);
+    }
+
     public AbstractDropDown(final Element element) {
         setElement(element);
         setStyleName(Styles.DROPDOWN);
@@ -20,6 +20,9 @@ package org.gwtbootstrap3.client.ui.base;
  * #L%
  */
 
+import org.gwtbootstrap3.client.BootstrapComponent;
+import org.gwtbootstrap3.client.GwtBootstrap3Styles;
+
 import com.google.gwt.dom.client.Document;
 
 /**
@@ -33,6 +36,10 @@ import com.google.gwt.dom.client.Document;
  */
 public abstract class AbstractInputGroupAddon extends ComplexWidget {
 
+    static {
+        GwtBootstrap3Styles.require(BootstrapComponent.INPUT_GROUPS);
+    }
+
     protected AbstractInputGroupAddon(final String styleName) {
         setElement(Document.get().createSpanElement());
         setStyleName(styleName);
@@ -60,7 +60,7 @@ public abstract class AbstractListItem extends ComplexWidget implements HasEnabl
 
     @Override
     public boolean isEnabled() {
-        return !StyleHelper.containsStyle(getStyleName(), Styles.DISABLED);
+        return !StyleHelper.hasStyleName(getStyleElement(), Styles.DISABLED);
     }
 
     @Override
@@ -0,0 +1,42 @@
+package org.gwtbootstrap3.client.ui.base;
+
+/*
+ * #%L
+ * GwtBootstrap3
+ * %%
+ * Copyright (C) 2013 - 2015 GwtBootstrap3
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.google.gwt.core.client.Callback;
+
+/**
+ * Supplies the content of a popover when it is first shown rather than when it is created.
+ * <p/>
+ * Implementations may complete the callback synchronously, or later once a server round trip has finished.
+ * Wrap a provider in a {@link ContentCache} to share the results between popovers.
+ *
+ * @see org.gwtbootstrap3.client.ui.Popover#setContentProvider(AsyncContentProvider, String)
+ */
+public interface AsyncContentProvider {
+
+    /**
+     * Loads the content for the given key.
+     *
+     * @param key      key identifying the content, e.g. the id of a table row
+     * @param callback must be completed exactly once, with either the content or the reason it could not be loaded
+     */
+    void getContent(String key, Callback<String, Throwable> callback);
+}
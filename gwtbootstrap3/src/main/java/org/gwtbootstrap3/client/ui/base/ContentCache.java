@@ -0,0 +1,178 @@
+package org.gwtbootstrap3.client.ui.base;
+
+/*
+ * #%L
+ * GwtBootstrap3
+ * %%
+ * Copyright (C) 2013 - 2015 GwtBootstrap3
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.gwt.core.client.Callback;
+
+/**
+ * Caches the results of an {@link AsyncContentProvider}.
+ * <p/>
+ * At most {@code maxSize} keys are kept, the least recently used key is evicted first. Entries optionally
+ * expire after a time to live. Requests for a key that is already being loaded wait for that request instead
+ * of starting another one. Failures are not cached, the next request for the key asks the provider again.
+ *
+ * <pre>
+ * ContentCache cache = new ContentCache(detailsService, 200);
+ * cache.setTimeToLiveMs(60000);
+ *
+ * popover.setContentProvider(cache, row.getId());
+ * </pre>
+ */
+public class ContentCache implements AsyncContentProvider {
+
+    private static class Entry {
+        private final String content;
+        private final long loadedAt;
+
+        private Entry(final String content, final long loadedAt) {
+            this.content = content;
+            this.loadedAt = loadedAt;
+        }
+    }
+
+    private final AsyncContentProvider provider;
+    private final Map<String, Entry> entries;
+    private final Map<String, List<Callback<String, Throwable>>> pending =
+            new HashMap<String, List<Callback<String, Throwable>>>();
+    private int timeToLiveMs = 0;
+
+    /**
+     * @param provider provider loading the content of keys that are not cached
+     * @param maxSize  maximum number of cached keys
+     */
+    public ContentCache(final AsyncContentProvider provider, final int maxSize) {
+        if (provider == null) {
+            throw new IllegalArgumentException("Provider must not be null");
+        }
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be at least 1: " + maxSize);
+        }
+        this.provider = provider;
+
+        // Access order, so the eldest entry is the least recently used one
+        entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Sets the time after which a cached entry is loaded again. Defaults to 0, entries never expire.
+     *
+     * @param timeToLiveMs time to live in milliseconds, 0 to keep entries until they are evicted
+     */
+    public void setTimeToLiveMs(final int timeToLiveMs) {
+        this.timeToLiveMs = timeToLiveMs;
+    }
+
+    public int getTimeToLiveMs() {
+        return timeToLiveMs;
+    }
+
+    @Override
+    public void getContent(final String key, final Callback<String, Throwable> callback) {
+        final Entry entry = entries.get(key);
+        if (entry != null) {
+            if (!isExpired(entry)) {
+                callback.onSuccess(entry.content);
+                return;
+            }
+            entries.remove(key);
+        }
+
+        List<Callback<String, Throwable>> waiting = pending.get(key);
+        if (waiting != null) {
+            waiting.add(callback);
+            return;
+        }
+
+        waiting = new ArrayList<Callback<String, Throwable>>();
+        waiting.add(callback);
+        pending.put(key, waiting);
+
+        provider.getContent(key, new Callback<String, Throwable>() {
+            @Override
+            public void onSuccess(final String content) {
+                final List<Callback<String, Throwable>> callbacks = pending.remove(key);
+                if (callbacks == null) {
+                    return;
+                }
+                entries.put(key, new Entry(content, now()));
+                for (final Callback<String, Throwable> c : callbacks) {
+                    c.onSuccess(content);
+                }
+            }
+
+            @Override
+            public void onFailure(final Throwable reason) {
+                final List<Callback<String, Throwable>> callbacks = pending.remove(key);
+                if (callbacks == null) {
+                    return;
+                }
+                for (final Callback<String, Throwable> c : callbacks) {
+                    c.onFailure(reason);
+                }
+            }
+        });
+    }
+
+    /**
+     * Removes the cached content of the given key, the next request loads it again.
+     *
+     * @param key key to remove
+     */
+    public void invalidate(final String key) {
+        entries.remove(key);
+    }
+
+    /**
+     * Removes all cached content. Requests that are still loading are not affected.
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * @return number of cached keys, including expired keys that were not requested since
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return current time in milliseconds, used to expire entries
+     */
+    protected long now() {
+        return System.currentTimeMillis();
+    }
+
+    private boolean isExpired(final Entry entry) {
+        return timeToLiveMs > 0 && now() - entry.loadedAt >= timeToLiveMs;
+    }
+}
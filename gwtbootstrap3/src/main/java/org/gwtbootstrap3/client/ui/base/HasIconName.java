@@ -0,0 +1,41 @@
+package org.gwtbootstrap3.client.ui.base;
+
+/*
+ * #%L
+ * GwtBootstrap3
+ * %%
+ * Copyright (C) 2013 - 2015 GwtBootstrap3
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * Sets the icon of a widget by its Font Awesome name, e.g. one of the
+ * {@link org.gwtbootstrap3.client.ui.constants.IconName} constants, instead of an
+ * {@link org.gwtbootstrap3.client.ui.constants.IconType}.
+ */
+public interface HasIconName {
+
+    /**
+     * Sets the icon, replacing an icon set by name or by type.
+     *
+     * @param iconName Font Awesome name of the icon, e.g. {@code fa-star}, or {@code null} for no icon
+     */
+    void setIconName(String iconName);
+
+    /**
+     * @return name of the icon, also if it was set by type, or {@code null}
+     */
+    String getIconName();
+}
@@ -37,7 +37,7 @@ import org.gwtbootstrap3.client.ui.constants.DeviceSize;
  */
 public interface HasResponsiveness {
     /**
-     * Sets the devices that the element is visible on
+     * Sets the devices that the element is visible on, replacing the devices set before
      *
      * @param deviceSize device size
      * @see org.gwtbootstrap3.client.ui.constants.DeviceSize
@@ -45,7 +45,7 @@ public interface HasResponsiveness {
     void setVisibleOn(DeviceSize deviceSize);
 
     /**
-     * Sets the devices that the element is hidden on
+     * Sets the devices that the element is hidden on, replacing the devices set before
      *
      * @param deviceSize device sizes
      * @see org.gwtbootstrap3.client.ui.constants.DeviceSize
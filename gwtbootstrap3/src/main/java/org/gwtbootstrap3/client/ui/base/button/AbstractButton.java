@@ -22,6 +22,10 @@ package org.gwtbootstrap3.client.ui.base.button;
 
 import java.util.List;
 
+import org.gwtbootstrap3.client.BootstrapComponent;
+import org.gwtbootstrap3.client.BootstrapPlugin;
+import org.gwtbootstrap3.client.GwtBootstrap3Scripts;
+import org.gwtbootstrap3.client.GwtBootstrap3Styles;
 import org.gwtbootstrap3.client.ui.base.ComplexWidget;
 import org.gwtbootstrap3.client.ui.base.HasActive;
 import org.gwtbootstrap3.client.ui.base.HasDataTarget;
@@ -36,7 +40,10 @@ import org.gwtbootstrap3.client.ui.constants.ButtonDismiss;
 import org.gwtbootstrap3.client.ui.constants.ButtonSize;
 import org.gwtbootstrap3.client.ui.constants.ButtonType;
 import org.gwtbootstrap3.client.ui.constants.Styles;
+import org.gwtbootstrap3.client.ui.impl.PluginImpl;
 
+import com.google.gwt.core.client.GWT;
+import com.google.gwt.core.client.Scheduler.ScheduledCommand;
 import com.google.gwt.dom.client.Document;
 import com.google.gwt.dom.client.Element;
 import com.google.gwt.dom.client.NativeEvent;
@@ -71,16 +78,22 @@ import com.google.gwt.user.client.ui.Widget;
 public abstract class AbstractButton extends ComplexWidget implements HasEnabled, HasActive, HasType<ButtonType>,
         HasSize<ButtonSize>, HasDataTarget, HasClickHandlers, Focusable, HasAllMouseHandlers {
 
+    static {
+        GwtBootstrap3Styles.require(BootstrapComponent.BUTTONS);
+    }
+
+    private static final PluginImpl PLUGIN = GWT.create(PluginImpl.class);
+
     public class ButtonStateHandler {
         private ButtonStateHandler() {
         }
 
         public void loading() {
-            button(getElement(), "loading");
+            button("loading");
         }
 
         public void reset() {
-            button(getElement(), "reset");
+            button("reset");
         }
 
         /**
@@ -89,7 +102,7 @@ public abstract class AbstractButton extends ComplexWidget implements HasEnabled
          * @param state Text state
          */
         public void reset(final String state) {
-            button(getElement(), state);
+            button(state);
         }
     }
 
@@ -279,7 +292,7 @@ public abstract class AbstractButton extends ComplexWidget implements HasEnabled
     }
 
     public void toggle() {
-        button(getElement(), "toggle");
+        button("toggle");
     }
 
     public ButtonStateHandler state() {
@@ -293,9 +306,12 @@ public abstract class AbstractButton extends ComplexWidget implements HasEnabled
 
     protected abstract Element createElement();
 
-    // @formatter:off
-
-    private native void button(final Element e, final String arg) /*-{
-        $wnd.jQuery(e).button(arg);
-    }-*/;
+    private void button(final String arg) {
+        GwtBootstrap3Scripts.whenLoaded(BootstrapPlugin.BUTTON, new ScheduledCommand() {
+            @Override
+            public void execute() {
+                PLUGIN.button(getElement(), arg);
+            }
+        });
+    }
 }
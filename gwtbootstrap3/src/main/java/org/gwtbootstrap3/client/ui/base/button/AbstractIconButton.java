@@ -21,6 +21,7 @@ package org.gwtbootstrap3.client.ui.base.button;
  */
 
 import org.gwtbootstrap3.client.ui.base.HasIcon;
+import org.gwtbootstrap3.client.ui.base.HasIconName;
 import org.gwtbootstrap3.client.ui.base.HasIconPosition;
 import org.gwtbootstrap3.client.ui.base.mixin.IconTextMixin;
 import org.gwtbootstrap3.client.ui.constants.ButtonType;
@@ -38,7 +39,7 @@ import com.google.gwt.user.client.ui.HasText;
  * @author Sven Jacobs
  * @see org.gwtbootstrap3.client.ui.Icon
  */
-public abstract class AbstractIconButton extends AbstractButton implements HasText, HasIcon, HasIconPosition {
+public abstract class AbstractIconButton extends AbstractButton implements HasText, HasIcon, HasIconName, HasIconPosition {
 
     IconTextMixin<AbstractIconButton> iconTextMixin = new IconTextMixin<AbstractIconButton>(this);
 
@@ -69,6 +70,16 @@ public abstract class AbstractIconButton extends AbstractButton implements HasTe
         return iconTextMixin.getIcon();
     }
 
+    @Override
+    public void setIconName(final String iconName) {
+        iconTextMixin.setIconName(iconName);
+    }
+
+    @Override
+    public String getIconName() {
+        return iconTextMixin.getIconName();
+    }
+
     @Override
     public void setIconPosition(final IconPosition iconPosition) {
         iconTextMixin.setIconPosition(iconPosition);
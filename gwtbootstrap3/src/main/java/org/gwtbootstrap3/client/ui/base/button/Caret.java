@@ -20,6 +20,8 @@ package org.gwtbootstrap3.client.ui.base.button;
  * #L%
  */
 
+import org.gwtbootstrap3.client.BootstrapComponent;
+import org.gwtbootstrap3.client.GwtBootstrap3Styles;
 import org.gwtbootstrap3.client.ui.base.HasResponsiveness;
 import org.gwtbootstrap3.client.ui.base.helper.StyleHelper;
 import org.gwtbootstrap3.client.ui.constants.DeviceSize;
@@ -34,6 +36,10 @@ import com.google.gwt.user.client.ui.Widget;
  */
 class Caret extends Widget implements HasResponsiveness {
 
+    static {
+        GwtBootstrap3Styles.require(BootstrapComponent.DROPDOWNS);
+    }
+
     public Caret() {
         setElement(Document.get().createSpanElement());
         setStyleName(Styles.CARET);
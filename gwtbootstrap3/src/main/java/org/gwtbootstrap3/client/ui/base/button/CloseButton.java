@@ -20,6 +20,8 @@ package org.gwtbootstrap3.client.ui.base.button;
  * #L%
  */
 
+import org.gwtbootstrap3.client.BootstrapComponent;
+import org.gwtbootstrap3.client.GwtBootstrap3Styles;
 import org.gwtbootstrap3.client.ui.constants.Styles;
 
 import com.google.gwt.dom.client.Document;
@@ -33,6 +35,10 @@ import com.google.gwt.dom.client.Element;
  */
 public class CloseButton extends AbstractButton {
 
+    static {
+        GwtBootstrap3Styles.require(BootstrapComponent.CLOSE);
+    }
+
     public CloseButton() {
         setStyleName(Styles.CLOSE);
         getElement().setInnerHTML("&times;");
@@ -3,6 +3,8 @@ package org.gwtbootstrap3.client.ui.base.form;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.gwtbootstrap3.client.BootstrapComponent;
+import org.gwtbootstrap3.client.GwtBootstrap3Styles;
 import org.gwtbootstrap3.client.ui.constants.Attributes;
 import org.gwtbootstrap3.client.ui.form.validator.HasValidators;
 
@@ -54,6 +56,10 @@ import com.google.gwt.user.client.ui.impl.FormPanelImplHost;
 public abstract class AbstractForm extends FormElementContainer implements
         FormPanelImplHost {
 
+    static {
+        GwtBootstrap3Styles.require(BootstrapComponent.FORMS);
+    }
+
     /**
      * Fired when a form has been submitted successfully.
      */
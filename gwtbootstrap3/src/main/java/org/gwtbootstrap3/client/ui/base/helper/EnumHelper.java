@@ -20,6 +20,9 @@ package org.gwtbootstrap3.client.ui.base.helper;
  * #L%
  */
 
+import java.util.HashMap;
+import java.util.Map;
+
 import com.google.gwt.dom.client.Style;
 
 /**
@@ -27,6 +30,11 @@ import com.google.gwt.dom.client.Style;
  */
 public final class EnumHelper {
 
+    /**
+     * Lazily built CSS class name to enum constant indexes, one per enum class.
+     */
+    private static final Map<Class<?>, Map<String, Enum<?>>> INDEXES = new HashMap<Class<?>, Map<String, Enum<?>>>();
+
     /**
      * Returns first enum constant found in at space-separated list of style names.
      *
@@ -45,16 +53,56 @@ public final class EnumHelper {
             return defaultValue;
         }
 
-        for (final Enum<? extends Style.HasCssName> constant : enumClass.getEnumConstants()) {
-            final Style.HasCssName anEnum = (Style.HasCssName) constant;
-            final String cssClass = anEnum.getCssName();
+        final Map<String, Enum<?>> index = getIndex(enumClass);
+        final int length = styleName.length();
+        Enum<?> match = null;
+        int start = -1;
+
+        // Single pass over the style names; the constant with the lowest ordinal wins,
+        // just like iterating over the enum constants would.
+        for (int i = 0; i <= length; i++) {
+            if (i == length || StyleHelper.isWhitespace(styleName.charAt(i))) {
+                if (start >= 0) {
+                    final Enum<?> constant = index.get(styleName.substring(start, i));
 
-            if (cssClass != null && StyleHelper.containsStyle(styleName, cssClass)) {
-                return (E) anEnum;
+                    if (constant != null && (match == null || constant.ordinal() < match.ordinal())) {
+                        match = constant;
+                    }
+                    start = -1;
+                }
+            } else if (start < 0) {
+                start = i;
             }
         }
 
-        return defaultValue;
+        return match != null ? (E) match : defaultValue;
+    }
+
+    /**
+     * Returns the CSS class name to enum constant index of an enum, building it on first use.
+     * If several constants share a CSS class name the first one is kept.
+     *
+     * @param enumClass Type of enum
+     * @return Index of non-empty CSS class names
+     */
+    static Map<String, Enum<?>> getIndex(final Class<?> enumClass) {
+        Map<String, Enum<?>> index = INDEXES.get(enumClass);
+
+        if (index == null) {
+            index = new HashMap<String, Enum<?>>();
+
+            for (final Object constant : enumClass.getEnumConstants()) {
+                final String cssClass = ((Style.HasCssName) constant).getCssName();
+
+                if (cssClass != null && !cssClass.isEmpty() && !index.containsKey(cssClass)) {
+                    index.put(cssClass, (Enum<?>) constant);
+                }
+            }
+
+            INDEXES.put(enumClass, index);
+        }
+
+        return index;
     }
 
     private EnumHelper() {
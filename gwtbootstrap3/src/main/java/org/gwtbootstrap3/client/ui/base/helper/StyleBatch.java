@@ -0,0 +1,221 @@
+package org.gwtbootstrap3.client.ui.base.helper;
+
+/*
+ * #%L
+ * GwtBootstrap3
+ * %%
+ * Copyright (C) 2013 - 2015 GwtBootstrap3
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.google.gwt.dom.client.Style;
+import com.google.gwt.user.client.ui.UIObject;
+
+/**
+ * Collects style name additions and removals for an UIObject and writes its class attribute once.
+ * <p/>
+ * The current style names are read when the batch is created, all operations are performed on that copy
+ * and {@link #apply()} writes the result back, but only if something actually changed.
+ * <pre>
+ * new StyleBatch(widget)
+ *         .addStyleName(Styles.ACTIVE)
+ *         .removeStyleName(Styles.DISABLED)
+ *         .addUniqueEnumStyleName(ButtonType.class, ButtonType.PRIMARY)
+ *         .apply();
+ * </pre>
+ *
+ * @see StyleHelper
+ */
+public final class StyleBatch {
+
+    private final UIObject uiObject;
+    private final List<String> styleNames;
+    private String original;
+    private boolean changed = false;
+
+    /**
+     * Creates a batch for the UIObject, reading its current style names.
+     *
+     * @param uiObject Object to update
+     */
+    public StyleBatch(final UIObject uiObject) {
+        this.uiObject = uiObject;
+        this.original = uiObject.getStyleName();
+        this.styleNames = split(original);
+    }
+
+    /**
+     * Adds the style name unless it is already present.
+     *
+     * @param styleName Style name
+     * @return this batch
+     */
+    public StyleBatch addStyleName(final String styleName) {
+        if (styleName != null && !styleName.isEmpty() && !styleNames.contains(styleName)) {
+            styleNames.add(styleName);
+            changed = true;
+        }
+        return this;
+    }
+
+    /**
+     * Removes the style name if present.
+     *
+     * @param styleName Style name
+     * @return this batch
+     */
+    public StyleBatch removeStyleName(final String styleName) {
+        if (styleName != null && styleNames.remove(styleName)) {
+            changed = true;
+        }
+        return this;
+    }
+
+    /**
+     * Adds or removes the style name.
+     *
+     * @param toggleStyle whether to add or remove the style name
+     * @param styleName   Style name
+     * @return this batch
+     */
+    public StyleBatch toggleStyleName(final boolean toggleStyle,
+                                      final String styleName) {
+        return toggleStyle ? addStyleName(styleName) : removeStyleName(styleName);
+    }
+
+    /**
+     * Adds enum value style name unless style is {@code null}.
+     *
+     * @param style Style name
+     * @return this batch
+     */
+    public <E extends Style.HasCssName> StyleBatch addEnumStyleName(final E style) {
+        return style != null ? addStyleName(style.getCssName()) : this;
+    }
+
+    /**
+     * Removes enum value style name unless style is {@code null}.
+     *
+     * @param style Style name
+     * @return this batch
+     */
+    public <E extends Style.HasCssName> StyleBatch removeEnumStyleName(final E style) {
+        return style != null ? removeStyleName(style.getCssName()) : this;
+    }
+
+    /**
+     * Removes all CSS style names specified by an enum.
+     *
+     * @param enumClass Enum representing CSS class names
+     * @return this batch
+     */
+    public <E extends Enum<? extends Style.HasCssName>> StyleBatch removeEnumStyleNames(final Class<E> enumClass) {
+        final Map<String, Enum<?>> index = EnumHelper.getIndex(enumClass);
+
+        for (int i = styleNames.size() - 1; i >= 0; i--) {
+            if (index.containsKey(styleNames.get(i))) {
+                styleNames.remove(i);
+                changed = true;
+            }
+        }
+        return this;
+    }
+
+    /**
+     * First removes all enum style constants and then adds the single one.
+     *
+     * @param enumClass Enum representing CSS class names
+     * @param style     Style name to add, may be {@code null}
+     * @return this batch
+     */
+    public <E extends Style.HasCssName, F extends Enum<? extends Style.HasCssName>> StyleBatch addUniqueEnumStyleName(final Class<F> enumClass,
+                                                                                                                      final E style) {
+        final String cssClass = style != null ? style.getCssName() : null;
+        final Map<String, Enum<?>> index = EnumHelper.getIndex(enumClass);
+        boolean present = false;
+
+        for (int i = styleNames.size() - 1; i >= 0; i--) {
+            final String styleName = styleNames.get(i);
+
+            if (styleName.equals(cssClass)) {
+                present = true;
+            } else if (index.containsKey(styleName)) {
+                styleNames.remove(i);
+                changed = true;
+            }
+        }
+
+        return present ? this : addStyleName(cssClass);
+    }
+
+    /**
+     * Writes the style names back to the UIObject if the operations changed them.
+     */
+    public void apply() {
+        if (!changed) {
+            return;
+        }
+
+        final StringBuilder builder = new StringBuilder();
+        for (final String styleName : styleNames) {
+            if (builder.length() > 0) {
+                builder.append(' ');
+            }
+            builder.append(styleName);
+        }
+
+        final String result = builder.toString();
+        if (!result.equals(original)) {
+            uiObject.setStyleName(result);
+            original = result;
+        }
+        changed = false;
+    }
+
+    /**
+     * Splits a space-separated list of style names, dropping duplicates.
+     */
+    private static List<String> split(final String styleNames) {
+        final List<String> result = new ArrayList<String>();
+
+        if (styleNames == null) {
+            return result;
+        }
+
+        final int length = styleNames.length();
+        int start = -1;
+
+        for (int i = 0; i <= length; i++) {
+            if (i == length || StyleHelper.isWhitespace(styleNames.charAt(i))) {
+                if (start >= 0) {
+                    final String styleName = styleNames.substring(start, i);
+
+                    if (!result.contains(styleName)) {
+                        result.add(styleName);
+                    }
+                    start = -1;
+                }
+            } else if (start < 0) {
+                start = i;
+            }
+        }
+
+        return result;
+    }
+}
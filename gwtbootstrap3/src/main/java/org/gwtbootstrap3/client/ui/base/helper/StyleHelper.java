@@ -23,6 +23,7 @@ package org.gwtbootstrap3.client.ui.base.helper;
 import org.gwtbootstrap3.client.ui.constants.DeviceSize;
 import org.gwtbootstrap3.client.ui.constants.Responsiveness;
 
+import com.google.gwt.dom.client.Element;
 import com.google.gwt.dom.client.Style;
 import com.google.gwt.user.client.ui.UIObject;
 
@@ -34,8 +35,20 @@ import com.google.gwt.user.client.ui.UIObject;
  */
 public final class StyleHelper {
 
+    private static final Responsiveness[] HIDDEN = {Responsiveness.HIDDEN_PRINT, Responsiveness.HIDDEN_XS,
+            Responsiveness.HIDDEN_SM, Responsiveness.HIDDEN_MD, Responsiveness.HIDDEN_LG};
+    private static final Responsiveness[] VISIBLE = {Responsiveness.VISIBLE_PRINT, Responsiveness.VISIBLE_XS,
+            Responsiveness.VISIBLE_SM, Responsiveness.VISIBLE_MD, Responsiveness.VISIBLE_LG};
+
+    // Precomputed classes per DeviceSize, indexed by ordinal
+    private static final Responsiveness[][] HIDDEN_ON = createResponsivenessTable(HIDDEN);
+    private static final Responsiveness[][] VISIBLE_ON = createResponsivenessTable(VISIBLE);
+
     /**
      * Convenience method for first removing all enum style constants and then adding the single one.
+     * <p/>
+     * The class attribute is written at most once, only touching the constants of the enum that are
+     * actually applied, so the cost does not depend on the size of the enum.
      *
      * @see #removeEnumStyleNames(com.google.gwt.user.client.ui.UIObject, Class)
      * @see #addEnumStyleName(com.google.gwt.user.client.ui.UIObject, com.google.gwt.dom.client.Style.HasCssName)
@@ -43,8 +56,7 @@ public final class StyleHelper {
     public static <E extends Style.HasCssName, F extends Enum<? extends Style.HasCssName>> void addUniqueEnumStyleName(final UIObject uiObject,
                                                                                                                        final Class<F> enumClass,
                                                                                                                        final E style) {
-        removeEnumStyleNames(uiObject, enumClass);
-        addEnumStyleName(uiObject, style);
+        new StyleBatch(uiObject).addUniqueEnumStyleName(enumClass, style).apply();
     }
 
     /**
@@ -56,14 +68,7 @@ public final class StyleHelper {
      */
     public static <E extends Enum<? extends Style.HasCssName>> void removeEnumStyleNames(final UIObject uiObject,
                                                                                          final Class<E> enumClass) {
-
-        for (final Enum<? extends Style.HasCssName> constant : enumClass.getEnumConstants()) {
-            final String cssClass = ((Style.HasCssName) constant).getCssName();
-
-            if (cssClass != null && !cssClass.isEmpty()) {
-                uiObject.removeStyleName(cssClass);
-            }
-        }
+        new StyleBatch(uiObject).removeEnumStyleNames(enumClass).apply();
     }
 
     /**
@@ -108,17 +113,59 @@ public final class StyleHelper {
             return false;
         }
 
-        final String[] styles = styleNames.split("\\s");
+        final int styleLength = style.length();
+        final int length = styleNames.length();
+
+        if (styleLength == 0) {
+            return false;
+        }
+
+        // A style containing whitespace can never match a single style name
+        for (int i = 0; i < styleLength; i++) {
+            if (isWhitespace(style.charAt(i))) {
+                return false;
+            }
+        }
+
+        // Scan for occurrences bounded by whitespace or the ends of the string, without allocating
+        int index = styleNames.indexOf(style);
+
+        while (index >= 0) {
+            final int end = index + styleLength;
 
-        for (final String s : styles) {
-            if (style.equals(s)) {
+            if ((index == 0 || isWhitespace(styleNames.charAt(index - 1)))
+                    && (end == length || isWhitespace(styleNames.charAt(end)))) {
                 return true;
             }
+
+            index = styleNames.indexOf(style, index + 1);
         }
 
         return false;
     }
 
+    /**
+     * Returns {@code true} if the element has the specified style. Uses {@code Element.classList} when the
+     * browser supports it, otherwise scans the element's class name.
+     *
+     * @param element Element to check, usually an UIObject's style element
+     * @param style   Style to look for
+     * @return True if contains style
+     */
+    public static boolean hasStyleName(final Element element,
+                                       final String style) {
+
+        if (element == null || style == null) {
+            return false;
+        }
+
+        if (hasClassList(element)) {
+            return classListContains(element, style);
+        }
+
+        return containsStyle(element.getClassName(), style);
+    }
+
     /**
      * Toggles a style name on a ui object
      *
@@ -137,79 +184,92 @@ public final class StyleHelper {
     }
 
     /**
-     * Sets the ui object to be hidden on the device size
+     * Sets the ui object to be hidden on the device size, replacing any hidden classes set before.
+     * Passing {@code null} removes all hidden classes.
      *
      * @param uiObject   object to be hidden on the device size
      * @param deviceSize device size
      */
     public static void setHiddenOn(final UIObject uiObject,
                                    final DeviceSize deviceSize) {
-        // Split the enum up by _ to get the different devices
-        // Separates the SM_MD into [SM, MD] so we can add the right styles
-        final String[] deviceString = deviceSize.name().split("_");
-
-        for (final String device : deviceString) {
-            // Case back to basic enum (PRINT, XS, SM, MD, LG)
-            final DeviceSize size = DeviceSize.valueOf(device);
-            switch (size) {
-                case PRINT:
-                    addEnumStyleName(uiObject, Responsiveness.HIDDEN_PRINT);
-                    break;
-                case XS:
-                    addEnumStyleName(uiObject, Responsiveness.HIDDEN_XS);
-                    break;
-                case SM:
-                    addEnumStyleName(uiObject, Responsiveness.HIDDEN_SM);
-                    break;
-                case MD:
-                    addEnumStyleName(uiObject, Responsiveness.HIDDEN_MD);
-                    break;
-                case LG:
-                    addEnumStyleName(uiObject, Responsiveness.HIDDEN_LG);
-                    break;
-                default:
-                    break;
-            }
-        }
+        setResponsiveness(uiObject, deviceSize, HIDDEN, HIDDEN_ON);
     }
 
     /**
-     * Sets the ui object to be visible on the device size
+     * Sets the ui object to be visible on the device size, replacing any visible classes set before.
+     * Passing {@code null} removes all visible classes.
      *
      * @param uiObject   object to be visible on the device size
      * @param deviceSize device size
      */
     public static void setVisibleOn(final UIObject uiObject,
                                     final DeviceSize deviceSize) {
-        // Split the enum up by _ to get the different devices
-        // Separates the SM_MD into [SM, MD] so we can add the right styles
-        final String[] deviceString = deviceSize.name().split("_");
-
-        for (final String device : deviceString) {
-            // Case back to basic enum (PRINT, XS, SM, MD, LG)
-            final DeviceSize size = DeviceSize.valueOf(device);
-            switch (size) {
-                case PRINT:
-                    addEnumStyleName(uiObject, Responsiveness.VISIBLE_PRINT);
-                    break;
-                case XS:
-                    addEnumStyleName(uiObject, Responsiveness.VISIBLE_XS);
-                    break;
-                case SM:
-                    addEnumStyleName(uiObject, Responsiveness.VISIBLE_SM);
-                    break;
-                case MD:
-                    addEnumStyleName(uiObject, Responsiveness.VISIBLE_MD);
-                    break;
-                case LG:
-                    addEnumStyleName(uiObject, Responsiveness.VISIBLE_LG);
-                    break;
-                default:
-                    break;
+        setResponsiveness(uiObject, deviceSize, VISIBLE, VISIBLE_ON);
+    }
+
+    private static void setResponsiveness(final UIObject uiObject,
+                                          final DeviceSize deviceSize,
+                                          final Responsiveness[] family,
+                                          final Responsiveness[][] table) {
+        final StyleBatch batch = new StyleBatch(uiObject);
+
+        for (final Responsiveness responsiveness : family) {
+            batch.removeEnumStyleName(responsiveness);
+        }
+
+        if (deviceSize != null) {
+            for (final Responsiveness responsiveness : table[deviceSize.ordinal()]) {
+                batch.addEnumStyleName(responsiveness);
+            }
+        }
+
+        batch.apply();
+    }
+
+    /**
+     * Builds the responsiveness classes for every {@link DeviceSize}, indexed by ordinal.
+     *
+     * @param basic Classes for the basic device sizes PRINT, XS, SM, MD and LG, in that order
+     * @return Table of classes per device size
+     */
+    private static Responsiveness[][] createResponsivenessTable(final Responsiveness[] basic) {
+        final DeviceSize[] deviceSizes = DeviceSize.values();
+        final Responsiveness[][] table = new Responsiveness[deviceSizes.length][];
+
+        for (final DeviceSize deviceSize : deviceSizes) {
+            // Separates the SM_MD into [SM, MD] so we can add the right styles
+            final String[] devices = deviceSize.name().split("_");
+            final Responsiveness[] classes = new Responsiveness[devices.length];
+
+            for (int i = 0; i < devices.length; i++) {
+                // The basic device sizes are the first constants of DeviceSize
+                classes[i] = basic[DeviceSize.valueOf(devices[i]).ordinal()];
             }
+
+            table[deviceSize.ordinal()] = classes;
         }
+
+        return table;
     }
 
+    /**
+     * Returns {@code true} if the character separates style names, matching the {@code \s} regex class.
+     *
+     * @param c Character to check
+     * @return True if whitespace
+     */
+    static boolean isWhitespace(final char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\f' || c == 0x0B;
+    }
+
+    private static native boolean hasClassList(final Element e) /*-{
+        return !!e.classList;
+    }-*/;
+
+    private static native boolean classListContains(final Element e, final String style) /*-{
+        return e.classList.contains(style);
+    }-*/;
+
     private StyleHelper() {
     }
 }
@@ -20,6 +20,8 @@ package org.gwtbootstrap3.client.ui.base.mixin;
  * #L%
  */
 
+import org.gwtbootstrap3.client.BootstrapPlugin;
+import org.gwtbootstrap3.client.GwtBootstrap3Scripts;
 import org.gwtbootstrap3.client.ui.base.HasDataToggle;
 import org.gwtbootstrap3.client.ui.constants.Attributes;
 import org.gwtbootstrap3.client.ui.constants.Toggle;
@@ -39,6 +41,9 @@ public class DataToggleMixin<T extends UIObject & HasDataToggle> extends Abstrac
     public void setDataToggle(final Toggle toggle) {
         if (toggle != null) {
             uiObject.getElement().setAttribute(Attributes.DATA_TOGGLE, toggle.getToggle());
+
+            // The data API only works once the plugin is loaded
+            GwtBootstrap3Scripts.require(getPlugin(toggle));
         } else {
             uiObject.getElement().removeAttribute(Attributes.DATA_TOGGLE);
         }
@@ -49,4 +54,20 @@ public class DataToggleMixin<T extends UIObject & HasDataToggle> extends Abstrac
         final String toggle = uiObject.getElement().getAttribute(Attributes.DATA_TOGGLE);
         return toggle != null ? Toggle.valueOf(toggle) : null;
     }
+
+    private static BootstrapPlugin getPlugin(final Toggle toggle) {
+        switch (toggle) {
+            case BUTTON:
+            case BUTTONS:
+                return BootstrapPlugin.BUTTON;
+            case COLLAPSE:
+                return BootstrapPlugin.COLLAPSE;
+            case DROPDOWN:
+                return BootstrapPlugin.DROPDOWN;
+            case TAB:
+                return BootstrapPlugin.TAB;
+            default:
+                return BootstrapPlugin.MODAL;
+        }
+    }
 }
@@ -39,8 +39,11 @@ public class HTMLMixin<T extends UIObject> extends TextMixin<T> {
     public void setHTML(final String html) {
         try {
             uiObject.getElement().setInnerHTML(html);
-        } catch (Exception e) {
-            // try using jQuery.html() for handling IE, etc.
+        } catch (RuntimeException e) {
+            // try using jQuery.html() for handling IE, etc. (jQuery may not be on the page in native plugin mode)
+            if (!isjQueryPresent()) {
+                throw e;
+            }
             setInnerHTML(uiObject.getElement(), html);
         }
     }
@@ -49,4 +52,8 @@ public class HTMLMixin<T extends UIObject> extends TextMixin<T> {
         $wnd.jQuery(e).html(html);
     }-*/;
 
+    private native boolean isjQueryPresent() /*-{
+        return (typeof $wnd['jQuery'] === 'function');
+    }-*/;
+
 }
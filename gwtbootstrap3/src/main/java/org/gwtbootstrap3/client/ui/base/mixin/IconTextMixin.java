@@ -23,12 +23,15 @@ package org.gwtbootstrap3.client.ui.base.mixin;
 import org.gwtbootstrap3.client.ui.Icon;
 import org.gwtbootstrap3.client.ui.base.ComplexWidget;
 import org.gwtbootstrap3.client.ui.base.HasIcon;
+import org.gwtbootstrap3.client.ui.base.HasIconName;
 import org.gwtbootstrap3.client.ui.base.HasIconPosition;
+import org.gwtbootstrap3.client.ui.base.helper.StyleBatch;
 import org.gwtbootstrap3.client.ui.constants.IconFlip;
 import org.gwtbootstrap3.client.ui.constants.IconPosition;
 import org.gwtbootstrap3.client.ui.constants.IconRotate;
 import org.gwtbootstrap3.client.ui.constants.IconSize;
 import org.gwtbootstrap3.client.ui.constants.IconType;
+import org.gwtbootstrap3.client.ui.constants.Styles;
 import org.gwtbootstrap3.client.ui.html.Text;
 
 import com.google.gwt.core.client.Scheduler;
@@ -40,13 +43,14 @@ import com.google.gwt.user.client.ui.HasText;
  * @author Sven Jacobs
  */
 public class IconTextMixin<T extends ComplexWidget & HasText & HasIcon & HasIconPosition> implements
-        HasText, HasIcon, HasIconPosition {
+        HasText, HasIcon, HasIconName, HasIconPosition {
 
     private final T widget;
     private final Text text = new Text();
     private final Text separator = new Text(" ");
     private Icon icon;
     private IconType iconType;
+    private String iconName;
     private IconPosition iconPosition = IconPosition.LEFT;
     private IconSize iconSize = IconSize.NONE;
     private IconFlip iconFlip = IconFlip.NONE;
@@ -56,18 +60,28 @@ public class IconTextMixin<T extends ComplexWidget & HasText & HasIcon & HasIcon
     private boolean iconBordered = false;
     private boolean iconLight = false;
     private boolean iconFixedWidth = false;
+    private boolean renderScheduled = false;
+    private IconPosition renderedIconPosition;
+    private boolean renderedWithText = false;
 
     public IconTextMixin(final T widget) {
         this.widget = widget;
     }
 
     public void addTextWidgetToParent() {
-        widget.add(text);
+        if (text.getParent() == null) {
+            widget.add(text);
+        }
     }
 
     @Override
     public void setText(final String text) {
         this.text.setText(text);
+
+        // The text widget is only part of the layout if there is text
+        if (icon != null && hasText() != renderedWithText) {
+            render();
+        }
     }
 
     @Override
@@ -78,12 +92,28 @@ public class IconTextMixin<T extends ComplexWidget & HasText & HasIcon & HasIcon
     @Override
     public void setIcon(final IconType iconType) {
         this.iconType = iconType;
+        this.iconName = null;
         render();
     }
 
     @Override
     public IconType getIcon() {
-        return icon == null ? null : icon.getType();
+        return iconType;
+    }
+
+    @Override
+    public void setIconName(final String iconName) {
+        this.iconName = iconName;
+        this.iconType = null;
+        render();
+    }
+
+    @Override
+    public String getIconName() {
+        if (iconName != null) {
+            return iconName;
+        }
+        return iconType != null ? iconType.getCssName() : null;
     }
 
     @Override
@@ -185,51 +215,92 @@ public class IconTextMixin<T extends ComplexWidget & HasText & HasIcon & HasIcon
         return iconFixedWidth;
     }
 
+    /**
+     * Renders the icon and text. Unattached widgets are rendered right away, attached widgets get at most one
+     * deferred render per event loop, no matter how many properties are changed.
+     */
     private void render() {
+        if (!widget.isAttached()) {
+            doRender();
+            return;
+        }
+
+        if (renderScheduled) {
+            return;
+        }
+
+        renderScheduled = true;
+
         // We defer to make sure the elements are available to manipulate their positions
         Scheduler.get().scheduleDeferred(new Scheduler.ScheduledCommand() {
             @Override
             public void execute() {
-                if (text.isAttached()) {
-                    text.removeFromParent();
-                }
-                if (separator.isAttached()) {
-                    separator.removeFromParent();
-                }
-
-                if (icon != null) {
-                    icon.removeFromParent();
-                }
-
-                icon = new Icon();
-                icon.setType(iconType);
-                icon.setSize(iconSize);
-                icon.setFlip(iconFlip);
-                icon.setRotate(iconRotate);
-                icon.setMuted(iconMuted);
-                icon.setSpin(iconSpin);
-                icon.setBorder(iconBordered);
-                icon.setLight(iconLight);
-                icon.setFixedWidth(iconFixedWidth);
-
-                // Since we are dealing with Icon/Text, we can insert them at the right position
-                // Helps on widgets like ButtonDropDown, where it has a caret added
-                int position = 0;
-
-                if (iconPosition == IconPosition.LEFT) {
-                    widget.insert(icon, position++);
-                    widget.insert(separator, position++);
-                }
-
-                if (text.getText() != null && text.getText().length() > 0) {
-                    widget.insert(text, position);
-                }
-
-                if (iconPosition == IconPosition.RIGHT) {
-                    widget.insert(separator, position++);
-                    widget.insert(icon, position);
-                }
+                renderScheduled = false;
+                doRender();
             }
         });
     }
+
+    private void doRender() {
+        final boolean hasText = hasText();
+        final boolean created = icon == null;
+
+        if (created) {
+            icon = new Icon();
+        }
+
+        // Icon swaps only the previous icon, so IconType's constants are never enumerated
+        if (iconName != null) {
+            icon.setName(iconName);
+        } else {
+            icon.setType(iconType);
+        }
+
+        // Only the icon styles that actually changed are written, with a single class attribute write
+        new StyleBatch(icon)
+                .toggleStyleName(iconMuted, Styles.ICON_MUTED)
+                .toggleStyleName(iconSpin, Styles.ICON_SPIN)
+                .toggleStyleName(iconBordered, Styles.ICON_BORDER)
+                .toggleStyleName(iconLight, Styles.ICON_LIGHT)
+                .toggleStyleName(iconFixedWidth, Styles.ICON_FIXED_WIDTH)
+                // The icon is reused, so null has to clear the previous size, flip and rotation
+                .addUniqueEnumStyleName(IconSize.class, iconSize != null ? iconSize : IconSize.NONE)
+                .addUniqueEnumStyleName(IconFlip.class, iconFlip != null ? iconFlip : IconFlip.NONE)
+                .addUniqueEnumStyleName(IconRotate.class, iconRotate != null ? iconRotate : IconRotate.NONE)
+                .apply();
+
+        // The widgets only need to be moved if the layout changed
+        if (!created && renderedIconPosition == iconPosition && renderedWithText == hasText) {
+            return;
+        }
+
+        text.removeFromParent();
+        separator.removeFromParent();
+        icon.removeFromParent();
+
+        // Since we are dealing with Icon/Text, we can insert them at the right position
+        // Helps on widgets like ButtonDropDown, where it has a caret added
+        int position = 0;
+
+        if (iconPosition == IconPosition.LEFT) {
+            widget.insert(icon, position++);
+            widget.insert(separator, position++);
+        }
+
+        if (hasText) {
+            widget.insert(text, position);
+        }
+
+        if (iconPosition == IconPosition.RIGHT) {
+            widget.insert(separator, position++);
+            widget.insert(icon, position);
+        }
+
+        renderedIconPosition = iconPosition;
+        renderedWithText = hasText;
+    }
+
+    private boolean hasText() {
+        return text.getText() != null && text.getText().length() > 0;
+    }
 }
@@ -0,0 +1,633 @@
+package org.gwtbootstrap3.client.ui.constants;
+
+/*
+ * #%L
+ * GwtBootstrap3
+ * %%
+ * Copyright (C) 2013 - 2015 GwtBootstrap3
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * Font Awesome icon names as plain string constants, an alternative to {@link IconType}.
+ * <p/>
+ * The constants are compile-time constants, so javac copies the names an application uses into its own classes
+ * and this class is never referenced at runtime. Unlike {@link IconType}, whose constants are all created as
+ * soon as one of them is used, only the names actually used end up in the compiled output.
+ * <pre>
+ * {@code
+ * new Icon().setName(IconName.STAR);
+ * button.setIconName(IconName.CHECK);
+ * }
+ * </pre>
+ *
+ * @see org.gwtbootstrap3.client.ui.Icon#setName(String)
+ * @see org.gwtbootstrap3.client.ui.base.HasIconName
+ */
+public final class IconName {
+    public static final String ADJUST = "fa-adjust";
+    public static final String ADN = "fa-adn";
+    public static final String ALIGN_CENTER = "fa-align-center";
+    public static final String ALIGN_JUSTIFY = "fa-align-justify";
+    public static final String ALIGN_LEFT = "fa-align-left";
+    public static final String ALIGN_RIGHT = "fa-align-right";
+    public static final String AMBULANCE = "fa-ambulance";
+    public static final String ANCHOR = "fa-anchor";
+    public static final String ANDROID = "fa-android";
+    public static final String ANGELLIST = "fa-angellist";
+    public static final String ANGLE_DOUBLE_DOWN = "fa-angle-double-down";
+    public static final String ANGLE_DOUBLE_LEFT = "fa-angle-double-left";
+    public static final String ANGLE_DOUBLE_RIGHT = "fa-angle-double-right";
+    public static final String ANGLE_DOUBLE_UP = "fa-angle-double-up";
+    public static final String ANGLE_DOWN = "fa-angle-down";
+    public static final String ANGLE_LEFT = "fa-angle-left";
+    public static final String ANGLE_RIGHT = "fa-angle-right";
+    public static final String ANGLE_UP = "fa-angle-up";
+    public static final String APPLE = "fa-apple";
+    public static final String ARCHIVE = "fa-archive";
+    public static final String AREA_CHART = "fa-area-chart";
+    public static final String ARROWS = "fa-arrows";
+    public static final String ARROWS_ALT = "fa-arrows-alt";
+    public static final String ARROWS_H = "fa-arrows-h";
+    public static final String ARROWS_V = "fa-arrows-v";
+    public static final String ARROW_CIRCLE_DOWN = "fa-arrow-circle-down";
+    public static final String ARROW_CIRCLE_LEFT = "fa-arrow-circle-left";
+    public static final String ARROW_CIRCLE_O_DOWN = "fa-arrow-circle-o-down";
+    public static final String ARROW_CIRCLE_O_LEFT = "fa-arrow-circle-o-left";
+    public static final String ARROW_CIRCLE_O_RIGHT = "fa-arrow-circle-o-right";
+    public static final String ARROW_CIRCLE_O_UP = "fa-arrow-circle-o-up";
+    public static final String ARROW_CIRCLE_RIGHT = "fa-arrow-circle-right";
+    public static final String ARROW_CIRCLE_UP = "fa-arrow-circle-up";
+    public static final String ARROW_DOWN = "fa-arrow-down";
+    public static final String ARROW_LEFT = "fa-arrow-left";
+    public static final String ARROW_RIGHT = "fa-arrow-right";
+    public static final String ARROW_UP = "fa-arrow-up";
+    public static final String ASTERISK = "fa-asterisk";
+    public static final String AT = "fa-at";
+    public static final String AUTOMOBILE = "fa-automobile";
+    public static final String BACKWARD = "fa-backward";
+    public static final String BAN = "fa-ban";
+    public static final String BANK = "fa-bank";
+    public static final String BARCODE = "fa-barcode";
+    public static final String BARS = "fa-bars";
+    public static final String BAR_CHART = "fa-bar-chart";
+    public static final String BAR_CHART_O = "fa-bar-chart-o";
+    public static final String BED = "fa-bed";
+    public static final String BEER = "fa-beer";
+    public static final String BEHANCE = "fa-behance";
+    public static final String BEHANCE_SQUARE = "fa-behance-square";
+    public static final String BELL = "fa-bell";
+    public static final String BELL_O = "fa-bell-o";
+    public static final String BELL_SLASH = "fa-bell-slash";
+    public static final String BELL_SLASH_O = "fa-bell-slash-o";
+    public static final String BICYCLE = "fa-bicycle";
+    public static final String BINOCULARS = "fa-binoculars";
+    public static final String BIRTHDAY_CAKE = "fa-birthday-cake";
+    public static final String BITBUCKET = "fa-bitbucket";
+    public static final String BITBUCKET_SQUARE = "fa-bitbucket-square";
+    public static final String BITCOIN = "fa-bitcoin";
+    public static final String BOLD = "fa-bold";
+    public static final String BOLT = "fa-bolt";
+    public static final String BOMB = "fa-bomb";
+    public static final String BOOK = "fa-book";
+    public static final String BOOKMARK = "fa-bookmark";
+    public static final String BOOKMARK_O = "fa-bookmark-o";
+    public static final String BRIEFCASE = "fa-briefcase";
+    public static final String BTC = "fa-btc";
+    public static final String BUG = "fa-bug";
+    public static final String BUILDING = "fa-building";
+    public static final String BUILDING_O = "fa-building-o";
+    public static final String BULLHORN = "fa-bullhorn";
+    public static final String BULLSEYE = "fa-bullseye";
+    public static final String BUS = "fa-bus";
+    public static final String BUYSELLADS = "fa-buysellads";
+    public static final String CAB = "fa-cab";
+    public static final String CALCULATOR = "fa-calculator";
+    public static final String CALENDAR = "fa-calendar";
+    public static final String CALENDAR_O = "fa-calendar-o";
+    public static final String CAMERA = "fa-camera";
+    public static final String CAMERA_RETRO = "fa-camera-retro";
+    public static final String CAR = "fa-car";
+    public static final String CARET_DOWN = "fa-caret-down";
+    public static final String CARET_LEFT = "fa-caret-left";
+    public static final String CARET_RIGHT = "fa-caret-right";
+    public static final String CARET_SQUARE_O_DOWN = "fa-caret-square-o-down";
+    public static final String CARET_SQUARE_O_LEFT = "fa-caret-square-o-left";
+    public static final String CARET_SQUARE_O_RIGHT = "fa-caret-square-o-right";
+    public static final String CARET_SQUARE_O_UP = "fa-caret-square-o-up";
+    public static final String CARET_UP = "fa-caret-up";
+    public static final String CART_ARROW_DOWN = "fa-cart-arrow-down";
+    public static final String CART_PLUS = "fa-cart-plus";
+    public static final String CC = "fa-cc";
+    public static final String CC_AMEX = "fa-cc-amex";
+    public static final String CC_DISCOVER = "fa-cc-discover";
+    public static final String CC_MASTERCARD = "fa-cc-mastercard";
+    public static final String CC_PAYPAL = "fa-cc-paypal";
+    public static final String CC_STRIPE = "fa-cc-stripe";
+    public static final String CC_VISA = "fa-cc-visa";
+    public static final String CERTIFICATE = "fa-certificate";
+    public static final String CHAIN = "fa-chain";
+    public static final String CHAIN_BROKEN = "fa-chain-broken";
+    public static final String CHECK = "fa-check";
+    public static final String CHECK_CIRCLE = "fa-check-circle";
+    public static final String CHECK_CIRCLE_O = "fa-check-circle-o";
+    public static final String CHECK_SQUARE = "fa-check-square";
+    public static final String CHECK_SQUARE_O = "fa-check-square-o";
+    public static final String CHEVRON_CIRCLE_DOWN = "fa-chevron-circle-down";
+    public static final String CHEVRON_CIRCLE_LEFT = "fa-chevron-circle-left";
+    public static final String CHEVRON_CIRCLE_RIGHT = "fa-chevron-circle-right";
+    public static final String CHEVRON_CIRCLE_UP = "fa-chevron-circle-up";
+    public static final String CHEVRON_DOWN = "fa-chevron-down";
+    public static final String CHEVRON_LEFT = "fa-chevron-left";
+    public static final String CHEVRON_RIGHT = "fa-chevron-right";
+    public static final String CHEVRON_UP = "fa-chevron-up";
+    public static final String CHILD = "fa-child";
+    public static final String CIRCLE = "fa-circle";
+    public static final String CIRCLE_O = "fa-circle-o";
+    public static final String CIRCLE_O_NOTCH = "fa-circle-o-notch";
+    public static final String CIRCLE_THIN = "fa-circle-thin";
+    public static final String CLIPBOARD = "fa-clipboard";
+    public static final String CLOCK_O = "fa-clock-o";
+    public static final String CLOSE = "fa-close";
+    public static final String CLOUD = "fa-cloud";
+    public static final String CLOUD_DOWNLOAD = "fa-cloud-download";
+    public static final String CLOUD_UPLOAD = "fa-cloud-upload";
+    public static final String CNY = "fa-cny";
+    public static final String CODE = "fa-code";
+    public static final String CODEPEN = "fa-codepen";
+    public static final String CODE_FORK = "fa-code-fork";
+    public static final String COFFEE = "fa-coffee";
+    public static final String COG = "fa-cog";
+    public static final String COGS = "fa-cogs";
+    public static final String COLUMNS = "fa-columns";
+    public static final String COMMENT = "fa-comment";
+    public static final String COMMENTS = "fa-comments";
+    public static final String COMMENTS_O = "fa-comments-o";
+    public static final String COMMENT_O = "fa-comment-o";
+    public static final String COMPASS = "fa-compass";
+    public static final String COMPRESS = "fa-compress";
+    public static final String CONNECTDEVELOP = "fa-connectdevelop";
+    public static final String COPY = "fa-copy";
+    public static final String COPYRIGHT = "fa-copyright";
+    public static final String CREDIT_CARD = "fa-credit-card";
+    public static final String CROP = "fa-crop";
+    public static final String CROSSHAIRS = "fa-crosshairs";
+    public static final String CSS3 = "fa-css3";
+    public static final String CUBE = "fa-cube";
+    public static final String CUBES = "fa-cubes";
+    public static final String CUT = "fa-cut";
+    public static final String CUTLERY = "fa-cutlery";
+    public static final String DASHCUBE = "fa-dashcube";
+    public static final String DASHBOARD = "fa-dashboard";
+    public static final String DATABASE = "fa-database";
+    public static final String DEDENT = "fa-dedent";
+    public static final String DELICIOUS = "fa-delicious";
+    public static final String DESKTOP = "fa-desktop";
+    public static final String DEVIANTART = "fa-deviantart";
+    public static final String DIAMOND = "fa-diamond";
+    public static final String DIGG = "fa-digg";
+    public static final String DOLLAR = "fa-dollar";
+    public static final String DOT_CIRCLE_O = "fa-dot-circle-o";
+    public static final String DOWNLOAD = "fa-download";
+    public static final String DRIBBBLE = "fa-dribbble";
+    public static final String DROPBOX = "fa-dropbox";
+    public static final String DRUPAL = "fa-drupal";
+    public static final String EDIT = "fa-edit";
+    public static final String EJECT = "fa-eject";
+    public static final String ELLIPSIS_H = "fa-ellipsis-h";
+    public static final String ELLIPSIS_V = "fa-ellipsis-v";
+    public static final String EMPIRE = "fa-empire";
+    public static final String ENVELOPE = "fa-envelope";
+    public static final String ENVELOPE_O = "fa-envelope-o";
+    public static final String ENVELOPE_SQUARE = "fa-envelope-square";
+    public static final String ERASER = "fa-eraser";
+    public static final String EUR = "fa-eur";
+    public static final String EURO = "fa-euro";
+    public static final String EXCHANGE = "fa-exchange";
+    public static final String EXCLAMATION = "fa-exclamation";
+    public static final String EXCLAMATION_CIRCLE = "fa-exclamation-circle";
+    public static final String EXCLAMATION_TRIANGLE = "fa-exclamation-triangle";
+    public static final String EXPAND = "fa-expand";
+    public static final String EXTERNAL_LINK = "fa-external-link";
+    public static final String EXTERNAL_LINK_SQUARE = "fa-external-link-square";
+    public static final String EYE = "fa-eye";
+    public static final String EYEDROPPER = "fa-eyedropper";
+    public static final String EYE_SLASH = "fa-eye-slash";
+    public static final String FACEBOOK = "fa-facebook";
+    public static final String FACEBOOK_OFFICIAL = "fa-facebook-official";
+    public static final String FACEBOOK_SQUARE = "fa-facebook-square";
+    public static final String FAST_BACKWARD = "fa-fast-backward";
+    public static final String FAST_FORWARD = "fa-fast-forward";
+    public static final String FAX = "fa-fax";
+    public static final String FEMALE = "fa-female";
+    public static final String FIGHTER_JET = "fa-fighter-jet";
+    public static final String FILE = "fa-file";
+    public static final String FILES_O = "fa-files-o";
+    public static final String FILE_ARCHIVE_O = "fa-file-archive-o";
+    public static final String FILE_AUDIO_O = "fa-file-audio-o";
+    public static final String FILE_CODE_O = "fa-file-code-o";
+    public static final String FILE_EXCEL_O = "fa-file-excel-o";
+    public static final String FILE_IMAGE_O = "fa-file-image-o";
+    public static final String FILE_MOVIE_O = "fa-file-movie-o";
+    public static final String FILE_O = "fa-file-o";
+    public static final String FILE_PDF_O = "fa-file-pdf-o";
+    public static final String FILE_PHOTO_O = "fa-file-photo-o";
+    public static final String FILE_PICTURE_O = "fa-file-picture-o";
+    public static final String FILE_POWERPOINT_O = "fa-file-powerpoint-o";
+    public static final String FILE_SOUND_O = "fa-file-sound-o";
+    public static final String FILE_TEXT = "fa-file-text";
+    public static final String FILE_TEXT_O = "fa-file-text-o";
+    public static final String FILE_VIDEO_O = "fa-file-video-o";
+    public static final String FILE_WORD_O = "fa-file-word-o";
+    public static final String FILE_ZIP_O = "fa-file-zip-o";
+    public static final String FILM = "fa-film";
+    public static final String FILTER = "fa-filter";
+    public static final String FIRE = "fa-fire";
+    public static final String FIRE_EXTINGUISHER = "fa-fire-extinguisher";
+    public static final String FLAG = "fa-flag";
+    public static final String FLAG_CHECKERED = "fa-flag-checkered";
+    public static final String FLAG_O = "fa-flag-o";
+    public static final String FLASH = "fa-flash";
+    public static final String FLASK = "fa-flask";
+    public static final String FLICKR = "fa-flickr";
+    public static final String FLOPPY_O = "fa-floppy-o";
+    public static final String FOLDER = "fa-folder";
+    public static final String FOLDER_O = "fa-folder-o";
+    public static final String FOLDER_OPEN = "fa-folder-open";
+    public static final String FOLDER_OPEN_O = "fa-folder-open-o";
+    public static final String FONT = "fa-font";
+    public static final String FORUMBEE = "fa-forumbee";
+    public static final String FORWARD = "fa-forward";
+    public static final String FOURSQUARE = "fa-foursquare";
+    public static final String FROWN_O = "fa-frown-o";
+    public static final String FUTBOL_O = "fa-futbol-o";
+    public static final String GAMEPAD = "fa-gamepad";
+    public static final String GAVEL = "fa-gavel";
+    public static final String GBP = "fa-gbp";
+    public static final String GE = "fa-ge";
+    public static final String GEAR = "fa-gear";
+    public static final String GEARS = "fa-gears";
+    public static final String GIFT = "fa-gift";
+    public static final String GIT = "fa-git";
+    public static final String GITHUB = "fa-github";
+    public static final String GITHUB_ALT = "fa-github-alt";
+    public static final String GITHUB_SQUARE = "fa-github-square";
+    public static final String GITTIP = "fa-gittip";
+    public static final String GIT_SQUARE = "fa-git-square";
+    public static final String GLASS = "fa-glass";
+    public static final String GLOBE = "fa-globe";
+    public static final String GOOGLE = "fa-google";
+    public static final String GOOGLE_PLUS = "fa-google-plus";
+    public static final String GOOGLE_PLUS_SQUARE = "fa-google-plus-square";
+    public static final String GOOGLE_WALLET = "fa-google-wallet";
+    public static final String GRADUATION_CAP = "fa-graduation-cap";
+    public static final String GROUP = "fa-group";
+    public static final String HACKER_NEWS = "fa-hacker-news";
+    public static final String HAND_O_DOWN = "fa-hand-o-down";
+    public static final String HAND_O_LEFT = "fa-hand-o-left";
+    public static final String HAND_O_RIGHT = "fa-hand-o-right";
+    public static final String HAND_O_UP = "fa-hand-o-up";
+    public static final String HEARTBEAT = "fa-heartbeat";
+    public static final String HDD_O = "fa-hdd-o";
+    public static final String HEADER = "fa-header";
+    public static final String HEADPHONES = "fa-headphones";
+    public static final String HEART = "fa-heart";
+    public static final String HEART_O = "fa-heart-o";
+    public static final String HISTORY = "fa-history";
+    public static final String HOME = "fa-home";
+    public static final String HOSPITAL_O = "fa-hospital-o";
+    public static final String HOTEL = "fa-hotel";
+    public static final String HTML5 = "fa-html5";
+    public static final String H_SQUARE = "fa-h-square";
+    public static final String ILS = "fa-ils";
+    public static final String IMAGE = "fa-image";
+    public static final String INBOX = "fa-inbox";
+    public static final String INDENT = "fa-indent";
+    public static final String INFO = "fa-info";
+    public static final String INFO_CIRCLE = "fa-info-circle";
+    public static final String INR = "fa-inr";
+    public static final String INSTAGRAM = "fa-instagram";
+    public static final String INSTITUTION = "fa-institution";
+    public static final String IOXHOST = "fa-ioxhost";
+    public static final String ITALIC = "fa-italic";
+    public static final String JOOMLA = "fa-joomla";
+    public static final String JPY = "fa-jpy";
+    public static final String JSFIDDLE = "fa-jsfiddle";
+    public static final String KEY = "fa-key";
+    public static final String KEYBOARD_O = "fa-keyboard-o";
+    public static final String KRW = "fa-krw";
+    public static final String LANGUAGE = "fa-language";
+    public static final String LAPTOP = "fa-laptop";
+    public static final String LASTFM = "fa-lastfm";
+    public static final String LASTFM_SQUARE = "fa-lastfm-square";
+    public static final String LEAF = "fa-leaf";
+    public static final String LEANPUB = "fa-leanpub";
+    public static final String LEGAL = "fa-legal";
+    public static final String LEMON_O = "fa-lemon-o";
+    public static final String LEVEL_DOWN = "fa-level-down";
+    public static final String LEVEL_UP = "fa-level-up";
+    public static final String LIFE_BOUY = "fa-life-bouy";
+    public static final String LIFE_BUOY = "fa-life-buoy";
+    public static final String LIFE_RING = "fa-life-ring";
+    public static final String LIFE_SAVER = "fa-life-saver";
+    public static final String LIGHTBULB_O = "fa-lightbulb-o";
+    public static final String LINE_CHART = "fa-line-chart";
+    public static final String LINK = "fa-link";
+    public static final String LINKEDIN = "fa-linkedin";
+    public static final String LINKEDIN_SQUARE = "fa-linkedin-square";
+    public static final String LINUX = "fa-linux";
+    public static final String LIST = "fa-list";
+    public static final String LIST_ALT = "fa-list-alt";
+    public static final String LIST_OL = "fa-list-ol";
+    public static final String LIST_UL = "fa-list-ul";
+    public static final String LOCATION_ARROW = "fa-location-arrow";
+    public static final String LOCK = "fa-lock";
+    public static final String LONG_ARROW_DOWN = "fa-long-arrow-down";
+    public static final String LONG_ARROW_LEFT = "fa-long-arrow-left";
+    public static final String LONG_ARROW_RIGHT = "fa-long-arrow-right";
+    public static final String LONG_ARROW_UP = "fa-long-arrow-up";
+    public static final String MAGIC = "fa-magic";
+    public static final String MAGNET = "fa-magnet";
+    public static final String MAIL_FORWARD = "fa-mail-forward";
+    public static final String MAIL_REPLY = "fa-mail-reply";
+    public static final String MAIL_REPLY_ALL = "fa-mail-reply-all";
+    public static final String MALE = "fa-male";
+    public static final String MAP_MARKER = "fa-map-marker";
+    public static final String MARS = "fa-mars";
+    public static final String MARS_DOUBLE = "fa-mars-double";
+    public static final String MARS_STROKE = "fa-mars-stroke";
+    public static final String MARS_STROKE_H = "fa-mars-stroke-h";
+    public static final String MARS_STROKE_V = "fa-mars-stroke-v";
+    public static final String MAXCDN = "fa-maxcdn";
+    public static final String MEANPATH = "fa-meanpath";
+    public static final String MEDIUM = "fa-medium";
+    public static final String MEDKIT = "fa-medkit";
+    public static final String MEH_O = "fa-meh-o";
+    public static final String MERCURY = "fa-mercury";
+    public static final String MICROPHONE = "fa-microphone";
+    public static final String MICROPHONE_SLASH = "fa-microphone-slash";
+    public static final String MINUS = "fa-minus";
+    public static final String MINUS_CIRCLE = "fa-minus-circle";
+    public static final String MINUS_SQUARE = "fa-minus-square";
+    public static final String MINUS_SQUARE_O = "fa-minus-square-o";
+    public static final String MOBILE = "fa-mobile";
+    public static final String MOBILE_PHONE = "fa-mobile-phone";
+    public static final String MONEY = "fa-money";
+    public static final String MOON_O = "fa-moon-o";
+    public static final String MORTAR_BOARD = "fa-mortar-board";
+    public static final String MOTORCYCLE = "fa-motorcycle";
+    public static final String MUSIC = "fa-music";
+    public static final String NAVICON = "fa-navicon";
+    public static final String NEUTER = "fa-neuter";
+    public static final String NEWSPAPER_O = "fa-newspaper-o";
+    public static final String OPENID = "fa-openid";
+    public static final String OUTDENT = "fa-outdent";
+    public static final String PAGELINES = "fa-pagelines";
+    public static final String PAINT_BRUSH = "fa-paint-brush";
+    public static final String PAPERCLIP = "fa-paperclip";
+    public static final String PAPER_PLANE = "fa-paper-plane";
+    public static final String PAPER_PLANE_O = "fa-paper-plane-o";
+    public static final String PARAGRAPH = "fa-paragraph";
+    public static final String PASTE = "fa-paste";
+    public static final String PAUSE = "fa-pause";
+    public static final String PAW = "fa-paw";
+    public static final String PAYPAL = "fa-paypal";
+    public static final String PENCIL = "fa-pencil";
+    public static final String PENCIL_SQUARE = "fa-pencil-square";
+    public static final String PENCIL_SQUARE_O = "fa-pencil-square-o";
+    public static final String PHONE = "fa-phone";
+    public static final String PHONE_SQUARE = "fa-phone-square";
+    public static final String PHOTO = "fa-photo";
+    public static final String PICTURE_O = "fa-picture-o";
+    public static final String PIED_PIPER = "fa-pied-piper";
+    public static final String PIED_PIPER_ALT = "fa-pied-piper-alt";
+    public static final String PIE_CHART = "fa-pie-chart";
+    public static final String PINTEREST = "fa-pinterest";
+    public static final String PINTEREST_P = "fa-pinterest-p";
+    public static final String PINTEREST_SQUARE = "fa-pinterest-square";
+    public static final String PLANE = "fa-plane";
+    public static final String PLAY = "fa-play";
+    public static final String PLAY_CIRCLE = "fa-play-circle";
+    public static final String PLAY_CIRCLE_O = "fa-play-circle-o";
+    public static final String PLUG = "fa-plug";
+    public static final String PLUS = "fa-plus";
+    public static final String PLUS_CIRCLE = "fa-plus-circle";
+    public static final String PLUS_SQUARE = "fa-plus-square";
+    public static final String PLUS_SQUARE_O = "fa-plus-square-o";
+    public static final String POWER_OFF = "fa-power-off";
+    public static final String PRINT = "fa-print";
+    public static final String PUZZLE_PIECE = "fa-puzzle-piece";
+    public static final String QQ = "fa-qq";
+    public static final String QRCODE = "fa-qrcode";
+    public static final String QUESTION = "fa-question";
+    public static final String QUESTION_CIRCLE = "fa-question-circle";
+    public static final String QUOTE_LEFT = "fa-quote-left";
+    public static final String QUOTE_RIGHT = "fa-quote-right";
+    public static final String RA = "fa-ra";
+    public static final String RANDOM = "fa-random";
+    public static final String REBEL = "fa-rebel";
+    public static final String RECYCLE = "fa-recycle";
+    public static final String REDDIT = "fa-reddit";
+    public static final String REDDIT_SQUARE = "fa-reddit-square";
+    public static final String REFRESH = "fa-refresh";
+    public static final String REMOVE = "fa-remove";
+    public static final String RENREN = "fa-renren";
+    public static final String REORDER = "fa-reorder";
+    public static final String REPEAT = "fa-repeat";
+    public static final String REPLY = "fa-reply";
+    public static final String REPLY_ALL = "fa-reply-all";
+    public static final String RETWEET = "fa-retweet";
+    public static final String RMB = "fa-rmb";
+    public static final String ROAD = "fa-road";
+    public static final String ROCKET = "fa-rocket";
+    public static final String ROTATE_LEFT = "fa-rotate-left";
+    public static final String ROTATE_RIGHT = "fa-rotate-right";
+    public static final String ROUBLE = "fa-rouble";
+    public static final String RSS = "fa-rss";
+    public static final String RSS_SQUARE = "fa-rss-square";
+    public static final String RUB = "fa-rub";
+    public static final String RUBLE = "fa-ruble";
+    public static final String RUPEE = "fa-rupee";
+    public static final String SAVE = "fa-save";
+    public static final String SCISSORS = "fa-scissors";
+    public static final String SEARCH = "fa-search";
+    public static final String SEARCH_MINUS = "fa-search-minus";
+    public static final String SEARCH_PLUS = "fa-search-plus";
+    public static final String SELLSY = "fa-sellsy";
+    public static final String SEND = "fa-send";
+    public static final String SEND_O = "fa-send-o";
+    public static final String SERVER = "fa-server";
+    public static final String SHARE = "fa-share";
+    public static final String SHARE_ALT = "fa-share-alt";
+    public static final String SHARE_ALT_SQUARE = "fa-share-alt-square";
+    public static final String SHARE_SQUARE = "fa-share-square";
+    public static final String SHARE_SQUARE_O = "fa-share-square-o";
+    public static final String SHEKEL = "fa-shekel";
+    public static final String SHEQEL = "fa-sheqel";
+    public static final String SHIELD = "fa-shield";
+    public static final String SHIP = "fa-ship";
+    public static final String SHIRTSINBULK = "fa-shirtsinbulk";
+    public static final String SHOPPING_CART = "fa-shopping-cart";
+    public static final String SIGNAL = "fa-signal";
+    public static final String SIGN_IN = "fa-sign-in";
+    public static final String SIGN_OUT = "fa-sign-out";
+    public static final String SIMPLYBUILT = "fa-simplybuilt";
+    public static final String SITEMAP = "fa-sitemap";
+    public static final String SKYATLAS = "fa-skyatlas";
+    public static final String SKYPE = "fa-skype";
+    public static final String SLACK = "fa-slack";
+    public static final String SLIDERS = "fa-sliders";
+    public static final String SLIDESHARE = "fa-slideshare";
+    public static final String SMILE_O = "fa-smile-o";
+    public static final String SOCCER_BALL_O = "fa-soccer-ball-o";
+    public static final String SORT = "fa-sort";
+    public static final String SORT_ALPHA_ASC = "fa-sort-alpha-asc";
+    public static final String SORT_ALPHA_DESC = "fa-sort-alpha-desc";
+    public static final String SORT_AMOUNT_ASC = "fa-sort-amount-asc";
+    public static final String SORT_AMOUNT_DESC = "fa-sort-amount-desc";
+    public static final String SORT_ASC = "fa-sort-asc";
+    public static final String SORT_DESC = "fa-sort-desc";
+    public static final String SORT_DOWN = "fa-sort-down";
+    public static final String SORT_NUMERIC_ASC = "fa-sort-numeric-asc";
+    public static final String SORT_NUMERIC_DESC = "fa-sort-numeric-desc";
+    public static final String SORT_UP = "fa-sort-up";
+    public static final String SOUNDCLOUD = "fa-soundcloud";
+    public static final String SPACE_SHUTTLE = "fa-space-shuttle";
+    public static final String SPINNER = "fa-spinner";
+    public static final String SPOON = "fa-spoon";
+    public static final String SPOTIFY = "fa-spotify";
+    public static final String SQUARE = "fa-square";
+    public static final String SQUARE_O = "fa-square-o";
+    public static final String STACK_EXCHANGE = "fa-stack-exchange";
+    public static final String STACK_OVERFLOW = "fa-stack-overflow";
+    public static final String STAR = "fa-star";
+    public static final String STAR_HALF = "fa-star-half";
+    public static final String STAR_HALF_EMPTY = "fa-star-half-empty";
+    public static final String STAR_HALF_FULL = "fa-star-half-full";
+    public static final String STAR_HALF_O = "fa-star-half-o";
+    public static final String STAR_O = "fa-star-o";
+    public static final String STEAM = "fa-steam";
+    public static final String STEAM_SQUARE = "fa-steam-square";
+    public static final String STEP_BACKWARD = "fa-step-backward";
+    public static final String STEP_FORWARD = "fa-step-forward";
+    public static final String STETHOSCOPE = "fa-stethoscope";
+    public static final String STOP = "fa-stop";
+    public static final String STREET_VIEW = "fa-street-view";
+    public static final String STRIKETHROUGH = "fa-strikethrough";
+    public static final String STUMBLEUPON = "fa-stumbleupon";
+    public static final String STUMBLEUPON_CIRCLE = "fa-stumbleupon-circle";
+    public static final String SUBSCRIPT = "fa-subscript";
+    public static final String SUBWAY = "fa-subway";
+    public static final String SUITCASE = "fa-suitcase";
+    public static final String SUN_O = "fa-sun-o";
+    public static final String SUPERSCRIPT = "fa-superscript";
+    public static final String SUPPORT = "fa-support";
+    public static final String TABLE = "fa-table";
+    public static final String TABLET = "fa-tablet";
+    public static final String TACHOMETER = "fa-tachometer";
+    public static final String TAG = "fa-tag";
+    public static final String TAGS = "fa-tags";
+    public static final String TASKS = "fa-tasks";
+    public static final String TAXI = "fa-taxi";
+    public static final String TENCENT_WEIBO = "fa-tencent-weibo";
+    public static final String TERMINAL = "fa-terminal";
+    public static final String TEXT_HEIGHT = "fa-text-height";
+    public static final String TEXT_WIDTH = "fa-text-width";
+    public static final String TH = "fa-th";
+    public static final String THUMBS_DOWN = "fa-thumbs-down";
+    public static final String THUMBS_O_DOWN = "fa-thumbs-o-down";
+    public static final String THUMBS_O_UP = "fa-thumbs-o-up";
+    public static final String THUMBS_UP = "fa-thumbs-up";
+    public static final String THUMB_TACK = "fa-thumb-tack";
+    public static final String TH_LARGE = "fa-th-large";
+    public static final String TH_LIST = "fa-th-list";
+    public static final String TICKET = "fa-ticket";
+    public static final String TIMES = "fa-times";
+    public static final String TIMES_CIRCLE = "fa-times-circle";
+    public static final String TIMES_CIRCLE_O = "fa-times-circle-o";
+    public static final String TINT = "fa-tint";
+    public static final String TOGGLE_DOWN = "fa-toggle-down";
+    public static final String TOGGLE_LEFT = "fa-toggle-left";
+    public static final String TOGGLE_OFF = "fa-toggle-off";
+    public static final String TOGGLE_ON = "fa-toggle-on";
+    public static final String TOGGLE_RIGHT = "fa-toggle-right";
+    public static final String TOGGLE_UP = "fa-toggle-up";
+    public static final String TRAIN = "fa-train";
+    public static final String TRANSGENDER = "fa-transgender";
+    public static final String TRANSGENDER_ALT = "fa-transgender-alt";
+    public static final String TRASH = "fa-trash";
+    public static final String TRASH_O = "fa-trash-o";
+    public static final String TREE = "fa-tree";
+    public static final String TRELLO = "fa-trello";
+    public static final String TROPHY = "fa-trophy";
+    public static final String TRUCK = "fa-truck";
+    public static final String TRY = "fa-try";
+    public static final String TTY = "fa-tty";
+    public static final String TUMBLR = "fa-tumblr";
+    public static final String TUMBLR_SQUARE = "fa-tumblr-square";
+    public static final String TURKISH_LIRA = "fa-turkish-lira";
+    public static final String TWITCH = "fa-twitch";
+    public static final String TWITTER = "fa-twitter";
+    public static final String TWITTER_SQUARE = "fa-twitter-square";
+    public static final String UMBRELLA = "fa-umbrella";
+    public static final String UNDERLINE = "fa-underline";
+    public static final String UNDO = "fa-undo";
+    public static final String UNIVERSITY = "fa-university";
+    public static final String UNLINK = "fa-unlink";
+    public static final String UNLOCK = "fa-unlock";
+    public static final String UNLOCK_ALT = "fa-unlock-alt";
+    public static final String UNSORTED = "fa-unsorted";
+    public static final String UPLOAD = "fa-upload";
+    public static final String USD = "fa-usd";
+    public static final String USER = "fa-user";
+    public static final String USERS = "fa-users";
+    public static final String USER_MD = "fa-user-md";
+    public static final String USER_PLUS = "fa-user-plus";
+    public static final String USER_SECRET = "fa-user-secret";
+    public static final String USER_TIMES = "fa-user-times";
+    public static final String VENUS = "fa-venus";
+    public static final String VENUS_DOUBLE = "fa-venus-double";
+    public static final String VENUS_MARS = "fa-venus-mars";
+    public static final String VIACOIN = "fa-viacoin";
+    public static final String VIDEO_CAMERA = "fa-video-camera";
+    public static final String VIMEO_SQUARE = "fa-vimeo-square";
+    public static final String VINE = "fa-vine";
+    public static final String VK = "fa-vk";
+    public static final String VOLUME_DOWN = "fa-volume-down";
+    public static final String VOLUME_OFF = "fa-volume-off";
+    public static final String VOLUME_UP = "fa-volume-up";
+    public static final String WARNING = "fa-warning";
+    public static final String WECHAT = "fa-wechat";
+    public static final String WEIBO = "fa-weibo";
+    public static final String WEIXIN = "fa-weixin";
+    public static final String WHATSAPP = "fa-whatsapp";
+    public static final String WHEELCHAIR = "fa-wheelchair";
+    public static final String WIFI = "fa-wifi";
+    public static final String WINDOWS = "fa-windows";
+    public static final String WON = "fa-won";
+    public static final String WORDPRESS = "fa-wordpress";
+    public static final String WRENCH = "fa-wrench";
+    public static final String XING = "fa-xing";
+    public static final String XING_SQUARE = "fa-xing-square";
+    public static final String YAHOO = "fa-yahoo";
+    public static final String YELP = "fa-yelp";
+    public static final String YEN = "fa-yen";
+    public static final String YOUTUBE = "fa-youtube";
+    public static final String YOUTUBE_PLAY = "fa-youtube-play";
+    public static final String YOUTUBE_SQUARE = "fa-youtube-square";
+
+    private IconName() {
+    }
+}
@@ -633,6 +633,14 @@ public enum IconType implements Type, Style.HasCssName {
         return cssClass;
     }
 
+    /**
+     * Looks up the icon type in a space-separated list of style names.
+     * <p/>
+     * Note that this keeps every constant in the compiled output, prefer tracking the {@link IconType} itself.
+     *
+     * @param styleName Space-separated list of styles
+     * @return First icon type found or {@code null}
+     */
     public static IconType fromStyleName(final String styleName) {
         return EnumHelper.fromStyleName(styleName, IconType.class, null);
     }
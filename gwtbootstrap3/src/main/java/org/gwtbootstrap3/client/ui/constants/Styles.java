@@ -162,6 +162,8 @@ public final class Styles {
 
     public static final String NEXT = "next";
 
+    public static final String OPEN = "open";
+
     public static final String PANEL = "panel";
     public static final String PANEL_HEADING = "panel-heading";
     public static final String PANEL_GROUP = "panel-group";
@@ -20,6 +20,8 @@ package org.gwtbootstrap3.client.ui.gwt;
  * #L%
  */
 
+import org.gwtbootstrap3.client.BootstrapComponent;
+import org.gwtbootstrap3.client.GwtBootstrap3Styles;
 import org.gwtbootstrap3.client.ui.constants.ButtonSize;
 import org.gwtbootstrap3.client.ui.constants.ButtonType;
 import org.gwtbootstrap3.client.ui.constants.IconType;
@@ -32,7 +34,12 @@ import com.google.gwt.user.client.ui.HasEnabled;
 
 public class ButtonCell extends com.google.gwt.cell.client.ButtonCell implements HasEnabled {
 
-    private IconType icon;
+    static {
+        GwtBootstrap3Styles.require(BootstrapComponent.BUTTONS);
+    }
+
+    // Style name of the icon, only the names actually used end up in the compiled output
+    private String iconName;
 
     private ButtonType type = ButtonType.DEFAULT;
 
@@ -51,7 +58,7 @@ public class ButtonCell extends com.google.gwt.cell.client.ButtonCell implements
 
     public ButtonCell(IconType icon) {
         this();
-        this.icon = icon;
+        setIcon(icon);
     }
 
     public ButtonCell(ButtonSize size) {
@@ -62,7 +69,7 @@ public class ButtonCell extends com.google.gwt.cell.client.ButtonCell implements
     public ButtonCell(ButtonType type, IconType icon) {
         this();
         this.type = type;
-        this.icon = icon;
+        setIcon(icon);
     }
 
     public ButtonCell(ButtonType type, ButtonSize size) {
@@ -73,17 +80,40 @@ public class ButtonCell extends com.google.gwt.cell.client.ButtonCell implements
 
     public ButtonCell(IconType icon, ButtonSize size) {
         this();
-        this.icon = icon;
+        setIcon(icon);
         this.size = size;
     }
 
     public ButtonCell(IconType icon, ButtonType type, ButtonSize size) {
         this();
-        this.icon = icon;
+        setIcon(icon);
         this.type = type;
         this.size = size;
     }
 
+    /**
+     * Sets the icon by type.
+     *
+     * @param icon Icon type, {@code null} for no icon
+     */
+    public void setIcon(IconType icon) {
+        this.iconName = icon != null ? icon.getCssName() : null;
+    }
+
+    /**
+     * Sets the icon by its Font Awesome name, e.g. one of the
+     * {@link org.gwtbootstrap3.client.ui.constants.IconName} constants.
+     *
+     * @param iconName name of the icon, {@code null} for no icon
+     */
+    public void setIconName(String iconName) {
+        this.iconName = iconName;
+    }
+
+    public String getIconName() {
+        return iconName;
+    }
+
     @Override
     public boolean isEnabled() {
         return enabled;
@@ -109,11 +139,11 @@ public class ButtonCell extends com.google.gwt.cell.client.ButtonCell implements
         }
 
         sb.appendHtmlConstant("<button type=\"button\" class=\"" + cssClasses + "\" tabindex=\"-1\"" + disabled + ">");
-        if (icon != null) {
+        if (iconName != null) {
             String iconHtml = new StringBuilder("<i class=\"") //
                     .append(Styles.FONT_AWESOME_BASE) //
                     .append(" ") //
-                    .append(icon.getCssName()) //
+                    .append(iconName) //
                     .append("\"></i> ") //
                     .toString();
             sb.appendHtmlConstant(iconHtml);
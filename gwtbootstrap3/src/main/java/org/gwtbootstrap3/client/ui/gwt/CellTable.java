@@ -20,6 +20,8 @@ package org.gwtbootstrap3.client.ui.gwt;
  * #L%
  */
 
+import org.gwtbootstrap3.client.BootstrapComponent;
+import org.gwtbootstrap3.client.GwtBootstrap3Styles;
 import org.gwtbootstrap3.client.ui.base.HasResponsiveness;
 import org.gwtbootstrap3.client.ui.base.helper.StyleHelper;
 import org.gwtbootstrap3.client.ui.constants.DeviceSize;
@@ -34,6 +36,11 @@ import com.google.gwt.view.client.ProvidesKey;
  * @author Joshua Godi
  */
 public class CellTable<T> extends com.google.gwt.user.cellview.client.CellTable<T> implements HasResponsiveness {
+
+    static {
+        GwtBootstrap3Styles.require(BootstrapComponent.TABLES);
+    }
+
     private static final int DEFAULT_PAGESIZE = 15;
     private static Resources DEFAULT_RESOURCES;
 
@@ -84,7 +84,7 @@ public class UnorderedList extends ComplexWidget {
      * @return true/false for unstyled or not
      */
     public boolean isUnstyled() {
-        return StyleHelper.containsStyle(Styles.UNSTYLED, getStyleName());
+        return StyleHelper.hasStyleName(getStyleElement(), Styles.UNSTYLED);
     }
 
     /**
@@ -102,6 +102,6 @@ public class UnorderedList extends ComplexWidget {
      * @return true/false for inline or not
      */
     public boolean isInline() {
-        return StyleHelper.containsStyle(Styles.LIST_INLINE, getStyleName());
+        return StyleHelper.hasStyleName(getStyleElement(), Styles.LIST_INLINE);
     }
 }
@@ -0,0 +1,50 @@
+package org.gwtbootstrap3.client.ui.impl;
+
+/*
+ * #%L
+ * GwtBootstrap3
+ * %%
+ * Copyright (C) 2013 - 2015 GwtBootstrap3
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.google.gwt.core.client.JavaScriptObject;
+
+/**
+ * Options of Bootstrap's carousel plugin.
+ *
+ * @see <a href="http://getbootstrap.com/javascript/#carousel-options">Carousel options</a>
+ */
+public class CarouselOptions extends PluginOptions {
+
+    public static CarouselOptions create() {
+        return JavaScriptObject.createObject().cast();
+    }
+
+    protected CarouselOptions() {
+    }
+
+    public final void setInterval(final int interval) {
+        set("interval", interval);
+    }
+
+    public final void setPause(final String pause) {
+        set("pause", pause);
+    }
+
+    public final void setWrap(final boolean wrap) {
+        set("wrap", wrap);
+    }
+}
@@ -0,0 +1,167 @@
+package org.gwtbootstrap3.client.ui.impl;
+
+/*
+ * #%L
+ * GwtBootstrap3
+ * %%
+ * Copyright (C) 2013 - 2015 GwtBootstrap3
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.dom.client.Element;
+
+/**
+ * A single instance of Bootstrap's tooltip or popover plugin serving every descendant of a container matching a
+ * selector. One set of delegated listeners on the container retargets the instance to the descendant being
+ * hovered, focused or clicked, and the instance's tip element is reused for all of them.
+ */
+public class DelegatedTooltip extends JavaScriptObject {
+
+    /**
+     * Provides the title or content for a descendant, called each time the tip is shown for it.
+     */
+    public interface Provider {
+        String get(Element target);
+    }
+
+    /**
+     * Creates the plugin instance and binds the delegated listeners.
+     *
+     * @param plugin    {@code tooltip} or {@code popover}
+     * @param container Element to bind the listeners to
+     * @param selector  Selector of the descendants showing the tip
+     * @param options   Options of the plugin; its trigger selects the listeners
+     * @param title     Provider of the title
+     * @param content   Provider of the content, only used by popovers
+     * @return the instance
+     */
+    public static native DelegatedTooltip create(final String plugin,
+                                                 final Element container,
+                                                 final String selector,
+                                                 final TooltipOptions options,
+                                                 final Provider title,
+                                                 final Provider content) /*-{
+        var $ = $wnd.jQuery;
+        var triggers = (options.trigger || 'hover focus').split(' ');
+        var settings = $.extend({}, options, { trigger: 'manual' });
+
+        settings.title = $entry(function () {
+            return title.@org.gwtbootstrap3.client.ui.impl.DelegatedTooltip.Provider::get(Lcom/google/gwt/dom/client/Element;)(this);
+        });
+        if (content) {
+            settings.content = $entry(function () {
+                return content.@org.gwtbootstrap3.client.ui.impl.DelegatedTooltip.Provider::get(Lcom/google/gwt/dom/client/Element;)(this);
+            });
+        }
+
+        // Without a selector the plugin moves the element's title to data-original-title, the container keeps its own
+        var $container = $(container);
+        var containerTitle = $container.attr('title');
+        var originalTitle = $container.attr('data-original-title');
+        var tip = new $.fn[plugin].Constructor(container, settings);
+        containerTitle === undefined ? $container.removeAttr('title') : $container.attr('title', containerTitle);
+        originalTitle === undefined ? $container.removeAttr('data-original-title') :
+            $container.attr('data-original-title', originalTitle);
+        tip.delegated = { container: container, namespace: '.' + plugin + 'Delegated' };
+
+        var target = function (e) {
+            if (tip.$element[0] !== e) {
+                @org.gwtbootstrap3.client.ui.impl.DelegatedTooltip::release(*)(tip);
+                tip.$element = $(e);
+            }
+        };
+        var enter = function () {
+            target(this);
+            tip.enter(tip);
+        };
+        var leave = function () {
+            if (tip.$element[0] === this) {
+                tip.leave(tip);
+            }
+        };
+
+        var namespace = tip.delegated.namespace;
+        for (var i = 0; i < triggers.length; i++) {
+            if (triggers[i] === 'click') {
+                $container.on('click' + namespace, selector, function () {
+                    target(this);
+                    tip.tip().hasClass('in') ? tip.leave(tip) : tip.enter(tip);
+                });
+            } else if (triggers[i] === 'hover') {
+                $container.on('mouseenter' + namespace, selector, enter);
+                $container.on('mouseleave' + namespace, selector, leave);
+            } else if (triggers[i] === 'focus') {
+                $container.on('focusin' + namespace, selector, enter);
+                $container.on('focusout' + namespace, selector, leave);
+            }
+        }
+
+        return tip;
+    }-*/;
+
+    /**
+     * Hides the tip right away, without animation, firing the hide and hidden events on its current target.
+     */
+    private static native void release(final DelegatedTooltip tip) /*-{
+        var $tip = tip.tip();
+        $wnd.clearTimeout(tip.timeout);
+
+        // Drops the completion of a running show or hide animation, hiding is completed below
+        $tip.off('bsTransitionEnd');
+
+        if ($tip.hasClass('in')) {
+            $tip.removeClass('fade');
+            tip.hide();
+        } else if ($tip[0].parentNode) {
+            $tip.detach();
+            tip.$element.removeAttr('aria-describedby').trigger('hidden.bs.' + tip.type);
+        }
+        tip.hoverState = null;
+    }-*/;
+
+    protected DelegatedTooltip() {
+    }
+
+    /**
+     * Hides the tip right away.
+     */
+    public final void hide() {
+        release(this);
+    }
+
+    /**
+     * Reads the title and content again if the tip is shown for the target, e.g. once they were loaded
+     * asynchronously.
+     *
+     * @param target Descendant the tip may be shown for
+     */
+    public final native void refresh(final Element target) /*-{
+        var $tip = this.$tip;
+        if (this.$element[0] === target && $tip && $tip.hasClass('in')) {
+            @org.gwtbootstrap3.client.ui.impl.TooltipUpdater::patch(*)(this, $tip);
+        }
+    }-*/;
+
+    /**
+     * Hides the tip, removes it and unbinds the delegated listeners, along with any other listener bound to the
+     * container in their {@code .<plugin>Delegated} namespace.
+     */
+    public final native void destroy() /*-{
+        @org.gwtbootstrap3.client.ui.impl.DelegatedTooltip::release(*)(this);
+        this.tip().remove();
+        $wnd.jQuery(this.delegated.container).off(this.delegated.namespace);
+    }-*/;
+}
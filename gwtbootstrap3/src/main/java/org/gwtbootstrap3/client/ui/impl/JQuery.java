@@ -0,0 +1,119 @@
+package org.gwtbootstrap3.client.ui.impl;
+
+/*
+ * #%L
+ * GwtBootstrap3
+ * %%
+ * Copyright (C) 2013 - 2015 GwtBootstrap3
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.dom.client.Element;
+
+/**
+ * Typed binding of a jQuery object, limited to event binding and Bootstrap's plugins. Replaces JSNI snippets
+ * building option objects field by field and passing plugin names around as strings.
+ */
+public class JQuery extends JavaScriptObject {
+
+    public static native JQuery wrap(final Element e) /*-{
+        return $wnd.jQuery(e);
+    }-*/;
+
+    public static native JQuery select(final String selector) /*-{
+        return $wnd.jQuery(selector);
+    }-*/;
+
+    protected JQuery() {
+    }
+
+    public final native void on(final String type, final PluginImpl.Handler handler) /*-{
+        this.on(type, function (evt) {
+            handler.@org.gwtbootstrap3.client.ui.impl.PluginImpl.Handler::onEvent(Lcom/google/gwt/user/client/Event;)(evt);
+        });
+    }-*/;
+
+    public final native void off(final String type) /*-{
+        this.off(type);
+    }-*/;
+
+    /**
+     * Runs the jQuery handlers bound to the event, without bubbling it or running the browser's default action.
+     */
+    public final native void triggerHandler(final String type) /*-{
+        this.triggerHandler(type);
+    }-*/;
+
+    public final native void affix(final AffixOptions options) /*-{
+        this.affix(options);
+    }-*/;
+
+    public final native void alert(final String method) /*-{
+        this.alert(method);
+    }-*/;
+
+    public final native void button(final String method) /*-{
+        this.button(method);
+    }-*/;
+
+    public final native void carousel(final CarouselOptions options) /*-{
+        this.carousel(options);
+    }-*/;
+
+    public final native void carousel(final String method) /*-{
+        this.carousel(method);
+    }-*/;
+
+    public final native void carousel(final int slideNumber) /*-{
+        this.carousel(slideNumber);
+    }-*/;
+
+    public final native void collapse(final String method) /*-{
+        this.collapse(method);
+    }-*/;
+
+    public final native void modal(final String method) /*-{
+        this.modal(method);
+    }-*/;
+
+    public final native void popover(final PopoverOptions options) /*-{
+        this.popover(options);
+    }-*/;
+
+    public final native void popover(final String method) /*-{
+        this.popover(method);
+    }-*/;
+
+    public final native void scrollspy(final ScrollSpyOptions options) /*-{
+        this.scrollspy(options);
+    }-*/;
+
+    public final native void scrollspy(final String method) /*-{
+        this.scrollspy(method);
+    }-*/;
+
+    public final native void tab(final String method) /*-{
+        this.tab(method);
+    }-*/;
+
+    public final native void tooltip(final TooltipOptions options) /*-{
+        this.tooltip(options);
+    }-*/;
+
+    public final native void tooltip(final String method) /*-{
+        this.tooltip(method);
+    }-*/;
+}
@@ -0,0 +1,74 @@
+package org.gwtbootstrap3.client.ui.impl;
+
+/*
+ * #%L
+ * GwtBootstrap3
+ * %%
+ * Copyright (C) 2013 - 2015 GwtBootstrap3
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.gwtbootstrap3.client.ui.constants.Styles;
+
+import com.google.gwt.core.client.Scheduler.ScheduledCommand;
+import com.google.gwt.dom.client.Element;
+
+/**
+ * Native port of Bootstrap's alert plugin.
+ */
+final class NativeAlert {
+
+    private static final int TRANSITION_DURATION = 150;
+
+    static void command(final Element e, final String method) {
+        if ("close".equals(method)) {
+            close(e);
+        }
+    }
+
+    /**
+     * Closes the alert referenced by the element's {@code data-target} or {@code href}, or else the alert
+     * containing the element.
+     */
+    static void close(final Element e) {
+        Element alert = NativeDom.getTarget(e);
+        if (alert == null) {
+            alert = NativeDom.closestWithClass(e, Styles.ALERT);
+        }
+        if (alert == null || !NativeDom.trigger(alert, "close.bs.alert", null)) {
+            return;
+        }
+
+        final Element closing = alert;
+        final ScheduledCommand remove = new ScheduledCommand() {
+            @Override
+            public void execute() {
+                closing.removeFromParent();
+                NativeDom.trigger(closing, "closed.bs.alert", null);
+            }
+        };
+
+        closing.removeClassName(Styles.IN);
+
+        if (closing.hasClassName(Styles.FADE)) {
+            NativeDom.onTransitionEnd(closing, TRANSITION_DURATION, remove);
+        } else {
+            remove.execute();
+        }
+    }
+
+    private NativeAlert() {
+    }
+}
@@ -0,0 +1,162 @@
+package org.gwtbootstrap3.client.ui.impl;
+
+/*
+ * #%L
+ * GwtBootstrap3
+ * %%
+ * Copyright (C) 2013 - 2015 GwtBootstrap3
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.gwtbootstrap3.client.ui.constants.Attributes;
+import org.gwtbootstrap3.client.ui.constants.Styles;
+
+import com.google.gwt.core.client.Scheduler;
+import com.google.gwt.core.client.Scheduler.ScheduledCommand;
+import com.google.gwt.dom.client.Document;
+import com.google.gwt.dom.client.Element;
+import com.google.gwt.dom.client.InputElement;
+import com.google.gwt.dom.client.NodeList;
+
+/**
+ * Native port of Bootstrap's button plugin.
+ */
+final class NativeButton {
+
+    private static final String LOADING = "loading";
+    private static final String LOADING_TEXT = "loading...";
+    private static final String RESET = "reset";
+    private static final String RESET_TEXT = "__gwtBootstrap3ResetText";
+    private static final String IS_LOADING = "__gwtBootstrap3Loading";
+
+    static void command(final Element e, final String method) {
+        if ("toggle".equals(method)) {
+            toggle(e);
+        } else {
+            setState(e, method);
+        }
+    }
+
+    static void toggle(final Element e) {
+        boolean changed = true;
+        final Element group = getGroup(e);
+
+        if (group != null) {
+            final Element input = NativeDom.selectFirst(e, "input");
+            if (input != null && "radio".equals(input.getPropertyString("type"))) {
+                if (input.getPropertyBoolean("checked") && e.hasClassName(Styles.ACTIVE)) {
+                    changed = false;
+                } else {
+                    final NodeList<Element> actives = NativeDom.select(group, "." + Styles.ACTIVE);
+                    for (int i = 0; i < actives.getLength(); i++) {
+                        actives.getItem(i).removeClassName(Styles.ACTIVE);
+                    }
+                }
+            }
+            if (changed && input != null) {
+                InputElement.as(input).setChecked(!e.hasClassName(Styles.ACTIVE));
+                input.dispatchEvent(Document.get().createChangeEvent());
+            }
+        } else {
+            e.setAttribute("aria-pressed", Boolean.toString(!e.hasClassName(Styles.ACTIVE)));
+        }
+
+        if (changed) {
+            if (e.hasClassName(Styles.ACTIVE)) {
+                e.removeClassName(Styles.ACTIVE);
+            } else {
+                e.addClassName(Styles.ACTIVE);
+            }
+        }
+    }
+
+    /**
+     * Swaps the text of the button to the one of the state, taken from its {@code data-<state>-text} attribute.
+     * The {@code loading} state disables the button as well, {@code reset} restores the original text.
+     */
+    static void setState(final Element e, final String state) {
+        final boolean input = "input".equalsIgnoreCase(e.getTagName());
+
+        if (e.getPropertyString(RESET_TEXT) == null) {
+            e.setPropertyString(RESET_TEXT, input ? InputElement.as(e).getValue() : e.getInnerHTML());
+        }
+
+        Scheduler.get().scheduleDeferred(new ScheduledCommand() {
+            @Override
+            public void execute() {
+                final String text = getStateText(e, state);
+                if (text != null) {
+                    if (input) {
+                        InputElement.as(e).setValue(text);
+                    } else {
+                        e.setInnerHTML(text);
+                    }
+                }
+
+                if (LOADING.equals(state)) {
+                    e.setPropertyBoolean(IS_LOADING, true);
+                    e.addClassName(Styles.DISABLED);
+                    e.setAttribute(Styles.DISABLED, Styles.DISABLED);
+                } else if (e.getPropertyBoolean(IS_LOADING)) {
+                    e.setPropertyBoolean(IS_LOADING, false);
+                    e.removeClassName(Styles.DISABLED);
+                    e.removeAttribute(Styles.DISABLED);
+                }
+            }
+        });
+    }
+
+    /**
+     * Returns the closest {@code data-toggle="buttons"} group of the button, or {@code null}.
+     */
+    private static Element getGroup(final Element e) {
+        for (Element current = e; current != null; current = current.getParentElement()) {
+            if ("buttons".equals(current.getAttribute(Attributes.DATA_TOGGLE))) {
+                return current;
+            }
+        }
+        return null;
+    }
+
+    private static String getStateText(final Element e, final String state) {
+        final String attribute = "data-" + toDashed(state) + "-text";
+        if (e.hasAttribute(attribute)) {
+            return e.getAttribute(attribute);
+        }
+        if (RESET.equals(state)) {
+            return e.getPropertyString(RESET_TEXT);
+        }
+        return LOADING.equals(state) ? LOADING_TEXT : null;
+    }
+
+    /**
+     * Converts a camel case state to the dashed form used in attribute names, like jQuery's data() does.
+     */
+    private static String toDashed(final String state) {
+        final StringBuilder sb = new StringBuilder(state.length() + 4);
+        for (int i = 0; i < state.length(); i++) {
+            final char c = state.charAt(i);
+            if (Character.isUpperCase(c)) {
+                sb.append('-').append(Character.toLowerCase(c));
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    private NativeButton() {
+    }
+}
@@ -0,0 +1,211 @@
+package org.gwtbootstrap3.client.ui.impl;
+
+/*
+ * #%L
+ * GwtBootstrap3
+ * %%
+ * Copyright (C) 2013 - 2015 GwtBootstrap3
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.gwtbootstrap3.client.ui.constants.Attributes;
+import org.gwtbootstrap3.client.ui.constants.Styles;
+
+import com.google.gwt.core.client.Scheduler.ScheduledCommand;
+import com.google.gwt.dom.client.Document;
+import com.google.gwt.dom.client.Element;
+import com.google.gwt.dom.client.NodeList;
+
+/**
+ * Native port of Bootstrap's collapse plugin.
+ */
+final class NativeCollapse {
+
+    private static final int TRANSITION_DURATION = 350;
+    private static final String TOGGLE_SELECTOR = "[data-toggle=\"collapse\"]";
+    private static final String ARIA_EXPANDED = "aria-expanded";
+    private static final String COLLAPSED = "collapsed";
+
+    static void command(final Element e, final String method) {
+        command(e, method, null);
+    }
+
+    static void command(final Element e, final String method, final Element trigger) {
+        if ("show".equals(method)) {
+            show(e, trigger);
+        } else if ("hide".equals(method)) {
+            hide(e);
+        } else if ("toggle".equals(method)) {
+            if (e.hasClassName(Styles.IN)) {
+                hide(e);
+            } else {
+                show(e, trigger);
+            }
+        }
+    }
+
+    static void show(final Element e, final Element trigger) {
+        if (isTransitioning(e) || e.hasClassName(Styles.IN)) {
+            return;
+        }
+
+        // Accordion: the open panels of the parent get closed
+        final List<Element> actives = getActives(e, trigger);
+        for (final Element active : actives) {
+            if (isTransitioning(active)) {
+                return;
+            }
+        }
+
+        if (!NativeDom.trigger(e, "show.bs.collapse", null)) {
+            return;
+        }
+
+        for (final Element active : actives) {
+            hide(active);
+        }
+
+        final String dimension = getDimension(e);
+        e.removeClassName(Styles.COLLAPSE);
+        e.addClassName(Styles.COLLAPSING);
+        e.getStyle().setProperty(dimension, "0");
+        e.setAttribute(ARIA_EXPANDED, "true");
+        updateTriggers(e, true);
+
+        final ScheduledCommand complete = new ScheduledCommand() {
+            @Override
+            public void execute() {
+                e.removeClassName(Styles.COLLAPSING);
+                e.addClassName(Styles.COLLAPSE);
+                e.addClassName(Styles.IN);
+                e.getStyle().clearProperty(dimension);
+                NativeDom.trigger(e, "shown.bs.collapse", null);
+            }
+        };
+
+        if (!NativeDom.hasTransitions()) {
+            complete.execute();
+            return;
+        }
+
+        NativeDom.onTransitionEnd(e, TRANSITION_DURATION, complete);
+        final int size = "width".equals(dimension) ? e.getScrollWidth() : e.getScrollHeight();
+        e.getStyle().setProperty(dimension, size + "px");
+    }
+
+    static void hide(final Element e) {
+        if (isTransitioning(e) || !e.hasClassName(Styles.IN)) {
+            return;
+        }
+
+        if (!NativeDom.trigger(e, "hide.bs.collapse", null)) {
+            return;
+        }
+
+        final String dimension = getDimension(e);
+        final int size = "width".equals(dimension) ? e.getOffsetWidth() : e.getOffsetHeight();
+        e.getStyle().setProperty(dimension, size + "px");
+        NativeDom.reflow(e);
+
+        e.addClassName(Styles.COLLAPSING);
+        e.removeClassName(Styles.COLLAPSE);
+        e.removeClassName(Styles.IN);
+        e.setAttribute(ARIA_EXPANDED, "false");
+        updateTriggers(e, false);
+
+        final ScheduledCommand complete = new ScheduledCommand() {
+            @Override
+            public void execute() {
+                e.removeClassName(Styles.COLLAPSING);
+                e.addClassName(Styles.COLLAPSE);
+                NativeDom.trigger(e, "hidden.bs.collapse", null);
+            }
+        };
+
+        if (!NativeDom.hasTransitions()) {
+            complete.execute();
+            return;
+        }
+
+        e.getStyle().setProperty(dimension, "0");
+        NativeDom.onTransitionEnd(e, TRANSITION_DURATION, complete);
+    }
+
+    private static boolean isTransitioning(final Element e) {
+        return e.hasClassName(Styles.COLLAPSING);
+    }
+
+    private static String getDimension(final Element e) {
+        return e.hasClassName("width") ? "width" : "height";
+    }
+
+    /**
+     * Returns the open panels of the accordion the element belongs to, taken from the {@code data-parent} of the
+     * element or its trigger.
+     */
+    private static List<Element> getActives(final Element e, final Element trigger) {
+        final List<Element> actives = new ArrayList<Element>();
+
+        String parentSelector = e.getAttribute(Attributes.DATA_PARENT);
+        if (parentSelector.isEmpty() && trigger != null) {
+            parentSelector = trigger.getAttribute(Attributes.DATA_PARENT);
+        }
+        if (parentSelector.isEmpty()) {
+            return actives;
+        }
+
+        final Element parent = NativeDom.selectFirst(Document.get(), parentSelector);
+        if (parent == null) {
+            return actives;
+        }
+
+        for (final Element panel : NativeDom.childrenWithClass(parent, Styles.PANEL)) {
+            for (Element child = panel.getFirstChildElement(); child != null; child = child.getNextSiblingElement()) {
+                if (child != e && (child.hasClassName(Styles.IN) || child.hasClassName(Styles.COLLAPSING))) {
+                    actives.add(child);
+                }
+            }
+        }
+        return actives;
+    }
+
+    /**
+     * Updates the {@code collapsed} class and {@code aria-expanded} of the toggles referencing the element.
+     */
+    private static void updateTriggers(final Element e, final boolean expanded) {
+        final String id = e.getId();
+        if (id.isEmpty()) {
+            return;
+        }
+
+        final NodeList<Element> triggers = NativeDom.select(Document.get(),
+                TOGGLE_SELECTOR + "[href=\"#" + id + "\"], " + TOGGLE_SELECTOR + "[data-target=\"#" + id + "\"]");
+        for (int i = 0; i < triggers.getLength(); i++) {
+            final Element trigger = triggers.getItem(i);
+            if (expanded) {
+                trigger.removeClassName(COLLAPSED);
+            } else {
+                trigger.addClassName(COLLAPSED);
+            }
+            trigger.setAttribute(ARIA_EXPANDED, Boolean.toString(expanded));
+        }
+    }
+
+    private NativeCollapse() {
+    }
+}
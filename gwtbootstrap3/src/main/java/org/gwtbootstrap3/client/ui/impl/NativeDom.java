@@ -0,0 +1,281 @@
+package org.gwtbootstrap3.client.ui.impl;
+
+/*
+ * #%L
+ * GwtBootstrap3
+ * %%
+ * Copyright (C) 2013 - 2015 GwtBootstrap3
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.gwtbootstrap3.client.ui.constants.Attributes;
+import org.gwtbootstrap3.client.ui.constants.Styles;
+
+import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.core.client.Scheduler.ScheduledCommand;
+import com.google.gwt.dom.client.Document;
+import com.google.gwt.dom.client.Element;
+import com.google.gwt.dom.client.NativeEvent;
+import com.google.gwt.dom.client.Node;
+import com.google.gwt.dom.client.NodeList;
+
+/**
+ * DOM helpers shared by the native plugin implementations, standing in for the parts of jQuery the Bootstrap
+ * plugins rely on.
+ */
+final class NativeDom {
+
+    private static final boolean TRANSITIONS = supportsTransitions();
+
+    /**
+     * Dispatches a bubbling, cancelable event, e.g. {@code show.bs.modal}, on the element.
+     *
+     * @return false if a handler prevented the default
+     */
+    static native boolean trigger(final Element e, final String type, final Element relatedTarget) /*-{
+        var evt;
+        if (typeof $wnd.CustomEvent === 'function') {
+            evt = new $wnd.CustomEvent(type, { bubbles: true, cancelable: true });
+        } else {
+            evt = $doc.createEvent('CustomEvent');
+            evt.initCustomEvent(type, true, true, null);
+        }
+        if (relatedTarget) {
+            evt.relatedTarget = relatedTarget;
+        }
+        return e.dispatchEvent(evt);
+    }-*/;
+
+    /**
+     * Adds an event listener and returns it, so it can be passed to
+     * {@link #removeListener(Node, String, JavaScriptObject)}.
+     */
+    static JavaScriptObject addListener(final Node node, final String type, final PluginImpl.Handler handler) {
+        return addListener(node, type, handler, false);
+    }
+
+    static native JavaScriptObject addListener(final Node node, final String type,
+                                               final PluginImpl.Handler handler, final boolean capture) /*-{
+        var listener = $entry(function (evt) {
+            handler.@org.gwtbootstrap3.client.ui.impl.PluginImpl.Handler::onEvent(Lcom/google/gwt/user/client/Event;)(evt);
+        });
+        node.addEventListener(type, listener, capture);
+        return listener;
+    }-*/;
+
+    static void removeListener(final Node node, final String type, final JavaScriptObject listener) {
+        removeListener(node, type, listener, false);
+    }
+
+    static native void removeListener(final Node node, final String type, final JavaScriptObject listener,
+                                      final boolean capture) /*-{
+        if (listener) {
+            node.removeEventListener(type, listener, capture);
+        }
+    }-*/;
+
+    /**
+     * Adds an event listener which can be removed with {@link #off(Element, String)}.
+     */
+    static native void on(final Element e, final String type, final PluginImpl.Handler handler) /*-{
+        var listener = @org.gwtbootstrap3.client.ui.impl.NativeDom::addListener(Lcom/google/gwt/dom/client/Node;Ljava/lang/String;Lorg/gwtbootstrap3/client/ui/impl/PluginImpl$Handler;Z)(e, type, handler, false);
+        var listeners = e.__gwtBootstrap3Listeners || (e.__gwtBootstrap3Listeners = {});
+        (listeners[type] || (listeners[type] = [])).push(listener);
+    }-*/;
+
+    /**
+     * Removes all listeners for the event type added with {@link #on(Element, String, PluginImpl.Handler)}.
+     */
+    static native void off(final Element e, final String type) /*-{
+        var listeners = e.__gwtBootstrap3Listeners && e.__gwtBootstrap3Listeners[type];
+        if (listeners) {
+            for (var i = 0; i < listeners.length; i++) {
+                e.removeEventListener(type, listeners[i], false);
+            }
+            delete e.__gwtBootstrap3Listeners[type];
+        }
+    }-*/;
+
+    /**
+     * Executes the callback when the element's CSS transition has ended, or after {@code duration} milliseconds
+     * in case the transitionend event never fires. Executes it right away if the browser has no transitions.
+     */
+    static void onTransitionEnd(final Element e, final int duration, final ScheduledCommand callback) {
+        if (TRANSITIONS) {
+            emulateTransitionEnd(e, duration, callback);
+        } else {
+            callback.execute();
+        }
+    }
+
+    static boolean hasTransitions() {
+        return TRANSITIONS;
+    }
+
+    /**
+     * Forces a reflow, so that a class added afterwards starts a transition.
+     */
+    static native int reflow(final Element e) /*-{
+        return e.offsetWidth;
+    }-*/;
+
+    static native NodeList<Element> select(final Node root, final String selector) /*-{
+        try {
+            return root.querySelectorAll(selector);
+        } catch (ex) {
+            return [];
+        }
+    }-*/;
+
+    static native Element selectFirst(final Node root, final String selector) /*-{
+        try {
+            return root.querySelector(selector);
+        } catch (ex) {
+            return null;
+        }
+    }-*/;
+
+    /**
+     * Returns the element referenced by the {@code data-target} or {@code href} of the trigger, or {@code null}.
+     */
+    static Element getTarget(final Element trigger) {
+        final String selector = getTargetSelector(trigger);
+        return selector.isEmpty() ? null : selectFirst(Document.get(), selector);
+    }
+
+    static String getTargetSelector(final Element trigger) {
+        final String target = trigger.getAttribute(Attributes.DATA_TARGET);
+        if (!target.isEmpty()) {
+            return target;
+        }
+
+        // Only the fragment of the href is a selector
+        final String href = trigger.getAttribute("href");
+        final int hash = href.lastIndexOf('#');
+        if (hash < 0 || hash == href.length() - 1 || href.indexOf(' ', hash) >= 0) {
+            return "";
+        }
+        return href.substring(hash);
+    }
+
+    /**
+     * Returns the element or its closest ancestor having the class name, or {@code null}.
+     */
+    static Element closestWithClass(final Element e, final String className) {
+        for (Element current = e; current != null; current = current.getParentElement()) {
+            if (current.hasClassName(className)) {
+                return current;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the element or its closest ancestor having the attribute, or {@code null}.
+     */
+    static Element closestWithAttribute(final Element e, final String attribute) {
+        for (Element current = e; current != null; current = current.getParentElement()) {
+            if (current.hasAttribute(attribute)) {
+                return current;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the element or its closest ancestor having the attribute with the given value, or {@code null}.
+     */
+    static Element closestWithAttribute(final Element e, final String attribute, final String value) {
+        for (Element current = e; current != null; current = current.getParentElement()) {
+            if (value.equals(current.getAttribute(attribute))) {
+                return current;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the element or its closest ancestor with the given tag name, or {@code null}.
+     */
+    static Element closestWithTagName(final Element e, final String tagName) {
+        for (Element current = e; current != null; current = current.getParentElement()) {
+            if (current.getTagName().equalsIgnoreCase(tagName)) {
+                return current;
+            }
+        }
+        return null;
+    }
+
+    static List<Element> childrenWithClass(final Element parent, final String className) {
+        final List<Element> children = new ArrayList<Element>();
+        for (Element child = parent.getFirstChildElement(); child != null; child = child.getNextSiblingElement()) {
+            if (child.hasClassName(className)) {
+                children.add(child);
+            }
+        }
+        return children;
+    }
+
+    static boolean contains(final Element parent, final Element child) {
+        return child != null && (parent == child || parent.isOrHasChild(child));
+    }
+
+    /**
+     * Returns the element an event was dispatched to, or the parent of a text node.
+     */
+    static Element getTargetElement(final NativeEvent evt) {
+        final Node node = Node.as(evt.getEventTarget());
+        if (node == null) {
+            return null;
+        }
+        return node.getNodeType() == Node.ELEMENT_NODE ? Element.as(node) : node.getParentElement();
+    }
+
+    static boolean isDisabled(final Element e) {
+        return e.hasClassName(Styles.DISABLED) || e.getPropertyBoolean(Styles.DISABLED);
+    }
+
+    private static native void emulateTransitionEnd(final Element e, final int duration,
+                                                    final ScheduledCommand callback) /*-{
+        var events = ['transitionend', 'webkitTransitionEnd', 'oTransitionEnd'];
+        var called = false;
+        var complete = $entry(function (evt) {
+            // Transitions of children bubble up as well
+            if (called || (evt && evt.target && evt.target !== e)) {
+                return;
+            }
+            called = true;
+            for (var i = 0; i < events.length; i++) {
+                e.removeEventListener(events[i], complete, false);
+            }
+            callback.@com.google.gwt.core.client.Scheduler.ScheduledCommand::execute()();
+        });
+        for (var i = 0; i < events.length; i++) {
+            e.addEventListener(events[i], complete, false);
+        }
+        $wnd.setTimeout(complete, duration);
+    }-*/;
+
+    private static native boolean supportsTransitions() /*-{
+        var style = $doc.documentElement.style;
+        return 'transition' in style || 'WebkitTransition' in style || 'OTransition' in style;
+    }-*/;
+
+    private NativeDom() {
+    }
+}
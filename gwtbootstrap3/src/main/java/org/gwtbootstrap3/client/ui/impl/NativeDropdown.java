@@ -0,0 +1,169 @@
+package org.gwtbootstrap3.client.ui.impl;
+
+/*
+ * #%L
+ * GwtBootstrap3
+ * %%
+ * Copyright (C) 2013 - 2015 GwtBootstrap3
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.gwtbootstrap3.client.ui.constants.Styles;
+
+import com.google.gwt.dom.client.Document;
+import com.google.gwt.dom.client.Element;
+import com.google.gwt.dom.client.NodeList;
+import com.google.gwt.user.client.Event;
+
+/**
+ * Native port of Bootstrap's dropdown plugin. Dropdowns are driven by the data API only.
+ */
+final class NativeDropdown {
+
+    private static final String TOGGLE_SELECTOR = "[data-toggle=\"dropdown\"]";
+    private static final String ARIA_EXPANDED = "aria-expanded";
+    private static final int KEY_ESCAPE = 27;
+    private static final int KEY_SPACE = 32;
+    private static final int KEY_UP = 38;
+    private static final int KEY_DOWN = 40;
+
+    /**
+     * Toggles the dropdown of the toggle, closing all other dropdowns.
+     *
+     * @return false if the toggle is disabled
+     */
+    static boolean toggle(final Element toggle) {
+        if (NativeDom.isDisabled(toggle)) {
+            return false;
+        }
+
+        final Element parent = getParent(toggle);
+        final boolean active = parent.hasClassName(Styles.OPEN);
+
+        clearMenus();
+
+        if (!active) {
+            if (!NativeDom.trigger(parent, "show.bs.dropdown", toggle)) {
+                return true;
+            }
+
+            toggle.focus();
+            toggle.setAttribute(ARIA_EXPANDED, "true");
+            parent.addClassName(Styles.OPEN);
+            NativeDom.trigger(parent, "shown.bs.dropdown", toggle);
+        }
+        return true;
+    }
+
+    /**
+     * Closes all open dropdowns.
+     */
+    static void clearMenus() {
+        final NodeList<Element> toggles = NativeDom.select(Document.get(), TOGGLE_SELECTOR);
+        for (int i = 0; i < toggles.getLength(); i++) {
+            final Element toggle = toggles.getItem(i);
+            final Element parent = getParent(toggle);
+
+            if (!parent.hasClassName(Styles.OPEN) || !NativeDom.trigger(parent, "hide.bs.dropdown", toggle)) {
+                continue;
+            }
+
+            toggle.setAttribute(ARIA_EXPANDED, "false");
+            parent.removeClassName(Styles.OPEN);
+            NativeDom.trigger(parent, "hidden.bs.dropdown", toggle);
+        }
+    }
+
+    /**
+     * Handles keyboard navigation, the toggle is the element the key was pressed on.
+     */
+    static void keydown(final Element toggle, final Event evt) {
+        final int key = evt.getKeyCode();
+        if ((key != KEY_UP && key != KEY_DOWN && key != KEY_ESCAPE && key != KEY_SPACE)
+                || isTextInput(NativeDom.getTargetElement(evt))) {
+            return;
+        }
+
+        evt.preventDefault();
+        evt.stopPropagation();
+
+        if (NativeDom.isDisabled(toggle)) {
+            return;
+        }
+
+        final Element parent = getParent(toggle);
+        final boolean active = parent.hasClassName(Styles.OPEN);
+
+        if ((!active && key != KEY_ESCAPE) || (active && key == KEY_ESCAPE)) {
+            if (key == KEY_ESCAPE) {
+                final Element dropdownToggle = NativeDom.selectFirst(parent, TOGGLE_SELECTOR);
+                if (dropdownToggle != null) {
+                    dropdownToggle.focus();
+                }
+            }
+            toggle.dispatchEvent(Document.get().createClickEvent(0, 0, 0, 0, 0, false, false, false, false));
+            return;
+        }
+
+        final List<Element> items = getItems(parent);
+        if (items.isEmpty()) {
+            return;
+        }
+
+        int index = items.indexOf(NativeDom.getTargetElement(evt));
+        if (key == KEY_UP && index > 0) {
+            index--;
+        }
+        if (key == KEY_DOWN && index < items.size() - 1) {
+            index++;
+        }
+        if (index < 0) {
+            index = 0;
+        }
+        items.get(index).focus();
+    }
+
+    /**
+     * Returns the element referenced by the toggle's {@code data-target} or {@code href}, or else its parent.
+     */
+    private static Element getParent(final Element toggle) {
+        final Element target = NativeDom.getTarget(toggle);
+        return target != null ? target : toggle.getParentElement();
+    }
+
+    private static List<Element> getItems(final Element parent) {
+        final List<Element> items = new ArrayList<Element>();
+        final NodeList<Element> links = NativeDom.select(parent,
+                "[role=\"menu\"] li:not(.divider) a, [role=\"listbox\"] li:not(.divider) a");
+        for (int i = 0; i < links.getLength(); i++) {
+            final Element link = links.getItem(i);
+            // Only visible items, like jQuery's :visible
+            if (link.getOffsetWidth() > 0 || link.getOffsetHeight() > 0) {
+                items.add(link);
+            }
+        }
+        return items;
+    }
+
+    private static boolean isTextInput(final Element e) {
+        return e != null && ("input".equalsIgnoreCase(e.getTagName()) || "textarea".equalsIgnoreCase(e.getTagName()));
+    }
+
+    private NativeDropdown() {
+    }
+}
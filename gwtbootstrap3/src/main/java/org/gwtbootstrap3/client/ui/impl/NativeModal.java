@@ -0,0 +1,409 @@
+package org.gwtbootstrap3.client.ui.impl;
+
+/*
+ * #%L
+ * GwtBootstrap3
+ * %%
+ * Copyright (C) 2013 - 2015 GwtBootstrap3
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.gwtbootstrap3.client.ui.constants.Attributes;
+import org.gwtbootstrap3.client.ui.constants.Styles;
+
+import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.core.client.Scheduler.ScheduledCommand;
+import com.google.gwt.dom.client.BodyElement;
+import com.google.gwt.dom.client.Document;
+import com.google.gwt.dom.client.Element;
+import com.google.gwt.dom.client.Style.Display;
+import com.google.gwt.dom.client.Style.Unit;
+import com.google.gwt.user.client.Event;
+
+/**
+ * Native port of Bootstrap's modal plugin. The state of a modal is kept in an instance attached to its element.
+ */
+final class NativeModal {
+
+    private static final int TRANSITION_DURATION = 300;
+    private static final int BACKDROP_TRANSITION_DURATION = 150;
+    private static final int KEY_ESCAPE = 27;
+    private static final String MODAL_OPEN = "modal-open";
+    private static final String MODAL_BACKDROP = "modal-backdrop";
+    private static final String ARIA_HIDDEN = "aria-hidden";
+
+    static void command(final Element e, final String method) {
+        command(e, method, null);
+    }
+
+    static void command(final Element e, final String method, final Element relatedTarget) {
+        final NativeModal modal = get(e);
+        if ("show".equals(method)) {
+            modal.show(relatedTarget);
+        } else if ("hide".equals(method)) {
+            modal.hide();
+        } else if ("toggle".equals(method)) {
+            if (modal.shown) {
+                modal.hide();
+            } else {
+                modal.show(relatedTarget);
+            }
+        }
+    }
+
+    /**
+     * Toggles the modal from a {@code data-toggle="modal"} trigger, which gets the focus back once the modal
+     * is hidden.
+     */
+    static void toggle(final Element e, final Element trigger) {
+        final NativeModal modal = get(e);
+        if (modal.shown) {
+            modal.hide();
+        } else {
+            modal.show(trigger);
+            if (modal.shown) {
+                modal.focusOnHidden = trigger;
+            }
+        }
+    }
+
+    private static NativeModal get(final Element e) {
+        NativeModal modal = getModal(e);
+        if (modal == null) {
+            modal = new NativeModal(e);
+            setModal(e, modal);
+        }
+        return modal;
+    }
+
+    private final Element element;
+    private boolean shown;
+    private Element backdrop;
+    private Element focusOnHidden;
+    private boolean bodyIsOverflowing;
+    private int scrollbarWidth;
+    private JavaScriptObject keyListener;
+    private JavaScriptObject dismissListener;
+    private JavaScriptObject focusListener;
+    private JavaScriptObject resizeListener;
+
+    private NativeModal(final Element element) {
+        this.element = element;
+    }
+
+    void show(final Element relatedTarget) {
+        if (!NativeDom.trigger(element, "show.bs.modal", relatedTarget) || shown) {
+            return;
+        }
+
+        shown = true;
+
+        checkScrollbar();
+        setScrollbar();
+        getBody().addClassName(MODAL_OPEN);
+
+        escape();
+        resize();
+
+        dismissListener = NativeDom.addListener(element, "click", new PluginImpl.Handler() {
+            @Override
+            public void onEvent(final Event evt) {
+                final Element dismiss = NativeDom.closestWithAttribute(NativeDom.getTargetElement(evt),
+                        Attributes.DATA_DISMISS);
+                if (dismiss != null && NativeDom.contains(element, dismiss)
+                        && "modal".equals(dismiss.getAttribute(Attributes.DATA_DISMISS))) {
+                    evt.preventDefault();
+                    hide();
+                }
+            }
+        });
+
+        backdrop(new ScheduledCommand() {
+            @Override
+            public void execute() {
+                final boolean transition = NativeDom.hasTransitions() && element.hasClassName(Styles.FADE);
+
+                if (element.getParentElement() == null) {
+                    getBody().appendChild(element);
+                }
+
+                element.getStyle().setDisplay(Display.BLOCK);
+                element.setScrollTop(0);
+
+                if (backdrop != null) {
+                    adjustBackdrop();
+                }
+                adjustDialog();
+
+                if (transition) {
+                    NativeDom.reflow(element);
+                }
+
+                element.addClassName(Styles.IN);
+                element.setAttribute(ARIA_HIDDEN, "false");
+
+                enforceFocus();
+
+                final ScheduledCommand complete = new ScheduledCommand() {
+                    @Override
+                    public void execute() {
+                        element.focus();
+                        NativeDom.trigger(element, "shown.bs.modal", relatedTarget);
+                    }
+                };
+
+                final Element dialog = NativeDom.selectFirst(element, "." + Styles.MODAL_DIALOG);
+                if (transition && dialog != null) {
+                    NativeDom.onTransitionEnd(dialog, TRANSITION_DURATION, complete);
+                } else {
+                    complete.execute();
+                }
+            }
+        });
+    }
+
+    void hide() {
+        if (!NativeDom.trigger(element, "hide.bs.modal", null) || !shown) {
+            return;
+        }
+
+        shown = false;
+
+        escape();
+        resize();
+
+        NativeDom.removeListener(Document.get(), "focusin", focusListener);
+        focusListener = null;
+
+        element.removeClassName(Styles.IN);
+        element.setAttribute(ARIA_HIDDEN, "true");
+
+        NativeDom.removeListener(element, "click", dismissListener);
+        dismissListener = null;
+
+        final ScheduledCommand hideModal = new ScheduledCommand() {
+            @Override
+            public void execute() {
+                hideModal();
+            }
+        };
+
+        if (element.hasClassName(Styles.FADE)) {
+            NativeDom.onTransitionEnd(element, TRANSITION_DURATION, hideModal);
+        } else {
+            hideModal.execute();
+        }
+    }
+
+    private void hideModal() {
+        element.getStyle().setDisplay(Display.NONE);
+        backdrop(new ScheduledCommand() {
+            @Override
+            public void execute() {
+                getBody().removeClassName(MODAL_OPEN);
+                element.getStyle().clearPaddingLeft();
+                element.getStyle().clearPaddingRight();
+                getBody().getStyle().clearPaddingRight();
+                NativeDom.trigger(element, "hidden.bs.modal", null);
+
+                final Element trigger = focusOnHidden;
+                focusOnHidden = null;
+                if (trigger != null && (trigger.getOffsetWidth() > 0 || trigger.getOffsetHeight() > 0)) {
+                    trigger.focus();
+                }
+            }
+        });
+    }
+
+    private void backdrop(final ScheduledCommand callback) {
+        final boolean fade = element.hasClassName(Styles.FADE);
+        final String option = element.getAttribute(Attributes.DATA_BACKDROP);
+
+        if (shown && !"false".equals(option)) {
+            backdrop = Document.get().createDivElement();
+            backdrop.setClassName(fade ? MODAL_BACKDROP + " " + Styles.FADE : MODAL_BACKDROP);
+            element.insertFirst(backdrop);
+
+            NativeDom.addListener(backdrop, "click", new PluginImpl.Handler() {
+                @Override
+                public void onEvent(final Event evt) {
+                    if (evt.getEventTarget() != evt.getCurrentEventTarget()) {
+                        return;
+                    }
+                    if ("static".equals(element.getAttribute(Attributes.DATA_BACKDROP))) {
+                        element.focus();
+                    } else {
+                        hide();
+                    }
+                }
+            });
+
+            if (fade && NativeDom.hasTransitions()) {
+                NativeDom.reflow(backdrop);
+            }
+            backdrop.addClassName(Styles.IN);
+
+            if (fade) {
+                NativeDom.onTransitionEnd(backdrop, BACKDROP_TRANSITION_DURATION, callback);
+            } else {
+                callback.execute();
+            }
+        } else if (!shown && backdrop != null) {
+            final Element removed = backdrop;
+            removed.removeClassName(Styles.IN);
+
+            final ScheduledCommand remove = new ScheduledCommand() {
+                @Override
+                public void execute() {
+                    removed.removeFromParent();
+                    if (backdrop == removed) {
+                        backdrop = null;
+                    }
+                    callback.execute();
+                }
+            };
+
+            if (fade) {
+                NativeDom.onTransitionEnd(removed, BACKDROP_TRANSITION_DURATION, remove);
+            } else {
+                remove.execute();
+            }
+        } else {
+            callback.execute();
+        }
+    }
+
+    private void escape() {
+        if (shown && !"false".equals(element.getAttribute(Attributes.DATA_KEYBOARD))) {
+            if (keyListener == null) {
+                keyListener = NativeDom.addListener(element, "keydown", new PluginImpl.Handler() {
+                    @Override
+                    public void onEvent(final Event evt) {
+                        if (evt.getKeyCode() == KEY_ESCAPE) {
+                            hide();
+                        }
+                    }
+                });
+            }
+        } else if (!shown) {
+            NativeDom.removeListener(element, "keydown", keyListener);
+            keyListener = null;
+        }
+    }
+
+    private void resize() {
+        if (shown) {
+            if (resizeListener == null) {
+                resizeListener = addWindowListener("resize", new PluginImpl.Handler() {
+                    @Override
+                    public void onEvent(final Event evt) {
+                        if (backdrop != null) {
+                            adjustBackdrop();
+                        }
+                        adjustDialog();
+                    }
+                });
+            }
+        } else {
+            removeWindowListener("resize", resizeListener);
+            resizeListener = null;
+        }
+    }
+
+    private void enforceFocus() {
+        NativeDom.removeListener(Document.get(), "focusin", focusListener);
+        focusListener = NativeDom.addListener(Document.get(), "focusin", new PluginImpl.Handler() {
+            @Override
+            public void onEvent(final Event evt) {
+                if (!NativeDom.contains(element, NativeDom.getTargetElement(evt))) {
+                    element.focus();
+                }
+            }
+        });
+    }
+
+    private void adjustBackdrop() {
+        backdrop.getStyle().setHeight(0, Unit.PX);
+        backdrop.getStyle().setHeight(element.getScrollHeight(), Unit.PX);
+    }
+
+    private void adjustDialog() {
+        final boolean modalIsOverflowing = element.getScrollHeight() > Document.get().getClientHeight();
+
+        if (!bodyIsOverflowing && modalIsOverflowing) {
+            element.getStyle().setPaddingLeft(scrollbarWidth, Unit.PX);
+        } else {
+            element.getStyle().clearPaddingLeft();
+        }
+
+        if (bodyIsOverflowing && !modalIsOverflowing) {
+            element.getStyle().setPaddingRight(scrollbarWidth, Unit.PX);
+        } else {
+            element.getStyle().clearPaddingRight();
+        }
+    }
+
+    private void checkScrollbar() {
+        bodyIsOverflowing = getBody().getScrollHeight() > Document.get().getClientHeight();
+        scrollbarWidth = measureScrollbar();
+    }
+
+    private void setScrollbar() {
+        if (bodyIsOverflowing) {
+            getBody().getStyle().setPaddingRight(getBodyPaddingRight() + scrollbarWidth, Unit.PX);
+        }
+    }
+
+    private int measureScrollbar() {
+        final Element measure = Document.get().createDivElement();
+        measure.setClassName("modal-scrollbar-measure");
+        getBody().appendChild(measure);
+        final int width = measure.getOffsetWidth() - measure.getClientWidth();
+        measure.removeFromParent();
+        return width;
+    }
+
+    private static BodyElement getBody() {
+        return Document.get().getBody();
+    }
+
+    private static native int getBodyPaddingRight() /*-{
+        var padding = $wnd.getComputedStyle ? $wnd.getComputedStyle($doc.body, null).paddingRight : null;
+        return parseInt(padding || 0, 10) || 0;
+    }-*/;
+
+    private static native JavaScriptObject addWindowListener(final String type,
+                                                             final PluginImpl.Handler handler) /*-{
+        var listener = $entry(function (evt) {
+            handler.@org.gwtbootstrap3.client.ui.impl.PluginImpl.Handler::onEvent(Lcom/google/gwt/user/client/Event;)(evt);
+        });
+        $wnd.addEventListener(type, listener, false);
+        return listener;
+    }-*/;
+
+    private static native void removeWindowListener(final String type, final JavaScriptObject listener) /*-{
+        if (listener) {
+            $wnd.removeEventListener(type, listener, false);
+        }
+    }-*/;
+
+    private static native NativeModal getModal(final Element e) /*-{
+        return e.__gwtBootstrap3Modal || null;
+    }-*/;
+
+    private static native void setModal(final Element e, final NativeModal modal) /*-{
+        e.__gwtBootstrap3Modal = modal;
+    }-*/;
+}
@@ -0,0 +1,178 @@
+package org.gwtbootstrap3.client.ui.impl;
+
+/*
+ * #%L
+ * GwtBootstrap3
+ * %%
+ * Copyright (C) 2013 - 2015 GwtBootstrap3
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.List;
+
+import org.gwtbootstrap3.client.ui.constants.Styles;
+
+import com.google.gwt.core.client.Scheduler.ScheduledCommand;
+import com.google.gwt.dom.client.Element;
+import com.google.gwt.dom.client.NodeList;
+
+/**
+ * Native port of Bootstrap's tab plugin.
+ */
+final class NativeTab {
+
+    private static final int TRANSITION_DURATION = 150;
+    private static final String TAB_TOGGLE = "[data-toggle=\"tab\"]";
+    private static final String ARIA_EXPANDED = "aria-expanded";
+
+    static void command(final Element e, final String method) {
+        if ("show".equals(method)) {
+            show(e);
+        }
+    }
+
+    /**
+     * Shows the pane referenced by the tab's {@code data-target} or {@code href} and activates the tab.
+     */
+    static void show(final Element e) {
+        final Element ul = getList(e);
+        final Element parent = e.getParentElement();
+        if (ul == null || (parent != null && "li".equalsIgnoreCase(parent.getTagName())
+                && parent.hasClassName(Styles.ACTIVE))) {
+            return;
+        }
+
+        final Element previous = getPrevious(ul);
+
+        final boolean hide = previous == null || NativeDom.trigger(previous, "hide.bs.tab", e);
+        final boolean show = NativeDom.trigger(e, "show.bs.tab", previous);
+        if (!show || !hide) {
+            return;
+        }
+
+        final ScheduledCommand shown = new ScheduledCommand() {
+            @Override
+            public void execute() {
+                if (previous != null) {
+                    NativeDom.trigger(previous, "hidden.bs.tab", e);
+                }
+                NativeDom.trigger(e, "shown.bs.tab", previous);
+            }
+        };
+
+        final Element li = NativeDom.closestWithTagName(e, "li");
+        if (li != null) {
+            activate(li, ul, null);
+        }
+
+        final Element pane = NativeDom.getTarget(e);
+        if (pane != null && pane.getParentElement() != null) {
+            activate(pane, pane.getParentElement(), shown);
+        } else {
+            shown.execute();
+        }
+    }
+
+    private static void activate(final Element element, final Element container, final ScheduledCommand callback) {
+        final List<Element> actives = NativeDom.childrenWithClass(container, Styles.ACTIVE);
+        final boolean transition = callback != null && NativeDom.hasTransitions()
+                && ((!actives.isEmpty() && actives.get(0).hasClassName(Styles.FADE))
+                        || !NativeDom.childrenWithClass(container, Styles.FADE).isEmpty());
+
+        final ScheduledCommand next = new ScheduledCommand() {
+            @Override
+            public void execute() {
+                for (final Element active : actives) {
+                    active.removeClassName(Styles.ACTIVE);
+                    removeClassName(NativeDom.select(active, "." + Styles.DROPDOWN_MENU + " > ." + Styles.ACTIVE),
+                            Styles.ACTIVE);
+                    setAttribute(NativeDom.select(active, TAB_TOGGLE), ARIA_EXPANDED, "false");
+                }
+
+                element.addClassName(Styles.ACTIVE);
+                setAttribute(NativeDom.select(element, TAB_TOGGLE), ARIA_EXPANDED, "true");
+
+                if (transition) {
+                    NativeDom.reflow(element);
+                    element.addClassName(Styles.IN);
+                } else {
+                    element.removeClassName(Styles.FADE);
+                }
+
+                // A tab in a dropdown activates the dropdown as well
+                final Element parent = element.getParentElement();
+                if (parent != null && parent.hasClassName(Styles.DROPDOWN_MENU)) {
+                    final Element dropdown = NativeDom.closestWithClass(parent, Styles.DROPDOWN);
+                    if (dropdown != null) {
+                        dropdown.addClassName(Styles.ACTIVE);
+                        setAttribute(NativeDom.select(dropdown, TAB_TOGGLE), ARIA_EXPANDED, "true");
+                    }
+                }
+
+                if (callback != null) {
+                    callback.execute();
+                }
+            }
+        };
+
+        if (!actives.isEmpty() && transition) {
+            NativeDom.onTransitionEnd(actives.get(0), TRANSITION_DURATION, next);
+        } else {
+            next.execute();
+        }
+
+        for (final Element active : actives) {
+            active.removeClassName(Styles.IN);
+        }
+    }
+
+    /**
+     * Returns the closest list of the tab which isn't a dropdown menu.
+     */
+    private static Element getList(final Element e) {
+        for (Element current = e.getParentElement(); current != null; current = current.getParentElement()) {
+            if ("ul".equalsIgnoreCase(current.getTagName()) && !current.hasClassName(Styles.DROPDOWN_MENU)) {
+                return current;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the tab of the last active item in the list, or {@code null}.
+     */
+    private static Element getPrevious(final Element ul) {
+        final NodeList<Element> actives = NativeDom.select(ul, "." + Styles.ACTIVE);
+        if (actives.getLength() == 0) {
+            return null;
+        }
+        return NativeDom.selectFirst(actives.getItem(actives.getLength() - 1), "a");
+    }
+
+    private static void removeClassName(final NodeList<Element> elements, final String className) {
+        for (int i = 0; i < elements.getLength(); i++) {
+            elements.getItem(i).removeClassName(className);
+        }
+    }
+
+    private static void setAttribute(final NodeList<Element> elements, final String name, final String value) {
+        for (int i = 0; i < elements.getLength(); i++) {
+            elements.getItem(i).setAttribute(name, value);
+        }
+    }
+
+    private NativeTab() {
+    }
+}
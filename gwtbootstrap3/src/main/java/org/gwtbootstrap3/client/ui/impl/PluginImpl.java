@@ -0,0 +1,105 @@
+package org.gwtbootstrap3.client.ui.impl;
+
+/*
+ * #%L
+ * GwtBootstrap3
+ * %%
+ * Copyright (C) 2013 - 2015 GwtBootstrap3
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.gwtbootstrap3.client.BootstrapPlugin;
+
+import com.google.gwt.dom.client.Element;
+import com.google.gwt.user.client.Event;
+
+/**
+ * Calls into Bootstrap's jQuery plugins and binds to the events they trigger.
+ * <p/>
+ * This is the default implementation, the {@code GwtBootstrap3NoJQuery} module replaces it with
+ * {@link PluginImplNative}.
+ */
+public class PluginImpl {
+
+    /**
+     * Receives an event triggered by a plugin, e.g. {@code show.bs.modal}.
+     */
+    public interface Handler {
+        void onEvent(Event evt);
+    }
+
+    /**
+     * Returns {@code true} if jQuery and Bootstrap's JavaScript have to be injected when the module loads.
+     *
+     * @return true if the scripts are required up front
+     */
+    public boolean requiresScripts() {
+        return true;
+    }
+
+    /**
+     * Returns {@code true} if the plugin is implemented without jQuery.
+     *
+     * @param plugin Plugin to check
+     * @return true if the plugin doesn't need Bootstrap's JavaScript
+     */
+    public boolean isNative(final BootstrapPlugin plugin) {
+        return false;
+    }
+
+    /**
+     * Installs the handlers for Bootstrap's data API. Nothing to do here, Bootstrap's JavaScript installs them.
+     */
+    public void install() {
+    }
+
+    public void on(final Element e, final String type, final Handler handler) {
+        JQuery.wrap(e).on(type, handler);
+    }
+
+    public void off(final Element e, final String type) {
+        JQuery.wrap(e).off(type);
+    }
+
+    public void alert(final Element e, final String method) {
+        JQuery.wrap(e).alert(method);
+    }
+
+    public void button(final Element e, final String method) {
+        JQuery.wrap(e).button(method);
+    }
+
+    public void collapse(final Element e, final String method) {
+        JQuery.wrap(e).collapse(method);
+    }
+
+    public void modal(final Element e, final String method) {
+        JQuery.wrap(e).modal(method);
+    }
+
+    /**
+     * Calls the method on every modal matching the selector, e.g. {@code modal(".modal.in", "hide")}.
+     *
+     * @param selector Selector of the modals
+     * @param method   Method to call
+     */
+    public void modal(final String selector, final String method) {
+        JQuery.select(selector).modal(method);
+    }
+
+    public void tab(final Element e, final String method) {
+        JQuery.wrap(e).tab(method);
+    }
+}
@@ -0,0 +1,259 @@
+package org.gwtbootstrap3.client.ui.impl;
+
+/*
+ * #%L
+ * GwtBootstrap3
+ * %%
+ * Copyright (C) 2013 - 2015 GwtBootstrap3
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.gwtbootstrap3.client.BootstrapPlugin;
+import org.gwtbootstrap3.client.ui.constants.Attributes;
+import org.gwtbootstrap3.client.ui.constants.Styles;
+
+import com.google.gwt.dom.client.Document;
+import com.google.gwt.dom.client.Element;
+import com.google.gwt.dom.client.NodeList;
+import com.google.gwt.user.client.Event;
+
+/**
+ * Implements the alert, button, collapse, dropdown, modal and tab plugins, including their data API, in Java
+ * without jQuery. The events triggered are the same, e.g. {@code show.bs.modal}, dispatched as DOM events.
+ * <p/>
+ * The remaining plugins (carousel, tooltip, popover, scrollspy and affix) still use Bootstrap's JavaScript,
+ * which is loaded together with jQuery the first time one of them is needed.
+ * <p/>
+ * Requires a browser supporting {@code addEventListener} and {@code querySelectorAll}, i.e. IE 9 or later.
+ */
+public class PluginImplNative extends PluginImpl {
+
+    private static final String BUTTON_FOCUS = "focus";
+
+    private static boolean installed = false;
+
+    @Override
+    public boolean requiresScripts() {
+        return false;
+    }
+
+    @Override
+    public boolean isNative(final BootstrapPlugin plugin) {
+        switch (plugin) {
+            case ALERT:
+            case BUTTON:
+            case COLLAPSE:
+            case DROPDOWN:
+            case MODAL:
+            case TAB:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void install() {
+        if (installed) {
+            return;
+        }
+        installed = true;
+
+        NativeDom.addListener(Document.get(), "click", new Handler() {
+            @Override
+            public void onEvent(final Event evt) {
+                onClick(evt);
+            }
+        });
+
+        NativeDom.addListener(Document.get(), "keydown", new Handler() {
+            @Override
+            public void onEvent(final Event evt) {
+                onKeyDown(evt);
+            }
+        });
+
+        // focus and blur don't bubble, listen during the capture phase instead
+        final Handler focusHandler = new Handler() {
+            @Override
+            public void onEvent(final Event evt) {
+                onFocusChange(evt);
+            }
+        };
+        NativeDom.addListener(Document.get(), "focus", focusHandler, true);
+        NativeDom.addListener(Document.get(), "blur", focusHandler, true);
+    }
+
+    @Override
+    public void on(final Element e, final String type, final Handler handler) {
+        NativeDom.on(e, type, handler);
+    }
+
+    @Override
+    public void off(final Element e, final String type) {
+        NativeDom.off(e, type);
+    }
+
+    @Override
+    public void alert(final Element e, final String method) {
+        NativeAlert.command(e, method);
+    }
+
+    @Override
+    public void button(final Element e, final String method) {
+        NativeButton.command(e, method);
+    }
+
+    @Override
+    public void collapse(final Element e, final String method) {
+        NativeCollapse.command(e, method);
+    }
+
+    @Override
+    public void modal(final Element e, final String method) {
+        NativeModal.command(e, method);
+    }
+
+    @Override
+    public void modal(final String selector, final String method) {
+        final NodeList<Element> elements = NativeDom.select(Document.get(), selector);
+        for (int i = 0; i < elements.getLength(); i++) {
+            NativeModal.command(elements.getItem(i), method);
+        }
+    }
+
+    @Override
+    public void tab(final Element e, final String method) {
+        NativeTab.command(e, method);
+    }
+
+    private static void onClick(final Event evt) {
+        final Element target = NativeDom.getTargetElement(evt);
+        if (target == null) {
+            return;
+        }
+
+        final Element dropdown = NativeDom.closestWithAttribute(target, Attributes.DATA_TOGGLE, "dropdown");
+        if (dropdown != null) {
+            // Handled completely by the dropdown, like Bootstrap stopping the propagation
+            if (NativeDropdown.toggle(dropdown)) {
+                evt.preventDefault();
+                evt.stopPropagation();
+            }
+            return;
+        }
+
+        if (evt.getButton() != Event.BUTTON_RIGHT && !isInDropdownForm(target)) {
+            NativeDropdown.clearMenus();
+        }
+
+        final Element collapse = NativeDom.closestWithAttribute(target, Attributes.DATA_TOGGLE, "collapse");
+        if (collapse != null) {
+            if (!collapse.hasAttribute(Attributes.DATA_TARGET)) {
+                evt.preventDefault();
+            }
+            final Element collapseTarget = NativeDom.getTarget(collapse);
+            if (collapseTarget != null) {
+                NativeCollapse.command(collapseTarget, "toggle", collapse);
+            }
+        }
+
+        Element tab = NativeDom.closestWithAttribute(target, Attributes.DATA_TOGGLE, "tab");
+        if (tab == null) {
+            tab = NativeDom.closestWithAttribute(target, Attributes.DATA_TOGGLE, "pill");
+        }
+        if (tab != null) {
+            evt.preventDefault();
+            NativeTab.show(tab);
+        }
+
+        final Element modal = NativeDom.closestWithAttribute(target, Attributes.DATA_TOGGLE, "modal");
+        if (modal != null) {
+            if ("a".equalsIgnoreCase(modal.getTagName())) {
+                evt.preventDefault();
+            }
+            final Element modalTarget = NativeDom.getTarget(modal);
+            if (modalTarget != null) {
+                NativeModal.toggle(modalTarget, modal);
+            }
+        }
+
+        if (getButtonToggle(target) != null) {
+            final Element button = NativeDom.closestWithClass(target, Styles.BTN);
+            if (button != null) {
+                NativeButton.toggle(button);
+            }
+            evt.preventDefault();
+        }
+
+        final Element dismiss = NativeDom.closestWithAttribute(target, Attributes.DATA_DISMISS, "alert");
+        if (dismiss != null) {
+            evt.preventDefault();
+            NativeAlert.close(dismiss);
+        }
+    }
+
+    private static void onKeyDown(final Event evt) {
+        final Element target = NativeDom.getTargetElement(evt);
+        if (target == null) {
+            return;
+        }
+
+        Element dropdown = NativeDom.closestWithAttribute(target, Attributes.DATA_TOGGLE, "dropdown");
+        if (dropdown == null) {
+            dropdown = NativeDom.closestWithAttribute(target, Attributes.ROLE, "menu");
+        }
+        if (dropdown == null) {
+            dropdown = NativeDom.closestWithAttribute(target, Attributes.ROLE, "listbox");
+        }
+        if (dropdown != null) {
+            NativeDropdown.keydown(dropdown, evt);
+        }
+    }
+
+    private static void onFocusChange(final Event evt) {
+        final Element target = NativeDom.getTargetElement(evt);
+        if (target == null || getButtonToggle(target) == null) {
+            return;
+        }
+
+        final Element button = NativeDom.closestWithClass(target, Styles.BTN);
+        if (button == null) {
+            return;
+        }
+        if ("focus".equals(evt.getType())) {
+            button.addClassName(BUTTON_FOCUS);
+        } else {
+            button.removeClassName(BUTTON_FOCUS);
+        }
+    }
+
+    /**
+     * Returns the closest element with a {@code data-toggle} of {@code button} or {@code buttons}.
+     */
+    private static Element getButtonToggle(final Element e) {
+        for (Element current = e; current != null; current = current.getParentElement()) {
+            if (current.getAttribute(Attributes.DATA_TOGGLE).startsWith("button")) {
+                return current;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isInDropdownForm(final Element e) {
+        final Element form = NativeDom.closestWithTagName(e, "form");
+        return form != null && NativeDom.closestWithClass(form, Styles.DROPDOWN) != null;
+    }
+}
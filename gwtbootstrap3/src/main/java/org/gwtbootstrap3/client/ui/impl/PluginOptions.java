@@ -0,0 +1,54 @@
+package org.gwtbootstrap3.client.ui.impl;
+
+/*
+ * #%L
+ * GwtBootstrap3
+ * %%
+ * Copyright (C) 2013 - 2015 GwtBootstrap3
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.google.gwt.core.client.JavaScriptObject;
+
+/**
+ * Options object passed to a Bootstrap plugin when it's initialized, e.g. {@code $(e).tooltip(options)}.
+ * <p/>
+ * Bootstrap copies the options into the plugin instance, so a widget can keep its options object and reuse it
+ * every time it (re)initializes the plugin instead of building a new one.
+ */
+public class PluginOptions extends JavaScriptObject {
+
+    protected PluginOptions() {
+    }
+
+    /**
+     * Sets the option, or removes it if the value is {@code null} so the plugin's default applies.
+     */
+    protected final native void set(final String key, final String value) /*-{
+        if (value == null) {
+            delete this[key];
+        } else {
+            this[key] = value;
+        }
+    }-*/;
+
+    protected final native void set(final String key, final boolean value) /*-{
+        this[key] = value;
+    }-*/;
+
+    protected final native void set(final String key, final int value) /*-{
+        this[key] = value;
+    }-*/;
+}
@@ -0,0 +1,47 @@
+package org.gwtbootstrap3.client.ui.impl;
+
+/*
+ * #%L
+ * GwtBootstrap3
+ * %%
+ * Copyright (C) 2013 - 2015 GwtBootstrap3
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.google.gwt.core.client.GWT;
+
+/**
+ * Positions the tips of tooltips and popovers. This default implementation leaves it to Bootstrap's plugins.
+ * <p/>
+ * See {@link PositioningImplNative} for positioning without forced reflows.
+ */
+public class PositioningImpl {
+
+    private static final PositioningImpl INSTANCE = GWT.create(PositioningImpl.class);
+
+    /**
+     * Installs the implementation into Bootstrap's tooltip and popover plugins, if it hasn't been installed yet.
+     * Must be called once the plugins are loaded and before a tip is shown.
+     */
+    public static void ensureInstalled() {
+        INSTANCE.install();
+    }
+
+    /**
+     * Installs the implementation. Called every time a tooltip or popover is configured.
+     */
+    protected void install() {
+    }
+}
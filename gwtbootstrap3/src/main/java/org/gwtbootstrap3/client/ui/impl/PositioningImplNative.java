@@ -0,0 +1,386 @@
+package org.gwtbootstrap3.client.ui.impl;
+
+/*
+ * #%L
+ * GwtBootstrap3
+ * %%
+ * Copyright (C) 2013 - 2015 GwtBootstrap3
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.google.gwt.core.client.JavaScriptObject;
+
+/**
+ * Positions the tips of tooltips and popovers without the forced reflows of Bootstrap's plugins.
+ * <p/>
+ * Bootstrap reads the sizes and offsets of the target and tip while writing styles, forcing the browser to lay out
+ * the page several times per show, and places the tip with {@code top}/{@code left}. This implementation replaces
+ * the plugins' {@code show()}:
+ * <ul>
+ * <li>the tip is inserted hidden and placed in the next animation frame; the tips of all tooltips and popovers shown
+ * in between are measured first and then written, so a frame lays out once</li>
+ * <li>the geometry of the viewport and of containers used for {@link org.gwtbootstrap3.client.ui.constants.Placement#AUTO
+ * auto placement} is cached until the page is scrolled or resized</li>
+ * <li>the tip is moved with a {@code transform}, which doesn't trigger a layout</li>
+ * </ul>
+ * Events, animations, placement rules including auto placement and the viewport option behave like Bootstrap's.
+ * A tip hidden before it's placed isn't placed anymore.
+ * The time from {@code show()} until the tip is placed is recorded as the {@code tooltip.show} and
+ * {@code popover.show} phases of {@link org.gwtbootstrap3.client.GwtBootstrap3Timing}.
+ * <p/>
+ * Selected by setting the {@code gwtbootstrap3.positioning} property to {@code native}:
+ * <pre>
+ * {@code
+ * <set-property name="gwtbootstrap3.positioning" value="native"/>
+ * }
+ * </pre>
+ */
+public class PositioningImplNative extends PositioningImpl {
+
+    private JavaScriptObject engine;
+
+    @Override
+    protected void install() {
+        if (engine == null) {
+            engine = createEngine();
+        }
+        // Checked every time, as popovers may be loaded after tooltips
+        install(engine);
+    }
+
+    private static native void install(final JavaScriptObject engine) /*-{
+        var plugins = ['tooltip', 'popover'];
+        for (var i = 0; i < plugins.length; i++) {
+            var plugin = $wnd.jQuery.fn[plugins[i]];
+            var prototype = plugin && plugin.Constructor.prototype;
+            if (prototype && prototype.show !== engine.show) {
+                // Bootstrap's hide(), shared by both plugins
+                engine.bootstrapHide = engine.bootstrapHide || prototype.hide;
+                prototype.show = engine.show;
+                prototype.place = engine.place;
+                prototype.hide = engine.hide;
+            }
+        }
+    }-*/;
+
+    private static native JavaScriptObject createEngine() /*-{
+        var $ = $wnd.jQuery;
+        var doc = $wnd.document;
+        var queue = [];
+        var frame = null;
+        var generation = 0;
+
+        var requestFrame = $wnd.requestAnimationFrame ? function (callback) {
+            return $wnd.requestAnimationFrame(callback);
+        } : function (callback) {
+            return $wnd.setTimeout(callback, 16);
+        };
+
+        // Cached geometry is stale once anything scrolls or the window is resized
+        var invalidate = function () {
+            generation++;
+        };
+        doc.addEventListener('scroll', invalidate, true);
+        $wnd.addEventListener('resize', invalidate, false);
+
+        var scrollTop = function () {
+            return $wnd.pageYOffset || doc.documentElement.scrollTop || doc.body.scrollTop || 0;
+        };
+        var scrollLeft = function () {
+            return $wnd.pageXOffset || doc.documentElement.scrollLeft || doc.body.scrollLeft || 0;
+        };
+
+        // Bounds of an element in document coordinates, the visible window for the body
+        var bounds = function (el) {
+            var x = scrollLeft();
+            var y = scrollTop();
+            if (el.tagName === 'BODY') {
+                var width = $wnd.innerWidth || doc.documentElement.clientWidth;
+                var height = $wnd.innerHeight || doc.documentElement.clientHeight;
+                return { top: y, left: x, right: x + width, bottom: y + height, width: width, height: height };
+            }
+            var rect = el.getBoundingClientRect();
+            return {
+                top: rect.top + y,
+                left: rect.left + x,
+                right: rect.right + x,
+                bottom: rect.bottom + y,
+                width: rect.right - rect.left,
+                height: rect.bottom - rect.top
+            };
+        };
+
+        var cachedBounds = function (el) {
+            var cached = el.__gwtBootstrap3Bounds;
+            if (!cached || cached.generation !== generation) {
+                cached = el.__gwtBootstrap3Bounds = { generation: generation, bounds: bounds(el) };
+            }
+            return cached.bounds;
+        };
+
+        // Margins of the placement classes, which don't change between shows
+        var margins = function (tip, placement) {
+            var cache = tip.__gwtBootstrap3Margins || (tip.__gwtBootstrap3Margins = {});
+            if (!cache[placement]) {
+                var style = $wnd.getComputedStyle(tip, null);
+                cache[placement] = {
+                    top: parseInt(style.marginTop, 10) || 0,
+                    left: parseInt(style.marginLeft, 10) || 0
+                };
+            }
+            return cache[placement];
+        };
+
+        var setTransform = function (el, value) {
+            el.style.transform = el.style.webkitTransform = el.style.msTransform = value;
+        };
+
+        // Layout reads only
+        var measure = function (item) {
+            var that = item.plugin;
+            var tip = that.$tip[0];
+            var container = that.options.container ? $(that.options.container)[0] : that.$element.parent()[0];
+            var viewport = that.$viewport && that.$viewport[0];
+
+            return {
+                target: bounds(that.$element[0]),
+                tip: bounds(tip),
+                container: item.auto && container ? cachedBounds(container) : null,
+                viewport: viewport ? cachedBounds(viewport) : null,
+                margins: margins(tip, item.placement)
+            };
+        };
+
+        // Pure computation, as Bootstrap's getCalculatedOffset() and getViewportAdjustedDelta()
+        var place = function (item, m) {
+            var that = item.plugin;
+            var placement = item.placement;
+            var target = m.target;
+            var width = m.tip.width;
+            var height = m.tip.height;
+
+            if (m.container) {
+                var c = m.container;
+                placement = placement == 'bottom' && target.bottom + height > c.bottom ? 'top' :
+                            placement == 'top' && target.top - height < c.top ? 'bottom' :
+                            placement == 'right' && target.right + width > c.right ? 'left' :
+                            placement == 'left' && target.left - width < c.left ? 'right' :
+                            placement;
+            }
+
+            var offset = placement == 'bottom' ? { top: target.bottom, left: target.left + target.width / 2 - width / 2 } :
+                         placement == 'top' ? { top: target.top - height, left: target.left + target.width / 2 - width / 2 } :
+                         placement == 'left' ? { top: target.top + target.height / 2 - height / 2, left: target.left - width } :
+                         { top: target.top + target.height / 2 - height / 2, left: target.right };
+
+            var delta = { top: 0, left: 0 };
+            var vertical = /top|bottom/.test(placement);
+            if (m.viewport) {
+                var v = m.viewport;
+                var padding = that.options.viewport && that.options.viewport.padding || 0;
+                if (vertical) {
+                    if (offset.left - padding < v.left) {
+                        delta.left = v.left - offset.left + padding;
+                    } else if (offset.left + width + padding > v.right) {
+                        delta.left = v.right - offset.left - width - padding;
+                    }
+                } else {
+                    if (offset.top - padding < v.top) {
+                        delta.top = v.top - offset.top + padding;
+                    } else if (offset.top + height + padding > v.bottom) {
+                        delta.top = v.bottom - offset.top - height - padding;
+                    }
+                }
+            }
+
+            // The tip is at top: 0, left: 0 moved by its current translation, its margins included. The margins
+            // are added to the offset as Bootstrap does.
+            var translate = that.$tip[0].__gwtBootstrap3Translate || { x: 0, y: 0 };
+            return {
+                placement: placement,
+                x: Math.round(offset.left + delta.left - m.tip.left + translate.x + m.margins.left),
+                y: Math.round(offset.top + delta.top - m.tip.top + translate.y + m.margins.top),
+                arrow: vertical ?
+                    { name: 'left', value: 50 * (1 - 2 * delta.left / width) + '%' } :
+                    { name: 'top', value: 50 * (1 - 2 * delta.top / height) + '%' }
+            };
+        };
+
+        // Layout writes only
+        var write = function (item, p) {
+            var that = item.plugin;
+            var $tip = that.$tip;
+
+            if (p.placement != item.placement) {
+                $tip.removeClass(item.placement).addClass(p.placement);
+            }
+            setTransform($tip[0], 'translate(' + p.x + 'px, ' + p.y + 'px)');
+            $tip[0].__gwtBootstrap3Translate = { x: p.x, y: p.y };
+            $tip[0].style.visibility = '';
+            that.arrow().css(p.arrow.name, p.arrow.value).css(p.arrow.name == 'left' ? 'top' : 'left', '');
+            $tip.addClass('in');
+
+            if (item.complete) {
+                @org.gwtbootstrap3.client.GwtBootstrap3Timing::end(Ljava/lang/String;Ljava/lang/String;)(that.type + '.show', item.id);
+
+                $.support.transition && $tip.hasClass('fade') ?
+                    $tip.one('bsTransitionEnd', item.complete).emulateTransitionEnd($.fn.tooltip.Constructor.TRANSITION_DURATION) :
+                    item.complete();
+            }
+        };
+
+        var flush = $entry(function () {
+            frame = null;
+            var items = [];
+            for (var i = 0; i < queue.length; i++) {
+                var plugin = queue[i].plugin;
+                plugin.__gwtBootstrap3Pending = null;
+                // Removed or destroyed in the meantime
+                if (plugin.$tip && plugin.$tip[0].parentNode) {
+                    items.push(queue[i]);
+                } else {
+                    cancelTiming(queue[i]);
+                }
+            }
+            queue = [];
+
+            var measured = [];
+            for (var j = 0; j < items.length; j++) {
+                measured.push(measure(items[j]));
+            }
+            for (var k = 0; k < items.length; k++) {
+                write(items[k], place(items[k], measured[k]));
+            }
+        });
+
+        var cancelTiming = function (item) {
+            if (item.complete) {
+                @org.gwtbootstrap3.client.GwtBootstrap3Timing::cancel(Ljava/lang/String;Ljava/lang/String;)(item.plugin.type + '.show', item.id);
+            }
+        };
+
+        var schedule = function (item) {
+            var pending = item.plugin.__gwtBootstrap3Pending;
+            if (pending && !item.complete) {
+                // The pending show measures the tip anyway
+                return;
+            }
+            if (pending) {
+                cancelTiming(pending);
+                queue[$.inArray(pending, queue)] = item;
+            } else {
+                queue.push(item);
+            }
+            item.plugin.__gwtBootstrap3Pending = item;
+
+            if (frame === null) {
+                frame = requestFrame(flush);
+            }
+        };
+
+        var show = function () {
+            var e = $.Event('show.bs.' + this.type);
+
+            if (!this.hasContent() || !this.enabled) {
+                return;
+            }
+
+            this.$element.trigger(e);
+            var inDom = $.contains(this.$element[0].ownerDocument.documentElement, this.$element[0]);
+            if (e.isDefaultPrevented() || !inDom) {
+                return;
+            }
+
+            var that = this;
+            var $tip = this.tip();
+            var tipId = this.getUID(this.type);
+            @org.gwtbootstrap3.client.GwtBootstrap3Timing::start(Ljava/lang/String;Ljava/lang/String;)(this.type + '.show', tipId);
+
+            this.setContent();
+            $tip.attr('id', tipId);
+            this.$element.attr('aria-describedby', tipId);
+
+            if (this.options.animation) {
+                $tip.addClass('fade');
+            }
+
+            var placement = typeof this.options.placement == 'function' ?
+                this.options.placement.call(this, $tip[0], this.$element[0]) :
+                this.options.placement;
+            var autoToken = /\s?auto?\s?/i;
+            var auto = autoToken.test(placement);
+            if (auto) {
+                placement = placement.replace(autoToken, '') || 'top';
+            }
+
+            $tip.detach().css({ top: 0, left: 0, display: 'block', visibility: 'hidden' });
+            setTransform($tip[0], '');
+            $tip[0].__gwtBootstrap3Translate = { x: 0, y: 0 };
+            $tip.addClass(placement).data('bs.' + this.type, this);
+            this.options.container ? $tip.appendTo(this.options.container) : $tip.insertAfter(this.$element);
+
+            schedule({
+                plugin: this,
+                id: tipId,
+                placement: placement,
+                auto: auto,
+                complete: function () {
+                    var prevHoverState = that.hoverState;
+                    that.$element.trigger('shown.bs.' + that.type);
+                    that.hoverState = null;
+                    if (prevHoverState == 'out') {
+                        that.leave(that);
+                    }
+                }
+            });
+        };
+
+        // Places a shown tip again, e.g. after its content changed
+        var replace = function (placement) {
+            if (this.$tip && this.$tip[0].parentNode) {
+                schedule({ plugin: this, placement: placement, auto: false, complete: null });
+            }
+        };
+
+        // Drops the pending placement of a tip hidden before the next frame, which would show it again. Bootstrap
+        // doesn't tell whether the hide event was prevented, so it's checked by a listener bound last.
+        var hide = function (callback) {
+            var pending = this.__gwtBootstrap3Pending;
+            if (!pending) {
+                return engine.bootstrapHide.call(this, callback);
+            }
+
+            var prevented = true;
+            var type = 'hide.bs.' + this.type;
+            var check = function (e) {
+                prevented = e.isDefaultPrevented();
+            };
+            var $element = this.$element.on(type, check);
+            try {
+                return engine.bootstrapHide.call(this, callback);
+            } finally {
+                $element.off(type, check);
+                if (!prevented && this.__gwtBootstrap3Pending === pending) {
+                    cancelTiming(pending);
+                    queue.splice($.inArray(pending, queue), 1);
+                    this.__gwtBootstrap3Pending = null;
+                }
+            }
+        };
+
+        var engine = { show: show, place: replace, hide: hide, bootstrapHide: null };
+        return engine;
+    }-*/;
+}
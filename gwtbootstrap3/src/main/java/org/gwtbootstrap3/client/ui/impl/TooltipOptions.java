@@ -0,0 +1,77 @@
+package org.gwtbootstrap3.client.ui.impl;
+
+/*
+ * #%L
+ * GwtBootstrap3
+ * %%
+ * Copyright (C) 2013 - 2015 GwtBootstrap3
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.google.gwt.core.client.JavaScriptObject;
+
+/**
+ * Options of Bootstrap's tooltip plugin.
+ *
+ * @see <a href="http://getbootstrap.com/javascript/#tooltips-options">Tooltip options</a>
+ */
+public class TooltipOptions extends PluginOptions {
+
+    public static TooltipOptions create() {
+        return JavaScriptObject.createObject().cast();
+    }
+
+    protected TooltipOptions() {
+    }
+
+    public final void setAnimation(final boolean animation) {
+        set("animation", animation);
+    }
+
+    public final void setHtml(final boolean html) {
+        set("html", html);
+    }
+
+    public final void setPlacement(final String placement) {
+        set("placement", placement);
+    }
+
+    public final void setSelector(final String selector) {
+        set("selector", selector);
+    }
+
+    public final void setTitle(final String title) {
+        set("title", title);
+    }
+
+    public final void setTrigger(final String trigger) {
+        set("trigger", trigger);
+    }
+
+    public final native void setDelay(final int show, final int hide) /*-{
+        this.delay = {
+            show: show,
+            hide: hide
+        };
+    }-*/;
+
+    public final void setContainer(final String container) {
+        set("container", container);
+    }
+
+    public final void setTemplate(final String template) {
+        set("template", template);
+    }
+}
@@ -0,0 +1,140 @@
+package org.gwtbootstrap3.client.ui.impl;
+
+/*
+ * #%L
+ * GwtBootstrap3
+ * %%
+ * Copyright (C) 2013 - 2015 GwtBootstrap3
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.dom.client.Element;
+
+/**
+ * Applies options to an element's Bootstrap tooltip or popover, patching the live plugin instead of destroying
+ * and re-creating it when possible.
+ * <p/>
+ * Options are diffed against the ones the instance currently uses. Only the options the plugin reads when it's
+ * created force a rebuild: the template, container, selector, trigger and viewport. Everything else is read each
+ * time the tip is shown, so it's updated in place; a changed title or content is also patched into a tip that's
+ * currently shown, which is then repositioned.
+ */
+public final class TooltipUpdater {
+
+    /**
+     * The options were applied to the existing instance.
+     */
+    public static final int PATCHED = 0;
+
+    /**
+     * There was no instance, it has been created.
+     */
+    public static final int CREATED = 1;
+
+    /**
+     * A structural option changed, the instance has been destroyed and re-created. Destroying the instance also
+     * unbinds every handler of the plugin's namespace, e.g. {@code show.bs.tooltip}, from the element.
+     */
+    public static final int REBUILT = 2;
+
+    /**
+     * Applies the options to the element's tooltip or popover.
+     *
+     * @param e       Element of the tooltip or popover
+     * @param plugin  {@code tooltip} or {@code popover}
+     * @param options Options to apply
+     * @return {@link #PATCHED}, {@link #CREATED} or {@link #REBUILT}
+     */
+    public static native int apply(final Element e, final String plugin, final TooltipOptions options) /*-{
+        var $e = $wnd.jQuery(e);
+        var data = $e.data('bs.' + plugin);
+
+        if (!data) {
+            $e[plugin](options);
+            return @org.gwtbootstrap3.client.ui.impl.TooltipUpdater::CREATED;
+        }
+
+        var defaults = data.getDefaults();
+        var value = function (key) {
+            return options.hasOwnProperty(key) ? options[key] : defaults[key];
+        };
+
+        var structural = ['template', 'container', 'selector', 'trigger', 'viewport'];
+        for (var i = 0; i < structural.length; i++) {
+            if (value(structural[i]) !== data.options[structural[i]]) {
+                // Destroy synchronously, the animated hide would unbind the new instance's handlers once it ends
+                if (data.$tip) {
+                    data.$tip.removeClass('fade');
+                }
+                $e[plugin]('destroy');
+                $e[plugin](options);
+                return @org.gwtbootstrap3.client.ui.impl.TooltipUpdater::REBUILT;
+            }
+        }
+
+        var old = data.options;
+        var delay = value('delay');
+        var changed = value('title') !== old.title || value('content') !== old.content || value('html') !== old.html;
+
+        old.animation = value('animation');
+        old.html = value('html');
+        old.placement = value('placement');
+        old.title = value('title');
+        old.content = value('content');
+        old.delay = typeof delay == 'number' ? { show: delay, hide: delay } : delay;
+
+        var $tip = data.$tip;
+        if (changed && $tip && $tip.hasClass('in')) {
+            @org.gwtbootstrap3.client.ui.impl.TooltipUpdater::patch(*)(data, $tip);
+        }
+
+        return @org.gwtbootstrap3.client.ui.impl.TooltipUpdater::PATCHED;
+    }-*/;
+
+    /**
+     * Replaces the text of the shown tip, as Bootstrap's setContent() does without hiding the tip, and places it
+     * again as its size may have changed. Also used by {@link DelegatedTooltip#refresh(Element)}.
+     */
+    static native void patch(final JavaScriptObject data, final JavaScriptObject tip) /*-{
+        var html = data.options.html ? 'html' : 'text';
+
+        if (data.type === 'popover') {
+            var title = data.getTitle();
+            var content = data.getContent();
+            var $title = tip.find('.popover-title');
+            $title[html](title);
+            title ? $title.show() : $title.hide();
+            tip.find('.popover-content').children().detach().end()[
+                data.options.html ? (typeof content == 'string' ? 'html' : 'append') : 'text'](content);
+        } else {
+            tip.find('.tooltip-inner')[html](data.getTitle());
+        }
+
+        var match = /\b(top|bottom|left|right)\b/.exec(tip[0].className);
+        if (match && data.place) {
+            // Installed by PositioningImplNative
+            data.place(match[1]);
+        } else if (match) {
+            var placement = match[1];
+            var offset = data.getCalculatedOffset(placement, data.getPosition(), tip[0].offsetWidth,
+                tip[0].offsetHeight);
+            data.applyPlacement(offset, placement);
+        }
+    }-*/;
+
+    private TooltipUpdater() {
+    }
+}
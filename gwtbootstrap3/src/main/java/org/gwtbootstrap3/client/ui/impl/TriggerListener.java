@@ -0,0 +1,103 @@
+package org.gwtbootstrap3.client.ui.impl;
+
+/*
+ * #%L
+ * GwtBootstrap3
+ * %%
+ * Copyright (C) 2013 - 2015 GwtBootstrap3
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.gwtbootstrap3.client.ui.constants.Trigger;
+
+import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.dom.client.Element;
+import com.google.gwt.user.client.Event;
+
+/**
+ * Waits for the first interaction that would show a tooltip or popover, without jQuery or Bootstrap's plugin.
+ * Lets the plugin be created on demand rather than for every element that might show one.
+ */
+public final class TriggerListener {
+
+    /**
+     * Receives the first interaction.
+     */
+    public interface Handler {
+
+        /**
+         * @param type Event the plugin listens to for this interaction, e.g. {@code mouseenter}, so it can be
+         *             replayed once the plugin has been created
+         */
+        void onTrigger(String type);
+    }
+
+    private final Element element;
+    private final Handler handler;
+    private JavaScriptObject hoverListener;
+    private JavaScriptObject focusListener;
+    private JavaScriptObject clickListener;
+
+    /**
+     * Starts listening for the interactions of the trigger. Nothing is listened for with {@link Trigger#MANUAL}.
+     *
+     * @param e       Element the tooltip or popover is attached to
+     * @param trigger Trigger of the tooltip or popover
+     * @param handler Handler notified once, on the first interaction
+     * @return the listener, to {@link #remove()} it
+     */
+    public static TriggerListener listen(final Element e, final Trigger trigger, final Handler handler) {
+        final TriggerListener listener = new TriggerListener(e, handler);
+
+        // Bootstrap's default trigger is "hover focus"
+        if (trigger == Trigger.HOVER || trigger == Trigger.DEFAULT) {
+            listener.hoverListener = listener.listen("mouseover", "mouseenter", false);
+        }
+        if (trigger == Trigger.FOCUS || trigger == Trigger.DEFAULT) {
+            // Focus doesn't bubble, but is captured for every descendant, like focusin
+            listener.focusListener = listener.listen("focus", "focusin", true);
+        }
+        if (trigger == Trigger.CLICK) {
+            listener.clickListener = listener.listen("click", "click", false);
+        }
+
+        return listener;
+    }
+
+    private TriggerListener(final Element element, final Handler handler) {
+        this.element = element;
+        this.handler = handler;
+    }
+
+    /**
+     * Stops listening. Called automatically after the first interaction.
+     */
+    public void remove() {
+        NativeDom.removeListener(element, "mouseover", hoverListener, false);
+        NativeDom.removeListener(element, "focus", focusListener, true);
+        NativeDom.removeListener(element, "click", clickListener, false);
+        hoverListener = focusListener = clickListener = null;
+    }
+
+    private JavaScriptObject listen(final String type, final String pluginType, final boolean capture) {
+        return NativeDom.addListener(element, type, new PluginImpl.Handler() {
+            @Override
+            public void onEvent(final Event evt) {
+                remove();
+                handler.onTrigger(pluginType);
+            }
+        }, capture);
+    }
+}
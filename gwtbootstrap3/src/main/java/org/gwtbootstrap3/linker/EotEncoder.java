@@ -0,0 +1,134 @@
+package org.gwtbootstrap3.linker;
+
+/*
+ * #%L
+ * GwtBootstrap3
+ * %%
+ * Copyright (C) 2013 - 2015 GwtBootstrap3
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Map;
+
+import static org.gwtbootstrap3.linker.Sfnt.u16;
+import static org.gwtbootstrap3.linker.Sfnt.u32;
+
+/**
+ * Wraps TrueType fonts in an uncompressed Embedded OpenType (version 0x00020001) header, the format used by IE 8.
+ */
+public final class EotEncoder {
+
+    private static final int VERSION = 0x00020001;
+    private static final int MAGIC_NUMBER = 0x504C;
+    private static final int DEFAULT_CHARSET = 1;
+
+    // Name IDs
+    private static final int FAMILY_NAME = 1;
+    private static final int STYLE_NAME = 2;
+    private static final int FULL_NAME = 4;
+    private static final int VERSION_NAME = 5;
+
+    private EotEncoder() {
+    }
+
+    /**
+     * @param font TrueType font
+     * @return the EOT font
+     * @throws IllegalArgumentException if the font isn't a TrueType font with OS/2, head and name tables
+     */
+    public static byte[] encode(final byte[] font) {
+        final Map<String, Sfnt.Table> tables = Sfnt.read(font);
+        if (!tables.containsKey("OS/2") || !tables.containsKey("head") || !tables.containsKey("name")) {
+            throw new IllegalArgumentException("Missing OS/2, head or name table");
+        }
+
+        final byte[] os2 = tables.get("OS/2").data;
+        final byte[] head = tables.get("head").data;
+        final byte[] name = tables.get("name").data;
+        final byte[][] names = {
+                getName(name, FAMILY_NAME),
+                getName(name, STYLE_NAME),
+                getName(name, VERSION_NAME),
+                getName(name, FULL_NAME),
+                // Root string, the font isn't restricted to any URL
+                new byte[0]
+        };
+
+        int length = 80;
+        for (final byte[] string : names) {
+            length += 4 + string.length;
+        }
+        length += font.length;
+
+        final ByteBuffer out = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+        out.putInt(length)
+                .putInt(font.length)
+                .putInt(VERSION)
+                .putInt(0)
+                .put(os2, 32, 10)
+                .put((byte) DEFAULT_CHARSET)
+                // Italic bit of fsSelection
+                .put((byte) (u16(os2, 62) & 1))
+                .putInt(u16(os2, 4))
+                .putShort((short) u16(os2, 8))
+                .putShort((short) MAGIC_NUMBER);
+        for (int i = 0; i < 4; i++) {
+            out.putInt(u32(os2, 42 + 4 * i));
+        }
+        for (int i = 0; i < 2; i++) {
+            // Code page ranges were added in version 1 of the OS/2 table
+            out.putInt(u16(os2, 0) >= 1 ? u32(os2, 78 + 4 * i) : 0);
+        }
+        out.putInt(u32(head, 8))
+                .putInt(0).putInt(0).putInt(0).putInt(0);
+
+        for (final byte[] string : names) {
+            out.putShort((short) 0)
+                    .putShort((short) string.length)
+                    .put(string);
+        }
+        out.put(font);
+        return out.array();
+    }
+
+    /**
+     * @return the name in UTF-16LE, preferring the Windows English name, or an empty name if the font has none
+     */
+    private static byte[] getName(final byte[] name, final int nameId) {
+        final int count = u16(name, 2);
+        final int strings = u16(name, 4);
+        byte[] found = new byte[0];
+        for (int i = 0; i < count; i++) {
+            final int record = 6 + 12 * i;
+            if (u16(name, record) != 3 || u16(name, record + 2) != 1 || u16(name, record + 6) != nameId) {
+                continue;
+            }
+
+            final int length = u16(name, record + 8);
+            final int offset = strings + u16(name, record + 10);
+            found = new byte[length];
+            for (int j = 0; j + 1 < length; j += 2) {
+                found[j] = name[offset + j + 1];
+                found[j + 1] = name[offset + j];
+            }
+            if (u16(name, record + 4) == 0x409) {
+                break;
+            }
+        }
+        return found;
+    }
+}
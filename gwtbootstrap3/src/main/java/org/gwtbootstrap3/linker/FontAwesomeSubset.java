@@ -0,0 +1,201 @@
+package org.gwtbootstrap3.linker;
+
+/*
+ * #%L
+ * GwtBootstrap3
+ * %%
+ * Copyright (C) 2013 - 2015 GwtBootstrap3
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Subset of the Font Awesome stylesheet and fonts containing the icons an application uses.
+ * <p/>
+ * Icons are recognized by their style names ({@code fa-star}), either found in the compiled code or added explicitly.
+ * Aliases share their icon's glyph but keep only the rules of the names in use.
+ */
+public class FontAwesomeSubset {
+
+    // .fa-hotel:before,.fa-bed:before{content:"\f236"}
+    private static final Pattern ICON_RULE =
+            Pattern.compile("((?:\\.fa-[a-z0-9-]+:before,?)+)\\{content:\"\\\\([0-9a-f]+)\"\\}");
+    private static final Pattern ICON_SELECTOR = Pattern.compile("\\.(fa-[a-z0-9-]+):before");
+    private static final Pattern STYLE_NAME = Pattern.compile("fa-[a-z0-9]+(?:-[a-z0-9]+)*");
+
+    // No WOFF 2.0 subset can be encoded without Brotli, browsers use the WOFF font instead
+    private static final Pattern WOFF2_SOURCE = Pattern.compile("url\\([^)]*\\.woff2[^)]*\\) format\\('woff2'\\),");
+
+    // url('../fonts/fontawesome-webfont.eot?#iefix&v=4.3.0'), the query keeps old IE from reading the format list
+    private static final Pattern FONT_FILE = Pattern.compile("fontawesome-webfont\\.([a-z0-9]+)\\?(#iefix&)?v=[0-9.]+");
+
+    private static final Pattern SVG_GLYPH = Pattern.compile("<glyph\\b[^>]*>\\s*");
+    private static final Pattern SVG_UNICODE = Pattern.compile("unicode=\"([^\"]*)\"");
+    private static final Pattern SVG_ENTITY = Pattern.compile("&#(x?)([0-9a-fA-F]+);");
+
+    private final String css;
+    private final Map<String, Integer> icons = new HashMap<String, Integer>();
+    private final Set<String> usedIcons = new TreeSet<String>();
+
+    /**
+     * @param css the complete Font Awesome stylesheet
+     */
+    public FontAwesomeSubset(final String css) {
+        this.css = css;
+
+        final Matcher rule = ICON_RULE.matcher(css);
+        while (rule.find()) {
+            final Matcher selector = ICON_SELECTOR.matcher(rule.group(1));
+            while (selector.find()) {
+                icons.put(selector.group(1), Integer.parseInt(rule.group(2), 16));
+            }
+        }
+    }
+
+    /**
+     * Adds the icons whose style names appear in the text, usually compiled JavaScript.
+     */
+    public void scan(final CharSequence text) {
+        final Matcher styleName = STYLE_NAME.matcher(text);
+        while (styleName.find()) {
+            if (icons.containsKey(styleName.group())) {
+                usedIcons.add(styleName.group());
+            }
+        }
+    }
+
+    /**
+     * @param styleName style name of the icon, e.g. {@code fa-star}
+     * @return false if the stylesheet has no such icon
+     */
+    public boolean addIcon(final String styleName) {
+        if (!icons.containsKey(styleName)) {
+            return false;
+        }
+        usedIcons.add(styleName);
+        return true;
+    }
+
+    /**
+     * @return the number of icons in the complete stylesheet, aliases included
+     */
+    public int getIconCount() {
+        return icons.size();
+    }
+
+    /**
+     * @return the style names of the icons in the subset
+     */
+    public Set<String> getUsedIcons() {
+        return Collections.unmodifiableSet(usedIcons);
+    }
+
+    /**
+     * @return the code points of the icons in the subset
+     */
+    public SortedSet<Integer> getCodePoints() {
+        final SortedSet<Integer> codePoints = new TreeSet<Integer>();
+        for (final String icon : usedIcons) {
+            codePoints.add(icons.get(icon));
+        }
+        return codePoints;
+    }
+
+    /**
+     * @return the stylesheet without the rules of unused icons and without the WOFF 2.0 font
+     */
+    public String getCss() {
+        final StringBuffer trimmed = new StringBuffer(css.length());
+        final Matcher rule = ICON_RULE.matcher(css);
+        while (rule.find()) {
+            final StringBuilder selectors = new StringBuilder();
+            final Matcher selector = ICON_SELECTOR.matcher(rule.group(1));
+            while (selector.find()) {
+                if (usedIcons.contains(selector.group(1))) {
+                    selectors.append(selectors.length() == 0 ? "" : ",").append(selector.group());
+                }
+            }
+            final String replacement = selectors.length() == 0 ? ""
+                    : selectors + "{content:\"\\" + rule.group(2) + "\"}";
+            rule.appendReplacement(trimmed, Matcher.quoteReplacement(replacement));
+        }
+        rule.appendTail(trimmed);
+        return WOFF2_SOURCE.matcher(trimmed).replaceAll("");
+    }
+
+    /**
+     * @param fontFiles new file names of the fonts in the stylesheet's font directory, by extension
+     * @return the stylesheet without the rules of unused icons and without the WOFF 2.0 font, referencing the
+     * renamed fonts without their version query
+     */
+    public String getCss(final Map<String, String> fontFiles) {
+        final StringBuffer renamed = new StringBuffer();
+        final Matcher file = FONT_FILE.matcher(getCss());
+        while (file.find()) {
+            final String name = fontFiles.get(file.group(1));
+            final String replacement = name == null ? file.group() : name + (file.group(2) == null ? "" : "?#iefix");
+            file.appendReplacement(renamed, Matcher.quoteReplacement(replacement));
+        }
+        file.appendTail(renamed);
+        return renamed.toString();
+    }
+
+    /**
+     * @param ttf the complete TrueType font
+     * @return the TrueType font with the glyphs of the icons in the subset
+     */
+    public byte[] getTrueType(final byte[] ttf) {
+        return TrueTypeSubsetter.subset(ttf, getCodePoints());
+    }
+
+    /**
+     * @param svg the complete SVG font
+     * @return the SVG font with the glyphs of the icons in the subset
+     */
+    public String getSvg(final String svg) {
+        final SortedSet<Integer> codePoints = getCodePoints();
+        final StringBuffer trimmed = new StringBuffer();
+        final Matcher glyph = SVG_GLYPH.matcher(svg);
+        while (glyph.find()) {
+            final Matcher unicode = SVG_UNICODE.matcher(glyph.group());
+            final boolean used = unicode.find() && codePoints.contains(decode(unicode.group(1)));
+            glyph.appendReplacement(trimmed, used ? Matcher.quoteReplacement(glyph.group()) : "");
+        }
+        glyph.appendTail(trimmed);
+        return trimmed.toString();
+    }
+
+    /**
+     * @return the code point of a single character attribute value, -1 for ligatures
+     */
+    private static int decode(final String value) {
+        final Matcher entity = SVG_ENTITY.matcher(value);
+        final StringBuffer decoded = new StringBuffer();
+        while (entity.find()) {
+            final int codePoint = Integer.parseInt(entity.group(2), entity.group(1).isEmpty() ? 10 : 16);
+            entity.appendReplacement(decoded, Matcher.quoteReplacement(new String(Character.toChars(codePoint))));
+        }
+        entity.appendTail(decoded);
+        return decoded.codePointCount(0, decoded.length()) == 1 ? decoded.codePointAt(0) : -1;
+    }
+}
@@ -0,0 +1,233 @@
+package org.gwtbootstrap3.linker;
+
+/*
+ * #%L
+ * GwtBootstrap3
+ * %%
+ * Copyright (C) 2013 - 2015 GwtBootstrap3
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SortedSet;
+
+import com.google.gwt.core.ext.LinkerContext;
+import com.google.gwt.core.ext.TreeLogger;
+import com.google.gwt.core.ext.UnableToCompleteException;
+import com.google.gwt.core.ext.linker.AbstractLinker;
+import com.google.gwt.core.ext.linker.ArtifactSet;
+import com.google.gwt.core.ext.linker.CompilationResult;
+import com.google.gwt.core.ext.linker.ConfigurationProperty;
+import com.google.gwt.core.ext.linker.EmittedArtifact;
+import com.google.gwt.core.ext.linker.LinkerOrder;
+import com.google.gwt.core.ext.linker.LinkerOrder.Order;
+import com.google.gwt.core.ext.linker.StylesheetReference;
+
+/**
+ * Replaces the Font Awesome stylesheet and fonts of the public path with a subset containing the icons the
+ * application uses.
+ * <p/>
+ * The icons are the style names found in the JavaScript of every permutation, plus the ones listed in the
+ * {@code gwtbootstrap3.fontawesome.icons} configuration property for names the compiled code builds at runtime.
+ * The TrueType, WOFF, EOT and SVG fonts are subset, the WOFF 2.0 font is dropped from the output and the stylesheet
+ * so that browsers use the WOFF font.
+ * <p/>
+ * The subset files are emitted under names containing a hash of their content, as {@code .cache.} files are cached
+ * forever, and the module's {@code <stylesheet>} is pointed to the renamed stylesheet. Without such a stylesheet
+ * reference, e.g. when the stylesheet is loaded by name from the CDN fallback or in deferred mode, Font Awesome is
+ * kept complete.
+ * <p/>
+ * Added by the {@code GwtBootstrap3FontAwesomeSubset} module.
+ */
+@LinkerOrder(Order.PRE)
+public class FontAwesomeSubsetLinker extends AbstractLinker {
+
+    static final String ICONS_PROPERTY = "gwtbootstrap3.fontawesome.icons";
+
+    private static final String CSS = "css/font-awesome-4.3.0.min.cache.css";
+    private static final String FONTS = "fonts/fontawesome-webfont.";
+    private static final String FONT_FILE = "fontawesome-webfont.";
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    @Override
+    public String getDescription() {
+        return "Font Awesome subset";
+    }
+
+    @Override
+    public ArtifactSet link(final TreeLogger logger, final LinkerContext context, final ArtifactSet artifacts)
+            throws UnableToCompleteException {
+        final SortedSet<CompilationResult> results = artifacts.find(CompilationResult.class);
+        final EmittedArtifact css = find(artifacts, CSS);
+        if (results.isEmpty() || css == null) {
+            // Nothing compiled (dev mode) or Font Awesome isn't on the public path
+            return artifacts;
+        }
+
+        final TreeLogger branch = logger.branch(TreeLogger.INFO, "Subsetting Font Awesome");
+        final StylesheetReference stylesheet = findStylesheet(artifacts, CSS);
+        if (stylesheet == null) {
+            branch.log(TreeLogger.INFO, "No <stylesheet src=\"" + CSS + "\"> in the module, the stylesheet is loaded "
+                    + "by name and Font Awesome is kept complete");
+            return artifacts;
+        }
+        final FontAwesomeSubset subset = new FontAwesomeSubset(new String(read(branch, css), UTF_8));
+        for (final CompilationResult result : results) {
+            for (final String fragment : result.getJavaScript()) {
+                subset.scan(fragment);
+            }
+        }
+        for (final ConfigurationProperty property : context.getConfigurationProperties()) {
+            if (ICONS_PROPERTY.equals(property.getName())) {
+                for (final String icon : property.getValues()) {
+                    if (icon != null && !icon.isEmpty() && !subset.addIcon(icon)) {
+                        branch.log(TreeLogger.WARN, "Unknown Font Awesome icon '" + icon + "' in " + ICONS_PROPERTY);
+                    }
+                }
+            }
+        }
+
+        final EmittedArtifact ttf = find(artifacts, FONTS + "ttf");
+        if (ttf == null) {
+            branch.log(TreeLogger.WARN, "No " + FONTS + "ttf on the public path, keeping the complete font");
+            return artifacts;
+        }
+
+        final byte[] completeTtf = read(branch, ttf);
+        final byte[] subsetTtf;
+        try {
+            subsetTtf = subset.getTrueType(completeTtf);
+        } catch (final IllegalArgumentException e) {
+            branch.log(TreeLogger.WARN, "Unable to subset " + ttf.getPartialPath() + ", keeping the complete font", e);
+            return artifacts;
+        }
+
+        final ArtifactSet subsetArtifacts = new ArtifactSet(artifacts);
+        final Map<String, String> fontFiles = new HashMap<String, String>();
+        subsetArtifacts.remove(ttf);
+        emitFont(branch, subsetArtifacts, fontFiles, "ttf", subsetTtf);
+
+        final EmittedArtifact woff = find(artifacts, FONTS + "woff");
+        if (woff != null) {
+            subsetArtifacts.remove(woff);
+            emitFont(branch, subsetArtifacts, fontFiles, "woff", WoffEncoder.encode(subsetTtf));
+        }
+        final EmittedArtifact eot = find(artifacts, FONTS + "eot");
+        if (eot != null) {
+            subsetArtifacts.remove(eot);
+            emitFont(branch, subsetArtifacts, fontFiles, "eot", EotEncoder.encode(subsetTtf));
+        }
+        final EmittedArtifact svg = find(artifacts, FONTS + "svg");
+        if (svg != null) {
+            subsetArtifacts.remove(svg);
+            final String subsetSvg = subset.getSvg(new String(read(branch, svg), UTF_8));
+            emitFont(branch, subsetArtifacts, fontFiles, "svg", subsetSvg.getBytes(UTF_8));
+        }
+        final EmittedArtifact woff2 = find(artifacts, FONTS + "woff2");
+        if (woff2 != null) {
+            subsetArtifacts.remove(woff2);
+        }
+
+        final byte[] subsetCss = subset.getCss(fontFiles).getBytes(UTF_8);
+        final String subsetCssPath = "css/font-awesome-4.3.0." + strongName(subsetCss) + ".cache.css";
+        subsetArtifacts.remove(css);
+        subsetArtifacts.add(emitBytes(branch, subsetCss, subsetCssPath));
+        subsetArtifacts.remove(stylesheet);
+        subsetArtifacts.add(new StylesheetReference(FontAwesomeSubsetLinker.class, subsetCssPath,
+                stylesheet.getIndex()));
+
+        branch.log(TreeLogger.INFO, subset.getUsedIcons().size() + " of " + subset.getIconCount() + " icons, "
+                + subsetTtf.length + " bytes of TrueType font instead of " + completeTtf.length);
+        if (subset.getUsedIcons().size() == subset.getIconCount()) {
+            branch.log(TreeLogger.INFO, "Every icon is kept: the IconType constants name all of them once the "
+                    + "application uses IconType, use the IconName constants instead");
+        }
+        return subsetArtifacts;
+    }
+
+    private static EmittedArtifact find(final ArtifactSet artifacts, final String partialPath) {
+        for (final EmittedArtifact artifact : artifacts.find(EmittedArtifact.class)) {
+            if (partialPath.equals(artifact.getPartialPath())) {
+                return artifact;
+            }
+        }
+        return null;
+    }
+
+    private static StylesheetReference findStylesheet(final ArtifactSet artifacts, final String src) {
+        for (final StylesheetReference stylesheet : artifacts.find(StylesheetReference.class)) {
+            if (src.equals(stylesheet.getSrc())) {
+                return stylesheet;
+            }
+        }
+        return null;
+    }
+
+    private void emitFont(final TreeLogger logger, final ArtifactSet artifacts, final Map<String, String> fontFiles,
+                          final String extension, final byte[] font) throws UnableToCompleteException {
+        final String file = FONT_FILE + strongName(font) + ".cache." + extension;
+        artifacts.add(emitBytes(logger, font, "fonts/" + file));
+        fontFiles.put(extension, file);
+    }
+
+    /**
+     * Hash of the content, in the format of the compiler's strong names.
+     */
+    static String strongName(final byte[] content) {
+        final byte[] digest;
+        try {
+            digest = MessageDigest.getInstance("MD5").digest(content);
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        final StringBuilder name = new StringBuilder(digest.length * 2);
+        for (final byte b : digest) {
+            name.append(Character.toUpperCase(Character.forDigit((b >> 4) & 0xf, 16)))
+                    .append(Character.toUpperCase(Character.forDigit(b & 0xf, 16)));
+        }
+        return name.toString();
+    }
+
+    private static byte[] read(final TreeLogger logger, final EmittedArtifact artifact)
+            throws UnableToCompleteException {
+        final InputStream in = artifact.getContents(logger);
+        try {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[8192];
+            for (int read = in.read(buffer); read >= 0; read = in.read(buffer)) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        } catch (final IOException e) {
+            logger.log(TreeLogger.ERROR, "Unable to read " + artifact.getPartialPath(), e);
+            throw new UnableToCompleteException();
+        } finally {
+            try {
+                in.close();
+            } catch (final IOException e) {
+                // Ignored
+            }
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package org.gwtbootstrap3.linker;
+
+/*
+ * #%L
+ * GwtBootstrap3
+ * %%
+ * Copyright (C) 2013 - 2015 GwtBootstrap3
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Reads and writes the table directory of TrueType (sfnt) fonts.
+ */
+final class Sfnt {
+
+    static final int TRUETYPE = 0x00010000;
+
+    /**
+     * A table of the font with the checksum recorded in the table directory.
+     */
+    static final class Table {
+        final String tag;
+        final int checksum;
+        final byte[] data;
+
+        Table(final String tag, final int checksum, final byte[] data) {
+            this.tag = tag;
+            this.checksum = checksum;
+            this.data = data;
+        }
+    }
+
+    private Sfnt() {
+    }
+
+    /**
+     * @return the tables of the font, sorted by tag
+     * @throws IllegalArgumentException if the font isn't a TrueType font
+     */
+    static Map<String, Table> read(final byte[] font) {
+        final ByteBuffer in = ByteBuffer.wrap(font);
+        if (font.length < 12 || in.getInt(0) != TRUETYPE) {
+            throw new IllegalArgumentException("Not a TrueType font");
+        }
+
+        final int numTables = in.getShort(4) & 0xffff;
+        final Map<String, Table> tables = new TreeMap<String, Table>();
+        for (int i = 0; i < numTables; i++) {
+            final int record = 12 + 16 * i;
+            final String tag = tag(in.getInt(record));
+            final int offset = in.getInt(record + 8);
+            final int length = in.getInt(record + 12);
+            tables.put(tag, new Table(tag, in.getInt(record + 4), Arrays.copyOfRange(font, offset, offset + length)));
+        }
+        return tables;
+    }
+
+    /**
+     * Writes a TrueType font, computing the table checksums and the checksum adjustment of the head table.
+     *
+     * @param tables table data by tag
+     */
+    static byte[] write(final Map<String, byte[]> tables) {
+        final Map<String, byte[]> sorted = new TreeMap<String, byte[]>(tables);
+        final int numTables = sorted.size();
+
+        int length = 12 + 16 * numTables;
+        for (final byte[] data : sorted.values()) {
+            length += pad(data.length);
+        }
+
+        final int entrySelector = log2(numTables);
+        final int searchRange = 16 << entrySelector;
+
+        final ByteBuffer out = ByteBuffer.allocate(length);
+        out.putInt(TRUETYPE)
+                .putShort((short) numTables)
+                .putShort((short) searchRange)
+                .putShort((short) entrySelector)
+                .putShort((short) (numTables * 16 - searchRange));
+
+        int offset = 12 + 16 * numTables;
+        int headOffset = -1;
+        for (final Map.Entry<String, byte[]> entry : sorted.entrySet()) {
+            byte[] data = entry.getValue();
+            if ("head".equals(entry.getKey())) {
+                // The checksum of head is computed with a zero adjustment
+                data = data.clone();
+                Arrays.fill(data, 8, 12, (byte) 0);
+                headOffset = offset;
+            }
+            out.putInt(tag(entry.getKey())).putInt(checksum(data)).putInt(offset).putInt(data.length);
+            System.arraycopy(data, 0, out.array(), offset, data.length);
+            offset += pad(data.length);
+        }
+
+        if (headOffset >= 0) {
+            out.putInt(headOffset + 8, (int) (0xB1B0AFBAL - (checksum(out.array()) & 0xffffffffL)));
+        }
+        return out.array();
+    }
+
+    static int checksum(final byte[] data) {
+        int sum = 0;
+        for (int i = 0; i < data.length; i += 4) {
+            int value = 0;
+            for (int j = i; j < i + 4; j++) {
+                value = (value << 8) | (j < data.length ? data[j] & 0xff : 0);
+            }
+            sum += value;
+        }
+        return sum;
+    }
+
+    /**
+     * @return the length padded to a multiple of four bytes, tables are long aligned
+     */
+    static int pad(final int length) {
+        return (length + 3) & ~3;
+    }
+
+    /**
+     * @return the largest power of two not greater than {@code n}, as an exponent
+     */
+    static int log2(final int n) {
+        return 31 - Integer.numberOfLeadingZeros(Math.max(n, 1));
+    }
+
+    static int u16(final byte[] data, final int offset) {
+        return ((data[offset] & 0xff) << 8) | (data[offset + 1] & 0xff);
+    }
+
+    static int s16(final byte[] data, final int offset) {
+        return (short) u16(data, offset);
+    }
+
+    static int u32(final byte[] data, final int offset) {
+        return (u16(data, offset) << 16) | u16(data, offset + 2);
+    }
+
+    static void put16(final byte[] data, final int offset, final int value) {
+        data[offset] = (byte) (value >> 8);
+        data[offset + 1] = (byte) value;
+    }
+
+    static void put32(final byte[] data, final int offset, final int value) {
+        put16(data, offset, value >> 16);
+        put16(data, offset + 2, value);
+    }
+
+    private static String tag(final int tag) {
+        final char[] chars = new char[4];
+        for (int i = 0; i < 4; i++) {
+            chars[i] = (char) ((tag >> (24 - 8 * i)) & 0xff);
+        }
+        return new String(chars);
+    }
+
+    static int tag(final String tag) {
+        int value = 0;
+        for (int i = 0; i < 4; i++) {
+            value = (value << 8) | (tag.charAt(i) & 0xff);
+        }
+        return value;
+    }
+}
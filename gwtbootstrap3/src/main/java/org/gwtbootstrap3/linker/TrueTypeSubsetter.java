@@ -0,0 +1,313 @@
+package org.gwtbootstrap3.linker;
+
+/*
+ * #%L
+ * GwtBootstrap3
+ * %%
+ * Copyright (C) 2013 - 2015 GwtBootstrap3
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import static org.gwtbootstrap3.linker.Sfnt.put16;
+import static org.gwtbootstrap3.linker.Sfnt.put32;
+import static org.gwtbootstrap3.linker.Sfnt.s16;
+import static org.gwtbootstrap3.linker.Sfnt.u16;
+import static org.gwtbootstrap3.linker.Sfnt.u32;
+
+/**
+ * Reduces a TrueType font to the glyphs of a set of code points.
+ * <p/>
+ * The subset keeps the {@code .notdef} glyph, the glyphs mapped to the code points and the components of composite
+ * glyphs, in their original order. Glyph names and the GDEF table aren't kept, the code points are mapped by a single
+ * Unicode BMP cmap.
+ */
+public final class TrueTypeSubsetter {
+
+    private static final String[] REQUIRED_TABLES = {"cmap", "glyf", "head", "hhea", "hmtx", "loca", "maxp"};
+
+    // Tables copied as is, the others are either rewritten or dropped
+    private static final String[] COPIED_TABLES = {"OS/2", "cvt ", "fpgm", "gasp", "name", "prep"};
+
+    // Composite glyph flags
+    private static final int ARG_1_AND_2_ARE_WORDS = 0x0001;
+    private static final int WE_HAVE_A_SCALE = 0x0008;
+    private static final int MORE_COMPONENTS = 0x0020;
+    private static final int WE_HAVE_AN_X_AND_Y_SCALE = 0x0040;
+    private static final int WE_HAVE_A_TWO_BY_TWO = 0x0080;
+
+    private TrueTypeSubsetter() {
+    }
+
+    /**
+     * @param font TrueType font
+     * @param codePoints code points to keep, the ones the font doesn't map are ignored
+     * @return the subset font
+     * @throws IllegalArgumentException if the font isn't a TrueType font with outlines
+     */
+    public static byte[] subset(final byte[] font, final Collection<Integer> codePoints) {
+        final Map<String, Sfnt.Table> tables = Sfnt.read(font);
+        for (final String tag : REQUIRED_TABLES) {
+            if (!tables.containsKey(tag)) {
+                throw new IllegalArgumentException("Missing " + tag + " table");
+            }
+        }
+
+        final byte[] head = tables.get("head").data.clone();
+        final byte[] hhea = tables.get("hhea").data.clone();
+        final byte[] maxp = tables.get("maxp").data.clone();
+        final byte[] hmtx = tables.get("hmtx").data;
+        final byte[] glyf = tables.get("glyf").data;
+        final int[] loca = readLoca(tables.get("loca").data, s16(head, 50), u16(maxp, 4));
+
+        final Map<Integer, Integer> cmap = readCmap(tables.get("cmap").data);
+        final SortedMap<Integer, Integer> mapping = new TreeMap<Integer, Integer>();
+        final SortedSet<Integer> glyphs = new TreeSet<Integer>();
+        glyphs.add(0);
+        for (final Integer codePoint : codePoints) {
+            final Integer glyph = cmap.get(codePoint);
+            if (glyph != null && codePoint <= 0xffff) {
+                mapping.put(codePoint, glyph);
+                addGlyph(glyphs, glyph, glyf, loca);
+            }
+        }
+
+        final Map<Integer, Integer> glyphIds = new HashMap<Integer, Integer>();
+        for (final Integer glyph : glyphs) {
+            glyphIds.put(glyph, glyphIds.size());
+        }
+        final int numGlyphs = glyphs.size();
+
+        final ByteArrayOutputStream newGlyf = new ByteArrayOutputStream();
+        final byte[] newLoca = new byte[4 * (numGlyphs + 1)];
+        final byte[] newHmtx = new byte[4 * numGlyphs];
+        final int numHMetrics = u16(hhea, 34);
+        int index = 0;
+        for (final Integer glyph : glyphs) {
+            put32(newLoca, 4 * index, newGlyf.size());
+
+            final byte[] data = Arrays.copyOfRange(glyf, loca[glyph], loca[glyph + 1]);
+            for (final int component : components(data)) {
+                put16(data, component, glyphIds.get(u16(data, component)));
+            }
+            newGlyf.write(data, 0, data.length);
+            newGlyf.write(new byte[Sfnt.pad(data.length) - data.length], 0, Sfnt.pad(data.length) - data.length);
+
+            final int metric = 4 * Math.min(glyph, numHMetrics - 1);
+            final int lsb = glyph < numHMetrics ? 4 * glyph + 2 : 4 * numHMetrics + 2 * (glyph - numHMetrics);
+            put16(newHmtx, 4 * index, u16(hmtx, metric));
+            put16(newHmtx, 4 * index + 2, u16(hmtx, lsb));
+            index++;
+        }
+        put32(newLoca, 4 * numGlyphs, newGlyf.size());
+
+        // Long offsets in loca, a full metric for every glyph
+        put16(head, 50, 1);
+        put16(hhea, 34, numGlyphs);
+        put16(maxp, 4, numGlyphs);
+
+        // Version 3, no glyph names
+        final byte[] post = Arrays.copyOf(tables.get("post") != null ? tables.get("post").data : new byte[32], 32);
+        put32(post, 0, 0x00030000);
+
+        final Map<String, byte[]> out = new HashMap<String, byte[]>();
+        for (final String tag : COPIED_TABLES) {
+            if (tables.containsKey(tag)) {
+                out.put(tag, tables.get(tag).data);
+            }
+        }
+        if (out.containsKey("OS/2") && !mapping.isEmpty()) {
+            final byte[] os2 = out.get("OS/2").clone();
+            put16(os2, 64, mapping.firstKey());
+            put16(os2, 66, mapping.lastKey());
+            out.put("OS/2", os2);
+        }
+        out.put("cmap", writeCmap(mapping, glyphIds));
+        out.put("glyf", newGlyf.toByteArray());
+        out.put("head", head);
+        out.put("hhea", hhea);
+        out.put("hmtx", newHmtx);
+        out.put("loca", newLoca);
+        out.put("maxp", maxp);
+        out.put("post", post);
+        return Sfnt.write(out);
+    }
+
+    /**
+     * @return the code points mapped by the font, to their glyph
+     */
+    static Map<Integer, Integer> readCmap(final byte[] cmap) {
+        int format4 = -1;
+        int format12 = -1;
+        final int numTables = u16(cmap, 2);
+        for (int i = 0; i < numTables; i++) {
+            final int platform = u16(cmap, 4 + 8 * i);
+            final int encoding = u16(cmap, 6 + 8 * i);
+            final int offset = u32(cmap, 8 + 8 * i);
+            final boolean unicode = platform == 0 || (platform == 3 && (encoding == 1 || encoding == 10));
+            if (unicode && u16(cmap, offset) == 12) {
+                format12 = offset;
+            } else if (unicode && u16(cmap, offset) == 4 && format4 < 0) {
+                format4 = offset;
+            }
+        }
+
+        final Map<Integer, Integer> mapping = new HashMap<Integer, Integer>();
+        if (format12 >= 0) {
+            final int numGroups = u32(cmap, format12 + 12);
+            for (int i = 0; i < numGroups; i++) {
+                final int group = format12 + 16 + 12 * i;
+                final int start = u32(cmap, group);
+                final int end = u32(cmap, group + 4);
+                final int glyph = u32(cmap, group + 8);
+                for (int c = start; c <= end; c++) {
+                    mapping.put(c, glyph + c - start);
+                }
+            }
+        } else if (format4 >= 0) {
+            final int segCountX2 = u16(cmap, format4 + 6);
+            final int endCodes = format4 + 14;
+            final int startCodes = endCodes + segCountX2 + 2;
+            final int idDeltas = startCodes + segCountX2;
+            final int idRangeOffsets = idDeltas + segCountX2;
+            for (int segment = 0; segment < segCountX2; segment += 2) {
+                final int start = u16(cmap, startCodes + segment);
+                final int end = u16(cmap, endCodes + segment);
+                final int delta = u16(cmap, idDeltas + segment);
+                final int rangeOffset = u16(cmap, idRangeOffsets + segment);
+                for (int c = start; c <= end && c != 0xffff; c++) {
+                    int glyph;
+                    if (rangeOffset == 0) {
+                        glyph = (c + delta) & 0xffff;
+                    } else {
+                        glyph = u16(cmap, idRangeOffsets + segment + rangeOffset + 2 * (c - start));
+                        if (glyph != 0) {
+                            glyph = (glyph + delta) & 0xffff;
+                        }
+                    }
+                    if (glyph != 0) {
+                        mapping.put(c, glyph);
+                    }
+                }
+            }
+        } else {
+            throw new IllegalArgumentException("No Unicode cmap");
+        }
+        return mapping;
+    }
+
+    /**
+     * Writes a cmap with a format 4 subtable, shared by the Unicode and Windows Unicode BMP encodings.
+     */
+    private static byte[] writeCmap(final SortedMap<Integer, Integer> mapping, final Map<Integer, Integer> glyphIds) {
+        // Segments of consecutive code points mapped to consecutive glyphs, closed by the mandatory 0xFFFF segment
+        final List<int[]> segments = new ArrayList<int[]>();
+        int[] last = null;
+        for (final Map.Entry<Integer, Integer> entry : mapping.entrySet()) {
+            final int codePoint = entry.getKey();
+            final int delta = glyphIds.get(entry.getValue()) - codePoint;
+            if (last != null && last[1] == codePoint - 1 && last[2] == delta) {
+                last[1] = codePoint;
+            } else {
+                last = new int[] {codePoint, codePoint, delta};
+                segments.add(last);
+            }
+        }
+        segments.add(new int[] {0xffff, 0xffff, 1});
+
+        final int segCount = segments.size();
+        final int length = 16 + 8 * segCount;
+        final int entrySelector = Sfnt.log2(segCount);
+        final int searchRange = 2 << entrySelector;
+
+        final byte[] cmap = new byte[20 + length];
+        put16(cmap, 2, 2);
+        put16(cmap, 6, 3);
+        put32(cmap, 8, 20);
+        put16(cmap, 12, 3);
+        put16(cmap, 14, 1);
+        put32(cmap, 16, 20);
+
+        put16(cmap, 20, 4);
+        put16(cmap, 22, length);
+        put16(cmap, 26, 2 * segCount);
+        put16(cmap, 28, searchRange);
+        put16(cmap, 30, entrySelector);
+        put16(cmap, 32, 2 * segCount - searchRange);
+        for (int i = 0; i < segCount; i++) {
+            final int[] segment = segments.get(i);
+            put16(cmap, 34 + 2 * i, segment[1]);
+            put16(cmap, 36 + 2 * segCount + 2 * i, segment[0]);
+            put16(cmap, 36 + 4 * segCount + 2 * i, segment[2]);
+            // idRangeOffset stays zero
+        }
+        return cmap;
+    }
+
+    private static int[] readLoca(final byte[] loca, final int indexToLocFormat, final int numGlyphs) {
+        final int[] offsets = new int[numGlyphs + 1];
+        for (int i = 0; i <= numGlyphs; i++) {
+            offsets[i] = indexToLocFormat == 0 ? 2 * u16(loca, 2 * i) : u32(loca, 4 * i);
+        }
+        return offsets;
+    }
+
+    private static void addGlyph(final SortedSet<Integer> glyphs, final int glyph, final byte[] glyf,
+                                 final int[] loca) {
+        if (glyphs.add(glyph)) {
+            final byte[] data = Arrays.copyOfRange(glyf, loca[glyph], loca[glyph + 1]);
+            for (final int component : components(data)) {
+                addGlyph(glyphs, u16(data, component), glyf, loca);
+            }
+        }
+    }
+
+    /**
+     * @return the offsets of the component glyph indices of a composite glyph, none for a simple glyph
+     */
+    private static List<Integer> components(final byte[] glyph) {
+        final List<Integer> components = new ArrayList<Integer>();
+        if (glyph.length == 0 || s16(glyph, 0) >= 0) {
+            return components;
+        }
+
+        int offset = 10;
+        int flags;
+        do {
+            flags = u16(glyph, offset);
+            components.add(offset + 2);
+            offset += (flags & ARG_1_AND_2_ARE_WORDS) != 0 ? 8 : 6;
+            if ((flags & WE_HAVE_A_SCALE) != 0) {
+                offset += 2;
+            } else if ((flags & WE_HAVE_AN_X_AND_Y_SCALE) != 0) {
+                offset += 4;
+            } else if ((flags & WE_HAVE_A_TWO_BY_TWO) != 0) {
+                offset += 8;
+            }
+        } while ((flags & MORE_COMPONENTS) != 0);
+        return components;
+    }
+}
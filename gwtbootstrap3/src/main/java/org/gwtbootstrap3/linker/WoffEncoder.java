@@ -0,0 +1,100 @@
+package org.gwtbootstrap3.linker;
+
+/*
+ * #%L
+ * GwtBootstrap3
+ * %%
+ * Copyright (C) 2013 - 2015 GwtBootstrap3
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.Deflater;
+
+/**
+ * Encodes TrueType fonts as WOFF 1.0, compressing every table that gets smaller with zlib.
+ */
+public final class WoffEncoder {
+
+    private static final int SIGNATURE = 0x774F4646;
+
+    private WoffEncoder() {
+    }
+
+    /**
+     * @param font TrueType font
+     * @return the WOFF font
+     * @throws IllegalArgumentException if the font isn't a TrueType font
+     */
+    public static byte[] encode(final byte[] font) {
+        final List<Sfnt.Table> tables = new ArrayList<Sfnt.Table>(Sfnt.read(font).values());
+        final int numTables = tables.size();
+
+        final List<byte[]> compressed = new ArrayList<byte[]>();
+        int totalSfntSize = 12 + 16 * numTables;
+        int length = 44 + 20 * numTables;
+        for (final Sfnt.Table table : tables) {
+            final byte[] data = compress(table.data);
+            compressed.add(data.length < table.data.length ? data : table.data);
+            totalSfntSize += Sfnt.pad(table.data.length);
+            length += Sfnt.pad(compressed.get(compressed.size() - 1).length);
+        }
+
+        final ByteBuffer out = ByteBuffer.allocate(length);
+        out.putInt(SIGNATURE)
+                .putInt(Sfnt.TRUETYPE)
+                .putInt(length)
+                .putShort((short) numTables)
+                .putShort((short) 0)
+                .putInt(totalSfntSize)
+                .putShort((short) 1)
+                .putShort((short) 0)
+                // No metadata nor private data
+                .putInt(0).putInt(0).putInt(0).putInt(0).putInt(0);
+
+        int offset = 44 + 20 * numTables;
+        for (int i = 0; i < numTables; i++) {
+            final Sfnt.Table table = tables.get(i);
+            final byte[] data = compressed.get(i);
+            out.putInt(Sfnt.tag(table.tag))
+                    .putInt(offset)
+                    .putInt(data.length)
+                    .putInt(table.data.length)
+                    .putInt(table.checksum);
+            System.arraycopy(data, 0, out.array(), offset, data.length);
+            offset += Sfnt.pad(data.length);
+        }
+        return out.array();
+    }
+
+    private static byte[] compress(final byte[] data) {
+        final Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setInput(data);
+            deflater.finish();
+            final ByteArrayOutputStream out = new ByteArrayOutputStream(data.length);
+            final byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+}
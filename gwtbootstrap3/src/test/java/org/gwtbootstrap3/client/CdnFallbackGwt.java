@@ -0,0 +1,231 @@
+package org.gwtbootstrap3.client;
+
+/*
+ * #%L
+ * GwtBootstrap3
+ * %%
+ * Copyright (C) 2013 - 2015 GwtBootstrap3
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.gwtbootstrap3.client.ui.BaseGwt;
+
+import com.google.gwt.core.client.Callback;
+import com.google.gwt.core.client.GWT;
+import com.google.gwt.dom.client.Document;
+import com.google.gwt.dom.client.Element;
+import com.google.gwt.dom.client.LinkElement;
+import com.google.gwt.dom.client.NodeList;
+import com.google.gwt.user.client.Timer;
+
+/**
+ * Tests the fallback of the CDN injectors to the public path, with copies on the public path standing in for the
+ * CDN.
+ */
+public class CdnFallbackGwt extends BaseGwt {
+
+    private static final int TIMEOUT = 10000;
+    private static final String MISSING = "missing/";
+    private static final String WRONG_INTEGRITY =
+            "sha384-AAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAA";
+
+    /**
+     * Loads Bootstrap's script from the given stand-in URL and records whether it fell back to the public path.
+     */
+    private static class StandInScripts extends ScriptInjectorImplCdn {
+        private final String url;
+        private final String integrity;
+        private final int timeout;
+        private boolean fellBack;
+
+        StandInScripts(final String url, final String integrity, final int timeout) {
+            this.url = url;
+            this.integrity = integrity;
+            this.timeout = timeout;
+        }
+
+        @Override
+        protected String getBootstrapUrl() {
+            return url;
+        }
+
+        @Override
+        protected String getBootstrapIntegrity() {
+            return integrity;
+        }
+
+        @Override
+        protected int getTimeout() {
+            return timeout;
+        }
+
+        @Override
+        protected String getBootstrapScript() {
+            // Only asked for by the public path injection
+            fellBack = true;
+            return super.getBootstrapScript();
+        }
+    }
+
+    /**
+     * Links the stylesheets from stand-in URLs which don't exist.
+     */
+    private static class MissingStyles extends StyleInjectorImplCdn {
+        @Override
+        protected String getBootstrapUrl() {
+            return GWT.getModuleBaseForStaticFiles() + MISSING + StyleInjectorImplDeferred.BOOTSTRAP;
+        }
+
+        @Override
+        protected String getBootstrapIntegrity() {
+            return WRONG_INTEGRITY;
+        }
+
+        @Override
+        protected String getGlyphiconsFontUrl() {
+            return null;
+        }
+
+        @Override
+        protected String getFontAwesomeUrl() {
+            return GWT.getModuleBaseForStaticFiles() + MISSING + StyleInjectorImplDeferred.FONT_AWESOME;
+        }
+
+        @Override
+        protected String getFontAwesomeIntegrity() {
+            return null;
+        }
+
+        @Override
+        protected String getFontAwesomeFontUrl() {
+            return null;
+        }
+
+        @Override
+        protected int getTimeout() {
+            return 1000;
+        }
+    }
+
+    public void testScriptFromCdn() {
+        if (!isFetchSupported()) {
+            // Goes straight to the public path
+            return;
+        }
+
+        final StandInScripts injector = new StandInScripts(localUrl(ScriptInjectorImplExternal.BOOTSTRAP), null,
+                TIMEOUT);
+        injectBootstrap(injector, false);
+    }
+
+    public void testMissingScriptFallsBack() {
+        final StandInScripts injector = new StandInScripts(localUrl(MISSING + ScriptInjectorImplExternal.BOOTSTRAP),
+                null, TIMEOUT);
+        injectBootstrap(injector, true);
+    }
+
+    public void testWrongIntegrityFallsBack() {
+        if (!isFetchSupported()) {
+            return;
+        }
+
+        final StandInScripts injector = new StandInScripts(localUrl(ScriptInjectorImplExternal.BOOTSTRAP),
+                WRONG_INTEGRITY, TIMEOUT);
+        injectBootstrap(injector, true);
+    }
+
+    public void testScriptTimeoutFallsBack() {
+        if (!isFetchSupported()) {
+            return;
+        }
+
+        final StandInScripts injector = new StandInScripts(localUrl(ScriptInjectorImplExternal.BOOTSTRAP), null, 0);
+        injectBootstrap(injector, true);
+    }
+
+    public void testMissingStylesheetsFallBack() {
+        // The module links the same stylesheets from the public path, only the links inserted here are checked
+        final List<LinkElement> existing = getStylesheetLinks();
+        new MissingStyles().inject(BootstrapComponent.BASE);
+        final List<LinkElement> inserted = getStylesheetLinks();
+        inserted.removeAll(existing);
+
+        assertEquals(2, inserted.size());
+        final LinkElement bootstrapLink = inserted.get(0);
+        final LinkElement fontAwesomeLink = inserted.get(1);
+        assertEquals(localUrl(MISSING + StyleInjectorImplDeferred.BOOTSTRAP), bootstrapLink.getHref());
+        assertEquals(WRONG_INTEGRITY, bootstrapLink.getAttribute("integrity"));
+        assertEquals(localUrl(MISSING + StyleInjectorImplDeferred.FONT_AWESOME), fontAwesomeLink.getHref());
+
+        final String bootstrap = localUrl(StyleInjectorImplDeferred.BOOTSTRAP);
+        final String fontAwesome = localUrl(StyleInjectorImplDeferred.FONT_AWESOME);
+
+        delayTestFinish(TIMEOUT);
+        new Timer() {
+            @Override
+            public void run() {
+                if (!bootstrap.equals(bootstrapLink.getHref()) || !fontAwesome.equals(fontAwesomeLink.getHref())) {
+                    return;
+                }
+
+                cancel();
+                assertFalse(bootstrapLink.hasAttribute("integrity"));
+                assertFalse(bootstrapLink.hasAttribute("crossorigin"));
+                bootstrapLink.removeFromParent();
+                fontAwesomeLink.removeFromParent();
+                finishTest();
+            }
+        }.scheduleRepeating(50);
+    }
+
+    private void injectBootstrap(final StandInScripts injector, final boolean fallBack) {
+        delayTestFinish(TIMEOUT);
+        injector.inject(false, true, new Callback<Void, Exception>() {
+            @Override
+            public void onSuccess(final Void result) {
+                assertEquals(fallBack, injector.fellBack);
+                finishTest();
+            }
+
+            @Override
+            public void onFailure(final Exception reason) {
+                fail("Not loaded from the public path: " + reason.getMessage());
+            }
+        });
+    }
+
+    private static String localUrl(final String path) {
+        return GWT.getModuleBaseForStaticFiles() + path;
+    }
+
+    private static List<LinkElement> getStylesheetLinks() {
+        final List<LinkElement> stylesheets = new ArrayList<LinkElement>();
+        final NodeList<Element> links = Document.get().getHead().getElementsByTagName("link");
+        for (int i = 0; i < links.getLength(); i++) {
+            final LinkElement link = LinkElement.as(links.getItem(i));
+            if ("stylesheet".equals(link.getRel())) {
+                stylesheets.add(link);
+            }
+        }
+        return stylesheets;
+    }
+
+    private static native boolean isFetchSupported() /*-{
+        return typeof $wnd.fetch === 'function' && typeof $wnd.Promise === 'function';
+    }-*/;
+}
@@ -0,0 +1,133 @@
+package org.gwtbootstrap3.client;
+
+/*
+ * #%L
+ * GwtBootstrap3
+ * %%
+ * Copyright (C) 2013 - 2015 GwtBootstrap3
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.gwtbootstrap3.client.ui.BaseGwt;
+
+import com.google.gwt.dom.client.Document;
+import com.google.gwt.dom.client.Element;
+import com.google.gwt.dom.client.StyleElement;
+
+/**
+ * Tests linking the stylesheets of Bootstrap's components in stylesheet order.
+ */
+public class StyleInjectorImplComponentsGwt extends BaseGwt {
+
+    private static final String SUFFIX = ".min.cache.css";
+
+    @Override
+    public String getModuleName() {
+        return "org.gwtbootstrap3.GwtBootstrap3ComponentStyles";
+    }
+
+    public void testRequireLinksInStylesheetOrder() {
+        GwtBootstrap3Styles.require(BootstrapComponent.MODALS);
+        GwtBootstrap3Styles.require(BootstrapComponent.BUTTONS);
+        GwtBootstrap3Styles.require(BootstrapComponent.BUTTON_GROUPS);
+
+        // The entry point required the base, animations and utilities, BUTTON_GROUPS didn't link BUTTONS again
+        final List<Element> stylesheets = getStylesheets();
+        assertEquals(Arrays.asList(BootstrapComponent.BASE, BootstrapComponent.BUTTONS,
+                BootstrapComponent.COMPONENT_ANIMATIONS, BootstrapComponent.BUTTON_GROUPS, BootstrapComponent.MODALS,
+                BootstrapComponent.UTILITIES), getComponents(stylesheets));
+        assertLinkedFirst(stylesheets, 6);
+    }
+
+    public void testInjectLinksBeforeOtherStylesheets() {
+        final StyleElement appStyle = Document.get().createStyleElement();
+        final Element head = Document.get().getHead();
+        head.insertFirst(appStyle);
+
+        // A new injector doesn't know the module's links, so it links its first component before every stylesheet
+        final StyleInjectorImplComponents injector = new StyleInjectorImplComponents();
+        injector.inject(BootstrapComponent.MODALS);
+        injector.inject(BootstrapComponent.BUTTONS);
+        injector.inject(BootstrapComponent.BUTTON_GROUPS);
+
+        final List<Element> stylesheets = getStylesheets();
+        final List<Element> inserted = new ArrayList<Element>(stylesheets.subList(0, 3));
+        try {
+            assertEquals(Arrays.asList(BootstrapComponent.BUTTONS, BootstrapComponent.BUTTON_GROUPS,
+                    BootstrapComponent.MODALS), getComponents(inserted));
+            assertSame(appStyle, stylesheets.get(3));
+        } finally {
+            appStyle.removeFromParent();
+            for (final Element link : inserted) {
+                link.removeFromParent();
+            }
+        }
+    }
+
+    /**
+     * Asserts the first {@code count} stylesheets are component links, followed by the module's other stylesheets.
+     */
+    private static void assertLinkedFirst(final List<Element> stylesheets, final int count) {
+        assertTrue(stylesheets.size() > count);
+        for (int i = count; i < stylesheets.size(); i++) {
+            assertNull(getComponent(stylesheets.get(i)));
+        }
+    }
+
+    private static List<BootstrapComponent> getComponents(final List<Element> stylesheets) {
+        final List<BootstrapComponent> components = new ArrayList<BootstrapComponent>();
+        for (final Element stylesheet : stylesheets) {
+            final BootstrapComponent component = getComponent(stylesheet);
+            if (component != null) {
+                components.add(component);
+            }
+        }
+        return components;
+    }
+
+    private static BootstrapComponent getComponent(final Element stylesheet) {
+        final String href = stylesheet.getAttribute("href");
+        final int start = href.indexOf(StyleInjectorImplComponents.COMPONENTS);
+        if (start < 0 || !href.endsWith(SUFFIX)) {
+            return null;
+        }
+
+        final String name = href.substring(start + StyleInjectorImplComponents.COMPONENTS.length(),
+                href.length() - SUFFIX.length());
+        for (final BootstrapComponent component : BootstrapComponent.values()) {
+            if (component.getName().equals(name)) {
+                return component;
+            }
+        }
+        return null;
+    }
+
+    private static List<Element> getStylesheets() {
+        final List<Element> stylesheets = new ArrayList<Element>();
+        final Element head = Document.get().getHead();
+        for (Element e = head.getFirstChildElement(); e != null; e = e.getNextSiblingElement()) {
+            if ("style".equalsIgnoreCase(e.getTagName())
+                    || ("link".equalsIgnoreCase(e.getTagName())
+                    && "stylesheet".equalsIgnoreCase(e.getAttribute("rel")))) {
+                stylesheets.add(e);
+            }
+        }
+        return stylesheets;
+    }
+}
@@ -23,7 +23,13 @@ package org.gwtbootstrap3.client.ui;
 import junit.framework.Test;
 import junit.framework.TestCase;
 
+import org.gwtbootstrap3.client.CdnFallbackGwt;
+import org.gwtbootstrap3.client.StyleInjectorImplComponentsGwt;
+import org.gwtbootstrap3.client.ui.base.mixin.IconTextMixinGwt;
 import org.gwtbootstrap3.client.ui.form.validator.ValidatorsGwt;
+import org.gwtbootstrap3.client.ui.impl.PluginImplNativeGwt;
+import org.gwtbootstrap3.client.ui.impl.PluginOptionsGwt;
+import org.gwtbootstrap3.client.ui.impl.PositioningImplNativeGwt;
 
 import com.google.gwt.junit.tools.GWTTestSuite;
 
@@ -34,6 +40,19 @@ public class GwtTestSuite extends TestCase {
         suite.addTestSuite(CheckBoxButtonGwt.class);
         suite.addTestSuite(RadioButtonGwt.class);
         suite.addTestSuite(ValidatorsGwt.class);
+        suite.addTestSuite(PluginOptionsGwt.class);
+        suite.addTestSuite(TooltipGwt.class);
+        suite.addTestSuite(PopoverGwt.class);
+        suite.addTestSuite(SharedPopoverGwt.class);
+        suite.addTestSuite(TooltipManagerGwt.class);
+        suite.addTestSuite(PopoverManagerGwt.class);
+        suite.addTestSuite(IconTextMixinGwt.class);
+        suite.addTestSuite(IconGwt.class);
+        suite.addTestSuite(ModalGwt.class);
+        suite.addTestSuite(PluginImplNativeGwt.class);
+        suite.addTestSuite(PositioningImplNativeGwt.class);
+        suite.addTestSuite(CdnFallbackGwt.class);
+        suite.addTestSuite(StyleInjectorImplComponentsGwt.class);
         return suite;
     }
 
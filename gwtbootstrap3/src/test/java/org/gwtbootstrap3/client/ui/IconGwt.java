@@ -0,0 +1,64 @@
+package org.gwtbootstrap3.client.ui;
+
+/*
+ * #%L
+ * GwtBootstrap3
+ * %%
+ * Copyright (C) 2013 - 2015 GwtBootstrap3
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.gwtbootstrap3.client.ui.constants.IconName;
+import org.gwtbootstrap3.client.ui.constants.IconType;
+
+/**
+ * Tests setting an icon by type and by name.
+ */
+public class IconGwt extends BaseGwt {
+
+    public void testTypeReplacesName() {
+        final Icon icon = new Icon(IconName.STAR);
+        assertTrue(icon.getElement().hasClassName("fa-star"));
+        assertEquals(IconType.STAR, icon.getType());
+
+        icon.setType(IconType.HEART);
+        assertFalse(icon.getElement().hasClassName("fa-star"));
+        assertTrue(icon.getElement().hasClassName("fa-heart"));
+        assertEquals(IconName.HEART, icon.getName());
+
+        icon.setName(null);
+        assertFalse(icon.getElement().hasClassName("fa-heart"));
+        assertNull(icon.getType());
+    }
+
+    public void testTypeAddedAsStyleName() {
+        final Icon icon = new Icon(IconType.STAR);
+        icon.removeStyleName("fa-star");
+        icon.addStyleName("fa-heart");
+
+        assertEquals(IconType.HEART, icon.getType());
+    }
+
+    public void testButtonIconName() {
+        final Button button = new Button("text");
+        button.setIconName(IconName.CHECK);
+        assertTrue(button.getElement().getFirstChildElement().hasClassName("fa-check"));
+        assertNull(button.getIcon());
+
+        button.setIcon(IconType.TIMES);
+        assertEquals(IconName.TIMES, button.getIconName());
+        assertFalse(button.getElement().getFirstChildElement().hasClassName("fa-check"));
+    }
+}
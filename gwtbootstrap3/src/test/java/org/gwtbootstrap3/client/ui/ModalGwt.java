@@ -0,0 +1,215 @@
+package org.gwtbootstrap3.client.ui;
+
+/*
+ * #%L
+ * GwtBootstrap3
+ * %%
+ * Copyright (C) 2013 - 2015 GwtBootstrap3
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.gwtbootstrap3.client.shared.event.ModalHiddenEvent;
+import org.gwtbootstrap3.client.shared.event.ModalHiddenHandler;
+import org.gwtbootstrap3.client.shared.event.ModalShowEvent;
+import org.gwtbootstrap3.client.shared.event.ModalShowHandler;
+import org.gwtbootstrap3.client.shared.event.ModalShownEvent;
+import org.gwtbootstrap3.client.shared.event.ModalShownHandler;
+
+import com.google.gwt.user.client.Timer;
+import com.google.gwt.user.client.ui.RootPanel;
+
+/**
+ * Tests creating a modal's body when it's shown and releasing it once it's hidden.
+ */
+public class ModalGwt extends BaseGwt {
+
+    private static final int TIMEOUT = 5000;
+    private static final int RELEASE_DELAY = 50;
+
+    private final List<ModalBody> bodies = new ArrayList<ModalBody>();
+    private Modal modal;
+
+    @Override
+    protected void gwtSetUp() throws Exception {
+        super.gwtSetUp();
+        bodies.clear();
+        modal = new Modal();
+        modal.setFade(false);
+        modal.setBodyFactory(new Modal.BodyFactory() {
+            @Override
+            public ModalBody createBody() {
+                final ModalBody body = new ModalBody();
+                bodies.add(body);
+                return body;
+            }
+        });
+    }
+
+    @Override
+    protected void gwtTearDown() throws Exception {
+        RootPanel.get().clear();
+        super.gwtTearDown();
+    }
+
+    public void testBodyCreatedBeforeShowHandlers() {
+        assertTrue(bodies.isEmpty());
+        modal.addShowHandler(new ModalShowHandler() {
+            @Override
+            public void onShow(final ModalShowEvent evt) {
+                assertEquals(1, bodies.size());
+                assertTrue(bodies.get(0).isAttached());
+            }
+        });
+        modal.addShownHandler(new ModalShownHandler() {
+            @Override
+            public void onShown(final ModalShownEvent evt) {
+                modal.hide();
+            }
+        });
+        modal.addHiddenHandler(new ModalHiddenHandler() {
+            @Override
+            public void onHidden(final ModalHiddenEvent evt) {
+                // Kept by default
+                assertTrue(bodies.get(0).isAttached());
+                finishTest();
+            }
+        });
+
+        delayTestFinish(TIMEOUT);
+        modal.show();
+    }
+
+    public void testBodyReleasedAfterDelay() {
+        modal.setBodyReleaseDelayMs(RELEASE_DELAY);
+        modal.addShownHandler(new ModalShownHandler() {
+            @Override
+            public void onShown(final ModalShownEvent evt) {
+                modal.hide();
+            }
+        });
+        modal.addHiddenHandler(new ModalHiddenHandler() {
+            @Override
+            public void onHidden(final ModalHiddenEvent evt) {
+                assertTrue(bodies.get(0).isAttached());
+                new Timer() {
+                    @Override
+                    public void run() {
+                        assertFalse(bodies.get(0).isAttached());
+                        assertNull(bodies.get(0).getParent());
+                        finishTest();
+                    }
+                }.schedule(RELEASE_DELAY * 4);
+            }
+        });
+
+        delayTestFinish(TIMEOUT);
+        modal.show();
+    }
+
+    public void testKeepBody() {
+        modal.setBodyReleaseDelayMs(Modal.KEEP_BODY);
+        final int[] shows = {0};
+        modal.addShownHandler(new ModalShownHandler() {
+            @Override
+            public void onShown(final ModalShownEvent evt) {
+                if (++shows[0] == 2) {
+                    // Reused instead of created again
+                    assertEquals(1, bodies.size());
+                    finishTest();
+                } else {
+                    modal.hide();
+                }
+            }
+        });
+        modal.addHiddenHandler(new ModalHiddenHandler() {
+            @Override
+            public void onHidden(final ModalHiddenEvent evt) {
+                new Timer() {
+                    @Override
+                    public void run() {
+                        assertTrue(bodies.get(0).isAttached());
+                        modal.show();
+                    }
+                }.schedule(RELEASE_DELAY * 4);
+            }
+        });
+
+        delayTestFinish(TIMEOUT);
+        modal.show();
+    }
+
+    public void testShowingAgainCancelsRelease() {
+        modal.setBodyReleaseDelayMs(RELEASE_DELAY * 10);
+        modal.addShownHandler(new ReshowingHandler());
+        modal.addHiddenHandler(new ModalHiddenHandler() {
+            @Override
+            public void onHidden(final ModalHiddenEvent evt) {
+                new Timer() {
+                    @Override
+                    public void run() {
+                        modal.show();
+                    }
+                }.schedule(RELEASE_DELAY);
+            }
+        });
+
+        delayTestFinish(TIMEOUT);
+        modal.show();
+    }
+
+    public void testShowingAgainWhileHiddenKeepsBody() {
+        modal.setBodyReleaseDelayMs(RELEASE_DELAY);
+        modal.addShownHandler(new ReshowingHandler());
+        modal.addHiddenHandler(new ModalHiddenHandler() {
+            @Override
+            public void onHidden(final ModalHiddenEvent evt) {
+                modal.show();
+            }
+        });
+
+        delayTestFinish(TIMEOUT);
+        modal.show();
+    }
+
+    /**
+     * Hides the modal the first time it's shown, and checks that the body is kept past the release delay the
+     * second time.
+     */
+    private class ReshowingHandler implements ModalShownHandler {
+
+        private int shows;
+
+        @Override
+        public void onShown(final ModalShownEvent evt) {
+            if (++shows == 1) {
+                modal.hide();
+                return;
+            }
+
+            new Timer() {
+                @Override
+                public void run() {
+                    // The release scheduled by the first hide was cancelled
+                    assertEquals(1, bodies.size());
+                    assertTrue(bodies.get(0).isAttached());
+                    finishTest();
+                }
+            }.schedule(modal.getBodyReleaseDelayMs() * 2);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package org.gwtbootstrap3.client.ui;
+
+/*
+ * #%L
+ * GwtBootstrap3
+ * %%
+ * Copyright (C) 2013 - 2015 GwtBootstrap3
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.gwtbootstrap3.client.ui.base.AsyncContentProvider;
+import org.gwtbootstrap3.client.ui.constants.Trigger;
+
+import com.google.gwt.core.client.Callback;
+import com.google.gwt.user.client.ui.RootPanel;
+
+/**
+ * Tests loading a popover's content from a provider.
+ */
+public class PopoverGwt extends BaseGwt {
+
+    public void testProviderWithoutTitle() {
+        final List<Callback<String, Throwable>> requests = new ArrayList<Callback<String, Throwable>>();
+        final Button button = new Button("button");
+        final Popover popover = new Popover(button);
+        popover.setIsAnimated(false);
+        popover.setTrigger(Trigger.MANUAL);
+        popover.setContentProvider(new AsyncContentProvider() {
+            @Override
+            public void getContent(final String key, final Callback<String, Throwable> callback) {
+                requests.add(callback);
+            }
+        }, "key");
+        RootPanel.get().add(button);
+
+        try {
+            popover.show();
+            assertEquals(1, countTips());
+            assertEquals(1, requests.size());
+            assertEquals("\u2026", getContent());
+
+            requests.get(0).onSuccess("loaded");
+            assertEquals("loaded", getContent());
+        } finally {
+            popover.hide();
+            RootPanel.get().remove(button);
+        }
+    }
+
+    public void testSynchronousProviderWithoutTitle() {
+        final Button button = new Button("button");
+        final Popover popover = new Popover(button);
+        popover.setIsAnimated(false);
+        popover.setTrigger(Trigger.MANUAL);
+        popover.setContentProvider(new AsyncContentProvider() {
+            @Override
+            public void getContent(final String key, final Callback<String, Throwable> callback) {
+                callback.onSuccess("content of " + key);
+            }
+        }, "key");
+        RootPanel.get().add(button);
+
+        try {
+            popover.show();
+            assertEquals(1, countTips());
+            assertEquals("content of key", getContent());
+        } finally {
+            popover.hide();
+            RootPanel.get().remove(button);
+        }
+    }
+
+    private static native String getContent() /*-{
+        return $wnd.jQuery('.popover .popover-content').text();
+    }-*/;
+
+    private static native int countTips() /*-{
+        return $wnd.jQuery('.popover').length;
+    }-*/;
+}
@@ -0,0 +1,119 @@
+package org.gwtbootstrap3.client.ui;
+
+/*
+ * #%L
+ * GwtBootstrap3
+ * %%
+ * Copyright (C) 2013 - 2015 GwtBootstrap3
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.google.gwt.core.client.JsArrayString;
+import com.google.gwt.dom.client.Document;
+import com.google.gwt.dom.client.Element;
+import com.google.gwt.user.client.ui.FlowPanel;
+import com.google.gwt.user.client.ui.RootPanel;
+
+/**
+ * Tests the delegated popover of a {@link PopoverManager}.
+ */
+public class PopoverManagerGwt extends BaseGwt {
+
+    private FlowPanel panel;
+    private Button first;
+    private Button second;
+
+    @Override
+    protected void gwtSetUp() throws Exception {
+        super.gwtSetUp();
+        panel = new FlowPanel();
+        first = new Button("first");
+        second = new Button("second");
+        first.getElement().setAttribute(PopoverManager.TITLE_ATTRIBUTE, "First");
+        first.getElement().setAttribute(PopoverManager.CONTENT_ATTRIBUTE, "one");
+        second.getElement().setAttribute(PopoverManager.TITLE_ATTRIBUTE, "Second");
+        second.getElement().setAttribute(PopoverManager.CONTENT_ATTRIBUTE, "two");
+        panel.add(first);
+        panel.add(second);
+
+        final PopoverManager manager = new PopoverManager(panel);
+        manager.setIsAnimated(false);
+    }
+
+    @Override
+    protected void gwtTearDown() throws Exception {
+        RootPanel.get().remove(panel);
+        super.gwtTearDown();
+    }
+
+    public void testContainerTitleIsKept() {
+        panel.setTitle("panel");
+        RootPanel.get().add(panel);
+
+        assertEquals("panel", panel.getElement().getAttribute("title"));
+        assertFalse(panel.getElement().hasAttribute("data-original-title"));
+    }
+
+    public void testRetargetsBetweenDescendants() {
+        final JsArrayString events = TooltipManagerGwt.recordEvents(panel.getElement(), "popover");
+        RootPanel.get().add(panel);
+
+        click(first.getElement());
+        assertEquals("First", getTitle());
+        assertEquals("one", getContent());
+
+        click(second.getElement());
+        assertEquals("Second", getTitle());
+        assertEquals("two", getContent());
+        assertEquals(1, countTips());
+        assertEquals("show one,shown one,hide one,hidden one,show two,shown two", events.join(","));
+
+        // Clicking the target again closes the popover
+        click(second.getElement());
+        assertEquals("show one,shown one,hide one,hidden one,show two,shown two,hide two,hidden two",
+                events.join(","));
+    }
+
+    public void testDestroyUnbindsListeners() {
+        final JsArrayString events = TooltipManagerGwt.recordEvents(panel.getElement(), "popover");
+        RootPanel.get().add(panel);
+        click(first.getElement());
+        RootPanel.get().remove(panel);
+
+        assertEquals(0, countTips());
+        assertFalse(TooltipManagerGwt.hasDelegatedListeners(panel.getElement(), "popover"));
+
+        events.setLength(0);
+        click(first.getElement());
+        assertEquals(0, events.length());
+        assertEquals(0, countTips());
+    }
+
+    private static void click(final Element e) {
+        e.dispatchEvent(Document.get().createClickEvent(0, 0, 0, 0, 0, false, false, false, false));
+    }
+
+    private static native String getTitle() /*-{
+        return $wnd.jQuery('.popover .popover-title').text();
+    }-*/;
+
+    private static native String getContent() /*-{
+        return $wnd.jQuery('.popover .popover-content').text();
+    }-*/;
+
+    private static native int countTips() /*-{
+        return $wnd.jQuery('.popover').length;
+    }-*/;
+}
@@ -0,0 +1,128 @@
+package org.gwtbootstrap3.client.ui;
+
+/*
+ * #%L
+ * GwtBootstrap3
+ * %%
+ * Copyright (C) 2013 - 2015 GwtBootstrap3
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.gwtbootstrap3.client.shared.event.HiddenEvent;
+import org.gwtbootstrap3.client.shared.event.HiddenHandler;
+import org.gwtbootstrap3.client.shared.event.ShowEvent;
+import org.gwtbootstrap3.client.shared.event.ShowHandler;
+import org.gwtbootstrap3.client.ui.base.AsyncContentProvider;
+
+import com.google.gwt.core.client.Callback;
+import com.google.gwt.dom.client.Element;
+import com.google.gwt.user.client.ui.FlowPanel;
+import com.google.gwt.user.client.ui.RootPanel;
+
+/**
+ * Tests sharing one popover between several targets.
+ */
+public class SharedPopoverGwt extends BaseGwt {
+
+    public void testTargetsShareOneTip() {
+        final FlowPanel panel = new FlowPanel();
+        final Button first = new Button("first");
+        final Button second = new Button("second");
+        panel.add(first);
+        panel.add(second);
+
+        final List<Callback<String, Throwable>> requests = new ArrayList<Callback<String, Throwable>>();
+        final SharedPopover popover = new SharedPopover(panel);
+        popover.setIsAnimated(false);
+        popover.setAsyncContentProvider(new AsyncContentProvider() {
+            @Override
+            public void getContent(final String key, final Callback<String, Throwable> callback) {
+                requests.add(callback);
+            }
+        });
+        popover.addTarget(first, "1");
+        popover.addTarget(second, "2");
+
+        final List<String> events = new ArrayList<String>();
+        first.addHandler(new ShowHandler() {
+            @Override
+            public void onShow(final ShowEvent showEvent) {
+                events.add("show first");
+            }
+        }, ShowEvent.getType());
+        first.addHandler(new HiddenHandler() {
+            @Override
+            public void onHidden(final HiddenEvent hiddenEvent) {
+                events.add("hidden first");
+            }
+        }, HiddenEvent.getType());
+        second.addHandler(new ShowHandler() {
+            @Override
+            public void onShow(final ShowEvent showEvent) {
+                events.add("show second");
+            }
+        }, ShowEvent.getType());
+
+        RootPanel.get().add(panel);
+        try {
+            click(first.getElement());
+            assertEquals(1, requests.size());
+            assertEquals("\u2026", getContent());
+
+            requests.get(0).onSuccess("loaded");
+            assertEquals("loaded", getContent());
+
+            click(second.getElement());
+            assertEquals(2, requests.size());
+            assertEquals(1, countTips());
+            assertEquals("show first", events.get(0));
+            assertEquals("hidden first", events.get(1));
+            assertEquals("show second", events.get(2));
+        } finally {
+            RootPanel.get().remove(panel);
+        }
+    }
+
+    public void testInheritedContentSettersAreUnsupported() {
+        final SharedPopover popover = new SharedPopover(new FlowPanel());
+        try {
+            popover.setContentProvider(null);
+            fail("Replaced the async content provider");
+        } catch (final UnsupportedOperationException e) {
+            // Expected
+        }
+        try {
+            popover.setContentAttribute("data-content");
+            fail("Replaced the async content provider");
+        } catch (final UnsupportedOperationException e) {
+            // Expected
+        }
+    }
+
+    private static native void click(Element e) /*-{
+        $wnd.jQuery(e).trigger('click');
+    }-*/;
+
+    private static native String getContent() /*-{
+        return $wnd.jQuery('.popover .popover-content').text();
+    }-*/;
+
+    private static native int countTips() /*-{
+        return $wnd.jQuery('.popover').length;
+    }-*/;
+}
@@ -0,0 +1,88 @@
+package org.gwtbootstrap3.client.ui;
+
+/*
+ * #%L
+ * GwtBootstrap3
+ * %%
+ * Copyright (C) 2013 - 2015 GwtBootstrap3
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.gwtbootstrap3.client.ui.constants.Trigger;
+
+import com.google.gwt.dom.client.Element;
+import com.google.gwt.user.client.ui.RootPanel;
+
+/**
+ * Measures 1,000 title updates of a shown tooltip, patching the live tooltip through {@link Tooltip#reconfigure()}
+ * compared with destroying and re-creating it as reconfigure() used to. Not part of {@link GwtTestSuite}, run it
+ * manually in a real browser, e.g. with {@code -Dgwt.args="-runStyle Manual:1"}.
+ */
+public class TooltipBenchmarkGwt extends BaseGwt {
+
+    private static final int UPDATES = 1000;
+    private static final int WARM_UP = 100;
+
+    public void testTitleUpdates() {
+        final Button button = new Button("button");
+        final Tooltip tooltip = new Tooltip(button, "0");
+        tooltip.setIsAnimated(false);
+        tooltip.setTrigger(Trigger.MANUAL);
+        RootPanel.get().add(button);
+
+        try {
+            tooltip.show();
+
+            // Warm up both before measuring
+            patch(tooltip, WARM_UP);
+            recreate(button.getElement(), WARM_UP);
+
+            final double patchTime = patch(tooltip, UPDATES);
+            final double recreateTime = recreate(button.getElement(), UPDATES);
+
+            System.out.println(UPDATES + " title updates of a shown tooltip");
+            System.out.println("patch:    " + Math.round(patchTime) + " ms");
+            System.out.println("recreate: " + Math.round(recreateTime) + " ms");
+        } finally {
+            RootPanel.get().remove(button);
+        }
+    }
+
+    private static double patch(final Tooltip tooltip, final int updates) {
+        final double start = now();
+        for (int i = 0; i < updates; i++) {
+            tooltip.setTitle(String.valueOf(i));
+            tooltip.reconfigure();
+        }
+        return now() - start;
+    }
+
+    private static native double recreate(Element e, int updates) /*-{
+        var $e = $wnd.jQuery(e);
+        var options = $wnd.jQuery.extend({}, $e.data('bs.tooltip').options);
+        var start = $wnd.Date.now();
+        for (var i = 0; i < updates; i++) {
+            options.title = String(i);
+            $e.tooltip('destroy');
+            $e.tooltip(options);
+            $e.tooltip('show');
+        }
+        return $wnd.Date.now() - start;
+    }-*/;
+
+    private static native double now() /*-{
+        return $wnd.Date.now();
+    }-*/;
+}
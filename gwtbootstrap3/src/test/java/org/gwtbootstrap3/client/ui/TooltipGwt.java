@@ -0,0 +1,231 @@
+package org.gwtbootstrap3.client.ui;
+
+/*
+ * #%L
+ * GwtBootstrap3
+ * %%
+ * Copyright (C) 2013 - 2015 GwtBootstrap3
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.dom.client.Document;
+import com.google.gwt.dom.client.Element;
+import com.google.gwt.dom.client.NativeEvent;
+import com.google.gwt.user.client.ui.RootPanel;
+import org.gwtbootstrap3.client.shared.event.ShownEvent;
+import org.gwtbootstrap3.client.shared.event.ShownHandler;
+import org.gwtbootstrap3.client.ui.constants.Trigger;
+
+/**
+ * Tests applying changed options to a live tooltip and the lazy mode.
+ */
+public class TooltipGwt extends BaseGwt {
+
+    public void testTitleIsPatched() {
+        final Button button = new Button("button");
+        final Tooltip tooltip = new Tooltip(button, "first");
+        tooltip.setIsAnimated(false);
+        RootPanel.get().add(button);
+
+        try {
+            final JavaScriptObject instance = getInstance(button.getElement());
+            assertNotNull(instance);
+
+            tooltip.show();
+            tooltip.setTitle("second");
+            tooltip.reconfigure();
+
+            assertSame(instance, getInstance(button.getElement()));
+            assertEquals("second", getTipText(instance));
+        } finally {
+            RootPanel.get().remove(button);
+        }
+    }
+
+    public void testContainerRebuilds() {
+        final Button button = new Button("button");
+        final Tooltip tooltip = new Tooltip(button, "title");
+        RootPanel.get().add(button);
+
+        try {
+            final JavaScriptObject instance = getInstance(button.getElement());
+
+            tooltip.setContainer("body");
+            tooltip.reconfigure();
+
+            final JavaScriptObject rebuilt = getInstance(button.getElement());
+            assertNotNull(rebuilt);
+            assertNotSame(instance, rebuilt);
+        } finally {
+            RootPanel.get().remove(button);
+        }
+    }
+
+    public void testLazyNotCreatedBeforeTrigger() {
+        final Button button = new Button("button");
+        final Tooltip tooltip = new Tooltip(button, "title");
+        tooltip.setLazy(true);
+        RootPanel.get().add(button);
+
+        try {
+            assertNull(getInstance(button.getElement()));
+
+            // Options changed before the first trigger are applied once it's created
+            tooltip.setTitle("changed");
+            tooltip.reconfigure();
+            assertNull(getInstance(button.getElement()));
+        } finally {
+            RootPanel.get().remove(button);
+        }
+    }
+
+    public void testLazyBindsNoEventsBeforeTrigger() {
+        final Button button = new Button("button");
+        final Tooltip tooltip = new Tooltip(button, "title");
+        tooltip.setLazy(true);
+        tooltip.setIsAnimated(false);
+
+        try {
+            assertEquals(0, countTooltipHandlers(button.getElement()));
+            RootPanel.get().add(button);
+            assertEquals(0, countTooltipHandlers(button.getElement()));
+
+            mouseOver(button.getElement());
+            assertTrue(countTooltipHandlers(button.getElement()) > 0);
+        } finally {
+            RootPanel.get().remove(button);
+        }
+    }
+
+    public void testEventsBoundOnceAttached() {
+        final Button button = new Button("button");
+        new Tooltip(button, "title");
+        assertEquals(0, countTooltipHandlers(button.getElement()));
+
+        RootPanel.get().add(button);
+        try {
+            assertTrue(countTooltipHandlers(button.getElement()) > 0);
+        } finally {
+            RootPanel.get().remove(button);
+        }
+    }
+
+    public void testLazyCreatedAndShownOnFirstMouseOver() {
+        final Button button = new Button("button");
+        final Tooltip tooltip = new Tooltip(button, "title");
+        tooltip.setLazy(true);
+        tooltip.setIsAnimated(false);
+        tooltip.addShownHandler(new ShownHandler() {
+            @Override
+            public void onShown(final ShownEvent event) {
+                try {
+                    assertTrue(isTipShown(getInstance(button.getElement())));
+                    assertEquals("title", getTipText(getInstance(button.getElement())));
+                } finally {
+                    RootPanel.get().remove(button);
+                }
+                finishTest();
+            }
+        });
+        RootPanel.get().add(button);
+
+        delayTestFinish(5000);
+        mouseOver(button.getElement());
+
+        assertNotNull(getInstance(button.getElement()));
+    }
+
+    public void testLazyReleasedOnDetach() {
+        final Button button = new Button("button");
+        final Tooltip tooltip = new Tooltip(button, "title");
+        tooltip.setLazy(true);
+        tooltip.setIsAnimated(false);
+        RootPanel.get().add(button);
+
+        try {
+            mouseOver(button.getElement());
+            assertNotNull(getInstance(button.getElement()));
+
+            RootPanel.get().remove(button);
+            assertNull(getInstance(button.getElement()));
+
+            // Listening again once re-attached
+            RootPanel.get().add(button);
+            assertNull(getInstance(button.getElement()));
+            mouseOver(button.getElement());
+            assertNotNull(getInstance(button.getElement()));
+        } finally {
+            RootPanel.get().remove(button);
+        }
+    }
+
+    public void testSetTriggerRearmsListener() {
+        final Button button = new Button("button");
+        final Tooltip tooltip = new Tooltip(button, "title");
+        tooltip.setLazy(true);
+        tooltip.setIsAnimated(false);
+        RootPanel.get().add(button);
+
+        try {
+            tooltip.setTrigger(Trigger.CLICK);
+
+            mouseOver(button.getElement());
+            assertNull(getInstance(button.getElement()));
+
+            click(button.getElement());
+            assertNotNull(getInstance(button.getElement()));
+        } finally {
+            RootPanel.get().remove(button);
+        }
+    }
+
+    private static void mouseOver(final Element e) {
+        e.dispatchEvent(Document.get().createMouseOverEvent(0, 0, 0, 0, 0, false, false, false, false,
+                NativeEvent.BUTTON_LEFT, null));
+    }
+
+    private static void click(final Element e) {
+        e.dispatchEvent(Document.get().createClickEvent(0, 0, 0, 0, 0, false, false, false, false));
+    }
+
+    /**
+     * Counts the jQuery handlers bound to the element for the tooltip plugin's events.
+     */
+    private static native int countTooltipHandlers(Element e) /*-{
+        var events = $wnd.jQuery._data(e, 'events') || {};
+        var count = 0;
+        for (var type in events) {
+            for (var i = 0; i < events[type].length; i++) {
+                if (events[type][i].namespace === 'bs.tooltip') {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }-*/;
+
+    private static native boolean isTipShown(JavaScriptObject instance) /*-{
+        return instance.tip().hasClass('in') && !!instance.tip()[0].parentNode;
+    }-*/;
+
+    private static native JavaScriptObject getInstance(Element e) /*-{
+        return $wnd.jQuery(e).data('bs.tooltip') || null;
+    }-*/;
+
+    private static native String getTipText(JavaScriptObject instance) /*-{
+        return instance.tip().find('.tooltip-inner').text();
+    }-*/;
+}
@@ -0,0 +1,135 @@
+package org.gwtbootstrap3.client.ui;
+
+/*
+ * #%L
+ * GwtBootstrap3
+ * %%
+ * Copyright (C) 2013 - 2015 GwtBootstrap3
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.google.gwt.core.client.JsArrayString;
+import com.google.gwt.dom.client.Document;
+import com.google.gwt.dom.client.Element;
+import com.google.gwt.dom.client.NativeEvent;
+import com.google.gwt.user.client.ui.FlowPanel;
+import com.google.gwt.user.client.ui.RootPanel;
+
+/**
+ * Tests the delegated tooltip of a {@link TooltipManager}.
+ */
+public class TooltipManagerGwt extends BaseGwt {
+
+    private FlowPanel panel;
+    private Button first;
+    private Button second;
+    private TooltipManager manager;
+
+    @Override
+    protected void gwtSetUp() throws Exception {
+        super.gwtSetUp();
+        panel = new FlowPanel();
+        first = new Button("first");
+        second = new Button("second");
+        first.getElement().setAttribute(TooltipManager.CONTENT_ATTRIBUTE, "one");
+        second.getElement().setAttribute(TooltipManager.CONTENT_ATTRIBUTE, "two");
+        panel.add(first);
+        panel.add(second);
+
+        manager = new TooltipManager(panel);
+        manager.setIsAnimated(false);
+    }
+
+    @Override
+    protected void gwtTearDown() throws Exception {
+        RootPanel.get().remove(panel);
+        super.gwtTearDown();
+    }
+
+    public void testContainerTitleIsKept() {
+        panel.setTitle("panel");
+        RootPanel.get().add(panel);
+
+        assertEquals("panel", panel.getElement().getAttribute("title"));
+        assertFalse(panel.getElement().hasAttribute("data-original-title"));
+    }
+
+    public void testRetargetsBetweenDescendants() {
+        final JsArrayString events = recordEvents(panel.getElement(), "tooltip");
+        RootPanel.get().add(panel);
+
+        mouseOver(first.getElement());
+        assertEquals("one", getTipText());
+        assertFalse(panel.getElement().hasAttribute("title"));
+
+        mouseOver(second.getElement());
+        assertEquals("two", getTipText());
+        assertEquals(1, countTips());
+        assertEquals("show one,shown one,hide one,hidden one,show two,shown two", events.join(","));
+    }
+
+    public void testDestroyUnbindsListeners() {
+        final JsArrayString events = recordEvents(panel.getElement(), "tooltip");
+        RootPanel.get().add(panel);
+        mouseOver(first.getElement());
+        RootPanel.get().remove(panel);
+
+        assertEquals(0, countTips());
+        assertFalse(hasDelegatedListeners(panel.getElement(), "tooltip"));
+
+        events.setLength(0);
+        mouseOver(first.getElement());
+        assertEquals(0, events.length());
+        assertEquals(0, countTips());
+    }
+
+    static void mouseOver(final Element e) {
+        e.dispatchEvent(Document.get().createMouseOverEvent(0, 0, 0, 0, 0, false, false, false, false,
+                NativeEvent.BUTTON_LEFT, null));
+    }
+
+    /**
+     * Records the plugin's events bubbling to the container as the event type and the target's
+     * {@value TooltipManager#CONTENT_ATTRIBUTE} attribute.
+     */
+    static native JsArrayString recordEvents(Element container, String plugin) /*-{
+        var events = [];
+        $wnd.jQuery(container).on('show.bs.' + plugin + ' shown.bs.' + plugin + ' hide.bs.' + plugin + ' hidden.bs.'
+            + plugin, function (e) {
+            events.push(e.type + ' ' + $wnd.jQuery(e.target).attr('data-tooltip'));
+        });
+        return events;
+    }-*/;
+
+    static native boolean hasDelegatedListeners(Element container, String plugin) /*-{
+        var events = $wnd.jQuery._data(container, 'events') || {};
+        for (var type in events) {
+            for (var i = 0; i < events[type].length; i++) {
+                if (events[type][i].namespace === plugin + 'Delegated') {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }-*/;
+
+    private static native String getTipText() /*-{
+        return $wnd.jQuery('.tooltip .tooltip-inner').text();
+    }-*/;
+
+    private static native int countTips() /*-{
+        return $wnd.jQuery('.tooltip').length;
+    }-*/;
+}
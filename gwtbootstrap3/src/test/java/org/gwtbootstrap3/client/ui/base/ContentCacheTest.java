@@ -0,0 +1,165 @@
+package org.gwtbootstrap3.client.ui.base;
+
+/*
+ * #%L
+ * GwtBootstrap3
+ * %%
+ * Copyright (C) 2013 - 2015 GwtBootstrap3
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.google.gwt.core.client.Callback;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class ContentCacheTest {
+
+    /**
+     * Records the requests and completes them when told to.
+     */
+    private static class StubProvider implements AsyncContentProvider {
+        private final List<String> keys = new ArrayList<String>();
+        private final List<Callback<String, Throwable>> callbacks = new ArrayList<Callback<String, Throwable>>();
+
+        @Override
+        public void getContent(final String key, final Callback<String, Throwable> callback) {
+            keys.add(key);
+            callbacks.add(callback);
+        }
+
+        void complete(final int request) {
+            callbacks.get(request).onSuccess("content of " + keys.get(request));
+        }
+
+        void fail(final int request) {
+            callbacks.get(request).onFailure(new RuntimeException("unavailable"));
+        }
+    }
+
+    private static class Result implements Callback<String, Throwable> {
+        private String content;
+        private Throwable failure;
+
+        @Override
+        public void onSuccess(final String result) {
+            content = result;
+        }
+
+        @Override
+        public void onFailure(final Throwable reason) {
+            failure = reason;
+        }
+    }
+
+    private static class ManualClockCache extends ContentCache {
+        private long now;
+
+        ManualClockCache(final AsyncContentProvider provider, final int maxSize) {
+            super(provider, maxSize);
+        }
+
+        @Override
+        protected long now() {
+            return now;
+        }
+    }
+
+    @Test
+    public void testConcurrentRequestsAreDeduplicated() {
+        final StubProvider provider = new StubProvider();
+        final ContentCache cache = new ContentCache(provider, 10);
+        final Result first = new Result();
+        final Result second = new Result();
+
+        cache.getContent("a", first);
+        cache.getContent("a", second);
+        assertThat(provider.keys.size(), is(1));
+        assertThat(first.content, is(nullValue()));
+
+        provider.complete(0);
+        assertThat(first.content, is("content of a"));
+        assertThat(second.content, is("content of a"));
+
+        final Result third = new Result();
+        cache.getContent("a", third);
+        assertThat(third.content, is("content of a"));
+        assertThat(provider.keys.size(), is(1));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedKeyIsEvicted() {
+        final StubProvider provider = new StubProvider();
+        final ContentCache cache = new ContentCache(provider, 2);
+
+        cache.getContent("a", new Result());
+        provider.complete(0);
+        cache.getContent("b", new Result());
+        provider.complete(1);
+
+        // Touch "a", so "b" is evicted by "c"
+        cache.getContent("a", new Result());
+        cache.getContent("c", new Result());
+        provider.complete(2);
+        assertThat(cache.size(), is(2));
+
+        cache.getContent("a", new Result());
+        assertThat(provider.keys.size(), is(3));
+        cache.getContent("b", new Result());
+        assertThat(provider.keys.size(), is(4));
+    }
+
+    @Test
+    public void testExpiredEntriesAreLoadedAgain() {
+        final StubProvider provider = new StubProvider();
+        final ManualClockCache cache = new ManualClockCache(provider, 10);
+        cache.setTimeToLiveMs(1000);
+
+        cache.getContent("a", new Result());
+        provider.complete(0);
+
+        cache.now = 999;
+        cache.getContent("a", new Result());
+        assertThat(provider.keys.size(), is(1));
+
+        cache.now = 1000;
+        cache.getContent("a", new Result());
+        assertThat(provider.keys.size(), is(2));
+    }
+
+    @Test
+    public void testFailuresAreNotCached() {
+        final StubProvider provider = new StubProvider();
+        final ContentCache cache = new ContentCache(provider, 10);
+        final Result first = new Result();
+        final Result second = new Result();
+
+        cache.getContent("a", first);
+        cache.getContent("a", second);
+        provider.fail(0);
+        assertThat(first.failure.getMessage(), is("unavailable"));
+        assertThat(second.failure.getMessage(), is("unavailable"));
+        assertThat(cache.size(), is(0));
+
+        cache.getContent("a", new Result());
+        assertThat(provider.keys.size(), is(2));
+    }
+}
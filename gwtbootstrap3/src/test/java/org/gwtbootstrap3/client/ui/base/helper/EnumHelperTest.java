@@ -20,6 +20,7 @@ package org.gwtbootstrap3.client.ui.base.helper;
  * #L%
  */
 
+import org.gwtbootstrap3.client.ui.constants.IconType;
 import org.gwtbootstrap3.client.ui.constants.Pull;
 import org.junit.Test;
 
@@ -43,4 +44,18 @@ public class EnumHelperTest {
         assertThat(fromStyleName("123 abc", null, null), is(nullValue()));
         assertThat(fromStyleName(null, Pull.class, null), is(nullValue()));
     }
+
+    @Test
+    public void testFromStyleNamePrefersFirstConstant() {
+        assertThat(fromStyleName("pull-right pull-left", Pull.class, null), is(Pull.LEFT));
+        assertThat(fromStyleName("  pull-right\tabc  ", Pull.class, null), is(Pull.RIGHT));
+        assertThat(fromStyleName("", Pull.class, Pull.NONE), is(Pull.NONE));
+    }
+
+    @Test
+    public void testFromStyleNameLargeEnum() {
+        assertThat(fromStyleName("fa fa-youtube-square fa-spin", IconType.class, null), is(IconType.YOUTUBE_SQUARE));
+        assertThat(fromStyleName("fa fa-adjust", IconType.class, null), is(IconType.ADJUST));
+        assertThat(fromStyleName("fa fa-spin", IconType.class, null), is(nullValue()));
+    }
 }
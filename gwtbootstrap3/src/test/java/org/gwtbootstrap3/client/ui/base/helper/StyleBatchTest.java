@@ -0,0 +1,136 @@
+package org.gwtbootstrap3.client.ui.base.helper;
+
+/*
+ * #%L
+ * GwtBootstrap3
+ * %%
+ * Copyright (C) 2013 - 2015 GwtBootstrap3
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.gwtbootstrap3.client.ui.constants.Pull;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.google.gwt.junit.GWTMockUtilities;
+import com.google.gwt.user.client.ui.UIObject;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class StyleBatchTest {
+
+    /**
+     * Keeps the style names in a field and counts the writes, instead of using an element.
+     */
+    private static class FakeUIObject extends UIObject {
+        private String styleName;
+        private int writes;
+
+        FakeUIObject(final String styleName) {
+            this.styleName = styleName;
+        }
+
+        @Override
+        public String getStyleName() {
+            return styleName;
+        }
+
+        @Override
+        public void setStyleName(final String styleName) {
+            this.styleName = styleName;
+            writes++;
+        }
+    }
+
+    @BeforeClass
+    public static void disarm() {
+        // UIObject's static initializer calls GWT.create()
+        GWTMockUtilities.disarm();
+    }
+
+    @AfterClass
+    public static void restore() {
+        GWTMockUtilities.restore();
+    }
+
+    @Test
+    public void testAddAndRemove() {
+        final FakeUIObject uiObject = new FakeUIObject("btn  active");
+
+        new StyleBatch(uiObject)
+                .addStyleName("btn-lg")
+                .addStyleName("btn")
+                .removeStyleName("active")
+                .removeStyleName("missing")
+                .apply();
+
+        assertThat(uiObject.styleName, is("btn btn-lg"));
+        assertThat(uiObject.writes, is(1));
+    }
+
+    @Test
+    public void testToggle() {
+        final FakeUIObject uiObject = new FakeUIObject("btn");
+
+        new StyleBatch(uiObject)
+                .toggleStyleName(true, "active")
+                .toggleStyleName(false, "btn")
+                .apply();
+
+        assertThat(uiObject.styleName, is("active"));
+    }
+
+    @Test
+    public void testUniqueEnumStyleName() {
+        final FakeUIObject uiObject = new FakeUIObject("pull-left btn pull-right");
+
+        new StyleBatch(uiObject).addUniqueEnumStyleName(Pull.class, Pull.RIGHT).apply();
+        assertThat(uiObject.styleName, is("btn pull-right"));
+
+        new StyleBatch(uiObject).addUniqueEnumStyleName(Pull.class, Pull.LEFT).apply();
+        assertThat(uiObject.styleName, is("btn pull-left"));
+
+        new StyleBatch(uiObject).addUniqueEnumStyleName(Pull.class, null).apply();
+        assertThat(uiObject.styleName, is("btn"));
+
+        new StyleBatch(uiObject).addEnumStyleName(Pull.LEFT).removeEnumStyleNames(Pull.class).apply();
+        assertThat(uiObject.styleName, is("btn"));
+    }
+
+    @Test
+    public void testApplyWritesOnlyChanges() {
+        final FakeUIObject uiObject = new FakeUIObject("btn pull-left");
+
+        // Nothing to do
+        new StyleBatch(uiObject)
+                .addStyleName("btn")
+                .removeStyleName("active")
+                .addUniqueEnumStyleName(Pull.class, Pull.LEFT)
+                .apply();
+        assertThat(uiObject.writes, is(0));
+
+        // Changes cancelling each other out
+        new StyleBatch(uiObject).addStyleName("active").removeStyleName("active").apply();
+        assertThat(uiObject.writes, is(0));
+
+        final StyleBatch batch = new StyleBatch(uiObject).addStyleName("active");
+        batch.apply();
+        batch.apply();
+        assertThat(uiObject.styleName, is("btn pull-left active"));
+        assertThat(uiObject.writes, is(1));
+    }
+}
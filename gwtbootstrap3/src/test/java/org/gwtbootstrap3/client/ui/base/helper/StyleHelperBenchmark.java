@@ -0,0 +1,80 @@
+package org.gwtbootstrap3.client.ui.base.helper;
+
+/*
+ * #%L
+ * GwtBootstrap3
+ * %%
+ * Copyright (C) 2013 - 2015 GwtBootstrap3
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * Compares {@link StyleHelper#containsStyle(String, String)} with the former split based implementation
+ * on long class strings. Not a unit test, run its {@code main} method manually.
+ */
+public class StyleHelperBenchmark {
+
+    private static final int STYLE_COUNT = 40;
+    private static final int ITERATIONS = 200000;
+
+    public static void main(final String[] args) {
+        final StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < STYLE_COUNT; i++) {
+            builder.append("style-name-").append(i).append(' ');
+        }
+        final String styleNames = builder.append("active").toString();
+        final String[] lookups = {"style-name-0", "style-name-" + (STYLE_COUNT / 2), "active", "missing"};
+
+        // Warm up both implementations before measuring
+        run(styleNames, lookups, true);
+        run(styleNames, lookups, false);
+
+        final long splitTime = run(styleNames, lookups, true);
+        final long scanTime = run(styleNames, lookups, false);
+
+        System.out.println("Class string with " + (STYLE_COUNT + 1) + " styles, "
+                + ITERATIONS * lookups.length + " lookups");
+        System.out.println("split:  " + splitTime / 1000000 + " ms");
+        System.out.println("scan:   " + scanTime / 1000000 + " ms");
+    }
+
+    private static long run(final String styleNames, final String[] lookups, final boolean split) {
+        int found = 0;
+        final long start = System.nanoTime();
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            for (final String lookup : lookups) {
+                if (split ? splitContainsStyle(styleNames, lookup) : StyleHelper.containsStyle(styleNames, lookup)) {
+                    found++;
+                }
+            }
+        }
+
+        final long time = System.nanoTime() - start;
+        if (found != ITERATIONS * (lookups.length - 1)) {
+            throw new IllegalStateException("Unexpected result " + found);
+        }
+        return time;
+    }
+
+    private static boolean splitContainsStyle(final String styleNames, final String style) {
+        for (final String s : styleNames.split("\\s")) {
+            if (style.equals(s)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -43,4 +43,19 @@ public class StyleHelperTest {
         assertThat(containsStyle(styleNames, null), is(false));
         assertThat(containsStyle("abc", "abc"), is(true));
     }
+
+    @Test
+    public void testContainsStyleBoundaries() {
+        final String styleNames = "btn btn-default\tbtn-lg\nactive";
+
+        assertThat(containsStyle(styleNames, "btn"), is(true));
+        assertThat(containsStyle(styleNames, "btn-lg"), is(true));
+        assertThat(containsStyle(styleNames, "active"), is(true));
+        assertThat(containsStyle(styleNames, "default"), is(false));
+        assertThat(containsStyle(styleNames, "btn-"), is(false));
+        assertThat(containsStyle(styleNames, "act"), is(false));
+        assertThat(containsStyle(styleNames, "btn btn-default"), is(false));
+        assertThat(containsStyle("aaa aa", "aa"), is(true));
+        assertThat(containsStyle(styleNames, ""), is(false));
+    }
 }
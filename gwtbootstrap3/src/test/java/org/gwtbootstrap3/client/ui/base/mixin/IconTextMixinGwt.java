@@ -0,0 +1,116 @@
+package org.gwtbootstrap3.client.ui.base.mixin;
+
+/*
+ * #%L
+ * GwtBootstrap3
+ * %%
+ * Copyright (C) 2013 - 2015 GwtBootstrap3
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.gwtbootstrap3.client.ui.BaseGwt;
+import org.gwtbootstrap3.client.ui.Button;
+import org.gwtbootstrap3.client.ui.constants.IconFlip;
+import org.gwtbootstrap3.client.ui.constants.IconPosition;
+import org.gwtbootstrap3.client.ui.constants.IconRotate;
+import org.gwtbootstrap3.client.ui.constants.IconSize;
+import org.gwtbootstrap3.client.ui.constants.IconType;
+
+import com.google.gwt.core.client.Scheduler;
+import com.google.gwt.core.client.Scheduler.ScheduledCommand;
+import com.google.gwt.dom.client.Element;
+import com.google.gwt.user.client.ui.RootPanel;
+
+/**
+ * Tests rendering the icon of widgets using {@link IconTextMixin}.
+ */
+public class IconTextMixinGwt extends BaseGwt {
+
+    public void testUnattachedRendersRightAway() {
+        final Button button = new Button("text");
+        button.setIcon(IconType.STAR);
+
+        final Element icon = button.getElement().getFirstChildElement();
+        assertNotNull(icon);
+        assertTrue(icon.hasClassName("fa-star"));
+    }
+
+    public void testIconIsReused() {
+        final Button button = new Button("text");
+        button.setIcon(IconType.STAR);
+        final Element icon = button.getElement().getFirstChildElement();
+
+        button.setIcon(IconType.HEART);
+        button.setIconSpin(true);
+
+        assertSame(icon, button.getElement().getFirstChildElement());
+        assertTrue(icon.hasClassName("fa-heart"));
+        assertTrue(icon.hasClassName("fa-spin"));
+        assertFalse(icon.hasClassName("fa-star"));
+    }
+
+    public void testNullClearsIconStyles() {
+        final Button button = new Button("text");
+        button.setIcon(IconType.STAR);
+        button.setIconSize(IconSize.LARGE);
+        button.setIconFlip(IconFlip.HORIZONTAL);
+        button.setIconRotate(IconRotate.ROTATE_90);
+
+        final Element icon = button.getElement().getFirstChildElement();
+        assertTrue(icon.hasClassName("fa-lg"));
+        assertTrue(icon.hasClassName("fa-flip-horizontal"));
+        assertTrue(icon.hasClassName("fa-rotate-90"));
+
+        button.setIconSize(null);
+        button.setIconFlip(null);
+        button.setIconRotate(null);
+        assertFalse(icon.hasClassName("fa-lg"));
+        assertFalse(icon.hasClassName("fa-flip-horizontal"));
+        assertFalse(icon.hasClassName("fa-rotate-90"));
+    }
+
+    public void testAttachedRendersAreCoalesced() {
+        final Button button = new Button("text");
+        button.setIcon(IconType.STAR);
+        RootPanel.get().add(button);
+        final Element icon = button.getElement().getFirstChildElement();
+
+        button.setIcon(IconType.HEART);
+        button.setIconSize(IconSize.LARGE);
+        button.setIconPosition(IconPosition.RIGHT);
+
+        // Nothing is written until the deferred render
+        assertTrue(icon.hasClassName("fa-star"));
+        assertFalse(icon.hasClassName("fa-lg"));
+        assertSame(icon, button.getElement().getFirstChild());
+
+        delayTestFinish(5000);
+        Scheduler.get().scheduleDeferred(new ScheduledCommand() {
+            @Override
+            public void execute() {
+                try {
+                    assertSame(icon, button.getElement().getFirstChildElement());
+                    assertTrue(icon.hasClassName("fa-heart"));
+                    assertTrue(icon.hasClassName("fa-lg"));
+                    assertFalse(icon.hasClassName("fa-star"));
+                    assertNotSame(icon, button.getElement().getFirstChild());
+                } finally {
+                    RootPanel.get().remove(button);
+                }
+                finishTest();
+            }
+        });
+    }
+}
@@ -0,0 +1,364 @@
+package org.gwtbootstrap3.client.ui.impl;
+
+/*
+ * #%L
+ * GwtBootstrap3
+ * %%
+ * Copyright (C) 2013 - 2015 GwtBootstrap3
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.gwtbootstrap3.client.shared.event.AlertCloseEvent;
+import org.gwtbootstrap3.client.shared.event.AlertCloseHandler;
+import org.gwtbootstrap3.client.shared.event.AlertClosedEvent;
+import org.gwtbootstrap3.client.shared.event.AlertClosedHandler;
+import org.gwtbootstrap3.client.shared.event.HiddenEvent;
+import org.gwtbootstrap3.client.shared.event.HiddenHandler;
+import org.gwtbootstrap3.client.shared.event.ModalHiddenEvent;
+import org.gwtbootstrap3.client.shared.event.ModalHiddenHandler;
+import org.gwtbootstrap3.client.shared.event.ModalHideEvent;
+import org.gwtbootstrap3.client.shared.event.ModalHideHandler;
+import org.gwtbootstrap3.client.shared.event.ModalShowEvent;
+import org.gwtbootstrap3.client.shared.event.ModalShowHandler;
+import org.gwtbootstrap3.client.shared.event.ModalShownEvent;
+import org.gwtbootstrap3.client.shared.event.ModalShownHandler;
+import org.gwtbootstrap3.client.shared.event.ShowEvent;
+import org.gwtbootstrap3.client.shared.event.ShowHandler;
+import org.gwtbootstrap3.client.shared.event.ShownEvent;
+import org.gwtbootstrap3.client.shared.event.ShownHandler;
+import org.gwtbootstrap3.client.shared.event.TabShowEvent;
+import org.gwtbootstrap3.client.shared.event.TabShowHandler;
+import org.gwtbootstrap3.client.shared.event.TabShownEvent;
+import org.gwtbootstrap3.client.shared.event.TabShownHandler;
+import org.gwtbootstrap3.client.ui.Alert;
+import org.gwtbootstrap3.client.ui.BaseGwt;
+import org.gwtbootstrap3.client.ui.Button;
+import org.gwtbootstrap3.client.ui.Collapse;
+import org.gwtbootstrap3.client.ui.Modal;
+import org.gwtbootstrap3.client.ui.NavTabs;
+import org.gwtbootstrap3.client.ui.TabContent;
+import org.gwtbootstrap3.client.ui.TabListItem;
+import org.gwtbootstrap3.client.ui.TabPane;
+import org.gwtbootstrap3.client.ui.constants.Attributes;
+import org.gwtbootstrap3.client.ui.constants.Styles;
+import org.gwtbootstrap3.client.ui.constants.Toggle;
+
+import com.google.gwt.core.client.Scheduler;
+import com.google.gwt.core.client.Scheduler.ScheduledCommand;
+import com.google.gwt.dom.client.Document;
+import com.google.gwt.dom.client.Element;
+import com.google.gwt.user.client.Event;
+import com.google.gwt.user.client.ui.RootPanel;
+
+/**
+ * Tests the native plugins through their widgets and data API, without jQuery on the page.
+ */
+public class PluginImplNativeGwt extends BaseGwt {
+
+    private static final int TIMEOUT = 5000;
+
+    @Override
+    public String getModuleName() {
+        return "org.gwtbootstrap3.GwtBootstrap3NoJQuery";
+    }
+
+    @Override
+    protected void gwtTearDown() throws Exception {
+        RootPanel.get().clear();
+        super.gwtTearDown();
+    }
+
+    public void testModalEvents() {
+        final Modal modal = new Modal();
+        final List<String> events = new ArrayList<String>();
+        modal.addShowHandler(new ModalShowHandler() {
+            @Override
+            public void onShow(final ModalShowEvent evt) {
+                events.add("show");
+            }
+        });
+        modal.addShownHandler(new ModalShownHandler() {
+            @Override
+            public void onShown(final ModalShownEvent evt) {
+                events.add("shown");
+                assertTrue(modal.getElement().hasClassName(Styles.IN));
+                assertTrue(Document.get().getBody().hasClassName("modal-open"));
+                modal.hide();
+            }
+        });
+        modal.addHideHandler(new ModalHideHandler() {
+            @Override
+            public void onHide(final ModalHideEvent evt) {
+                events.add("hide");
+            }
+        });
+        modal.addHiddenHandler(new ModalHiddenHandler() {
+            @Override
+            public void onHidden(final ModalHiddenEvent evt) {
+                events.add("hidden");
+                assertEquals(Arrays.asList("show", "shown", "hide", "hidden"), events);
+                assertFalse(modal.getElement().hasClassName(Styles.IN));
+                assertEquals("none", modal.getElement().getStyle().getDisplay());
+                assertFalse(Document.get().getBody().hasClassName("modal-open"));
+                finishTest();
+            }
+        });
+
+        delayTestFinish(TIMEOUT);
+        modal.show();
+    }
+
+    public void testModalShowCanBePrevented() {
+        final Modal modal = new Modal();
+        modal.addShowHandler(new ModalShowHandler() {
+            @Override
+            public void onShow(final ModalShowEvent evt) {
+                evt.getNativeEvent().preventDefault();
+            }
+        });
+        modal.addShownHandler(new ModalShownHandler() {
+            @Override
+            public void onShown(final ModalShownEvent evt) {
+                fail("Prevented modal was shown");
+            }
+        });
+
+        modal.show();
+        assertFalse(modal.getElement().hasClassName(Styles.IN));
+    }
+
+    public void testModalFocus() {
+        final Modal modal = new Modal();
+        modal.setId("nativeModal");
+        modal.setDataKeyboard(true);
+
+        final Button trigger = new Button("trigger");
+        trigger.setDataToggle(Toggle.MODAL);
+        trigger.setDataTarget("#nativeModal");
+        final Button outside = new Button("outside");
+
+        modal.addShownHandler(new ModalShownHandler() {
+            @Override
+            public void onShown(final ModalShownEvent evt) {
+                assertEquals(modal.getElement(), getActiveElement());
+
+                // Focus moving out of the modal is brought back
+                outside.getElement().focus();
+                focusIn(outside.getElement());
+                assertEquals(modal.getElement(), getActiveElement());
+
+                modal.hide();
+            }
+        });
+        modal.addHiddenHandler(new ModalHiddenHandler() {
+            @Override
+            public void onHidden(final ModalHiddenEvent evt) {
+                // The trigger gets the focus back once the hidden handlers have run
+                Scheduler.get().scheduleDeferred(new ScheduledCommand() {
+                    @Override
+                    public void execute() {
+                        assertEquals(trigger.getElement(), getActiveElement());
+                        finishTest();
+                    }
+                });
+            }
+        });
+
+        RootPanel.get().add(trigger);
+        RootPanel.get().add(outside);
+        RootPanel.get().add(modal);
+
+        delayTestFinish(TIMEOUT);
+        click(trigger.getElement());
+    }
+
+    public void testCollapse() {
+        final Collapse collapse = new Collapse();
+        collapse.setId("nativeCollapse");
+        collapse.setToggle(false);
+
+        final Button trigger = new Button("trigger");
+        trigger.setDataToggle(Toggle.COLLAPSE);
+        trigger.setDataTarget("#nativeCollapse");
+
+        final List<String> events = new ArrayList<String>();
+        collapse.addShowHandler(new ShowHandler() {
+            @Override
+            public void onShow(final ShowEvent showEvent) {
+                events.add("show");
+            }
+        });
+        collapse.addShownHandler(new ShownHandler() {
+            @Override
+            public void onShown(final ShownEvent event) {
+                events.add("shown");
+                assertTrue(collapse.isShown());
+                assertEquals("true", trigger.getElement().getAttribute("aria-expanded"));
+                click(trigger.getElement());
+            }
+        });
+        collapse.addHiddenHandler(new HiddenHandler() {
+            @Override
+            public void onHidden(final HiddenEvent event) {
+                events.add("hidden");
+                assertEquals(Arrays.asList("show", "shown", "hidden"), events);
+                assertTrue(collapse.isHidden());
+                assertTrue(trigger.getElement().hasClassName("collapsed"));
+                finishTest();
+            }
+        });
+
+        RootPanel.get().add(trigger);
+        RootPanel.get().add(collapse);
+        assertTrue(collapse.isHidden());
+
+        delayTestFinish(TIMEOUT);
+        click(trigger.getElement());
+    }
+
+    public void testTab() {
+        final TabListItem first = new TabListItem("first");
+        first.setDataTarget("#nativePane1");
+        first.setActive(true);
+        final TabListItem second = new TabListItem("second");
+        second.setDataTarget("#nativePane2");
+        final NavTabs tabs = new NavTabs();
+        tabs.add(first);
+        tabs.add(second);
+
+        final TabPane firstPane = new TabPane();
+        firstPane.setId("nativePane1");
+        firstPane.setActive(true);
+        final TabPane secondPane = new TabPane();
+        secondPane.setId("nativePane2");
+        final TabContent content = new TabContent();
+        content.add(firstPane);
+        content.add(secondPane);
+
+        final List<String> events = new ArrayList<String>();
+        second.addShowHandler(new TabShowHandler() {
+            @Override
+            public void onShow(final TabShowEvent event) {
+                events.add("show");
+            }
+        });
+        second.addShownHandler(new TabShownHandler() {
+            @Override
+            public void onShown(final TabShownEvent event) {
+                events.add("shown");
+                assertEquals(Arrays.asList("show", "shown"), events);
+                assertTrue(second.isActive());
+                assertFalse(first.isActive());
+                assertTrue(secondPane.isActive());
+                assertFalse(firstPane.isActive());
+                finishTest();
+            }
+        });
+
+        RootPanel.get().add(tabs);
+        RootPanel.get().add(content);
+
+        delayTestFinish(TIMEOUT);
+        click(second.getElement().getFirstChildElement());
+    }
+
+    public void testDropdownToggle() {
+        final Element dropdown = Document.get().createDivElement();
+        dropdown.setClassName(Styles.DROPDOWN);
+        final Element toggle = Document.get().createAnchorElement();
+        toggle.setAttribute("href", "#");
+        toggle.setAttribute(Attributes.DATA_TOGGLE, Toggle.DROPDOWN.getToggle());
+        final Element menu = Document.get().createULElement();
+        menu.setClassName(Styles.DROPDOWN_MENU);
+        dropdown.appendChild(toggle);
+        dropdown.appendChild(menu);
+
+        final List<String> events = new ArrayList<String>();
+        for (final String type : new String[] {"show", "shown", "hide", "hidden"}) {
+            NativeDom.on(dropdown, type + ".bs.dropdown", new PluginImpl.Handler() {
+                @Override
+                public void onEvent(final Event evt) {
+                    events.add(type);
+                }
+            });
+        }
+
+        Document.get().getBody().appendChild(dropdown);
+        try {
+            click(toggle);
+            assertTrue(dropdown.hasClassName(Styles.OPEN));
+            assertEquals("true", toggle.getAttribute("aria-expanded"));
+
+            click(toggle);
+            assertFalse(dropdown.hasClassName(Styles.OPEN));
+            assertEquals("false", toggle.getAttribute("aria-expanded"));
+
+            // A click anywhere else closes the menu too
+            click(toggle);
+            click(Document.get().getBody());
+            assertFalse(dropdown.hasClassName(Styles.OPEN));
+
+            assertEquals(Arrays.asList("show", "shown", "hide", "hidden", "show", "shown", "hide", "hidden"), events);
+        } finally {
+            dropdown.removeFromParent();
+        }
+    }
+
+    public void testAlertDismiss() {
+        final Alert alert = new Alert("text");
+        alert.setDismissable(true);
+
+        final List<String> events = new ArrayList<String>();
+        alert.addCloseHandler(new AlertCloseHandler() {
+            @Override
+            public void onClose(final AlertCloseEvent evt) {
+                events.add("close");
+            }
+        });
+        alert.addClosedHandler(new AlertClosedHandler() {
+            @Override
+            public void onClosed(final AlertClosedEvent evt) {
+                events.add("closed");
+                assertEquals(Arrays.asList("close", "closed"), events);
+                assertNull(alert.getElement().getParentElement());
+                finishTest();
+            }
+        });
+
+        RootPanel.get().add(alert);
+
+        delayTestFinish(TIMEOUT);
+        // The close button, with data-dismiss="alert"
+        click(alert.getElement().getFirstChildElement());
+    }
+
+    private static void click(final Element e) {
+        e.dispatchEvent(Document.get().createClickEvent(0, 0, 0, 0, 0, false, false, false, false));
+    }
+
+    private static native void focusIn(Element e) /*-{
+        var evt = $doc.createEvent('UIEvents');
+        evt.initUIEvent('focusin', true, false, $wnd, 0);
+        e.dispatchEvent(evt);
+    }-*/;
+
+    private static native Element getActiveElement() /*-{
+        return $doc.activeElement;
+    }-*/;
+}
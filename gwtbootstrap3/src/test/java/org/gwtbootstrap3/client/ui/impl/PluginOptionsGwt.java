@@ -0,0 +1,74 @@
+package org.gwtbootstrap3.client.ui.impl;
+
+/*
+ * #%L
+ * GwtBootstrap3
+ * %%
+ * Copyright (C) 2013 - 2014 GwtBootstrap3
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.gwtbootstrap3.client.ui.BaseGwt;
+
+import com.google.gwt.core.client.JavaScriptObject;
+
+/**
+ * Tests for the plugin option objects.
+ */
+public class PluginOptionsGwt extends BaseGwt {
+
+    public void testTooltipOptions() {
+        final TooltipOptions options = TooltipOptions.create();
+        options.setAnimation(false);
+        options.setPlacement("left");
+        options.setDelay(100, 200);
+
+        assertEquals("false", get(options, "animation"));
+        assertEquals("left", get(options, "placement"));
+        assertEquals("100", get(options, "delay", "show"));
+        assertEquals("200", get(options, "delay", "hide"));
+    }
+
+    public void testNullRemovesOption() {
+        final PopoverOptions options = PopoverOptions.create();
+        options.setContainer("body");
+        assertTrue(has(options, "container"));
+
+        options.setContainer(null);
+        assertFalse(has(options, "container"));
+
+        options.setSelector(null);
+        assertFalse(has(options, "selector"));
+    }
+
+    public void testReuse() {
+        final PopoverOptions options = PopoverOptions.create();
+        options.setContent("first");
+        options.setContent("second");
+        assertEquals("second", get(options, "content"));
+    }
+
+    private static native boolean has(JavaScriptObject o, String key) /*-{
+        return o.hasOwnProperty(key);
+    }-*/;
+
+    private static native String get(JavaScriptObject o, String key) /*-{
+        return String(o[key]);
+    }-*/;
+
+    private static native String get(JavaScriptObject o, String key, String nested) /*-{
+        return String(o[key][nested]);
+    }-*/;
+}
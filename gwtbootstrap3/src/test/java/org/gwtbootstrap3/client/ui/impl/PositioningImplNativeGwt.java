@@ -0,0 +1,296 @@
+package org.gwtbootstrap3.client.ui.impl;
+
+/*
+ * #%L
+ * GwtBootstrap3
+ * %%
+ * Copyright (C) 2013 - 2015 GwtBootstrap3
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.gwtbootstrap3.client.GwtBootstrap3Timing;
+import org.gwtbootstrap3.client.shared.event.ShownEvent;
+import org.gwtbootstrap3.client.shared.event.ShownHandler;
+import org.gwtbootstrap3.client.ui.BaseGwt;
+import org.gwtbootstrap3.client.ui.Button;
+import org.gwtbootstrap3.client.ui.Tooltip;
+import org.gwtbootstrap3.client.ui.constants.Placement;
+import org.gwtbootstrap3.client.ui.constants.Trigger;
+
+import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.dom.client.Element;
+import com.google.gwt.dom.client.Style;
+import com.google.gwt.user.client.Timer;
+import com.google.gwt.user.client.ui.RootPanel;
+
+/**
+ * Tests placing tips in an animation frame, along with the timing of their shows.
+ */
+public class PositioningImplNativeGwt extends BaseGwt {
+
+    private static final int TIMEOUT = 5000;
+
+    // Waits for a few frames
+    private static final int FRAMES = 200;
+
+    private final List<String> phases = new ArrayList<String>();
+
+    @Override
+    public String getModuleName() {
+        return "org.gwtbootstrap3.GwtBootstrap3NativePositioning";
+    }
+
+    @Override
+    protected void gwtSetUp() throws Exception {
+        super.gwtSetUp();
+        phases.clear();
+        GwtBootstrap3Timing.setSink(new GwtBootstrap3Timing.Sink() {
+            @Override
+            public void onPhase(final String phase, final double startTime, final double duration) {
+                if (phase.endsWith(".show")) {
+                    phases.add(phase);
+                }
+            }
+        });
+    }
+
+    @Override
+    protected void gwtTearDown() throws Exception {
+        GwtBootstrap3Timing.setSink(null);
+        RootPanel.get().clear();
+        super.gwtTearDown();
+    }
+
+    public void testAutoPlacementFlipsAtTheEdge() {
+        final Button button = createButton();
+        final Tooltip tooltip = createTooltip(button);
+        tooltip.setPlacement(Placement.AUTO);
+        tooltip.addShownHandler(new ShownHandler() {
+            @Override
+            public void onShown(final ShownEvent event) {
+                final JavaScriptObject instance = getInstance(button.getElement());
+                assertTrue(hasTipClass(instance, "in"));
+                // Auto placement defaults to top, which leaves no room at the top of the page
+                assertTrue(hasTipClass(instance, "bottom"));
+                assertFalse(hasTipClass(instance, "top"));
+                assertEquals(1, phases.size());
+                assertEquals("tooltip.show", phases.get(0));
+                finishTest();
+            }
+        });
+        RootPanel.get().add(button);
+
+        delayTestFinish(TIMEOUT);
+        tooltip.show();
+
+        // Placed in the next frame
+        final JavaScriptObject instance = getInstance(button.getElement());
+        assertTrue(hasPending(instance));
+        assertFalse(hasTipClass(instance, "in"));
+    }
+
+    public void testHideBeforePlacementCancelsIt() {
+        final Button button = createButton();
+        final Tooltip tooltip = createTooltip(button);
+        final List<String> events = new ArrayList<String>();
+        tooltip.addShownHandler(new ShownHandler() {
+            @Override
+            public void onShown(final ShownEvent event) {
+                events.add("shown");
+            }
+        });
+        RootPanel.get().add(button);
+
+        tooltip.show();
+        tooltip.hide();
+
+        final JavaScriptObject instance = getInstance(button.getElement());
+        assertFalse(hasPending(instance));
+
+        delayTestFinish(TIMEOUT);
+        new Timer() {
+            @Override
+            public void run() {
+                assertTrue(events.isEmpty());
+                assertFalse(hasTipClass(instance, "in"));
+                assertTrue(phases.isEmpty());
+                finishTest();
+            }
+        }.schedule(FRAMES);
+    }
+
+    public void testPreventedHideKeepsPlacement() {
+        final Button button = createButton();
+        final Tooltip tooltip = createTooltip(button);
+        tooltip.addShownHandler(new ShownHandler() {
+            @Override
+            public void onShown(final ShownEvent event) {
+                assertTrue(hasTipClass(getInstance(button.getElement()), "in"));
+                finishTest();
+            }
+        });
+        RootPanel.get().add(button);
+        preventHide(button.getElement());
+
+        delayTestFinish(TIMEOUT);
+        tooltip.show();
+        tooltip.hide();
+
+        assertTrue(hasPending(getInstance(button.getElement())));
+    }
+
+    public void testTopPlacementMatchesBootstrap() {
+        checkPlacement(Placement.TOP);
+    }
+
+    public void testBottomPlacementMatchesBootstrap() {
+        checkPlacement(Placement.BOTTOM);
+    }
+
+    public void testLeftPlacementMatchesBootstrap() {
+        checkPlacement(Placement.LEFT);
+    }
+
+    public void testRightPlacementMatchesBootstrap() {
+        checkPlacement(Placement.RIGHT);
+    }
+
+    public void testViewportAdjustmentMatchesBootstrap() {
+        // Wider than the button at the left edge of the page, so the tip is moved into the viewport
+        final Button button = createButton(200, 0);
+        final Tooltip tooltip = createTooltip(button);
+        tooltip.setTitle("A title much wider than the button it belongs to");
+        tooltip.setPlacement(Placement.TOP);
+        tooltip.addShownHandler(new ShownHandler() {
+            @Override
+            public void onShown(final ShownEvent event) {
+                final JavaScriptObject instance = getInstance(button.getElement());
+                final JavaScriptObject expected = getBootstrapOffset(instance, Placement.TOP.getCssName());
+                assertTrue(getNumber(expected, "deltaLeft") > 0);
+                assertOffset(expected, getTipOffset(instance));
+                assertEquals(0, getNumber(getTipOffset(instance), "left"), 1);
+                finishTest();
+            }
+        });
+        RootPanel.get().add(button);
+
+        delayTestFinish(TIMEOUT);
+        tooltip.show();
+    }
+
+    /**
+     * Shows a tooltip away from the page's edges and compares the tip's offset to the one Bootstrap's
+     * getCalculatedOffset() gives for the same target and tip size.
+     */
+    private void checkPlacement(final Placement placement) {
+        final Button button = createButton(200, 300);
+        final Tooltip tooltip = createTooltip(button);
+        tooltip.setPlacement(placement);
+        tooltip.addShownHandler(new ShownHandler() {
+            @Override
+            public void onShown(final ShownEvent event) {
+                final JavaScriptObject instance = getInstance(button.getElement());
+                assertTrue(hasTipClass(instance, placement.getCssName()));
+                final JavaScriptObject expected = getBootstrapOffset(instance, placement.getCssName());
+                assertEquals(0, getNumber(expected, "deltaTop"), 0);
+                assertEquals(0, getNumber(expected, "deltaLeft"), 0);
+                assertOffset(expected, getTipOffset(instance));
+                finishTest();
+            }
+        });
+        RootPanel.get().add(button);
+
+        delayTestFinish(TIMEOUT);
+        tooltip.show();
+    }
+
+    private static void assertOffset(final JavaScriptObject expected, final JavaScriptObject actual) {
+        // The translation is rounded to whole pixels
+        assertEquals(getNumber(expected, "top"), getNumber(actual, "top"), 1);
+        assertEquals(getNumber(expected, "left"), getNumber(actual, "left"), 1);
+    }
+
+    private static Button createButton() {
+        return createButton(0, 200);
+    }
+
+    private static Button createButton(final int top, final int left) {
+        final Button button = new Button("button");
+        final Style style = button.getElement().getStyle();
+        style.setPosition(Style.Position.ABSOLUTE);
+        style.setTop(top, Style.Unit.PX);
+        style.setLeft(left, Style.Unit.PX);
+        return button;
+    }
+
+    private static Tooltip createTooltip(final Button button) {
+        final Tooltip tooltip = new Tooltip(button, "title");
+        tooltip.setIsAnimated(false);
+        tooltip.setTrigger(Trigger.MANUAL);
+        return tooltip;
+    }
+
+    private static native JavaScriptObject getInstance(Element e) /*-{
+        return $wnd.jQuery(e).data('bs.tooltip') || null;
+    }-*/;
+
+    private static native boolean hasPending(JavaScriptObject instance) /*-{
+        return !!instance.__gwtBootstrap3Pending;
+    }-*/;
+
+    private static native boolean hasTipClass(JavaScriptObject instance, String className) /*-{
+        return instance.tip().hasClass(className);
+    }-*/;
+
+    /**
+     * Returns the document offset Bootstrap's applyPlacement() gives the tip at its current size: the calculated
+     * offset, moved into the viewport and by the tip's margins.
+     */
+    private static native JavaScriptObject getBootstrapOffset(JavaScriptObject instance, String placement) /*-{
+        var $tip = instance.tip();
+        var width = $tip[0].offsetWidth;
+        var height = $tip[0].offsetHeight;
+        var offset = instance.getCalculatedOffset(placement, instance.getPosition(), width, height);
+        var delta = instance.getViewportAdjustedDelta(placement, offset, width, height);
+        return {
+            top: offset.top + delta.top + (parseInt($tip.css('margin-top'), 10) || 0),
+            left: offset.left + delta.left + (parseInt($tip.css('margin-left'), 10) || 0),
+            deltaTop: delta.top,
+            deltaLeft: delta.left
+        };
+    }-*/;
+
+    private static native JavaScriptObject getTipOffset(JavaScriptObject instance) /*-{
+        var rect = instance.tip()[0].getBoundingClientRect();
+        var doc = $wnd.document.documentElement;
+        return {
+            top: rect.top + ($wnd.pageYOffset || doc.scrollTop),
+            left: rect.left + ($wnd.pageXOffset || doc.scrollLeft)
+        };
+    }-*/;
+
+    private static native double getNumber(JavaScriptObject object, String key) /*-{
+        return object[key];
+    }-*/;
+
+    private static native void preventHide(Element e) /*-{
+        $wnd.jQuery(e).on('hide.bs.tooltip', function (event) {
+            event.preventDefault();
+        });
+    }-*/;
+}
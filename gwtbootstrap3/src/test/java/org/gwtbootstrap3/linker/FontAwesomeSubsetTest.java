@@ -0,0 +1,212 @@
+package org.gwtbootstrap3.linker;
+
+/*
+ * #%L
+ * GwtBootstrap3
+ * %%
+ * Copyright (C) 2013 - 2015 GwtBootstrap3
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.Inflater;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class FontAwesomeSubsetTest {
+
+    private static final String RESOURCES = "/org/gwtbootstrap3/client/resource/";
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private static byte[] read(final String path) throws IOException {
+        final InputStream in = FontAwesomeSubsetTest.class.getResourceAsStream(RESOURCES + path);
+        try {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[8192];
+            for (int read = in.read(buffer); read >= 0; read = in.read(buffer)) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        } finally {
+            in.close();
+        }
+    }
+
+    private static FontAwesomeSubset starAndBed() throws IOException {
+        final FontAwesomeSubset subset = new FontAwesomeSubset(new String(read("css/font-awesome-4.3.0.min.cache.css"),
+                UTF_8));
+        subset.scan("function Xb(){return 'fa fa-star fa-lg'}");
+        assertThat(subset.addIcon("fa-bed"), is(true));
+        return subset;
+    }
+
+    @Test
+    public void testFindsIconsInText() throws IOException {
+        final FontAwesomeSubset subset = starAndBed();
+        assertThat(subset.getIconCount() > 500, is(true));
+        // fa-lg is a size, not an icon
+        assertThat(subset.getUsedIcons().toString(), is("[fa-bed, fa-star]"));
+        assertThat(subset.getCodePoints().toString(), is("[61445, 62006]"));
+        assertThat(subset.addIcon("fa-no-such-icon"), is(false));
+    }
+
+    @Test
+    public void testCssKeepsUsedRules() throws IOException {
+        final String css = starAndBed().getCss();
+        assertThat(css.contains(".fa-star:before{content:\"\\f005\"}"), is(true));
+        // Only the alias in use is kept
+        assertThat(css.contains(".fa-bed:before{content:\"\\f236\"}"), is(true));
+        assertThat(css.contains("fa-hotel"), is(false));
+        assertThat(css.contains("fa-music"), is(false));
+        assertThat(css.contains("fa-star-o"), is(false));
+        // Other rules and fonts are left alone
+        assertThat(css.contains(".fa-spin{"), is(true));
+        assertThat(css.contains("fontawesome-webfont.woff?v=4.3.0"), is(true));
+        assertThat(css.contains("woff2"), is(false));
+    }
+
+    @Test
+    public void testCssReferencesRenamedFonts() throws IOException {
+        final Map<String, String> fontFiles = new HashMap<String, String>();
+        fontFiles.put("eot", "fontawesome-webfont.A1.cache.eot");
+        fontFiles.put("woff", "fontawesome-webfont.B2.cache.woff");
+        fontFiles.put("ttf", "fontawesome-webfont.C3.cache.ttf");
+        fontFiles.put("svg", "fontawesome-webfont.D4.cache.svg");
+        final String css = starAndBed().getCss(fontFiles);
+        assertThat(css.contains("url('../fonts/fontawesome-webfont.A1.cache.eot')"), is(true));
+        assertThat(css.contains("url('../fonts/fontawesome-webfont.A1.cache.eot?#iefix') format('embedded-opentype')"),
+                is(true));
+        assertThat(css.contains("url('../fonts/fontawesome-webfont.B2.cache.woff') format('woff')"), is(true));
+        assertThat(css.contains("url('../fonts/fontawesome-webfont.C3.cache.ttf') format('truetype')"), is(true));
+        assertThat(css.contains("url('../fonts/fontawesome-webfont.D4.cache.svg#fontawesomeregular') format('svg')"),
+                is(true));
+        assertThat(css.contains("v=4.3.0"), is(false));
+        assertThat(css.contains(".fa-star:before{content:\"\\f005\"}"), is(true));
+    }
+
+    @Test
+    public void testTrueTypeSubset() throws IOException {
+        final byte[] ttf = starAndBed().getTrueType(read("fonts/fontawesome-webfont.ttf"));
+        final Map<String, Sfnt.Table> tables = Sfnt.read(ttf);
+
+        // .notdef and the two icons
+        assertThat(Sfnt.u16(tables.get("maxp").data, 4), is(3));
+        assertThat(Sfnt.u16(tables.get("hhea").data, 34), is(3));
+        assertThat(tables.get("loca").data.length, is(16));
+        assertThat(tables.get("hmtx").data.length, is(12));
+
+        final Map<Integer, Integer> cmap = TrueTypeSubsetter.readCmap(tables.get("cmap").data);
+        assertThat(cmap.size(), is(2));
+        assertThat(cmap.get(0xf005), is(1));
+        assertThat(cmap.get(0xf236), is(2));
+
+        // Table checksums and the whole font checksum
+        for (final Sfnt.Table table : tables.values()) {
+            if (!"head".equals(table.tag)) {
+                assertThat(Sfnt.checksum(table.data), is(table.checksum));
+            }
+        }
+        assertThat(Sfnt.checksum(ttf), is(0xB1B0AFBA));
+        assertThat(ttf.length < 4096, is(true));
+    }
+
+    @Test
+    public void testTrueTypeSubsetKeepsOutlines() throws IOException {
+        final byte[] complete = read("fonts/fontawesome-webfont.ttf");
+        final Map<String, Sfnt.Table> completeTables = Sfnt.read(complete);
+        final Map<String, Sfnt.Table> tables = Sfnt.read(starAndBed().getTrueType(complete));
+
+        final int star = TrueTypeSubsetter.readCmap(completeTables.get("cmap").data).get(0xf005);
+        final byte[] completeLoca = completeTables.get("loca").data;
+        final byte[] completeStar = Arrays.copyOfRange(completeTables.get("glyf").data,
+                2 * Sfnt.u16(completeLoca, 2 * star), 2 * Sfnt.u16(completeLoca, 2 * star + 2));
+
+        final byte[] loca = tables.get("loca").data;
+        final byte[] subsetStar = Arrays.copyOfRange(tables.get("glyf").data, Sfnt.u32(loca, 4),
+                Sfnt.u32(loca, 4) + completeStar.length);
+        assertThat(Arrays.equals(subsetStar, completeStar), is(true));
+        assertThat(Sfnt.u16(tables.get("hmtx").data, 4), is(Sfnt.u16(completeTables.get("hmtx").data, 4 * star)));
+    }
+
+    @Test
+    public void testWoff() throws Exception {
+        final byte[] ttf = starAndBed().getTrueType(read("fonts/fontawesome-webfont.ttf"));
+        final Map<String, Sfnt.Table> tables = Sfnt.read(ttf);
+        final byte[] woff = WoffEncoder.encode(ttf);
+        final ByteBuffer in = ByteBuffer.wrap(woff);
+
+        assertThat(in.getInt(0), is(0x774F4646));
+        assertThat(in.getInt(8), is(woff.length));
+        assertThat((int) in.getShort(12), is(tables.size()));
+        assertThat(in.getInt(16), is(ttf.length));
+
+        for (int i = 0; i < tables.size(); i++) {
+            final int entry = 44 + 20 * i;
+            final Sfnt.Table table = tables.get(new String(woff, entry, 4, "ISO-8859-1"));
+            final int offset = in.getInt(entry + 4);
+            final int compLength = in.getInt(entry + 8);
+            assertThat(in.getInt(entry + 12), is(table.data.length));
+            assertThat(in.getInt(entry + 16), is(table.checksum));
+
+            byte[] data = Arrays.copyOfRange(woff, offset, offset + compLength);
+            if (compLength < table.data.length) {
+                final Inflater inflater = new Inflater();
+                inflater.setInput(data);
+                data = new byte[table.data.length];
+                assertThat(inflater.inflate(data), is(data.length));
+                inflater.end();
+            }
+            assertThat(Arrays.equals(data, table.data), is(true));
+        }
+    }
+
+    @Test
+    public void testEot() throws IOException {
+        final byte[] ttf = starAndBed().getTrueType(read("fonts/fontawesome-webfont.ttf"));
+        final byte[] eot = EotEncoder.encode(ttf);
+        final ByteBuffer in = ByteBuffer.wrap(eot).order(ByteOrder.LITTLE_ENDIAN);
+
+        assertThat(in.getInt(0), is(eot.length));
+        assertThat(in.getInt(4), is(ttf.length));
+        assertThat(in.getInt(8), is(0x00020001));
+        assertThat((int) in.getShort(34), is(0x504C));
+
+        // Family name, in UTF-16LE
+        final int familyNameSize = in.getShort(82);
+        assertThat(new String(eot, 84, familyNameSize, "UTF-16LE"), is("FontAwesome"));
+        assertThat(Arrays.equals(Arrays.copyOfRange(eot, eot.length - ttf.length, eot.length), ttf), is(true));
+    }
+
+    @Test
+    public void testSvg() throws IOException {
+        final String svg = starAndBed().getSvg(new String(read("fonts/fontawesome-webfont.svg"), UTF_8));
+        assertThat(svg.split("<glyph ").length, is(3));
+        assertThat(svg.contains("<glyph unicode=\"&#xf005;\""), is(true));
+        assertThat(svg.contains("<glyph unicode=\"&#xf236;\""), is(true));
+        assertThat(svg.contains("<missing-glyph"), is(true));
+        assertThat(svg.trim().endsWith("</font>\n</defs></svg>"), is(true));
+    }
+}